@@ -16,8 +16,13 @@
 
 package info.archinnov.achilles.internals.futures;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
 
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
@@ -29,7 +34,7 @@ import com.google.common.util.concurrent.ListenableFuture;
  */
 public class FutureUtils {
 
-    public static <T> CompletableFuture<T> toCompletableFuture(ListenableFuture<T> listenableFuture, ExecutorService executor) {
+    public static <T> CompletableFuture<T> toCompletableFuture(ListenableFuture<T> listenableFuture, Executor executor) {
         CompletableFuture<T> completable = new CompletableListenableFuture<>(listenableFuture);
 
         Futures.addCallback(listenableFuture, new FutureCallback<T>() {
@@ -47,6 +52,107 @@ public class FutureUtils {
         return completable;
     }
 
+    /**
+     * Run <strong>taskCount</strong> asynchronous tasks, created lazily by <strong>taskFactory</strong>,
+     * with at most <strong>maxInFlight</strong> of them pending at any time. A new task is only
+     * created when a previous one has completed, so memory and driver in-flight requests stay bounded
+     * whatever the number of tasks.
+     * <br/>
+     * <br/>
+     * The returned future completes once <strong>all</strong> tasks are done and never completes
+     * exceptionally: each task outcome, successful or not, is available in the returned list,
+     * in the same order as the task indices
+     *
+     * @param taskCount   total number of tasks to run
+     * @param maxInFlight maximum number of tasks pending at the same time
+     * @param taskFactory creates the task for a given index
+     */
+    public static <T> CompletableFuture<List<CompletableFuture<T>>> executeWithMaxInFlight(int taskCount, int maxInFlight,
+                                                                                          IntFunction<CompletableFuture<T>> taskFactory) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight should be strictly positive");
+        }
+        return new BoundedTaskRunner<>(taskCount, maxInFlight, taskFactory).start();
+    }
+
+
+    private static final class BoundedTaskRunner<T> {
+        private final int taskCount;
+        private final int maxInFlight;
+        private final IntFunction<CompletableFuture<T>> taskFactory;
+        private final AtomicReferenceArray<CompletableFuture<T>> results;
+        private final AtomicInteger nextIndex = new AtomicInteger(0);
+        private final AtomicInteger remaining;
+        private final CompletableFuture<List<CompletableFuture<T>>> allDone = new CompletableFuture<>();
+
+        private BoundedTaskRunner(int taskCount, int maxInFlight, IntFunction<CompletableFuture<T>> taskFactory) {
+            this.taskCount = taskCount;
+            this.maxInFlight = maxInFlight;
+            this.taskFactory = taskFactory;
+            this.results = new AtomicReferenceArray<>(taskCount);
+            this.remaining = new AtomicInteger(taskCount);
+        }
+
+        private CompletableFuture<List<CompletableFuture<T>>> start() {
+            if (taskCount == 0) {
+                allDone.complete(new ArrayList<>());
+                return allDone;
+            }
+            for (int i = 0; i < Math.min(maxInFlight, taskCount); i++) {
+                drain();
+            }
+            return allDone;
+        }
+
+        /**
+         * Keep starting tasks on the current slot. Tasks already completed synchronously are consumed
+         * in the loop rather than through callbacks to avoid unbounded recursion
+         */
+        private void drain() {
+            int index;
+            while ((index = nextIndex.getAndIncrement()) < taskCount) {
+                final CompletableFuture<T> task = createTask(index);
+                if (task.isDone()) {
+                    onTaskDone(index, task);
+                } else {
+                    final int taskIndex = index;
+                    task.whenComplete((result, throwable) -> {
+                        onTaskDone(taskIndex, task);
+                        drain();
+                    });
+                    return;
+                }
+            }
+        }
+
+        private CompletableFuture<T> createTask(int index) {
+            try {
+                final CompletableFuture<T> task = taskFactory.apply(index);
+                if (task == null) {
+                    final CompletableFuture<T> failed = new CompletableFuture<>();
+                    failed.completeExceptionally(new NullPointerException("Task factory returned a null future for index " + index));
+                    return failed;
+                }
+                return task;
+            } catch (Throwable throwable) {
+                final CompletableFuture<T> failed = new CompletableFuture<>();
+                failed.completeExceptionally(throwable);
+                return failed;
+            }
+        }
+
+        private void onTaskDone(int index, CompletableFuture<T> task) {
+            results.set(index, task);
+            if (remaining.decrementAndGet() == 0) {
+                final List<CompletableFuture<T>> list = new ArrayList<>(taskCount);
+                for (int i = 0; i < taskCount; i++) {
+                    list.add(results.get(i));
+                }
+                allDone.complete(list);
+            }
+        }
+    }
+
 
     private static final class CompletableListenableFuture<T> extends CompletableFuture<T> {
         private final ListenableFuture<T> listenableFuture;
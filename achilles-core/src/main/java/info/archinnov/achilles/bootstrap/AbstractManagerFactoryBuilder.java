@@ -37,6 +37,8 @@ import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.runtime.AbstractManagerFactory;
 import info.archinnov.achilles.internals.types.ConfigMap;
 import info.archinnov.achilles.json.JacksonMapperFactory;
+import info.archinnov.achilles.type.EntityCachePolicy;
+import info.archinnov.achilles.type.HedgingPolicy;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
@@ -163,6 +165,33 @@ public abstract class AbstractManagerFactoryBuilder<T extends AbstractManagerFac
         return getThis();
     }
 
+    /**
+     * Define the hedging policy map to be used for all idempotent SELECT
+     * operations. The map keys represent table names and values represent
+     * the corresponding hedging policy
+     *
+     * @return ManagerFactoryBuilder
+     */
+    public T withHedgingPolicyMap(Map<String, HedgingPolicy> hedgingPolicyMap) {
+        configMap.put(HEDGING_POLICY_MAP, hedgingPolicyMap);
+        return getThis();
+    }
+
+    /**
+     * Define the in-memory cache policy for entity tables. Entities found by their primary key
+     * are served from memory until they are evicted. INSERT/UPDATE/DELETE issued through
+     * the same ManagerFactory invalidate the modified entries.
+     * <br/>
+     * See {@link info.archinnov.achilles.type.EntityCachePolicy}
+     *
+     * @param entityCachePolicyMap cache policies by table name
+     * @return ManagerFactoryBuilder
+     */
+    public T withEntityCachePolicyMap(Map<String, EntityCachePolicy> entityCachePolicyMap) {
+        configMap.put(ENTITY_CACHE_POLICY_MAP, entityCachePolicyMap);
+        return getThis();
+    }
+
     /**
      * Whether Achilles should force table creation if they do not already
      * exist in the keyspace This flag is useful for dev only. <strong>It
@@ -281,6 +310,58 @@ public abstract class AbstractManagerFactoryBuilder<T extends AbstractManagerFac
         return getThis();
     }
 
+    /**
+     * Save the most used dynamic query strings into the given local file on shutdown and re-prepare them
+     * concurrently on bootstrap, before the ManagerFactory is returned.
+     *
+     * @param warmupFile path of the prepared statements warmup file
+     * @return ManagerFactoryBuilder
+     */
+    public T withPreparedStatementsWarmupFile(String warmupFile) {
+        configMap.put(PREPARED_STATEMENTS_WARMUP_FILE, warmupFile);
+        return getThis();
+    }
+
+    /**
+     * Max number of query strings, most used first, re-prepared on bootstrap from the warmup file.
+     * <br/><br/>
+     * Default value is <strong>500</strong>
+     *
+     * @param warmupSize max number of query strings to re-prepare
+     * @return ManagerFactoryBuilder
+     */
+    public T withPreparedStatementsWarmupSize(int warmupSize) {
+        configMap.put(PREPARED_STATEMENTS_WARMUP_SIZE, warmupSize);
+        return getThis();
+    }
+
+    /**
+     * Also save the warmup file periodically while running, every <em>saveIntervalInSeconds</em>.
+     * <br/><br/>
+     * Default value is <strong>0</strong>, the file is only saved on shutdown
+     *
+     * @param saveIntervalInSeconds save interval in seconds
+     * @return ManagerFactoryBuilder
+     */
+    public T withPreparedStatementsWarmupSaveInterval(long saveIntervalInSeconds) {
+        configMap.put(PREPARED_STATEMENTS_WARMUP_SAVE_INTERVAL, saveIntervalInSeconds);
+        return getThis();
+    }
+
+    /**
+     * Max time the bootstrap waits for the warmup statements to be prepared.
+     * On timeout, the statements prepared so far are kept and the bootstrap goes on.
+     * <br/><br/>
+     * Default value is <strong>30</strong> seconds
+     *
+     * @param timeoutInSeconds warmup timeout in seconds
+     * @return ManagerFactoryBuilder
+     */
+    public T withPreparedStatementsWarmupTimeout(long timeoutInSeconds) {
+        configMap.put(PREPARED_STATEMENTS_WARMUP_TIMEOUT, timeoutInSeconds);
+        return getThis();
+    }
+
     /**
      * Define the global insert strategy
      *
@@ -324,6 +405,23 @@ public abstract class AbstractManagerFactoryBuilder<T extends AbstractManagerFac
         return getThis();
     }
 
+    /**
+     * Complete asynchronous results directly on the Java driver I/O thread instead of handing them over
+     * to the ExecutorService (ThreadPool). This saves a thread hand-off and a queue round trip per query.
+     * <br/>
+     * <strong>Only enable it if none of the continuations (interceptors, async listeners, your own
+     * <em>thenApply</em>/<em>thenAccept</em> callbacks) block</strong>, otherwise the driver I/O threads are stalled.
+     * Defaults to false
+     *
+     * @param directAsyncCompletion whether to complete asynchronous results on the driver I/O thread
+     * @return ManagerFactoryBuilder
+     * @see <a href="https://github.com/doanduyhai/Achilles/wiki/Asynchronous-Operations">Asynchronous Operations</a>
+     */
+    public T withDirectAsyncCompletion(boolean directAsyncCompletion) {
+        configMap.put(DIRECT_ASYNC_COMPLETION, directAsyncCompletion);
+        return getThis();
+    }
+
     /**
      * Define the min thread count for the ExecutorService (ThreadPool) to be used internally for asynchronous operations.
      * <br/>
@@ -557,4 +655,32 @@ public abstract class AbstractManagerFactoryBuilder<T extends AbstractManagerFac
         configMap.put(DML_RESULTS_DISPLAY_SIZE, maxDMLResultsDisplayed);
         return getThis();
     }
+
+    /**
+     * Whether concurrent identical SELECT statements (same prepared statement, same bound values
+     * and same consistency level) should share a single in-flight request instead of hitting Cassandra
+     * once per caller. Each caller still gets its own entity instance. Defaults to false.
+     * <br/>
+     * Only fully fetched results (a single page) are shared, other callers re-execute the statement
+     * @param deduplicateConcurrentReads whether to enable deduplication of concurrent reads
+     * @return ManagerFactoryBuilder
+     */
+    public T withConcurrentReadsDeduplication(boolean deduplicateConcurrentReads) {
+        configMap.put(DEDUPLICATE_CONCURRENT_READS, deduplicateConcurrentReads);
+        return getThis();
+    }
+
+    /**
+     * Whether SELECT statements of the DSL having an IN restriction on the partition key should be split
+     * into concurrent single-partition queries, each routed to a replica owning the partition, instead
+     * of a single multi-partitions query going through one coordinator. Defaults to false.
+     * <br/>
+     * Results are merged back in the order of the IN values. This setting can be overridden per query
+     * @param partitionKeyInFanOut whether to enable the partition key IN fan-out
+     * @return ManagerFactoryBuilder
+     */
+    public T withPartitionKeyInFanOut(boolean partitionKeyInFanOut) {
+        configMap.put(PARTITION_KEY_IN_FAN_OUT, partitionKeyInFanOut);
+        return getThis();
+    }
 }
@@ -42,6 +42,8 @@ import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.types.ConfigMap;
 import info.archinnov.achilles.json.DefaultJacksonMapperFactory;
 import info.archinnov.achilles.json.JacksonMapperFactory;
+import info.archinnov.achilles.type.EntityCachePolicy;
+import info.archinnov.achilles.type.HedgingPolicy;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
@@ -56,6 +58,8 @@ import info.archinnov.achilles.type.strategy.NamingStrategy;
 public class ArgumentExtractor {
 
     static final int DEFAULT_LRU_CACHE_SIZE = 10000;
+    static final int DEFAULT_WARMUP_SIZE = 500;
+    static final long DEFAULT_WARMUP_TIMEOUT_IN_SECONDS = 30L;
     static final boolean DEFAULT_ENABLE_PRE_MUTATE_BEAN_VALIDATION = false;
     static final boolean DEFAULT_ENABLE_POST_LOAD_BEAN_VALIDATION = false;
     static final int DEFAULT_THREAD_POOL_MIN_THREAD_COUNT = 10;
@@ -83,21 +87,30 @@ public class ArgumentExtractor {
         configContext.setReadConsistencyLevelMap(initReadConsistencyMap(configurationMap));
         configContext.setWriteConsistencyLevelMap(initWriteConsistencyMap(configurationMap));
         configContext.setSerialConsistencyLevelMap(initSerialConsistencyMap(configurationMap));
+        configContext.setHedgingPolicyMap(initHedgingPolicyMap(configurationMap));
+        configContext.setEntityCachePolicyMap(initEntityCachePolicyMap(configurationMap));
         configContext.setBeanValidator(initValidator(configurationMap));
         configContext.setPostLoadBeanValidationEnabled(initPostLoadBeanValidation(configurationMap));
         configContext.setInterceptors(initInterceptors(configurationMap));
         configContext.setPreparedStatementLRUCacheSize(initPreparedStatementsCacheSize(configurationMap));
+        configContext.setPreparedStatementsWarmupFile(initPreparedStatementsWarmupFile(configurationMap));
+        configContext.setPreparedStatementsWarmupSize(initPreparedStatementsWarmupSize(configurationMap));
+        configContext.setPreparedStatementsWarmupSaveInterval(initPreparedStatementsWarmupSaveInterval(configurationMap));
+        configContext.setPreparedStatementsWarmupTimeout(initPreparedStatementsWarmupTimeout(configurationMap));
         configContext.setGlobalInsertStrategy(initInsertStrategy(configurationMap));
         configContext.setGlobalNamingStrategy(initGlobalNamingStrategy(configurationMap));
         configContext.setSchemaNameProvider(initSchemaNameProvider(configurationMap));
         configContext.setExecutorService(initExecutorService(configurationMap));
         configContext.setProvidedExecutorService(initProvidedExecutorService(configurationMap));
+        configContext.setDirectAsyncCompletion(initDirectAsyncCompletion(configurationMap));
         configContext.setDefaultBeanFactory(initDefaultBeanFactory(configurationMap));
         configContext.setSession(initSession(cluster, configurationMap));
         configContext.setProvidedSession(initProvidedSession(configurationMap));
         configContext.setStatementsCache(initStatementCache(configurationMap));
         configContext.setRuntimeCodecs(initRuntimeCodecs(configurationMap));
         configContext.setValidateSchema(initValidateSchema(configurationMap));
+        configContext.setDeduplicateConcurrentReads(initDeduplicateConcurrentReads(configurationMap));
+        configContext.setPartitionKeyInFanOut(initPartitionKeyInFanOut(configurationMap));
         configContext.setDMLResultsDisplaySize(initDMLResultsDisplayLimit(configurationMap));
         return configContext;
     }
@@ -107,6 +120,21 @@ public class ArgumentExtractor {
         return configurationMap.getTypedOr(VALIDATE_SCHEMA, true);
     }
 
+    static boolean initDeduplicateConcurrentReads(ConfigMap configurationMap) {
+        LOGGER.trace("Extract 'deduplicate concurrent reads' from configuration map");
+        return configurationMap.getTypedOr(DEDUPLICATE_CONCURRENT_READS, false);
+    }
+
+    static boolean initPartitionKeyInFanOut(ConfigMap configurationMap) {
+        LOGGER.trace("Extract 'partition key IN fan-out' from configuration map");
+        return configurationMap.getTypedOr(PARTITION_KEY_IN_FAN_OUT, false);
+    }
+
+    static boolean initDirectAsyncCompletion(ConfigMap configurationMap) {
+        LOGGER.trace("Extract 'direct async completion' from configuration map");
+        return configurationMap.getTypedOr(DIRECT_ASYNC_COMPLETION, false);
+    }
+
     static boolean initForceSchemaCreation(ConfigMap configurationMap) {
         LOGGER.trace("Extract 'force table creation' from configuration map");
         return configurationMap.getTypedOr(FORCE_SCHEMA_GENERATION, false);
@@ -173,6 +201,16 @@ public class ArgumentExtractor {
         return configMap.getTypedOr(CONSISTENCY_LEVEL_SERIAL_MAP, ImmutableMap.<String, ConsistencyLevel>of());
     }
 
+    public static Map<String, HedgingPolicy> initHedgingPolicyMap(ConfigMap configMap) {
+        LOGGER.trace("Extract hedging policy map from configuration map");
+        return configMap.getTypedOr(HEDGING_POLICY_MAP, ImmutableMap.<String, HedgingPolicy>of());
+    }
+
+    public static Map<String, EntityCachePolicy> initEntityCachePolicyMap(ConfigMap configMap) {
+        LOGGER.trace("Extract entity cache policy map from configuration map");
+        return configMap.getTypedOr(ENTITY_CACHE_POLICY_MAP, ImmutableMap.<String, EntityCachePolicy>of());
+    }
+
     public static Optional<String> initKeyspaceName(ConfigMap configurationMap) {
         return Optional.ofNullable(configurationMap.<String>getTyped(KEYSPACE_NAME));
     }
@@ -228,6 +266,26 @@ public class ArgumentExtractor {
         return configMap.getTypedOr(PREPARED_STATEMENTS_CACHE_SIZE, DEFAULT_LRU_CACHE_SIZE);
     }
 
+    public static Optional<String> initPreparedStatementsWarmupFile(ConfigMap configMap) {
+        LOGGER.trace("Extract prepared statements warmup file");
+        return Optional.ofNullable(configMap.<String>getTyped(PREPARED_STATEMENTS_WARMUP_FILE));
+    }
+
+    public static Integer initPreparedStatementsWarmupSize(ConfigMap configMap) {
+        LOGGER.trace("Extract or init prepared statements warmup size");
+        return configMap.getTypedOr(PREPARED_STATEMENTS_WARMUP_SIZE, DEFAULT_WARMUP_SIZE);
+    }
+
+    public static Long initPreparedStatementsWarmupSaveInterval(ConfigMap configMap) {
+        LOGGER.trace("Extract or init prepared statements warmup save interval");
+        return configMap.getTypedOr(PREPARED_STATEMENTS_WARMUP_SAVE_INTERVAL, 0L);
+    }
+
+    public static Long initPreparedStatementsWarmupTimeout(ConfigMap configMap) {
+        LOGGER.trace("Extract or init prepared statements warmup timeout");
+        return configMap.getTypedOr(PREPARED_STATEMENTS_WARMUP_TIMEOUT, DEFAULT_WARMUP_TIMEOUT_IN_SECONDS);
+    }
+
     public static InsertStrategy initInsertStrategy(ConfigMap configMap) {
         LOGGER.trace("Extract or init global Insert strategy");
         return configMap.getTypedOr(GLOBAL_INSERT_STRATEGY, DEFAULT_INSERT_STRATEGY);
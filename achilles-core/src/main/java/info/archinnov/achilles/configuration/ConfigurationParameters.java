@@ -49,6 +49,17 @@ package info.archinnov.achilles.configuration;
  *         <strong>DML_RESULTS_DISPLAY_SIZE</strong> (OPTIONAL): set the max number of returned rows to be displayed if ACHILLES_DML_STATEMENT logger or entity logger is debug-enabled
  *         .There is a <strong>hard-coded</strong> limit of 100 rows so if you provide a greater value it will be capped to 100 and floor to 0 (e.g. disable returned results display)
  *     </li>
+ *     <li>
+ *         <strong>DEDUPLICATE_CONCURRENT_READS</strong> (OPTIONAL): whether concurrent identical SELECT statements
+ *         (same prepared statement, same bound values and same consistency level) should share a single in-flight request.
+ *         Each caller still gets its own entity instance. <strong>Default = 'false'</strong>
+ *     </li>
+ *     <li>
+ *         <strong>PARTITION_KEY_IN_FAN_OUT</strong> (OPTIONAL): whether SELECT statements of the DSL having an IN restriction
+ *         on the partition key should be split into concurrent single-partition queries, each routed to a replica owning the partition,
+ *         instead of a single multi-partitions query going through one coordinator. Results are merged back in the IN order.
+ *         It can be overridden per query. <strong>Default = 'false'</strong>
+ *     </li>
  * </ul>
  * <br/>
  * <br/>
@@ -108,6 +119,38 @@ package info.archinnov.achilles.configuration;
  * </ul>
  * <br/>
  * <br/>
+ * <h4>Hedged Reads</h4>
+ * <ul>
+ * <li><strong>HEDGING_POLICY_MAP</strong> (OPTIONAL): map(String,HedgingPolicy) of hedging policies for tables/views.
+ * Only idempotent SELECT statements are hedged
+ * <br/>
+ * <br/>
+ * Example:
+
+ * "table1" -&gt; HedgingPolicy.fixedDelay(20, TimeUnit.MILLISECONDS) <br>
+ * "table2" -&gt; HedgingPolicy.latencyPercentile(99.0)
+ * ...
+ * </p>
+ * </li>
+ * </ul>
+ * <br/>
+ * <br/>
+ * <h4>Entity Cache</h4>
+ * <ul>
+ * <li><strong>ENTITY_CACHE_POLICY_MAP</strong> (OPTIONAL): map(String,EntityCachePolicy) of in-memory cache policies for tables.
+ * Entities found by their primary key are served from memory until evicted. INSERT/UPDATE/DELETE issued through
+ * the same ManagerFactory invalidate the modified entries
+ * <br/>
+ * <br/>
+ * Example:
+
+ * "table1" -&gt; EntityCachePolicy.of(10000, 5, TimeUnit.MINUTES) <br>
+ * ...
+ * </p>
+ * </li>
+ * </ul>
+ * <br/>
+ * <br/>
  * <h4><a name="user-content-events-interceptors"  href="#events-interceptors" ></a>Events Interceptors</h4>
  * <ul>
  * <li><strong>EVENT_INTERCEPTORS</strong> (OPTIONAL): list of events interceptors.</li>
@@ -145,6 +188,24 @@ package info.archinnov.achilles.configuration;
  * Remark: if your provide the statement cache object yourself, the parameter PREPARED_STATEMENTS_CACHE_SIZE will be ignored
  * </em>
  * </li>
+ * <li>
+ * <strong>PREPARED_STATEMENTS_WARMUP_FILE</strong> (OPTIONAL): path of a local file where the most used dynamic query strings
+ * and their hits count are saved on shutdown. On bootstrap, the query strings found in this file are re-prepared concurrently
+ * before the ManagerFactory is returned, removing the prepare latency of the first requests after a restart
+ * </li>
+ * <li>
+ * <strong>PREPARED_STATEMENTS_WARMUP_SIZE</strong> (OPTIONAL): max number of query strings, most used first, re-prepared on bootstrap.
+ * <strong>Default = 500</strong>
+ * </li>
+ * <li>
+ * <strong>PREPARED_STATEMENTS_WARMUP_SAVE_INTERVAL</strong> (OPTIONAL): interval in seconds at which the warmup file is also saved
+ * while running. <strong>Default = 0</strong>, e.g. the file is only saved on shutdown
+ * </li>
+ * <li>
+ * <strong>PREPARED_STATEMENTS_WARMUP_TIMEOUT</strong> (OPTIONAL): max time in seconds the bootstrap waits for the warmup
+ * statements to be prepared. On timeout, the statements prepared so far are kept and the bootstrap goes on.
+ * <strong>Default = 30</strong>
+ * </li>
  * </ul>
  * <br/>
  * <br/>
@@ -250,6 +311,12 @@ package info.archinnov.achilles.configuration;
  * </code></pre>
  * For more details, please check <strong><a href="https://github.com/doanduyhai/Achilles/wiki/Asynchronous-Operations">Asynchronous Operations</a></strong></p>
  * </li>
+ * <li>
+ * <strong>DIRECT_ASYNC_COMPLETION</strong> (OPTIONAL): complete the asynchronous results directly on the Java driver I/O thread
+ * instead of handing them over to the executor service. This saves a thread hand-off per query but the continuations
+ * (entity mapping, interceptors, user callbacks) <strong>must never block</strong>. Traced statements are still completed
+ * on the executor service since retrieving their trace blocks. <strong>Default = 'false'</strong>
+ * </li>
  * </ul>
  */
 public enum ConfigurationParameters {
@@ -266,6 +333,10 @@ public enum ConfigurationParameters {
     CONSISTENCY_LEVEL_WRITE_MAP("achilles.consistency.write.map"),
     CONSISTENCY_LEVEL_SERIAL_MAP("achilles.consistency.serial.map"),
 
+    HEDGING_POLICY_MAP("achilles.hedging.policy.map"),
+
+    ENTITY_CACHE_POLICY_MAP("achilles.entity.cache.policy.map"),
+
     EVENT_INTERCEPTORS("achilles.event.interceptors"),
 
     FORCE_SCHEMA_GENERATION("achilles.ddl.force.schema.generation"),
@@ -279,6 +350,10 @@ public enum ConfigurationParameters {
     BEAN_VALIDATION_VALIDATOR("achilles.bean.validation.validator"),
 
     PREPARED_STATEMENTS_CACHE_SIZE("achilles.prepared.statements.cache.size"),
+    PREPARED_STATEMENTS_WARMUP_FILE("achilles.prepared.statements.warmup.file"),
+    PREPARED_STATEMENTS_WARMUP_SIZE("achilles.prepared.statements.warmup.size"),
+    PREPARED_STATEMENTS_WARMUP_SAVE_INTERVAL("achilles.prepared.statements.warmup.save.interval"),
+    PREPARED_STATEMENTS_WARMUP_TIMEOUT("achilles.prepared.statements.warmup.timeout"),
 
     DEFAULT_BEAN_FACTORY("achilles.bean.factory"),
 
@@ -296,8 +371,13 @@ public enum ConfigurationParameters {
     DEFAULT_EXECUTOR_SERVICE_THREAD_KEEPALIVE("achilles.executor.service.default.thread.keepalive"),
     DEFAULT_EXECUTOR_SERVICE_QUEUE_SIZE("achilles.executor.service.default.queue.size"),
     DEFAULT_EXECUTOR_SERVICE_THREAD_FACTORY("achilles.executor.service.thread.factory"),
+    DIRECT_ASYNC_COMPLETION("achilles.executor.service.direct.completion"),
+
+    DML_RESULTS_DISPLAY_SIZE("achilles.dml.results_display.size"),
+
+    DEDUPLICATE_CONCURRENT_READS("achilles.dml.deduplicate_concurrent_reads"),
 
-    DML_RESULTS_DISPLAY_SIZE("achilles.dml.results_display.size");
+    PARTITION_KEY_IN_FAN_OUT("achilles.dml.partition_key_in_fan_out");
 
 
     private String label;
@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+import static com.google.common.cache.CacheBuilder.newBuilder;
+import static java.lang.String.format;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheStats;
+
+import info.archinnov.achilles.internals.metamodel.AbstractProperty;
+import info.archinnov.achilles.type.EntityCachePolicy;
+
+/**
+ * In-memory cache of the rows of an entity table, keyed by the serialized primary key.
+ * <br/>
+ * <br/>
+ * Rows rather than entities are cached so that each read maps a fresh entity instance
+ * and callers can never modify the cached state.
+ * <br/>
+ * The primary key is read from the bound values of the statements. When a mutation does not bind
+ * the complete primary key with equality restrictions (partition delete, IN clause, static columns ...)
+ * all the entries are invalidated.
+ * <br/>
+ * A read started before an invalidation does not populate the cache, otherwise a concurrent write
+ * could be overwritten by the stale row
+ */
+public class EntityCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EntityCache.class);
+
+    private final String tableName;
+    private final List<String> primaryKeyColumns;
+    private final List<DataType> primaryKeyTypes;
+    private final Cache<List<ByteBuffer>, Row> rows;
+    private final AtomicLong invalidations = new AtomicLong(0L);
+
+    public EntityCache(String tableName, List<? extends AbstractProperty<?, ?, ?>> primaryKeys, EntityCachePolicy policy) {
+        this.tableName = tableName;
+        this.primaryKeyColumns = new ArrayList<>(primaryKeys.size());
+        this.primaryKeyTypes = new ArrayList<>(primaryKeys.size());
+        for (AbstractProperty<?, ?, ?> primaryKey : primaryKeys) {
+            primaryKeyColumns.add(primaryKey.getColumnForSelect());
+            primaryKeyTypes.add(primaryKey.getDataType());
+        }
+        this.rows = newBuilder()
+                .maximumSize(policy.getMaximumSize())
+                .expireAfterWrite(policy.getTimeToLiveInNanos(), TimeUnit.NANOSECONDS)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Counter to be read before executing a SELECT and provided back to {@link #put(BoundStatement, Row, long)}
+     */
+    public long getInvalidationCount() {
+        return invalidations.get();
+    }
+
+    public Optional<Row> get(BoundStatement boundStatement) {
+        return extractPrimaryKey(boundStatement).map(rows::getIfPresent);
+    }
+
+    /**
+     * Cache the row loaded by the given statement unless an invalidation occurred
+     * since <strong>invalidationCount</strong> has been read
+     */
+    public void put(BoundStatement boundStatement, Row row, long invalidationCount) {
+        final Optional<List<ByteBuffer>> primaryKey = extractPrimaryKey(boundStatement);
+        if (!primaryKey.isPresent() || invalidations.get() != invalidationCount) {
+            return;
+        }
+        rows.put(primaryKey.get(), row);
+        // An invalidation may have happened concurrently with the put
+        if (invalidations.get() != invalidationCount) {
+            rows.invalidate(primaryKey.get());
+        }
+    }
+
+    /**
+     * Invalidate the entry modified by the given mutation or all the entries
+     * if the complete primary key cannot be extracted from the statement
+     */
+    public void invalidate(BoundStatement boundStatement) {
+        invalidations.incrementAndGet();
+        final Optional<List<ByteBuffer>> primaryKey = extractPrimaryKey(boundStatement);
+        if (primaryKey.isPresent()) {
+            rows.invalidate(primaryKey.get());
+        } else {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(format("Invalidating all cached entities of table %s for statement %s",
+                        tableName, boundStatement.preparedStatement().getQueryString()));
+            }
+            rows.invalidateAll();
+        }
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        rows.invalidateAll();
+    }
+
+    public long size() {
+        return rows.size();
+    }
+
+    public CacheStats getStats() {
+        return rows.stats();
+    }
+
+    private Optional<List<ByteBuffer>> extractPrimaryKey(BoundStatement boundStatement) {
+        final ColumnDefinitions variables = boundStatement.preparedStatement().getVariables();
+        final List<ByteBuffer> primaryKey = new ArrayList<>(primaryKeyColumns.size());
+        for (int i = 0; i < primaryKeyColumns.size(); i++) {
+            final String column = primaryKeyColumns.get(i);
+            int index = -1;
+            for (int j = 0; j < variables.size(); j++) {
+                if (variables.getName(j).equalsIgnoreCase(column)) {
+                    if (index >= 0) {
+                        // Same column bound more than once, e.g. slice restriction
+                        return Optional.empty();
+                    }
+                    index = j;
+                }
+            }
+            if (index < 0 || !variables.getType(index).equals(primaryKeyTypes.get(i)) || !boundStatement.isSet(index)) {
+                return Optional.empty();
+            }
+            primaryKey.add(boundStatement.getBytesUnsafe(index));
+        }
+        return Optional.of(primaryKey);
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.internals.cache;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import info.archinnov.achilles.type.tuples.Tuple2;
+
+/**
+ * Persist the most used dynamic query strings of a {@link StatementsCache} into a local file
+ * and re-prepare them concurrently at bootstrap so that the first requests after a restart
+ * do not pay the prepare round-trip.
+ * <br/>
+ * Each line of the file holds the hits count, a tab and the escaped query string
+ */
+public class PreparedStatementsWarmup implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PreparedStatementsWarmup.class);
+
+    private static final String COMMENT_PREFIX = "#";
+    private static final String SEPARATOR = "\t";
+
+    private final Path warmupFile;
+    private final int warmupSize;
+    private final long timeoutInSeconds;
+    private final StatementsCache cache;
+    private final Session session;
+    private volatile ScheduledExecutorService scheduler;
+
+    public PreparedStatementsWarmup(Path warmupFile, int warmupSize, long timeoutInSeconds, StatementsCache cache, Session session) {
+        this.warmupFile = warmupFile;
+        this.warmupSize = warmupSize;
+        this.timeoutInSeconds = timeoutInSeconds;
+        this.cache = cache;
+        this.session = session;
+        cache.trackQueryHits();
+    }
+
+    /**
+     * Re-prepare concurrently the <em>warmupSize</em> most used query strings found in the warmup file
+     * and block until all of them are prepared or <em>timeoutInSeconds</em> is elapsed.
+     * Query strings which cannot be prepared anymore (schema change ...) or which are still
+     * being prepared when the timeout expires are skipped
+     */
+    public void warmUp() {
+        if (!Files.isReadable(warmupFile)) {
+            LOGGER.info(format("No prepared statements warmup file found at %s", warmupFile));
+            return;
+        }
+
+        final List<String> queryStrings = readQueryStrings();
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Warming up %s prepared statements from file %s", queryStrings.size(), warmupFile));
+        }
+
+        final List<ListenableFuture<PreparedStatement>> futures = queryStrings
+                .stream()
+                .map(session::prepareAsync)
+                .collect(Collectors.toList());
+
+        try {
+            Futures.successfulAsList(futures).get(timeoutInSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            LOGGER.warn(format("Prepared statements warmup did not complete within %s seconds, keeping the statements prepared so far",
+                    timeoutInSeconds));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while warming up prepared statements");
+        } catch (Exception e) {
+            LOGGER.error(format("Error while warming up prepared statements : %s", e.getMessage()), e);
+        }
+
+        int preparedCount = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            final ListenableFuture<PreparedStatement> future = futures.get(i);
+            if (!future.isDone()) {
+                LOGGER.warn(format("Timeout while warming up prepared statement for query %s", queryStrings.get(i)));
+                continue;
+            }
+            try {
+                cache.putDynamicCache(queryStrings.get(i), Uninterruptibles.getUninterruptibly(future));
+                preparedCount++;
+            } catch (ExecutionException e) {
+                LOGGER.warn(format("Cannot warm up prepared statement for query %s", queryStrings.get(i)));
+            }
+        }
+
+        LOGGER.info(format("Warmed up %s/%s prepared statements from file %s", preparedCount, queryStrings.size(), warmupFile));
+    }
+
+    /**
+     * Save the query strings with their hits count into the warmup file, most used first.
+     * The file is written to a temporary file first then moved
+     */
+    public synchronized void save() {
+        final List<Tuple2<String, Long>> hits = cache.getQueryHits()
+                .entrySet()
+                .stream()
+                .map(entry -> Tuple2.of(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparing((Tuple2<String, Long> x) -> x._2()).reversed())
+                .collect(Collectors.toList());
+
+        try {
+            final Path parent = warmupFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            final Path tempFile = Files.createTempFile(parent, warmupFile.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+                writer.write(COMMENT_PREFIX + " Achilles prepared statements warmup file : <hits count>" + SEPARATOR + "<query string>");
+                writer.newLine();
+                for (Tuple2<String, Long> hit : hits) {
+                    writer.write(hit._2() + SEPARATOR + escape(hit._1()));
+                    writer.newLine();
+                }
+            }
+            Files.move(tempFile, warmupFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(format("Saved %s query strings into prepared statements warmup file %s", hits.size(), warmupFile));
+            }
+        } catch (IOException e) {
+            LOGGER.error(format("Cannot save prepared statements warmup file %s : %s", warmupFile, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Save the warmup file every <em>saveIntervalInSeconds</em>. A value of 0 or less disables periodic saving,
+     * the file is then only saved on shutdown
+     */
+    public void startPeriodicSave(long saveIntervalInSeconds) {
+        if (saveIntervalInSeconds <= 0) return;
+
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "achilles-prepared-statements-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::save, saveIntervalInSeconds, saveIntervalInSeconds, TimeUnit.SECONDS);
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Stop the periodic saving and save the warmup file a last time
+     */
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        save();
+    }
+
+    List<String> readQueryStrings() {
+        try {
+            return Files.readAllLines(warmupFile, UTF_8)
+                    .stream()
+                    .filter(line -> !line.isEmpty() && !line.startsWith(COMMENT_PREFIX))
+                    .map(this::parseLine)
+                    .filter(x -> x != null)
+                    .sorted(Comparator.comparing((Tuple2<String, Long> x) -> x._2()).reversed())
+                    .limit(warmupSize)
+                    .map(Tuple2::_1)
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            LOGGER.error(format("Cannot read prepared statements warmup file %s : %s", warmupFile, e.getMessage()), e);
+            return new ArrayList<>();
+        }
+    }
+
+    private Tuple2<String, Long> parseLine(String line) {
+        final int separatorIndex = line.indexOf(SEPARATOR);
+        if (separatorIndex <= 0) {
+            LOGGER.warn(format("Skipping malformed line '%s' of prepared statements warmup file %s", line, warmupFile));
+            return null;
+        }
+        try {
+            final long hitsCount = Long.parseLong(line.substring(0, separatorIndex));
+            return Tuple2.of(unescape(line.substring(separatorIndex + 1)), hitsCount);
+        } catch (NumberFormatException e) {
+            LOGGER.warn(format("Skipping malformed line '%s' of prepared statements warmup file %s", line, warmupFile));
+            return null;
+        }
+    }
+
+    static String escape(String queryString) {
+        final StringBuilder builder = new StringBuilder(queryString.length());
+        for (char c : queryString.toCharArray()) {
+            switch (c) {
+                case '\\': builder.append("\\\\"); break;
+                case '\n': builder.append("\\n"); break;
+                case '\r': builder.append("\\r"); break;
+                case '\t': builder.append("\\t"); break;
+                default: builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    static String unescape(String escaped) {
+        final StringBuilder builder = new StringBuilder(escaped.length());
+        for (int i = 0; i < escaped.length(); i++) {
+            final char c = escaped.charAt(i);
+            if (c == '\\' && i + 1 < escaped.length()) {
+                final char next = escaped.charAt(++i);
+                switch (next) {
+                    case 'n': builder.append('\n'); break;
+                    case 'r': builder.append('\r'); break;
+                    case 't': builder.append('\t'); break;
+                    default: builder.append(next);
+                }
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+}
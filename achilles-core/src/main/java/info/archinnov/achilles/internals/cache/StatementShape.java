@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.datastax.driver.core.RegularStatement;
+
+/**
+ * Structural identifier of a statement built with the DSL.
+ * <br/>
+ * The generated DSL appends one compile-time token per clause (selected column, restriction, assignment, LWT condition ...)
+ * plus the few runtime values that are rendered into the CQL text (keyspace, table, collection index). Two shapes
+ * holding the same tokens always render to the same CQL string so the prepared statement can be looked up
+ * without rendering nor hashing the query string.
+ * <br/>
+ * Each token comes with the step adding its clause to the QueryBuilder tree. The steps are only replayed by
+ * {@link #buildQuery()}, when the query string is really needed (shape cache miss, statement display ...)
+ */
+public class StatementShape {
+
+    private static final String FROM = "FROM";
+
+    private final List<Object> tokens;
+    private final List<Object> steps;
+    private final Supplier<?> root;
+    private String keyspace;
+    private String table;
+    private int hash;
+    private boolean queryStringFallback;
+
+    public StatementShape(Class<?> dslClass) {
+        this(dslClass, null);
+    }
+
+    /**
+     * @param root creates the QueryBuilder node the first clause applies to (selection for SELECT and DELETE)
+     */
+    public StatementShape(Class<?> dslClass, Supplier<?> root) {
+        this.tokens = new ArrayList<>();
+        this.steps = new ArrayList<>();
+        this.root = root;
+        add(dslClass);
+    }
+
+    private StatementShape(StatementShape shape) {
+        this.tokens = new ArrayList<>(shape.tokens);
+        this.steps = new ArrayList<>();
+        this.root = null;
+        this.hash = shape.hash;
+        this.queryStringFallback = shape.queryStringFallback;
+    }
+
+    public void add(Object token) {
+        tokens.add(token);
+        hash = 31 * hash + token.hashCode();
+    }
+
+    public void add(Object token, Object value) {
+        add(token);
+        add(value);
+    }
+
+    public <NODE> void add(Object token, Clause<NODE> clause) {
+        add(token);
+        steps.add(clause);
+    }
+
+    public <NODE> void add(Object token, Object value, Clause<NODE> clause) {
+        add(token, value);
+        steps.add(clause);
+    }
+
+    public void from(String keyspace, String table) {
+        add(FROM);
+        add(keyspace);
+        add(table);
+    }
+
+    public <NODE> void from(String keyspace, String table, From<NODE> from) {
+        from(keyspace, table);
+        this.keyspace = keyspace;
+        this.table = table;
+        steps.add(from);
+    }
+
+    /**
+     * Used when a clause renders arbitrary runtime content (function call literals ...) into the CQL text.
+     * The prepared statement will then be looked up using the rendered query string
+     */
+    public void fallbackToQueryString() {
+        this.queryStringFallback = true;
+    }
+
+    public boolean isQueryStringFallback() {
+        return queryStringFallback;
+    }
+
+    /**
+     * Build the QueryBuilder tree by replaying all the recorded steps
+     */
+    @SuppressWarnings("unchecked")
+    public RegularStatement buildQuery() {
+        Object node = root == null ? null : root.get();
+        for (Object step : steps) {
+            if (step instanceof From) {
+                node = ((From<Object>) step).from(node, keyspace, table);
+            } else {
+                ((Clause<Object>) step).addTo(node);
+            }
+        }
+        return (RegularStatement) node;
+    }
+
+    public StatementShape copy() {
+        return new StatementShape(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StatementShape that = (StatementShape) o;
+        return hash == that.hash &&
+                queryStringFallback == that.queryStringFallback &&
+                tokens.equals(that.tokens);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("StatementShape{");
+        sb.append("tokens=").append(tokens);
+        sb.append(", queryStringFallback=").append(queryStringFallback);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    /**
+     * Add one clause to the current QueryBuilder node
+     */
+    @FunctionalInterface
+    public interface Clause<NODE> {
+        void addTo(NODE node);
+    }
+
+    /**
+     * Create the WHERE node of the statement from the current QueryBuilder node
+     */
+    @FunctionalInterface
+    public interface From<NODE> {
+        Object from(NODE node, String keyspace, String table);
+    }
+}
@@ -19,9 +19,13 @@ package info.archinnov.achilles.internals.cache;
 import static com.google.common.cache.CacheBuilder.newBuilder;
 import static java.lang.String.format;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,13 +41,16 @@ public class StatementsCache {
     private static final Logger LOGGER = LoggerFactory.getLogger(StatementsCache.class);
 
     private final Cache<String, PreparedStatement> dynamicCache;
+    private final Cache<StatementShape, PreparedStatement> shapeCache;
     private final Cache<CacheKey, PreparedStatement> staticCache;
     private final int maxLRUCacheSize;
+    private volatile Cache<String, LongAdder> queryHits;
 
 
     public StatementsCache(int maxLRUCacheSize) {
         this.maxLRUCacheSize = maxLRUCacheSize;
         this.dynamicCache = newBuilder().maximumSize(maxLRUCacheSize).build();
+        this.shapeCache = newBuilder().maximumSize(maxLRUCacheSize).build();
         this.staticCache = newBuilder().build();
     }
 
@@ -78,18 +85,82 @@ public class StatementsCache {
             });
 
             if (displayStats.get()) displayCacheStatistics();
+            recordHit(queryString);
             return preparedStatement;
         } catch (ExecutionException e) {
             throw new AchillesException(e);
         }
     }
 
+    /**
+     * Look up the prepared statement by statement shape. The query string is only rendered
+     * on a cache miss and the statement is then prepared through the query string cache
+     */
+    public PreparedStatement getDynamicCache(final StatementShape shape, Supplier<String> queryString, Session session) {
+        if (shape.isQueryStringFallback()) {
+            return getDynamicCache(queryString.get(), session);
+        }
+
+        final PreparedStatement cached = shapeCache.getIfPresent(shape);
+        if (cached != null) {
+            recordHit(cached.getQueryString());
+            return cached;
+        }
+
+        final PreparedStatement preparedStatement = getDynamicCache(queryString.get(), session);
+        shapeCache.put(shape.copy(), preparedStatement);
+        return preparedStatement;
+    }
+
+    /**
+     * Put a statement prepared ahead of time into the dynamic cache
+     */
+    public void putDynamicCache(String queryString, PreparedStatement preparedStatement) {
+        dynamicCache.put(queryString, preparedStatement);
+    }
+
+    /**
+     * Start counting the hits of each dynamic query string. Counting is disabled by default
+     */
+    public void trackQueryHits() {
+        if (queryHits == null) {
+            synchronized (this) {
+                if (queryHits == null) {
+                    queryHits = newBuilder().maximumSize(maxLRUCacheSize).build();
+                }
+            }
+        }
+    }
+
+    /**
+     * Snapshot of the hits count per dynamic query string, empty if hits are not tracked
+     */
+    public Map<String, Long> getQueryHits() {
+        final Map<String, Long> hits = new HashMap<>();
+        if (queryHits != null) {
+            queryHits.asMap().forEach((queryString, counter) -> hits.put(queryString, counter.sum()));
+        }
+        return hits;
+    }
+
+    private void recordHit(String queryString) {
+        final Cache<String, LongAdder> hits = queryHits;
+        if (hits != null) {
+            try {
+                hits.get(queryString, LongAdder::new).increment();
+            } catch (ExecutionException e) {
+                throw new AchillesException(e);
+            }
+        }
+    }
+
     private void displayCacheStatistics() {
 
         long cacheSize = dynamicCache.size();
         CacheStats cacheStats = dynamicCache.stats();
 
         LOGGER.info("Total LRU cache size {}", cacheSize);
+        LOGGER.info("Total statement shapes cache size {}", shapeCache.size());
         if (cacheSize > (maxLRUCacheSize * 0.8)) {
             LOGGER.warn("Warning, the LRU prepared statements cache is over 80% full");
         }
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.internals.codec;
+
+import java.nio.ByteBuffer;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.TypeCodec;
+import com.datastax.driver.core.exceptions.InvalidTypeException;
+import com.google.common.reflect.TypeToken;
+
+import info.archinnov.achilles.type.codec.ByteBufferCodec;
+
+/**
+ * Java driver codec for a column whose Achilles codec implements {@link ByteBufferCodec}.
+ * <br/>
+ * Values are serialized straight from the source Java type, without creating the intermediate
+ * target type instance. Only CQL literal parsing and formatting go through the target type codec
+ */
+public class ByteBufferTypeCodec<FROM, TO> extends TypeCodec<FROM> {
+
+    private final ByteBufferCodec<FROM, TO> codec;
+
+    public ByteBufferTypeCodec(DataType cqlType, TypeToken<FROM> javaType, ByteBufferCodec<FROM, TO> codec) {
+        super(cqlType, javaType);
+        this.codec = codec;
+    }
+
+    @Override
+    public ByteBuffer serialize(FROM value, ProtocolVersion protocolVersion) throws InvalidTypeException {
+        return codec.serialize(value, protocolVersion);
+    }
+
+    @Override
+    public FROM deserialize(ByteBuffer bytes, ProtocolVersion protocolVersion) throws InvalidTypeException {
+        return codec.deserialize(bytes, protocolVersion);
+    }
+
+    @Override
+    public FROM parse(String value) throws InvalidTypeException {
+        return codec.decode(targetTypeCodec().parse(value));
+    }
+
+    @Override
+    public String format(FROM value) throws InvalidTypeException {
+        return targetTypeCodec().format(codec.encode(value));
+    }
+
+    private TypeCodec<TO> targetTypeCodec() {
+        return CodecRegistry.DEFAULT_INSTANCE.codecFor(getCqlType(), codec.targetType());
+    }
+}
@@ -18,24 +18,33 @@ package info.archinnov.achilles.internals.codec;
 
 import static java.lang.String.format;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.datastax.driver.core.ProtocolVersion;
+
 import info.archinnov.achilles.exception.AchillesTranscodingException;
-import info.archinnov.achilles.type.codec.Codec;
+import info.archinnov.achilles.type.codec.ByteBufferCodec;
 
-public class EnumNameCodec<ENUM> implements Codec<ENUM, String> {
+public class EnumNameCodec<ENUM> implements ByteBufferCodec<ENUM, String> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EnumNameCodec.class);
 
     private final List<ENUM> enumValues;
     private final Class<ENUM> sourceType;
+    private final byte[][] encodedNames;
 
     public EnumNameCodec(List<ENUM> enumValues, Class<ENUM> sourceType) {
         this.enumValues = enumValues;
         this.sourceType = sourceType;
+        this.encodedNames = new byte[enumValues.size()][];
+        for (int i = 0; i < enumValues.size(); i++) {
+            encodedNames[i] = ((Enum<?>) enumValues.get(i)).name().getBytes(StandardCharsets.UTF_8);
+        }
     }
 
     public static <TYPE> EnumNameCodec<TYPE> create(List<TYPE> enumTypes, Class<TYPE> sourceType) {
@@ -80,4 +89,37 @@ public class EnumNameCodec<ENUM> implements Codec<ENUM, String> {
     }
 
 
+
+    @Override
+    public ByteBuffer serialize(ENUM fromJava, ProtocolVersion protocolVersion) throws AchillesTranscodingException {
+        if (fromJava == null) return null;
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(String.format("Serializing enum %s to UTF-8 bytes", fromJava));
+        }
+        for (int i = 0; i < encodedNames.length; i++) {
+            if (enumValues.get(i) == fromJava) {
+                return ByteBuffer.wrap(encodedNames[i]);
+            }
+        }
+        throw new AchillesTranscodingException(format("Cannot find matching enum values for '%s' from possible enum constants '%s' ", fromJava, enumValues));
+    }
+
+    @Override
+    public ENUM deserialize(ByteBuffer fromCassandra, ProtocolVersion protocolVersion) throws AchillesTranscodingException {
+        if (fromCassandra == null) return null;
+        for (int i = 0; i < encodedNames.length; i++) {
+            if (sameBytes(encodedNames[i], fromCassandra)) return enumValues.get(i);
+        }
+        throw new AchillesTranscodingException(format("Cannot find matching enum values for '%s' from possible enum constants '%s' ",
+                StandardCharsets.UTF_8.decode(fromCassandra.duplicate()), enumValues));
+    }
+
+    private static boolean sameBytes(byte[] name, ByteBuffer bytes) {
+        if (name.length != bytes.remaining()) return false;
+        final int position = bytes.position();
+        for (int i = 0; i < name.length; i++) {
+            if (name[i] != bytes.get(position + i)) return false;
+        }
+        return true;
+    }
 }
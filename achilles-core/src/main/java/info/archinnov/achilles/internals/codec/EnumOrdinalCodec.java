@@ -18,15 +18,18 @@ package info.archinnov.achilles.internals.codec;
 
 import static java.lang.String.format;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.datastax.driver.core.ProtocolVersion;
+
 import info.archinnov.achilles.exception.AchillesTranscodingException;
-import info.archinnov.achilles.type.codec.Codec;
+import info.archinnov.achilles.type.codec.ByteBufferCodec;
 
-public class EnumOrdinalCodec<ENUM> implements Codec<ENUM, Integer> {
+public class EnumOrdinalCodec<ENUM> implements ByteBufferCodec<ENUM, Integer> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EnumOrdinalCodec.class);
 
@@ -80,4 +83,33 @@ public class EnumOrdinalCodec<ENUM> implements Codec<ENUM, Integer> {
         }
         return enumValues.get(fromCassandra);
     }
+
+    @Override
+    public ByteBuffer serialize(ENUM fromJava, ProtocolVersion protocolVersion) throws AchillesTranscodingException {
+        if (fromJava == null) return null;
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(String.format("Serializing enum %s to int bytes", fromJava));
+        }
+        for (int i = 0; i < enumValues.size(); i++) {
+            if (enumValues.get(i) == fromJava) {
+                final ByteBuffer bytes = ByteBuffer.allocate(4);
+                bytes.putInt(0, i);
+                return bytes;
+            }
+        }
+        throw new AchillesTranscodingException(format("Cannot find matching enum values for '%s' from possible enum constants '%s' ", fromJava, enumValues));
+    }
+
+    @Override
+    public ENUM deserialize(ByteBuffer fromCassandra, ProtocolVersion protocolVersion) throws AchillesTranscodingException {
+        if (fromCassandra == null || fromCassandra.remaining() == 0) return null;
+        if (fromCassandra.remaining() != 4) {
+            throw new AchillesTranscodingException(format("Invalid 32-bits integer value, expecting 4 bytes but got %s", fromCassandra.remaining()));
+        }
+        final int ordinal = fromCassandra.getInt(fromCassandra.position());
+        if (ordinal > enumValues.size() - 1 || ordinal < 0) {
+            throw new AchillesTranscodingException(format("Cannot find matching enum values for '%s' from possible enum constants '%s' ", ordinal, enumValues));
+        }
+        return enumValues.get(ordinal);
+    }
 }
@@ -17,26 +17,44 @@
 package info.archinnov.achilles.internals.codec;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.datastax.driver.core.ProtocolVersion;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
 import info.archinnov.achilles.exception.AchillesTranscodingException;
-import info.archinnov.achilles.type.codec.Codec;
+import info.archinnov.achilles.type.codec.ByteBufferCodec;
 
-public class JSONCodec<TYPE> implements Codec<TYPE, String> {
+/**
+ * JSON codec for <strong>{@literal @}JSON</strong> columns.
+ * <br/>
+ * The ObjectReader for the exact type and the ObjectWriter are resolved once when the ObjectMapper is
+ * injected. The binary path reads and writes the UTF-8 bytes of the column directly, without building
+ * the intermediate JSON String
+ */
+public class JSONCodec<TYPE> implements ByteBufferCodec<TYPE, String> {
 
     public static final TypeFactory TYPE_FACTORY_INSTANCE = TypeFactory.defaultInstance();
     private static final Logger LOGGER = LoggerFactory.getLogger(JSONCodec.class);
+    private static final int MIN_BUFFER_SIZE = 256;
+    private static final int MAX_BUFFER_SIZE_HINT = 64 * 1024;
     private final Class<?> sourceType;
     private final JavaType exactType;
 
-    private ObjectMapper objectMapper;
+    private ObjectReader objectReader;
+    private ObjectWriter objectWriter;
+    private volatile int averageSerializedSize = MIN_BUFFER_SIZE;
 
     public JSONCodec(Class<?> sourceType, JavaType exactType) {
         this.sourceType = sourceType;
@@ -44,7 +62,8 @@ public class JSONCodec<TYPE> implements Codec<TYPE, String> {
     }
 
     public void setObjectMapper(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+        this.objectReader = objectMapper.reader(exactType);
+        this.objectWriter = objectMapper.writer();
     }
 
     @Override
@@ -64,7 +83,7 @@ public class JSONCodec<TYPE> implements Codec<TYPE, String> {
             LOGGER.trace(String.format("Encoding object %s to JSON", fromJava));
         }
         try {
-            return objectMapper.writeValueAsString(fromJava);
+            return objectWriter.writeValueAsString(fromJava);
         } catch (JsonProcessingException e) {
             throw new AchillesTranscodingException(e);
         }
@@ -77,9 +96,97 @@ public class JSONCodec<TYPE> implements Codec<TYPE, String> {
             LOGGER.trace(String.format("Decoding object type %s from JSON %s", exactType, fromCassandra));
         }
         try {
-            return objectMapper.readValue(fromCassandra, exactType);
+            return objectReader.readValue(fromCassandra);
+        } catch (IOException e) {
+            throw new AchillesTranscodingException(e);
+        }
+    }
+
+    @Override
+    public ByteBuffer serialize(TYPE fromJava, ProtocolVersion protocolVersion) throws AchillesTranscodingException {
+        if (fromJava == null) return null;
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(String.format("Serializing object %s to JSON bytes", fromJava));
+        }
+        final int sizeHint = averageSerializedSize;
+        final ByteArrayOutput output = new ByteArrayOutput(sizeHint + (sizeHint >> 3));
+        try {
+            objectWriter.writeValue(output, fromJava);
+        } catch (IOException e) {
+            throw new AchillesTranscodingException(e);
+        }
+        averageSerializedSize = nextSizeHint(sizeHint, output.count);
+        return output.toByteBuffer();
+    }
+
+    @Override
+    public TYPE deserialize(ByteBuffer fromCassandra, ProtocolVersion protocolVersion) throws AchillesTranscodingException {
+        if (fromCassandra == null) return null;
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(String.format("Deserializing object type %s from JSON bytes", exactType));
+        }
+        try {
+            if (fromCassandra.hasArray()) {
+                return objectReader.readValue(fromCassandra.array(), fromCassandra.arrayOffset() + fromCassandra.position(),
+                        fromCassandra.remaining());
+            } else {
+                return objectReader.readValue(new ByteBufferBackedInputStream(fromCassandra.duplicate()));
+            }
         } catch (IOException e) {
             throw new AchillesTranscodingException(e);
         }
     }
+
+    /**
+     * Moving average of the serialized sizes, weighting the last one by 1/8 and bounded
+     * so that an occasional large document does not inflate all the following allocations
+     */
+    static int nextSizeHint(int currentHint, int serializedSize) {
+        final int average = currentHint + ((serializedSize - currentHint) >> 3);
+        return Math.min(MAX_BUFFER_SIZE_HINT, Math.max(MIN_BUFFER_SIZE, average));
+    }
+
+    /**
+     * Growable byte array sink whose content is exposed without the final copy of ByteArrayOutputStream.
+     * It is sized from the average serialized size so documents of a stable size are written in one pass
+     */
+    private static final class ByteArrayOutput extends OutputStream {
+
+        private byte[] buffer;
+        private int count;
+
+        private ByteArrayOutput(int initialSize) {
+            this.buffer = new byte[initialSize];
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(count + 1);
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            ensureCapacity(count + length);
+            System.arraycopy(bytes, offset, buffer, count, length);
+            count += length;
+        }
+
+        /**
+         * Wrap the written bytes, trimming the backing array when more than a quarter of it is unused
+         * so that the returned buffer does not pin a much larger array than its content
+         */
+        private ByteBuffer toByteBuffer() {
+            if (buffer.length - count > buffer.length >> 2) {
+                return ByteBuffer.wrap(Arrays.copyOf(buffer, count));
+            }
+            return ByteBuffer.wrap(buffer, 0, count);
+        }
+
+        private void ensureCapacity(int minCapacity) {
+            if (minCapacity > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, minCapacity));
+            }
+        }
+    }
 }
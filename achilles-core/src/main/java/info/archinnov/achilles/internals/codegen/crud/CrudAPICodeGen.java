@@ -20,8 +20,11 @@ import static info.archinnov.achilles.internals.metamodel.columns.ColumnType.CLU
 import static info.archinnov.achilles.internals.metamodel.columns.ColumnType.PARTITION;
 import static info.archinnov.achilles.internals.parser.TypeUtils.*;
 import static info.archinnov.achilles.internals.parser.TypeUtils.META_SUFFIX;
+import static java.util.stream.Collectors.toList;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
 import javax.lang.model.element.Modifier;
 
 import com.squareup.javapoet.*;
@@ -29,6 +32,7 @@ import com.squareup.javapoet.*;
 import info.archinnov.achilles.internals.codegen.meta.EntityMetaCodeGen.EntityMetaSignature;
 import info.archinnov.achilles.internals.metamodel.columns.ClusteringColumnInfo;
 import info.archinnov.achilles.internals.metamodel.columns.PartitionKeyInfo;
+import info.archinnov.achilles.type.tuples.Tuple2;
 import info.archinnov.achilles.type.tuples.Tuple3;
 
 public abstract class CrudAPICodeGen {
@@ -37,6 +41,8 @@ public abstract class CrudAPICodeGen {
             (o1, o2) -> o1._3().order.compareTo(o2._3().order);
     public static final Comparator<Tuple3<String, TypeName, ClusteringColumnInfo>> CLUSTERING_COLUMN_SORTER =
             (o1, o2) -> o1._3().order.compareTo(o2._3().order);
+    private static final ClassName[] PRIMARY_KEY_TUPLES = new ClassName[]{
+            TUPLE2, TUPLE3, TUPLE4, TUPLE5, TUPLE6, TUPLE7, TUPLE8, TUPLE9, TUPLE10};
 
     protected abstract void augmentCRUDClass(EntityMetaSignature signature, TypeSpec.Builder crudClassBuilder);
 
@@ -49,14 +55,23 @@ public abstract class CrudAPICodeGen {
                 .addMethod(buildWithSchemaNameProvider(signature))
                 .addMethod(buildFind(signature));
 
+        final List<Tuple2<String, TypeName>> primaryKeyColumns = getPrimaryKeyColumns(signature);
+        // Primary keys with more than 10 columns cannot be expressed as an Achilles tuple
+        if (primaryKeyColumns.size() <= PRIMARY_KEY_TUPLES.length + 1) {
+            crudClass.addMethod(buildFindAll(signature, primaryKeyColumns));
+        }
+
         // API for table
         if (signature.isTable()) {
             crudClass.addMethod(buildDeleteInstance(signature))
-                    .addMethod(buildDeleteByKeys(signature));
+                    .addMethod(buildDeleteByKeys(signature))
+                    .addMethod(buildDeleteAll(signature));
 
             if (!signature.isCounterEntity()) {
                 crudClass.addMethod(buildInsert(signature));
                 crudClass.addMethod(buildUpdate(signature));
+                crudClass.addMethod(buildInsertAll(signature));
+                crudClass.addMethod(buildUpdateAll(signature));
                 if (signature.hasStatic()) {
                     crudClass.addMethod(buildInsertStatic(signature));
                     crudClass.addMethod(buildUpdateStatic(signature));
@@ -134,6 +149,79 @@ public abstract class CrudAPICodeGen {
         return builder.build();
     }
 
+    /*
+       public FindAllWithOptions findAllByIds(List<TupleN<...>> primaryKeys) {
+         validate keys not null
+         return FindAllWithOptions(meta, rte, primaryKeyValues, encodedPrimaryKeyValues);
+       }
+    */
+    private static MethodSpec buildFindAll(EntityMetaSignature signature, List<Tuple2<String, TypeName>> primaryKeyColumns) {
+        ParameterizedTypeName returnType = genericType(FIND_ALL_WITH_OPTIONS, signature.entityRawClass);
+        final boolean singleColumn = primaryKeyColumns.size() == 1;
+        final TypeName primaryKeyType = singleColumn
+                ? primaryKeyColumns.get(0)._2().box()
+                : genericType(PRIMARY_KEY_TUPLES[primaryKeyColumns.size() - 2],
+                primaryKeyColumns.stream().map(x -> x._2().box()).toArray(TypeName[]::new));
+
+        final MethodSpec.Builder builder = MethodSpec.methodBuilder("findAllByIds")
+                .addJavadoc("Find many entities by their complete primary key. ")
+                .addJavadoc("Entities are returned in the same order as the primary keys, <strong>null</strong> for missing ones\n\n")
+                .addJavadoc("@param primaryKeys list of $L\n", singleColumn
+                        ? "'" + primaryKeyColumns.get(0)._1() + "' values"
+                        : "(" + String.join(", ", primaryKeyColumns.stream().map(Tuple2::_1).collect(toList())) + ") tuples")
+                .addJavadoc("@return FindAllWithOptions<$T>", signature.entityRawClass)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(genericType(LIST, primaryKeyType), "primaryKeys", Modifier.FINAL)
+                .addStatement("$T.validateNotNull(primaryKeys, $S)", VALIDATOR, "The primary keys list should not be null")
+                .addStatement("final $T<Object[]> primaryKeyValues = new $T<>(primaryKeys.size())", LIST, ARRAY_LIST)
+                .addStatement("final $T<Object[]> encodedPrimaryKeyValues = new $T<>(primaryKeys.size())", LIST, ARRAY_LIST);
+
+        if (singleColumn) {
+            builder.beginControlFlow("for (final $T $L : primaryKeys)", primaryKeyType, primaryKeyColumns.get(0)._1());
+        } else {
+            builder.beginControlFlow("for (final $T primaryKey : primaryKeys)", primaryKeyType)
+                    .addStatement("$T.validateNotNull(primaryKey, $S)", VALIDATOR, "Primary key tuple should not be null");
+            for (int i = 0; i < primaryKeyColumns.size(); i++) {
+                final Tuple2<String, TypeName> column = primaryKeyColumns.get(i);
+                builder.addStatement("final $T $L = primaryKey._$L()", column._2().box(), column._1(), i + 1);
+            }
+        }
+
+        primaryKeyColumns.forEach(column -> builder.addStatement("$T.validateNotNull($L, $S, $S)", VALIDATOR, column._1(),
+                "Primary key '%s' should not be null", column._1()));
+
+        final List<String> columnNames = primaryKeyColumns.stream().map(Tuple2::_1).collect(toList());
+        builder.addStatement("primaryKeyValues.add(new Object[]{$L})", String.join(", ", columnNames));
+        builder.addStatement("encodedPrimaryKeyValues.add(new Object[]{$L})", String.join(", ", columnNames
+                .stream()
+                .map(name -> signature.className + META_SUFFIX + "." + name + ".encodeFromJava(" + name + ", cassandraOptions)")
+                .collect(toList())));
+
+        builder.endControlFlow()
+                .addStatement("return new $T(meta, rte, primaryKeyValues, encodedPrimaryKeyValues, cassandraOptions)", returnType)
+                .returns(returnType);
+
+        return builder.build();
+    }
+
+    private static List<Tuple2<String, TypeName>> getPrimaryKeyColumns(EntityMetaSignature signature) {
+        final Stream<Tuple2<String, TypeName>> partitionKeys = signature.fieldMetaSignatures
+                .stream()
+                .filter(x -> x.context.columnType == PARTITION)
+                .map(x -> Tuple3.of(x.context.fieldName, x.sourceType, (PartitionKeyInfo) x.context.columnInfo))
+                .sorted(PARTITION_KEY_SORTER)
+                .map(x -> Tuple2.of(x._1(), x._2()));
+
+        final Stream<Tuple2<String, TypeName>> clusteringColumns = signature.fieldMetaSignatures
+                .stream()
+                .filter(x -> x.context.columnType == CLUSTERING)
+                .map(x -> Tuple3.of(x.context.fieldName, x.sourceType, (ClusteringColumnInfo) x.context.columnInfo))
+                .sorted(CLUSTERING_COLUMN_SORTER)
+                .map(x -> Tuple2.of(x._1(), x._2()));
+
+        return Stream.concat(partitionKeys, clusteringColumns).collect(toList());
+    }
+
     private static MethodSpec buildInsert(EntityMetaSignature signature) {
         return MethodSpec.methodBuilder("insert")
                 .addJavadoc("Insert this entity\n\n")
@@ -158,6 +246,30 @@ public abstract class CrudAPICodeGen {
                 .build();
     }
 
+    private static MethodSpec buildInsertAll(EntityMetaSignature signature) {
+        return MethodSpec.methodBuilder("insertAll")
+                .addJavadoc("Insert all those entities, with a bounded number of concurrent mutations\n\n")
+                .addJavadoc("@param instances a collection of $T\n", signature.entityRawClass)
+                .addJavadoc("@return $T<$T>", INSERT_ALL_WITH_OPTIONS, signature.entityRawClass)
+                .addModifiers(Modifier.FINAL, Modifier.PUBLIC)
+                .addParameter(genericType(COLLECTION, signature.entityRawClass), "instances", Modifier.FINAL)
+                .addStatement("return insertAllInternal(instances, cassandraOptions)")
+                .returns(genericType(INSERT_ALL_WITH_OPTIONS, signature.entityRawClass))
+                .build();
+    }
+
+    private static MethodSpec buildUpdateAll(EntityMetaSignature signature) {
+        return MethodSpec.methodBuilder("updateAll")
+                .addJavadoc("Update the cassandra table with <strong>NOT NULL</strong> fields extracted from all those entities, ")
+                .addJavadoc("with a bounded number of concurrent mutations\n\n")
+                .addJavadoc("@param instances a collection of $T\n", signature.entityRawClass)
+                .addJavadoc("@return $T<$T>", UPDATE_ALL_WITH_OPTIONS, signature.entityRawClass)
+                .addModifiers(Modifier.FINAL, Modifier.PUBLIC)
+                .addParameter(genericType(COLLECTION, signature.entityRawClass), "instances", Modifier.FINAL)
+                .addStatement("return updateAllInternal(instances, cassandraOptions)")
+                .returns(genericType(UPDATE_ALL_WITH_OPTIONS, signature.entityRawClass))
+                .build();
+    }
 
     private static MethodSpec buildInsertStatic(EntityMetaSignature signature) {
         return MethodSpec.methodBuilder("insertStatic")
@@ -252,6 +364,19 @@ public abstract class CrudAPICodeGen {
                 .build();
     }
 
+    private static MethodSpec buildDeleteAll(EntityMetaSignature signature) {
+        return MethodSpec.methodBuilder("deleteAll")
+                .addJavadoc("Delete all those entity instances by extracting their primary key, ")
+                .addJavadoc("with a bounded number of concurrent mutations\n\n")
+                .addJavadoc("@param instances a collection of $T to be deleted\n", signature.entityRawClass)
+                .addJavadoc("@return $T<$T>", DELETE_ALL_WITH_OPTIONS, signature.entityRawClass)
+                .addModifiers(Modifier.FINAL, Modifier.PUBLIC)
+                .addParameter(genericType(COLLECTION, signature.entityRawClass), "instances", Modifier.FINAL)
+                .addStatement("return deleteAllInternal(instances, cassandraOptions)")
+                .returns(genericType(DELETE_ALL_WITH_OPTIONS, signature.entityRawClass))
+                .build();
+    }
+
     private static MethodSpec buildDeleteByPartition(EntityMetaSignature signature) {
         ParameterizedTypeName returnType = genericType(DELETE_BY_PARTITION_WITH_OPTIONS, signature.entityRawClass);
         final MethodSpec.Builder builder = MethodSpec.methodBuilder("deleteByPartitionKeys")
@@ -103,12 +103,11 @@ public abstract class AbstractDSLCodeGen {
         return signatures;
     }
 
-    public MethodSpec buildWhereConstructorWithOptions(TypeName whereType) {
+    public MethodSpec buildWhereConstructorWithOptions() {
         return MethodSpec.constructorBuilder()
                 .addModifiers(Modifier.PUBLIC)
-                .addParameter(whereType, "where")
                 .addParameter(OPTIONS, "cassandraOptions")
-                .addStatement("super(where, cassandraOptions)")
+                .addStatement("super(cassandraOptions)")
                 .build();
 
     }
@@ -184,6 +183,16 @@ public abstract class AbstractDSLCodeGen {
                 .build();
     }
 
+    public MethodSpec buildGetStatementShapeInternal() {
+        return MethodSpec
+                .methodBuilder("getStatementShapeInternal")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.FINAL, Modifier.PROTECTED)
+                .addStatement("return statementShape")
+                .returns(STATEMENT_SHAPE)
+                .build();
+    }
+
     public boolean hasCounter(EntityMetaSignature signature) {
         return signature
                 .fieldMetaSignatures
@@ -204,50 +213,54 @@ public abstract class AbstractDSLCodeGen {
                 .build();
     }
 
-    public MethodSpec buildAllColumns(TypeName newTypeName, TypeName whereTypeName, String privateFieldName) {
+    public MethodSpec buildAllColumns(TypeName newTypeName, String privateFieldName) {
         return MethodSpec.methodBuilder("allColumns_FromBaseTable")
                 .addJavadoc("Generate ... * FROM ...")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("final $T where = $L.all().from(meta.getKeyspace().orElse($S + meta.entityClass.getCanonicalName()), meta.getTableOrViewName()).where()",
-                        whereTypeName, privateFieldName, "unknown_keyspace_for_")
-                .addStatement("return new $T(where, new $T())", newTypeName, OPTIONS)
+                .addStatement("final String currentKeyspace = meta.getBaseTableKeyspace()")
+                .addStatement("final String currentTable = meta.getBaseTableOrViewName()")
+                .addStatement("selectionClause($S, selection$$ -> selection$$.all())", shapeToken(privateFieldName, "all"))
+                .addStatement("fromTable(currentKeyspace, currentTable)")
+                .addStatement("return new $T(new $T())", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
     }
 
-    public MethodSpec buildAllColumnsWithSchemaProvider(TypeName newTypeName, TypeName whereTypeName, String privateFieldName) {
+    public MethodSpec buildAllColumnsWithSchemaProvider(TypeName newTypeName, String privateFieldName) {
         return MethodSpec.methodBuilder("allColumns_From")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addJavadoc("Generate ... * FROM ... using the given SchemaNameProvider")
                 .addParameter(SCHEMA_NAME_PROVIDER, "schemaNameProvider", Modifier.FINAL)
                 .addStatement("final String currentKeyspace = lookupKeyspace(schemaNameProvider, meta.entityClass)")
                 .addStatement("final String currentTable = lookupTable(schemaNameProvider, meta.entityClass)")
-                .addStatement("final $T where = $L.all().from(currentKeyspace, currentTable).where()", whereTypeName, privateFieldName)
-                .addStatement("return new $T(where, $T.withSchemaNameProvider(schemaNameProvider))", newTypeName, OPTIONS)
+                .addStatement("selectionClause($S, selection$$ -> selection$$.all())", shapeToken(privateFieldName, "all"))
+                .addStatement("fromTable(currentKeyspace, currentTable)")
+                .addStatement("return new $T($T.withSchemaNameProvider(schemaNameProvider))", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
     }
 
-    public MethodSpec buildFrom(TypeName newTypeName, TypeName whereTypeName, String privateFieldName) {
+    public MethodSpec buildFrom(TypeName newTypeName) {
         return MethodSpec.methodBuilder("fromBaseTable")
                 .addJavadoc("Generate a ... <strong>FROM xxx</strong> ... ")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("final $T where = $L.from(meta.getKeyspace().orElse($S + meta.entityClass.getCanonicalName()), " +
-                        "meta.getTableOrViewName()).where()", whereTypeName, privateFieldName, "unknown_keyspace_for_")
-                .addStatement("return new $T(where, new $T())", newTypeName, OPTIONS)
+                .addStatement("final String currentKeyspace = meta.getBaseTableKeyspace()")
+                .addStatement("final String currentTable = meta.getBaseTableOrViewName()")
+                .addStatement("fromTable(currentKeyspace, currentTable)")
+                .addStatement("return new $T(new $T())", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
     }
 
-    public MethodSpec buildFromWithSchemaProvider(TypeName newTypeName, TypeName whereTypeName, String privateFieldName) {
+    public MethodSpec buildFromWithSchemaProvider(TypeName newTypeName) {
         return MethodSpec.methodBuilder("from")
                 .addJavadoc("Generate a ... <strong>FROM xxx</strong> ... using the given SchemaNameProvider")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(SCHEMA_NAME_PROVIDER, "schemaNameProvider", Modifier.FINAL)
                 .addStatement("final String currentKeyspace = lookupKeyspace(schemaNameProvider, meta.entityClass)")
                 .addStatement("final String currentTable = lookupTable(schemaNameProvider, meta.entityClass)")
-                .addStatement("final $T where = $L.from(currentKeyspace, currentTable).where()", whereTypeName, privateFieldName)
-                .addStatement("return new $T(where, $T.withSchemaNameProvider(schemaNameProvider))", newTypeName, OPTIONS)
+                .addStatement("fromTable(currentKeyspace, currentTable)")
+                .addStatement("return new $T($T.withSchemaNameProvider(schemaNameProvider))", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
     }
@@ -318,6 +331,13 @@ public abstract class AbstractDSLCodeGen {
         }
     }
 
+    /**
+     * Compact token describing one clause for the statement shape, e.g. <em>WHERE eq(id,id)</em>
+     */
+    public static String shapeToken(String clause, String builderMethod, String... cqlArguments) {
+        return clause + " " + builderMethod + "(" + String.join(",", cqlArguments) + ")";
+    }
+
     public static String formatColumnTuplesForJavadoc(String columnTuples) {
         return "(" + columnTuples.replaceAll("\"","") + ")";
     }
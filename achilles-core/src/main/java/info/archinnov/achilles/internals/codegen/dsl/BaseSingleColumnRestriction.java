@@ -17,6 +17,7 @@
 package info.archinnov.achilles.internals.codegen.dsl;
 
 import static info.archinnov.achilles.internals.codegen.dsl.AbstractDSLCodeGen.relationToSymbolForJavaDoc;
+import static info.archinnov.achilles.internals.codegen.dsl.AbstractDSLCodeGen.shapeToken;
 import static info.archinnov.achilles.internals.parser.TypeUtils.*;
 import static info.archinnov.achilles.internals.utils.NamingHelper.upperCaseFirst;
 
@@ -39,14 +40,15 @@ public interface BaseSingleColumnRestriction {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(fieldInfo.typeName, fieldInfo.fieldName)
-                .addStatement("where.and($T.$L($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.$L($S, $T.bindMarker($S))))",
+                        shapeToken("WHERE", relation, fieldInfo.quotedCqlColumn, fieldInfo.quotedCqlColumn),
                         QUERY_BUILDER, relation, fieldInfo.quotedCqlColumn, QUERY_BUILDER, fieldInfo.quotedCqlColumn)
                 .addStatement("boundValues.add($N)", fieldInfo.fieldName)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldInfo.fieldName, fieldInfo.fieldName, OPTIONAL)
                 .returns(nextType);
 
         if (returnType == ReturnType.NEW) {
-            builder.addStatement("return new $T(where, cassandraOptions)", nextType);
+            builder.addStatement("return new $T(cassandraOptions)", nextType);
         } else {
             builder.addStatement("return $T.this", nextType);
         }
@@ -66,7 +68,8 @@ public interface BaseSingleColumnRestriction {
                 .varargs()
                 .addStatement("$T.validateTrue($T.isNotEmpty($L), \"Varargs for field '%s' should not be null/empty\", $S)",
                         VALIDATOR, ARRAYS_UTILS, fieldInfo.fieldName, fieldInfo.fieldName)
-                .addStatement("where.and($T.in($S,$T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.in($S,$T.bindMarker($S))))",
+                        shapeToken("WHERE", "in", fieldInfo.quotedCqlColumn, fieldInfo.quotedCqlColumn),
                         QUERY_BUILDER, fieldInfo.quotedCqlColumn, QUERY_BUILDER, fieldInfo.quotedCqlColumn);
 
         if (paramTypeName.isPrimitive()) {
@@ -84,7 +87,7 @@ public interface BaseSingleColumnRestriction {
                 .returns(nextType);
 
         if (returnType == ReturnType.NEW) {
-            builder.addStatement("return new $T(where, cassandraOptions)", nextType);
+            builder.addStatement("return new $T(cassandraOptions)", nextType);
         } else {
             builder.addStatement("return $T.this", nextType);
         }
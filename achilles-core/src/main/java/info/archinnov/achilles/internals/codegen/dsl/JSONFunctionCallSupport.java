@@ -18,6 +18,7 @@ package info.archinnov.achilles.internals.codegen.dsl;
 
 import static com.squareup.javapoet.TypeName.BOOLEAN;
 import static com.squareup.javapoet.TypeName.OBJECT;
+import static info.archinnov.achilles.internals.codegen.dsl.AbstractDSLCodeGen.shapeToken;
 import static info.archinnov.achilles.internals.parser.TypeUtils.*;
 import static info.archinnov.achilles.internals.parser.TypeUtils.LIST;
 
@@ -43,20 +44,19 @@ public interface JSONFunctionCallSupport {
                 .superclass(ABSTRACT_SELECT_FROM_JSON)
                 .addModifiers(Modifier.PUBLIC)
                 .addMethod(MethodSpec.constructorBuilder()
-                        .addParameter(SELECT_DOT_WHERE, "where")
                         .addParameter(OPTIONS, "cassandraOptions")
-                        .addStatement("super(where, cassandraOptions)")
+                        .addStatement("super(cassandraOptions)")
                         .build())
                 .addMethod(MethodSpec.methodBuilder("where")
                         .addJavadoc("Generate a SELECT ... FROM ... <strong>WHERE</strong> ...")
                         .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                        .addStatement("return new $T(where, cassandraOptions)", selectWhereJSONTypeName)
+                        .addStatement("return new $T(cassandraOptions)", selectWhereJSONTypeName)
                         .returns(selectWhereJSONTypeName)
                         .build())
                 .addMethod(MethodSpec.methodBuilder("without_WHERE_Clause")
                         .addJavadoc("Generate a SELECT statement <strong>without</strong> the <strong>WHERE</strong> clause")
                         .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                        .addStatement("return new $T(where, cassandraOptions)", selectEndJSONTypeName)
+                        .addStatement("return new $T(cassandraOptions)", selectEndJSONTypeName)
                         .returns(selectEndJSONTypeName)
                         .build())
                 .build();
@@ -128,14 +128,15 @@ public interface JSONFunctionCallSupport {
                 .addJavadoc("Generate an UPDATE FROM ... <strong>SET $L = fromJson(?)</strong>", cqlColumn)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, param, Modifier.FINAL)
-                .addStatement("where.with($T.of($S, $T.fromJson($T.bindMarker($S))))",
+                .addStatement("whereClause($S, where$$ -> where$$.with($T.of($S, $T.fromJson($T.bindMarker($S)))))",
+                        shapeToken("SET", "fromJson", cqlColumn, cqlColumn),
                         NON_ESCAPING_ASSIGNMENT, cqlColumn, QUERY_BUILDER, QUERY_BUILDER, cqlColumn)
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add($N)", param)
                 .returns(newTypeName);
 
         if (returnType == ReturnType.NEW) {
-            setFromJSONMethodBuilder.addStatement("return new $T(where, cassandraOptions)", newTypeName);
+            setFromJSONMethodBuilder.addStatement("return new $T(cassandraOptions)", newTypeName);
         } else {
             setFromJSONMethodBuilder.addStatement("return $T.this", newTypeName);
         }
@@ -150,12 +151,13 @@ public interface JSONFunctionCallSupport {
                 .addJavadoc("Generate a SELECT ... FROM ... WHERE ... <strong>$L $L </strong>", fieldInfo.quotedCqlColumn, " = fromJson(?)")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, fieldInfo.fieldName)
-                .addStatement("where.and($T.eq($S, $T.fromJson($T.bindMarker($S))))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.eq($S, $T.fromJson($T.bindMarker($S)))))",
+                        shapeToken("WHERE", "eqFromJson", fieldInfo.quotedCqlColumn, fieldInfo.quotedCqlColumn),
                         QUERY_BUILDER, fieldInfo.quotedCqlColumn, QUERY_BUILDER, QUERY_BUILDER, fieldInfo.quotedCqlColumn)
                 .addStatement("boundValues.add($N)", fieldInfo.fieldName)
                 .addStatement("encodedValues.add($N)", fieldInfo.fieldName)
                 .returns(nextSignature.returnClassType)
-                .addStatement("return new $T(where, cassandraOptions)", nextSignature.returnClassType)
+                .addStatement("return new $T(cassandraOptions)", nextSignature.returnClassType)
                 .build();
 
         relationClassBuilder.addMethod(fromJsonMethod);
@@ -175,7 +177,8 @@ public interface JSONFunctionCallSupport {
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, paramKey)
                 .addParameter(STRING, paramValue)
-                .addStatement("where.and($T.of($S, $T.fromJson($T.bindMarker($S)), $T.fromJson($T.bindMarker($S))))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.of($S, $T.fromJson($T.bindMarker($S)), $T.fromJson($T.bindMarker($S)))))",
+                        shapeToken("WHERE", "entryFromJson", indexFieldInfo.quotedCqlColumn, paramKey, paramValue),
                         MAP_ENTRY_CLAUSE, indexFieldInfo.quotedCqlColumn,
                         QUERY_BUILDER, QUERY_BUILDER, paramKey,
                         QUERY_BUILDER, QUERY_BUILDER, paramValue)
@@ -188,7 +191,7 @@ public interface JSONFunctionCallSupport {
         if(returnType == ReturnType.THIS) {
             relationClassBuilder.addMethod(builder.addStatement("return $T.this", returnClassType).build());
         } else {
-            relationClassBuilder.addMethod(builder.addStatement("return new $T(where, cassandraOptions)", returnClassType).build());
+            relationClassBuilder.addMethod(builder.addStatement("return new $T(cassandraOptions)", returnClassType).build());
         }
     }
 
@@ -204,7 +207,8 @@ public interface JSONFunctionCallSupport {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, param)
-                .addStatement("where.and($T.containsKey($S, $T.fromJson($T.bindMarker($S))))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.containsKey($S, $T.fromJson($T.bindMarker($S)))))",
+                        shapeToken("WHERE", "containsKeyFromJson", indexFieldInfo.quotedCqlColumn, indexFieldInfo.quotedCqlColumn),
                         QUERY_BUILDER, indexFieldInfo.quotedCqlColumn, QUERY_BUILDER, QUERY_BUILDER, indexFieldInfo.quotedCqlColumn)
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add($N)", param)
@@ -213,7 +217,7 @@ public interface JSONFunctionCallSupport {
         if(returnType == ReturnType.THIS) {
             relationClassBuilder.addMethod(builder.addStatement("return $T.this", returnClassType).build());
         } else {
-            relationClassBuilder.addMethod(builder.addStatement("return new $T(where, cassandraOptions)", returnClassType).build());
+            relationClassBuilder.addMethod(builder.addStatement("return new $T(cassandraOptions)", returnClassType).build());
         }
     }
 
@@ -228,7 +232,8 @@ public interface JSONFunctionCallSupport {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, param)
-                .addStatement("where.and($T.contains($S, $T.fromJson($T.bindMarker($S))))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.contains($S, $T.fromJson($T.bindMarker($S)))))",
+                        shapeToken("WHERE", "containsFromJson", indexFieldInfo.quotedCqlColumn, indexFieldInfo.quotedCqlColumn),
                         QUERY_BUILDER, indexFieldInfo.quotedCqlColumn, QUERY_BUILDER, QUERY_BUILDER, indexFieldInfo.quotedCqlColumn)
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add($N)", param)
@@ -237,7 +242,7 @@ public interface JSONFunctionCallSupport {
         if(returnType == ReturnType.THIS) {
             relationClassBuilder.addMethod(builder.addStatement("return $T.this", returnClassType).build());
         } else {
-            relationClassBuilder.addMethod(builder.addStatement("return new $T(where, cassandraOptions)", returnClassType).build());
+            relationClassBuilder.addMethod(builder.addStatement("return new $T(cassandraOptions)", returnClassType).build());
         }
     }
 
@@ -251,7 +256,8 @@ public interface JSONFunctionCallSupport {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, param)
-                .addStatement("where.and($T.contains($S, $T.fromJson($T.bindMarker($S))))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.contains($S, $T.fromJson($T.bindMarker($S)))))",
+                        shapeToken("WHERE", "containsFromJson", indexFieldInfo.quotedCqlColumn, indexFieldInfo.quotedCqlColumn),
                         QUERY_BUILDER, indexFieldInfo.quotedCqlColumn, QUERY_BUILDER, QUERY_BUILDER, indexFieldInfo.quotedCqlColumn)
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add($N)", param)
@@ -259,7 +265,7 @@ public interface JSONFunctionCallSupport {
         if(returnType == ReturnType.THIS) {
             relationClassBuilder.addMethod(builder.addStatement("return $T.this", returnClassType).build());
         } else {
-            relationClassBuilder.addMethod(builder.addStatement("return new $T(where, cassandraOptions)", returnClassType).build());
+            relationClassBuilder.addMethod(builder.addStatement("return new $T(cassandraOptions)", returnClassType).build());
         }
     }
 
@@ -275,7 +281,8 @@ public interface JSONFunctionCallSupport {
                 .addParameter(STRING, fieldName, Modifier.FINAL)
                 .addStatement("boundValues.add($N)", fieldName)
                 .addStatement("encodedValues.add($N)", fieldName)
-                .addStatement("where.onlyIf($T.eq($S, $T.fromJson($T.bindMarker($S))))",
+                .addStatement("whereClause($S, where$$ -> where$$.onlyIf($T.eq($S, $T.fromJson($T.bindMarker($S)))))",
+                        shapeToken("IF", "eqFromJson", quotedCqlColumn, quotedCqlColumn),
                         QUERY_BUILDER, quotedCqlColumn, QUERY_BUILDER, QUERY_BUILDER, quotedCqlColumn)
                 .addStatement("return $T.this", currentSignature.returnClassType)
                 .returns(currentSignature.returnClassType)
@@ -285,26 +292,29 @@ public interface JSONFunctionCallSupport {
 
     }
 
-    default MethodSpec buildAllColumnsJSON(TypeName newTypeName, TypeName whereTypeName, String privateFieldName) {
+    default MethodSpec buildAllColumnsJSON(TypeName newTypeName, String privateFieldName) {
         return MethodSpec.methodBuilder("allColumnsAsJSON_FromBaseTable")
                 .addJavadoc("Generate ... * FROM ...")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("final $T where = $L.json().all().from(meta.getKeyspace().orElse($S + meta.entityClass.getCanonicalName()), meta.getTableOrViewName()).where()",
-                        whereTypeName, privateFieldName, "unknown_keyspace_for_")
-                .addStatement("return new $T(where, new $T())", newTypeName, OPTIONS)
+                .addStatement("final String currentKeyspace = meta.getBaseTableKeyspace()")
+                .addStatement("final String currentTable = meta.getBaseTableOrViewName()")
+                .addStatement("selectionClause($S, selection$$ -> selection$$.json().all())", shapeToken(privateFieldName, "json"))
+                .addStatement("fromTable(currentKeyspace, currentTable)")
+                .addStatement("return new $T(new $T())", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
     }
 
-    default MethodSpec buildAllColumnsJSONWithSchemaProvider(TypeName newTypeName, TypeName whereTypeName, String privateFieldName) {
+    default MethodSpec buildAllColumnsJSONWithSchemaProvider(TypeName newTypeName, String privateFieldName) {
         return MethodSpec.methodBuilder("allColumnsAsJSON_From")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addJavadoc("Generate ... * FROM ... using the given SchemaNameProvider")
                 .addParameter(SCHEMA_NAME_PROVIDER, "schemaNameProvider", Modifier.FINAL)
                 .addStatement("final String currentKeyspace = lookupKeyspace(schemaNameProvider, meta.entityClass)")
                 .addStatement("final String currentTable = lookupTable(schemaNameProvider, meta.entityClass)")
-                .addStatement("final $T where = $L.json().all().from(currentKeyspace, currentTable).where()", whereTypeName, privateFieldName)
-                .addStatement("return new $T(where, $T.withSchemaNameProvider(schemaNameProvider))", newTypeName, OPTIONS)
+                .addStatement("selectionClause($S, selection$$ -> selection$$.json().all())", shapeToken(privateFieldName, "json"))
+                .addStatement("fromTable(currentKeyspace, currentTable)")
+                .addStatement("return new $T($T.withSchemaNameProvider(schemaNameProvider))", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
     }
@@ -76,7 +76,8 @@ public interface LWTConditionsCodeGen {
                 .addParameter(fieldSignatureInfo.typeName, fieldName, Modifier.FINAL)
                 .addStatement("boundValues.add($N)", fieldName)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, fieldName, OPTIONAL)
-                .addStatement("where.onlyIf($T.$L($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.onlyIf($T.$L($S, $T.bindMarker($S))))",
+                        shapeToken("IF", relation, quotedCqlColumn, quotedCqlColumn),
                         QUERY_BUILDER, relation, quotedCqlColumn, QUERY_BUILDER, quotedCqlColumn)
                 .addStatement("return $T.this", currentType)
                 .returns(currentType)
@@ -96,7 +97,8 @@ public interface LWTConditionsCodeGen {
                 .addParameter(fieldSignatureInfo.typeName, fieldName, Modifier.FINAL)
                 .addStatement("boundValues.add($N)", fieldName)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, fieldName, OPTIONAL)
-                .addStatement("where.onlyIf($T.of($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.onlyIf($T.of($S, $T.bindMarker($S))))",
+                        shapeToken("IF", "notEq", quotedCqlColumn, quotedCqlColumn),
                         NOT_EQ, quotedCqlColumn, QUERY_BUILDER, quotedCqlColumn)
                 .addStatement("return $T.this", currentType)
                 .returns(currentType)
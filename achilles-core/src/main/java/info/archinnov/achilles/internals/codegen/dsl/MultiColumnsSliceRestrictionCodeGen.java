@@ -111,9 +111,11 @@ public interface MultiColumnsSliceRestrictionCodeGen extends BaseSingleColumnRes
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(fieldInfo.typeName, param1)
                 .addParameter(fieldInfo.typeName, param2)
-                .addStatement("where.and($T.$L($S,$T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.$L($S,$T.bindMarker($S))))",
+                        shapeToken("WHERE", relation1, fieldInfo.quotedCqlColumn, column1),
                         QUERY_BUILDER, relation1, fieldInfo.quotedCqlColumn, QUERY_BUILDER, column1)
-                .addStatement("where.and($T.$L($S,$T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.$L($S,$T.bindMarker($S))))",
+                        shapeToken("WHERE", relation2, fieldInfo.quotedCqlColumn, column2),
                         QUERY_BUILDER, relation2, fieldInfo.quotedCqlColumn, QUERY_BUILDER, column2)
                 .addStatement("boundValues.add($L)", param1)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldInfo.fieldName, param1, OPTIONAL)
@@ -122,7 +124,7 @@ public interface MultiColumnsSliceRestrictionCodeGen extends BaseSingleColumnRes
                 .returns(nextType);
 
         if (returnType == ReturnType.NEW) {
-            builder.addStatement("return new $T(where, cassandraOptions)", nextType);
+            builder.addStatement("return new $T(cassandraOptions)", nextType);
         } else {
             builder.addStatement("return $T.this", nextType);
         }
@@ -148,7 +150,8 @@ public interface MultiColumnsSliceRestrictionCodeGen extends BaseSingleColumnRes
                         formatColumnTuplesForJavadoc(params), relationToSymbolForJavaDoc(relation))
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("where.and($T.$L($T.asList($L), $T.asList($L).stream().map($T::bindMarker).collect($T.toList())))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.$L($T.asList($L), $T.asList($L).stream().map($T::bindMarker).collect($T.toList()))))",
+                        shapeToken("WHERE", relation, formatColumnTuplesForJavadoc(params)),
                         QUERY_BUILDER, relation, ARRAYS, params, ARRAYS, params, QUERY_BUILDER, COLLECTORS)
                 .addStatement("final $T tupleType = rte.tupleTypeFactory.typeFor($L)", TUPLE_TYPE, dataTypes);
 
@@ -161,7 +164,7 @@ public interface MultiColumnsSliceRestrictionCodeGen extends BaseSingleColumnRes
         builder.returns(nextType);
 
         if (returnType == ReturnType.NEW) {
-            builder.addStatement("return new $T(where, cassandraOptions)", nextType);
+            builder.addStatement("return new $T(cassandraOptions)", nextType);
         } else {
             builder.addStatement("return $T.this", nextType);
         }
@@ -192,9 +195,11 @@ public interface MultiColumnsSliceRestrictionCodeGen extends BaseSingleColumnRes
                         formatColumnTuplesForJavadoc(paramsRelation2AsString), relationToSymbolForJavaDoc(relation2))
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("where.and($T.$L($T.asList($L), $T.asList($L).stream().map($T::bindMarker).collect($T.toList())))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.$L($T.asList($L), $T.asList($L).stream().map($T::bindMarker).collect($T.toList()))))",
+                        shapeToken("WHERE", relation1, formatColumnTuplesForJavadoc(paramsRelation1AsString)),
                         QUERY_BUILDER, relation1, ARRAYS, paramsRelation1AsString, ARRAYS, paramsRelation1AsString, QUERY_BUILDER, COLLECTORS)
-                .addStatement("where.and($T.$L($T.asList($L), $T.asList($L).stream().map($T::bindMarker).collect($T.toList())))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.$L($T.asList($L), $T.asList($L).stream().map($T::bindMarker).collect($T.toList()))))",
+                        shapeToken("WHERE", relation2, formatColumnTuplesForJavadoc(paramsRelation2AsString)),
                         QUERY_BUILDER, relation2, ARRAYS, paramsRelation2AsString, ARRAYS, paramsRelation2AsString, QUERY_BUILDER, COLLECTORS);
 
         for(FieldSignatureInfo x: fieldInfos) {
@@ -214,7 +219,7 @@ public interface MultiColumnsSliceRestrictionCodeGen extends BaseSingleColumnRes
         builder.returns(nextType);
 
         if (returnType == ReturnType.NEW) {
-            builder.addStatement("return new $T(where, cassandraOptions)", nextType);
+            builder.addStatement("return new $T(cassandraOptions)", nextType);
         } else {
             builder.addStatement("return $T.this", nextType);
         }
@@ -257,9 +262,11 @@ public interface MultiColumnsSliceRestrictionCodeGen extends BaseSingleColumnRes
                         formatColumnTuplesForJavadoc(paramsRelation2AsString), relationToSymbolForJavaDoc(relation2))
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("where.and($T.$L($T.asList($L), $T.asList($L).stream().map($T::bindMarker).collect($T.toList())))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.$L($T.asList($L), $T.asList($L).stream().map($T::bindMarker).collect($T.toList()))))",
+                        shapeToken("WHERE", relation1, formatColumnTuplesForJavadoc(paramsRelation1AsString)),
                         QUERY_BUILDER, relation1, ARRAYS, paramsRelation1AsString, ARRAYS, paramsRelation1AsString, QUERY_BUILDER, COLLECTORS)
-                .addStatement("where.and($T.$L($T.asList($L), $T.asList($L).stream().map($T::bindMarker).collect($T.toList())))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.$L($T.asList($L), $T.asList($L).stream().map($T::bindMarker).collect($T.toList()))))",
+                        shapeToken("WHERE", relation2, formatColumnTuplesForJavadoc(paramsRelation2AsString)),
                         QUERY_BUILDER, relation2, ARRAYS, paramsRelation2AsString, ARRAYS, paramsRelation2AsString, QUERY_BUILDER, COLLECTORS);
 
         for(FieldSignatureInfo x: fieldInfos1) {
@@ -280,7 +287,7 @@ public interface MultiColumnsSliceRestrictionCodeGen extends BaseSingleColumnRes
         builder.returns(nextType);
 
         if (returnType == ReturnType.NEW) {
-            builder.addStatement("return new $T(where, cassandraOptions)", nextType);
+            builder.addStatement("return new $T(cassandraOptions)", nextType);
         } else {
             builder.addStatement("return $T.this", nextType);
         }
@@ -75,8 +75,8 @@ public abstract class DeleteDSLCodeGen extends AbstractDSLCodeGen {
                 .filter(x -> candidateColumns.contains(x.context.columnType))
                 .forEach(x -> builder.addMethod(buildDeleteColumnMethod(deleteColumnsTypeName, x, ReturnType.NEW)));
 
-        builder.addMethod(buildAllColumns(deleteFromTypeName, DELETE_DOT_WHERE, "delete"));
-        builder.addMethod(buildAllColumnsWithSchemaProvider(deleteFromTypeName, DELETE_DOT_WHERE, "delete"));
+        builder.addMethod(buildAllColumns(deleteFromTypeName, "delete"));
+        builder.addMethod(buildAllColumnsWithSchemaProvider(deleteFromTypeName, "delete"));
 
 
         deleteWhereDSLCodeGen.buildWhereClasses(signature).forEach(builder::addType);
@@ -145,19 +145,15 @@ public abstract class DeleteDSLCodeGen extends AbstractDSLCodeGen {
 
         final TypeSpec.Builder builder = TypeSpec.classBuilder(deleteColumnClass)
                 .superclass(ABSTRACT_DELETE_COLUMNS)
-                .addModifiers(Modifier.PUBLIC)
-                .addMethod(MethodSpec.constructorBuilder()
-                        .addParameter(DELETE_DOT_SELECTION, "deleteColumns")
-                        .addStatement("super(deleteColumns)")
-                        .build());
+                .addModifiers(Modifier.PUBLIC);
 
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> candidateColumns.contains(x.context.columnType))
                 .forEach(x -> builder.addMethod(buildDeleteColumnMethod(deleteColumnsTypeName, x, ReturnType.THIS)));
 
-        builder.addMethod(buildFrom(deleteFromTypeName, DELETE_DOT_WHERE, "deleteColumns"));
-        builder.addMethod(buildFromWithSchemaProvider(deleteFromTypeName, DELETE_DOT_WHERE, "deleteColumns"));
+        builder.addMethod(buildFrom(deleteFromTypeName));
+        builder.addMethod(buildFromWithSchemaProvider(deleteFromTypeName));
 
         return builder.build();
     }
@@ -171,13 +167,12 @@ public abstract class DeleteDSLCodeGen extends AbstractDSLCodeGen {
                 .superclass(ABSTRACT_DELETE_FROM)
                 .addModifiers(Modifier.PUBLIC)
                 .addMethod(MethodSpec.constructorBuilder()
-                        .addParameter(DELETE_DOT_WHERE, "where")
                         .addParameter(OPTIONS, "cassandraOptions")
-                        .addStatement("super(where, cassandraOptions)")
+                        .addStatement("super(cassandraOptions)")
                         .build())
                 .addMethod(MethodSpec.methodBuilder("where")
                         .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                        .addStatement("return new $T(where, cassandraOptions)", deleteWhereTypeName)
+                        .addStatement("return new $T(cassandraOptions)", deleteWhereTypeName)
                         .returns(deleteWhereTypeName)
                         .build())
                 .build();
@@ -188,11 +183,13 @@ public abstract class DeleteDSLCodeGen extends AbstractDSLCodeGen {
         final MethodSpec.Builder builder = MethodSpec.methodBuilder(parsingResult.context.fieldName)
                 .addJavadoc("Generate DELETE <strong>$L</strong> ...", parsingResult.context.quotedCqlColumn)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("delete.column($S)", parsingResult.context.quotedCqlColumn)
+                .addStatement("selectionClause($S, selection$$ -> selection$$.column($S))",
+                        shapeToken("DELETE", "column", parsingResult.context.quotedCqlColumn),
+                        parsingResult.context.quotedCqlColumn)
                 .returns(deleteTypeName);
 
         if (returnType == ReturnType.NEW) {
-            return builder.addStatement("return new $T(delete)", deleteTypeName).build();
+            return builder.addStatement("return new $T()", deleteTypeName).build();
         } else {
             return builder.addStatement("return this").build();
         }
@@ -111,13 +111,14 @@ public abstract class DeleteWhereDSLCodeGen extends AbstractDSLCodeGen
         final TypeSpec.Builder builder = TypeSpec.classBuilder(lastSignature.className)
                 .superclass(lastSignature.superType)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addMethod(buildWhereConstructorWithOptions(DELETE_DOT_WHERE))
+                .addMethod(buildWhereConstructorWithOptions())
                 .addMethod(buildGetEntityClass(signature))
                 .addMethod(buildGetMetaInternal(signature.entityRawClass))
                 .addMethod(buildGetRte())
                 .addMethod(buildGetOptions())
                 .addMethod(buildGetBoundValuesInternal())
                 .addMethod(buildGetEncodedBoundValuesInternal())
+                .addMethod(buildGetStatementShapeInternal())
                 .addMethod(buildGetThis(lastSignature.returnClassType));
 
         buildLWtConditionMethods(signature, lastSignature.className, lastSignature, hasCounter, builder);
@@ -169,7 +170,7 @@ public abstract class DeleteWhereDSLCodeGen extends AbstractDSLCodeGen
         return TypeSpec.classBuilder(classSignature.className)
                 .superclass(classSignature.superType)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addMethod(buildWhereConstructorWithOptions(DELETE_DOT_WHERE))
+                .addMethod(buildWhereConstructorWithOptions())
                 .addType(relationClassBuilder.build())
                 .addMethod(buildRelationMethod(partitionInfo.fieldName, relationClassTypeName))
                 .build();
@@ -219,7 +220,7 @@ public abstract class DeleteWhereDSLCodeGen extends AbstractDSLCodeGen
         final TypeSpec.Builder whereClassBuilder = TypeSpec.classBuilder(classSignature.className)
                 .superclass(classSignature.superType)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addMethod(buildWhereConstructorWithOptions(DELETE_DOT_WHERE))
+                .addMethod(buildWhereConstructorWithOptions())
                 .addType(relationClassBuilder.build())
                 .addMethod(buildRelationMethod(clusteringColumnInfo.fieldName, relationClassTypeName));
 
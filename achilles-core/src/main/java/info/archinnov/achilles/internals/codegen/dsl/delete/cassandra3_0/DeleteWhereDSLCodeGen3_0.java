@@ -95,7 +95,7 @@ public class DeleteWhereDSLCodeGen3_0 extends DeleteWhereDSLCodeGen2_2
         final TypeSpec.Builder whereClassBuilder = TypeSpec.classBuilder(classSignature.className)
                 .superclass(classSignature.superType)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addMethod(buildWhereConstructorWithOptions(DELETE_DOT_WHERE))
+                .addMethod(buildWhereConstructorWithOptions())
 
                 .addMethod(buildGetThis(classSignature.returnClassType))
                 .addMethod(buildGetMetaInternal(signature.entityRawClass))
@@ -103,7 +103,8 @@ public class DeleteWhereDSLCodeGen3_0 extends DeleteWhereDSLCodeGen2_2
                 .addMethod(buildGetRte())
                 .addMethod(buildGetOptions())
                 .addMethod(buildGetBoundValuesInternal())
-                .addMethod(buildGetEncodedBoundValuesInternal());
+                .addMethod(buildGetEncodedBoundValuesInternal())
+                .addMethod(buildGetStatementShapeInternal());
 
         final TypeSpec.Builder relationClassBuilder = TypeSpec.classBuilder(DSL_RELATION)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
@@ -82,23 +82,23 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.context.columnType != ColumnType.COMPUTED && !x.isUDT())
-                .forEach(x -> selectClassBuilder.addMethod(buildSelectColumnMethod(selectColumnsTypeName, x, "select", NEW)));
+                .forEach(x -> selectClassBuilder.addMethod(buildSelectColumnMethod(selectColumnsTypeName, x, NEW)));
 
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.isUDT())
                 .forEach(x -> buildSelectUDTClassAndMethods(selectClassBuilder, selectColumnsTypeName,
-                        signature.selectClassName(), "", x, "select", NEW));
+                        signature.selectClassName(), "", x, NEW));
 
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.context.columnType == ColumnType.COMPUTED)
-                .forEach(x -> selectClassBuilder.addMethod(buildSelectComputedColumnMethod(selectColumnsTypeName, x, "select", NEW)));
+                .forEach(x -> selectClassBuilder.addMethod(buildSelectComputedColumnMethod(selectColumnsTypeName, x, NEW)));
 
-        selectClassBuilder.addMethod(buildSelectFunctionCallMethod(selectColumnsTypeMapTypeName, "select", NEW));
+        selectClassBuilder.addMethod(buildSelectFunctionCallMethod(selectColumnsTypeMapTypeName, NEW));
 
-        selectClassBuilder.addMethod(buildAllColumns(selectFromTypeName, SELECT_DOT_WHERE, "select"));
-        selectClassBuilder.addMethod(buildAllColumnsWithSchemaProvider(selectFromTypeName, SELECT_DOT_WHERE, "select"));
+        selectClassBuilder.addMethod(buildAllColumns(selectFromTypeName, "select"));
+        selectClassBuilder.addMethod(buildAllColumnsWithSchemaProvider(selectFromTypeName, "select"));
 
         augmentSelectClass(context, signature, selectClassBuilder);
 
@@ -130,32 +130,27 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
 
         final TypeSpec.Builder selectColumnsBuilder = TypeSpec.classBuilder(classesSignature.selectColumnsClassName)
                 .superclass(ABSTRACT_SELECT_COLUMNS)
-                .addModifiers(Modifier.PUBLIC)
-                .addMethod(MethodSpec.constructorBuilder()
-                .addModifiers(Modifier.PUBLIC)
-                .addParameter(SELECT_DOT_SELECTION, "selection")
-                .addStatement("super(selection)")
-                .build());
+                .addModifiers(Modifier.PUBLIC);
 
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.context.columnType != ColumnType.COMPUTED && !x.isUDT())
-                .forEach(x -> selectColumnsBuilder.addMethod(buildSelectColumnMethod(selectColumnsTypeName, x, "selection", THIS)));
+                .forEach(x -> selectColumnsBuilder.addMethod(buildSelectColumnMethod(selectColumnsTypeName, x, THIS)));
 
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.isUDT())
-                .forEach(x -> buildSelectUDTClassAndMethods(selectColumnsBuilder, selectColumnsTypeName, signature.selectColumnsReturnType(), "", x, "selection", THIS));
+                .forEach(x -> buildSelectUDTClassAndMethods(selectColumnsBuilder, selectColumnsTypeName, signature.selectColumnsReturnType(), "", x, THIS));
 
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.context.columnType == ColumnType.COMPUTED)
-                .forEach(x -> selectColumnsBuilder.addMethod(buildSelectComputedColumnMethod(selectColumnsTypeName, x, "selection", THIS)));
+                .forEach(x -> selectColumnsBuilder.addMethod(buildSelectComputedColumnMethod(selectColumnsTypeName, x, THIS)));
 
-        selectColumnsBuilder.addMethod(buildSelectFunctionCallMethod(selectColumnsTypedMapTypeName, "selection", NEW));
+        selectColumnsBuilder.addMethod(buildSelectFunctionCallMethod(selectColumnsTypedMapTypeName, NEW));
 
-        selectColumnsBuilder.addMethod(buildFrom(selectFromTypeName, SELECT_DOT_WHERE, "selection"));
-        selectColumnsBuilder.addMethod(buildFromWithSchemaProvider(selectFromTypeName, SELECT_DOT_WHERE, "selection"));
+        selectColumnsBuilder.addMethod(buildFrom(selectFromTypeName));
+        selectColumnsBuilder.addMethod(buildFromWithSchemaProvider(selectFromTypeName));
 
         return selectColumnsBuilder.build();
     }
@@ -168,32 +163,27 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
 
         final TypeSpec.Builder selectColumnsBuilder = TypeSpec.classBuilder(classesSignature.selectColumnsClassName)
                 .superclass(ABSTRACT_SELECT_COLUMNS_TYPED_MAP)
-                .addModifiers(Modifier.PUBLIC)
-                .addMethod(MethodSpec.constructorBuilder()
-                        .addModifiers(Modifier.PUBLIC)
-                        .addParameter(SELECT_DOT_SELECTION, "selection")
-                        .addStatement("super(selection)")
-                        .build());
+                .addModifiers(Modifier.PUBLIC);
 
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.context.columnType != ColumnType.COMPUTED && !x.isUDT())
-                .forEach(x -> selectColumnsBuilder.addMethod(buildSelectColumnMethod(selectColumnsTypedMapTypeName, x, "selection", THIS)));
+                .forEach(x -> selectColumnsBuilder.addMethod(buildSelectColumnMethod(selectColumnsTypedMapTypeName, x, THIS)));
 
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.isUDT())
-                .forEach(x -> buildSelectUDTClassAndMethods(selectColumnsBuilder, selectColumnsTypedMapTypeName, classesSignature.selectColumnsTypedMapReturnType, "", x, "selection", THIS));
+                .forEach(x -> buildSelectUDTClassAndMethods(selectColumnsBuilder, selectColumnsTypedMapTypeName, classesSignature.selectColumnsTypedMapReturnType, "", x, THIS));
 
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.context.columnType == ColumnType.COMPUTED)
-                .forEach(x -> selectColumnsBuilder.addMethod(buildSelectComputedColumnMethod(selectColumnsTypedMapTypeName, x, "selection", THIS)));
+                .forEach(x -> selectColumnsBuilder.addMethod(buildSelectComputedColumnMethod(selectColumnsTypedMapTypeName, x, THIS)));
 
-        selectColumnsBuilder.addMethod(buildSelectFunctionCallMethod(selectColumnsTypedMapTypeName, "selection", THIS));
+        selectColumnsBuilder.addMethod(buildSelectFunctionCallMethod(selectColumnsTypedMapTypeName, THIS));
 
-        selectColumnsBuilder.addMethod(buildFrom(selectFromTypedMapTypeName, SELECT_DOT_WHERE, "selection"));
-        selectColumnsBuilder.addMethod(buildFromWithSchemaProvider(selectFromTypedMapTypeName, SELECT_DOT_WHERE, "selection"));
+        selectColumnsBuilder.addMethod(buildFrom(selectFromTypedMapTypeName));
+        selectColumnsBuilder.addMethod(buildFromWithSchemaProvider(selectFromTypedMapTypeName));
 
         return selectColumnsBuilder.build();
     }
@@ -207,22 +197,28 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
                 .superclass(ABSTRACT_SELECT_FROM)
                 .addModifiers(Modifier.PUBLIC)
                 .addMethod(MethodSpec.constructorBuilder()
-                        .addParameter(SELECT_DOT_WHERE, "where")
                         .addParameter(OPTIONS, "cassandraOptions")
-                        .addStatement("super(where, cassandraOptions)")
+                        .addStatement("super(cassandraOptions)")
                         .build())
                 .addMethod(MethodSpec.methodBuilder("where")
                         .addJavadoc("Generate a SELECT ... FROM ... <strong>WHERE</strong> ...")
                         .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                        .addStatement("return new $T(where, cassandraOptions)", selectWhereTypeName)
+                        .addStatement("return new $T(cassandraOptions)", selectWhereTypeName)
                         .returns(selectWhereTypeName)
                         .build())
                 .addMethod(MethodSpec.methodBuilder("without_WHERE_Clause")
                         .addJavadoc("Generate a SELECT statement <strong>without</strong> the <strong>WHERE</strong> clause")
                         .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                        .addStatement("return new $T(where, cassandraOptions)", selectEndTypeName)
+                        .addStatement("return new $T(cassandraOptions)", selectEndTypeName)
                         .returns(selectEndTypeName)
                         .build())
+                .addMethod(MethodSpec.methodBuilder("scanAllTokenRanges")
+                        .addJavadoc("Scan the whole table by splitting the token ring into sub-ranges, reading at most <strong>parallelism</strong> sub-ranges concurrently")
+                        .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                        .addParameter(TypeName.INT, "parallelism")
+                        .addStatement("return new $T<>(statementShape.buildQuery(), cassandraOptions, meta, rte, parallelism)", TOKEN_RANGE_SCAN)
+                        .returns(genericType(TOKEN_RANGE_SCAN, signature.entityRawClass))
+                        .build())
                 .build();
     }
 
@@ -235,35 +231,36 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
                 .superclass(ABSTRACT_SELECT_FROM_TYPED_MAP)
                 .addModifiers(Modifier.PUBLIC)
                 .addMethod(MethodSpec.constructorBuilder()
-                        .addParameter(SELECT_DOT_WHERE, "where")
                         .addParameter(OPTIONS, "cassandraOptions")
-                        .addStatement("super(where, cassandraOptions)")
+                        .addStatement("super(cassandraOptions)")
                         .build())
                 .addMethod(MethodSpec.methodBuilder("where")
                         .addJavadoc("Generate a SELECT ... FROM ... <strong>WHERE</strong> ...")
                         .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                        .addStatement("return new $T(where, cassandraOptions)", selectWhereTypedMapTypeName)
+                        .addStatement("return new $T(cassandraOptions)", selectWhereTypedMapTypeName)
                         .returns(selectWhereTypedMapTypeName)
                         .build())
                 .addMethod(MethodSpec.methodBuilder("without_WHERE_Clause")
                         .addJavadoc("Generate a SELECT statement <strong>without</strong> the <strong>WHERE</strong> clause")
                         .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                        .addStatement("return new $T(where, cassandraOptions)", selectEndTypedMapTypeName)
+                        .addStatement("return new $T(cassandraOptions)", selectEndTypedMapTypeName)
                         .returns(selectEndTypedMapTypeName)
                         .build())
                 .build();
     }
 
-    public MethodSpec buildSelectColumnMethod(TypeName newTypeName, FieldMetaSignature parsingResult, String selectVariable, ReturnType returnType) {
+    public MethodSpec buildSelectColumnMethod(TypeName newTypeName, FieldMetaSignature parsingResult, ReturnType returnType) {
 
         final MethodSpec.Builder builder = MethodSpec.methodBuilder(parsingResult.context.fieldName)
                 .addJavadoc("Generate a SELECT ... <strong>$L</strong> ...", parsingResult.context.quotedCqlColumn)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("$L.column($S)", selectVariable, parsingResult.context.quotedCqlColumn)
+                .addStatement("selectionClause($S, selection$$ -> selection$$.column($S))",
+                        shapeToken("SELECT", "column", parsingResult.context.quotedCqlColumn),
+                        parsingResult.context.quotedCqlColumn)
                 .returns(newTypeName);
 
         if (returnType == NEW) {
-            return builder.addStatement("return new $T(select)", newTypeName).build();
+            return builder.addStatement("return new $T()", newTypeName).build();
         } else {
             return builder.addStatement("return this").build();
         }
@@ -271,7 +268,7 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
 
 
     public void buildSelectUDTClassAndMethods(TypeSpec.Builder parentClassBuilder, TypeName returnClassTypeName, String parentClassName,
-                                               String parentQuotedCqlColumn, FieldMetaSignature fieldSignature, String selectVariable, ReturnType returnType) {
+                                               String parentQuotedCqlColumn, FieldMetaSignature fieldSignature, ReturnType returnType) {
         final UDTMetaSignature udtMetaSignature = fieldSignature.udtMetaSignature.get();
         final String udtClassName = parentClassName + "." + fieldSignature.context.udtClassName();
         TypeName udtClassTypeName = ClassName.get(DSL_PACKAGE, udtClassName);
@@ -287,7 +284,6 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
                 .stream()
                 .filter(x -> !x.isUDT())
                 .forEach(x -> udtClassBuilder.addMethod(buildSelectUDTColumnMethod(returnClassTypeName,
-                        selectVariable,
                         x.context.fieldName,
                         quotedCqlColumn + "." + x.context.quotedCqlColumn,
                         returnType)));
@@ -295,16 +291,18 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
         udtMetaSignature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.isUDT())
-                .forEach(x -> buildSelectUDTClassAndMethods(udtClassBuilder, returnClassTypeName, udtClassName, quotedCqlColumn, x, selectVariable, returnType));
+                .forEach(x -> buildSelectUDTClassAndMethods(udtClassBuilder, returnClassTypeName, udtClassName, quotedCqlColumn, x, returnType));
 
         final MethodSpec.Builder allColumnsMethodBuilder = MethodSpec.methodBuilder("allColumns")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addJavadoc("Generate a SELECT ... <strong>$L</strong> ...", quotedCqlColumn)
-                .addStatement("$L.raw($S)", selectVariable, quotedCqlColumn)
+                .addStatement("selectionClause($S, selection$$ -> selection$$.raw($S))",
+                        shapeToken("SELECT", "raw", quotedCqlColumn),
+                        quotedCqlColumn)
                 .returns(returnClassTypeName);
 
         if (returnType == NEW) {
-            allColumnsMethodBuilder.addStatement("return new $T($L)", returnClassTypeName, selectVariable);
+            allColumnsMethodBuilder.addStatement("return new $T()", returnClassTypeName);
         } else {
             allColumnsMethodBuilder.addStatement("return $T.this", returnClassTypeName);
         }
@@ -319,23 +317,25 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
         parentClassBuilder.addType(udtClassBuilder.build());
     }
 
-    public MethodSpec buildSelectUDTColumnMethod(TypeName newTypeName, String selectVariable,
+    public MethodSpec buildSelectUDTColumnMethod(TypeName newTypeName,
                                                   String fieldName, String quotedCqlColumn, ReturnType returnType) {
 
         final MethodSpec.Builder builder = MethodSpec.methodBuilder(fieldName)
                 .addJavadoc("Generate a SELECT ... <strong>$L</strong> ...", quotedCqlColumn)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("$L.raw($S)", selectVariable, quotedCqlColumn)
+                .addStatement("selectionClause($S, selection$$ -> selection$$.raw($S))",
+                        shapeToken("SELECT", "raw", quotedCqlColumn),
+                        quotedCqlColumn)
                 .returns(newTypeName);
 
         if (returnType == NEW) {
-            return builder.addStatement("return new $T(select)", newTypeName).build();
+            return builder.addStatement("return new $T()", newTypeName).build();
         } else {
             return builder.addStatement("return $T.this", newTypeName).build();
         }
     }
 
-    public MethodSpec buildSelectFunctionCallMethod(TypeName newTypeName, String fieldName, ReturnType returnType) {
+    public MethodSpec buildSelectFunctionCallMethod(TypeName newTypeName, ReturnType returnType) {
         final MethodSpec.Builder builder = MethodSpec.methodBuilder("function")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .returns(newTypeName)
@@ -399,22 +399,25 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
                 .addJavadoc("@return a built-in function call passed to the QueryBuilder object\n")
                 .addParameter(FUNCTION_CALL, "functionCall", Modifier.FINAL)
                 .addParameter(STRING, "alias", Modifier.FINAL)
-                .addStatement("functionCall.addToSelect($L, alias)", fieldName);
+                .addStatement("selectionClause($S, selection$$ -> functionCall.addToSelect(selection$$, alias))", shapeToken("SELECT", "function"))
+                .addStatement("statementShape.fallbackToQueryString()");
 
         if (returnType == NEW) {
-            return builder.addStatement("return new $T(select)", newTypeName).build();
+            return builder.addStatement("return new $T()", newTypeName).build();
         } else {
             return builder.addStatement("return this").build();
         }
     }
 
 
-    public MethodSpec buildSelectComputedColumnMethod(TypeName newTypeName, FieldMetaSignature parsingResult, String fieldName, ReturnType returnType) {
+    public MethodSpec buildSelectComputedColumnMethod(TypeName newTypeName, FieldMetaSignature parsingResult, ReturnType returnType) {
 
         final ComputedColumnInfo columnInfo = (ComputedColumnInfo) parsingResult.context.columnInfo;
-        StringJoiner joiner = new StringJoiner(",", fieldName + ".fcall($S,", ").as($S)");
+        StringJoiner joiner = new StringJoiner(",", "selectionClause($S, selection$$ -> selection$$.fcall($S,", ").as($S))");
         columnInfo.functionArgs.forEach(x -> joiner.add("$L"));
 
+        final Object[] shapeToken = new Object[]{shapeToken("SELECT", "fcall", columnInfo.functionName,
+                String.join(",", columnInfo.functionArgs), columnInfo.alias)};
         final Object[] functionName = new Object[]{columnInfo.functionName};
         final Object[] functionArgs = columnInfo
                 .functionArgs
@@ -427,11 +430,11 @@ public abstract class SelectDSLCodeGen extends AbstractDSLCodeGen {
         final MethodSpec.Builder builder = MethodSpec.methodBuilder(parsingResult.context.fieldName)
                 .addJavadoc("Generate a SELECT ... <strong>$L($L) AS $L</strong> ...", varargs)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement(joiner.toString(), varargs)
+                .addStatement(joiner.toString(), ArrayUtils.addAll(shapeToken, varargs))
                 .returns(newTypeName);
 
         if (returnType == NEW) {
-            return builder.addStatement("return new $T(select)", newTypeName).build();
+            return builder.addStatement("return new $T()", newTypeName).build();
         } else {
             return builder.addStatement("return this").build();
         }
@@ -103,13 +103,14 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
         final TypeSpec.Builder builder = TypeSpec.classBuilder(lastSignature.className)
                 .superclass(lastSignature.superType)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addMethod(buildWhereConstructorWithOptions(SELECT_DOT_WHERE))
+                .addMethod(buildWhereConstructorWithOptions())
                 .addMethod(buildGetEntityClass(signature))
                 .addMethod(buildGetMetaInternal(signature.entityRawClass))
                 .addMethod(buildGetRte())
                 .addMethod(buildGetOptions())
                 .addMethod(buildGetBoundValuesInternal())
                 .addMethod(buildGetEncodedBoundValuesInternal())
+                .addMethod(buildGetStatementShapeInternal())
                 .addMethod(buildLimit(lastSignature))
                 .addMethod(buildGetThis(lastSignature.returnClassType));
 
@@ -129,7 +130,9 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
                     .addJavadoc("Generate a SELECT ... FROM ... WHERE ... <strong>ORDER BY $L ASC</strong>", fieldSignatureInfo.cqlColumn)
                     .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                     .returns(lastSignature.returnClassType)
-                    .addStatement("where.orderBy($T.asc($S))", QUERY_BUILDER, fieldSignatureInfo.cqlColumn)
+                    .addStatement("whereClause($S, where$$ -> where$$.orderBy($T.asc($S)))",
+                            shapeToken("ORDER BY", "asc", fieldSignatureInfo.cqlColumn),
+                            QUERY_BUILDER, fieldSignatureInfo.cqlColumn)
                     .addStatement("return this")
                     .build();
 
@@ -138,7 +141,9 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
                     .addJavadoc("Generate a SELECT ... FROM ... WHERE ... <strong>ORDER BY $L DESC</strong>", fieldSignatureInfo.cqlColumn)
                     .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                     .returns(lastSignature.returnClassType)
-                    .addStatement("where.orderBy($T.desc($S))", QUERY_BUILDER, fieldSignatureInfo.cqlColumn)
+                    .addStatement("whereClause($S, where$$ -> where$$.orderBy($T.desc($S)))",
+                            shapeToken("ORDER BY", "desc", fieldSignatureInfo.cqlColumn),
+                            QUERY_BUILDER, fieldSignatureInfo.cqlColumn)
                     .addStatement("return this")
                     .build();
 
@@ -152,7 +157,9 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(TypeName.INT.box(), "limit", Modifier.FINAL)
                 .returns(lastSignature.returnClassType)
-                .addStatement("where.limit($T.bindMarker($S))", QUERY_BUILDER, "lim")
+                .addStatement("whereClause($S, where$$ -> where$$.limit($T.bindMarker($S)))",
+                        shapeToken("LIMIT", "bindMarker", "lim"),
+                        QUERY_BUILDER, "lim")
                 .addStatement("boundValues.add($N)", "limit")
                 .addStatement("encodedValues.add($N)", "limit")
                 .addStatement("return this")
@@ -194,7 +201,7 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
         return TypeSpec.classBuilder(classSignature.className)
                 .superclass(classSignature.superType)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addMethod(buildWhereConstructorWithOptions(SELECT_DOT_WHERE))
+                .addMethod(buildWhereConstructorWithOptions())
                 .addType(relationClassBuilder.build())
                 .addMethod(buildRelationMethod(partitionInfo.fieldName, relationClassTypeName))
                 .build();
@@ -239,7 +246,7 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
         final TypeSpec.Builder builder = TypeSpec.classBuilder(classSignature.className)
                 .superclass(classSignature.superType)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addMethod(buildWhereConstructorWithOptions(SELECT_DOT_WHERE))
+                .addMethod(buildWhereConstructorWithOptions())
                 .addMethod(buildGetThis(classSignature.returnClassType))
                 .addMethod(buildGetMetaInternal(signature.entityRawClass))
                 .addMethod(buildGetEntityClass(signature))
@@ -247,6 +254,7 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
                 .addMethod(buildGetOptions())
                 .addMethod(buildGetBoundValuesInternal())
                 .addMethod(buildGetEncodedBoundValuesInternal())
+                .addMethod(buildGetStatementShapeInternal())
                 .addMethod(buildLimit(classSignature));
 
         TypeSpec.Builder relationClassBuilder = TypeSpec.classBuilder(DSL_RELATION)
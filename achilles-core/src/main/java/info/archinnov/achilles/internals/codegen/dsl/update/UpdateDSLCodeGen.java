@@ -139,8 +139,8 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addParameter(SCHEMA_NAME_PROVIDER, "schemaNameProvider", Modifier.FINAL)
                 .addStatement("final String currentKeyspace = lookupKeyspace(schemaNameProvider, meta.entityClass)")
                 .addStatement("final String currentTable = lookupTable(schemaNameProvider, meta.entityClass)")
-                .addStatement("final $T where = $T.update(currentKeyspace, currentTable).where()", UPDATE_DOT_WHERE, QUERY_BUILDER)
-                .addStatement("return new $T(where, $T.withSchemaNameProvider(schemaNameProvider))", updateFromTypeName, OPTIONS)
+                .addStatement("fromTable(currentKeyspace, currentTable)")
+                .addStatement("return new $T($T.withSchemaNameProvider(schemaNameProvider))", updateFromTypeName, OPTIONS)
                 .returns(updateFromTypeName)
                 .build();
     }
@@ -149,10 +149,10 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
         return MethodSpec.methodBuilder("fromBaseTable")
                 .addJavadoc("Generate an UPDATE <strong>FROM</strong> ...")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("final String currentKeyspace = meta.getKeyspace().orElse($S + meta.entityClass.getCanonicalName())",
-                        "unknown_keyspace_for_")
-                .addStatement("final $T where = $T.update(currentKeyspace, meta.getTableOrViewName()).where()", UPDATE_DOT_WHERE, QUERY_BUILDER)
-                .addStatement("return new $T(where, new $T())", updateFromTypeName, OPTIONS)
+                .addStatement("final String currentKeyspace = meta.getBaseTableKeyspace()")
+                .addStatement("final String currentTable = meta.getBaseTableOrViewName()")
+                .addStatement("fromTable(currentKeyspace, currentTable)")
+                .addStatement("return new $T(new $T())", updateFromTypeName, OPTIONS)
                 .returns(updateFromTypeName)
                 .build();
     }
@@ -167,9 +167,8 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .superclass(ABSTRACT_UPDATE_FROM)
                 .addModifiers(Modifier.PUBLIC)
                 .addMethod(MethodSpec.constructorBuilder()
-                        .addParameter(UPDATE_DOT_WHERE, "where")
                         .addParameter(OPTIONS, "cassandraOptions")
-                        .addStatement("super(where, cassandraOptions)")
+                        .addStatement("super(cassandraOptions)")
                         .build());
 
         signature.fieldMetaSignatures
@@ -192,9 +191,8 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .superclass(ABSTRACT_UPDATE_COLUMNS)
                 .addModifiers(Modifier.PUBLIC)
                 .addMethod(MethodSpec.constructorBuilder()
-                        .addParameter(UPDATE_DOT_WHERE, "where")
                         .addParameter(OPTIONS, "cassandraOptions")
-                        .addStatement("super(where, cassandraOptions)")
+                        .addStatement("super(cassandraOptions)")
                         .build());
 
         signature.fieldMetaSignatures
@@ -205,7 +203,7 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
 
         builder.addMethod(MethodSpec.methodBuilder("where")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("return new $T(where, cassandraOptions)", updateWhereTypeName)
+                .addStatement("return new $T(cassandraOptions)", updateWhereTypeName)
                 .returns(updateWhereTypeName)
                 .build());
 
@@ -263,14 +261,15 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(sourceType, param, Modifier.FINAL)
-                .addStatement("where.with($T.of($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.with($T.of($S, $T.bindMarker($S))))",
+                        shapeToken("SET", "set", cqlColumn, cqlColumn),
                         NON_ESCAPING_ASSIGNMENT, cqlColumn, QUERY_BUILDER, cqlColumn)
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, param, OPTIONAL)
                 .returns(newTypeName);
 
         if (returnType == ReturnType.NEW) {
-            builder.addStatement("return new $T(where, cassandraOptions)", newTypeName);
+            builder.addStatement("return new $T(cassandraOptions)", newTypeName);
         } else {
             builder.addStatement("return $T.this", newTypeName);
         }
@@ -307,7 +306,8 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(nestedType, param, Modifier.FINAL)
-                .addStatement("where.with($T.appendAll($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.with($T.appendAll($S, $T.bindMarker($S))))",
+                        shapeToken("SET", "appendAll", cqlColumn, cqlColumn),
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
                 .addStatement("boundValues.add($T.asList($N))", ARRAYS, param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($T.asList($N), $T.of(cassandraOptions)))", fieldName, ARRAYS, param, OPTIONAL)
@@ -319,7 +319,8 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(sourceType, param, Modifier.FINAL)
-                .addStatement("where.with($T.appendAll($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.with($T.appendAll($S, $T.bindMarker($S))))",
+                        shapeToken("SET", "appendAll", cqlColumn, cqlColumn),
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, param, OPTIONAL)
@@ -331,7 +332,8 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(nestedType, param, Modifier.FINAL)
-                .addStatement("where.with($T.prependAll($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.with($T.prependAll($S, $T.bindMarker($S))))",
+                        shapeToken("SET", "prependAll", cqlColumn, cqlColumn),
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
                 .addStatement("boundValues.add($T.asList($N))", ARRAYS, param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($T.asList($N), $T.of(cassandraOptions)))", fieldName, ARRAYS, param, OPTIONAL)
@@ -343,7 +345,8 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(sourceType, param, Modifier.FINAL)
-                .addStatement("where.with($T.prependAll($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.with($T.prependAll($S, $T.bindMarker($S))))",
+                        shapeToken("SET", "prependAll", cqlColumn, cqlColumn),
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, param, OPTIONAL)
@@ -354,7 +357,8 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(TypeName.INT, "index", Modifier.FINAL)
                 .addParameter(nestedType, param, Modifier.FINAL)
-                .addStatement("where.with($T.setIdx($S, index, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, index, where$$ -> where$$.with($T.setIdx($S, index, $T.bindMarker($S))))",
+                        shapeToken("SET", "setIdx", cqlColumn, cqlColumn),
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.valueProperty.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, param, OPTIONAL)
@@ -364,7 +368,8 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addJavadoc("Generate an UPDATE FROM ... <strong>SET $L[index] = null</strong>", fieldName)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(TypeName.INT, "index", Modifier.FINAL)
-                .addStatement("where.with($T.setIdx($S, index, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, index, where$$ -> where$$.with($T.setIdx($S, index, $T.bindMarker($S))))",
+                        shapeToken("SET", "setIdx", cqlColumn, cqlColumn),
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
                 .addStatement("boundValues.add(null)")
                 .addStatement("encodedValues.add(null)")
@@ -375,7 +380,8 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(nestedType, param, Modifier.FINAL)
-                .addStatement("where.with($T.discardAll($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.with($T.discardAll($S, $T.bindMarker($S))))",
+                        shapeToken("SET", "discardAll", cqlColumn, cqlColumn),
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
                 .addStatement("boundValues.add($T.asList($N))", ARRAYS, param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($T.asList($N), $T.of(cassandraOptions)))", fieldName, ARRAYS, param, OPTIONAL)
@@ -386,7 +392,8 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(sourceType, param, Modifier.FINAL)
-                .addStatement("where.with($T.discardAll($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.with($T.discardAll($S, $T.bindMarker($S))))",
+                        shapeToken("SET", "discardAll", cqlColumn, cqlColumn),
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, param, OPTIONAL)
@@ -397,22 +404,23 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(sourceType, param, Modifier.FINAL)
-                .addStatement("where.with($T.of($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.with($T.of($S, $T.bindMarker($S))))",
+                        shapeToken("SET", "set", cqlColumn, cqlColumn),
                         NON_ESCAPING_ASSIGNMENT, cqlColumn, QUERY_BUILDER, cqlColumn)
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, param, OPTIONAL)
                 .returns(newTypeName);
 
         if (returnType == ReturnType.NEW) {
-            appendTo.addStatement("return new $T(where, cassandraOptions)", newTypeName);
-            appendAllTo.addStatement("return new $T(where, cassandraOptions)", newTypeName);
-            prependTo.addStatement("return new $T(where, cassandraOptions)", newTypeName);
-            prependAllTo.addStatement("return new $T(where, cassandraOptions)", newTypeName);
-            setAtIndex.addStatement("return new $T(where, cassandraOptions)", newTypeName);
-            removeAtIndex.addStatement("return new $T(where, cassandraOptions)", newTypeName);
-            removeFrom.addStatement("return new $T(where, cassandraOptions)", newTypeName);
-            removeAllFrom.addStatement("return new $T(where, cassandraOptions)", newTypeName);
-            set.addStatement("return new $T(where, cassandraOptions)", newTypeName);
+            appendTo.addStatement("return new $T(cassandraOptions)", newTypeName);
+            appendAllTo.addStatement("return new $T(cassandraOptions)", newTypeName);
+            prependTo.addStatement("return new $T(cassandraOptions)", newTypeName);
+            prependAllTo.addStatement("return new $T(cassandraOptions)", newTypeName);
+            setAtIndex.addStatement("return new $T(cassandraOptions)", newTypeName);
+            removeAtIndex.addStatement("return new $T(cassandraOptions)", newTypeName);
+            removeFrom.addStatement("return new $T(cassandraOptions)", newTypeName);
+            removeAllFrom.addStatement("return new $T(cassandraOptions)", newTypeName);
+            set.addStatement("return new $T(cassandraOptions)", newTypeName);
         } else {
             appendTo.addStatement("return $T.this", newTypeName);
             appendAllTo.addStatement("return $T.this", newTypeName);
@@ -469,7 +477,8 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(nestedType, param, Modifier.FINAL)
-                .addStatement("where.with($T.addAll($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.with($T.addAll($S, $T.bindMarker($S))))",
+                        shapeToken("SET", "addAll", cqlColumn, cqlColumn),
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
                 .addStatement("boundValues.add($T.newHashSet($N))", SETS, param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($T.newHashSet($N), $T.of(cassandraOptions)))", fieldName, SETS, param, OPTIONAL)
@@ -480,7 +489,8 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(sourceType, param, Modifier.FINAL)
-                .addStatement("where.with($T.addAll($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.with($T.addAll($S, $T.bindMarker($S))))",
+                        shapeToken("SET", "addAll", cqlColumn, cqlColumn),
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, param, OPTIONAL)
@@ -491,7 +501,8 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(nestedType, param, Modifier.FINAL)
-                .addStatement("where.with($T.removeAll($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.with($T.removeAll($S, $T.bindMarker($S))))",
+                        shapeToken("SET", "removeAll", cqlColumn, cqlColumn),
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
                 .addStatement("boundValues.add($T.newHashSet($N))", SETS, param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($T.newHashSet($N), $T.of(cassandraOptions)))", fieldName, SETS, param, OPTIONAL)
@@ -502,7 +513,8 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(sourceType, param, Modifier.FINAL)
-                .addStatement("where.with($T.removeAll($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.with($T.removeAll($S, $T.bindMarker($S))))",
+                        shapeToken("SET", "removeAll", cqlColumn, cqlColumn),
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, param, OPTIONAL)
@@ -513,18 +525,19 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(sourceType, param, Modifier.FINAL)
-                .addStatement("where.with($T.of($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.with($T.of($S, $T.bindMarker($S))))",
+                        shapeToken("SET", "set", cqlColumn, cqlColumn),
                         NON_ESCAPING_ASSIGNMENT, cqlColumn, QUERY_BUILDER, cqlColumn)
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, param, OPTIONAL)
                 .returns(newTypeName);
 
         if (returnType == ReturnType.NEW) {
-            addTo.addStatement("return new $T(where, cassandraOptions)", newTypeName);
-            addAllTo.addStatement("return new $T(where, cassandraOptions)", newTypeName);
-            removeFrom.addStatement("return new $T(where, cassandraOptions)", newTypeName);
-            removeAllFrom.addStatement("return new $T(where, cassandraOptions)", newTypeName);
-            set.addStatement("return new $T(where, cassandraOptions)", newTypeName);
+            addTo.addStatement("return new $T(cassandraOptions)", newTypeName);
+            addAllTo.addStatement("return new $T(cassandraOptions)", newTypeName);
+            removeFrom.addStatement("return new $T(cassandraOptions)", newTypeName);
+            removeAllFrom.addStatement("return new $T(cassandraOptions)", newTypeName);
+            set.addStatement("return new $T(cassandraOptions)", newTypeName);
         } else {
             addTo.addStatement("return $T.this", newTypeName);
             addAllTo.addStatement("return $T.this", newTypeName);
@@ -582,7 +595,8 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(nestedKeyType, paramKey, Modifier.FINAL)
                 .addParameter(nestedValueType, paramValue, Modifier.FINAL)
-                .addStatement("where.with($T.put($S, $T.bindMarker($S), $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.with($T.put($S, $T.bindMarker($S), $T.bindMarker($S))))",
+                        shapeToken("SET", "put", cqlColumn, paramKey, paramValue),
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, paramKey, QUERY_BUILDER, paramValue)
                 .addStatement("boundValues.add($N)", paramKey)
                 .addStatement("boundValues.add($N)", paramValue)
@@ -595,7 +609,8 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(sourceType, param, Modifier.FINAL)
-                .addStatement("where.with($T.addAll($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.with($T.addAll($S, $T.bindMarker($S))))",
+                        shapeToken("SET", "addAll", cqlColumn, cqlColumn),
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, param, OPTIONAL)
@@ -606,7 +621,8 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addJavadoc("Generate an UPDATE FROM ... <strong>SET $L[?] = null</strong>", fieldName)
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addParameter(nestedKeyType, paramKey, Modifier.FINAL)
-                .addStatement("where.with($T.put($S, $T.bindMarker($S), $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.with($T.put($S, $T.bindMarker($S), $T.bindMarker($S))))",
+                        shapeToken("SET", "put", cqlColumn, paramKey, paramValue),
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, paramKey, QUERY_BUILDER, paramValue)
                 .addStatement("boundValues.add($N)", paramKey)
                 .addStatement("boundValues.add(null)")
@@ -619,17 +635,18 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(sourceType, param, Modifier.FINAL)
-                .addStatement("where.with($T.of($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.with($T.of($S, $T.bindMarker($S))))",
+                        shapeToken("SET", "set", cqlColumn, cqlColumn),
                         NON_ESCAPING_ASSIGNMENT, cqlColumn, QUERY_BUILDER, cqlColumn)
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, param, OPTIONAL)
                 .returns(newTypeName);
 
         if (returnType == ReturnType.NEW) {
-            putTo.addStatement("return new $T(where, cassandraOptions)", newTypeName);
-            addAllTo.addStatement("return new $T(where, cassandraOptions)", newTypeName);
-            removeByKey.addStatement("return new $T(where, cassandraOptions)", newTypeName);
-            set.addStatement("return new $T(where, cassandraOptions)", newTypeName);
+            putTo.addStatement("return new $T(cassandraOptions)", newTypeName);
+            addAllTo.addStatement("return new $T(cassandraOptions)", newTypeName);
+            removeByKey.addStatement("return new $T(cassandraOptions)", newTypeName);
+            set.addStatement("return new $T(cassandraOptions)", newTypeName);
         } else {
             putTo.addStatement("return $T.this", newTypeName);
             addAllTo.addStatement("return $T.this", newTypeName);
@@ -667,7 +684,8 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
         final MethodSpec.Builder incrOne = MethodSpec.methodBuilder("Incr")
                 .addJavadoc("Generate an UPDATE FROM ... <strong>SET $L = $L + 1</strong>", cqlColumn, cqlColumn)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("where.with($T.incr($S))",
+                .addStatement("whereClause($S, where$$ -> where$$.with($T.incr($S)))",
+                        shapeToken("SET", "incr", cqlColumn),
                         QUERY_BUILDER, cqlColumn)
                 .returns(newTypeName);
 
@@ -676,7 +694,8 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(sourceType, paramIncr, Modifier.FINAL)
-                .addStatement("where.with($T.incr($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.with($T.incr($S, $T.bindMarker($S))))",
+                        shapeToken("SET", "incr", cqlColumn, cqlColumn),
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
                 .addStatement("boundValues.add($N)", paramIncr)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, paramIncr, OPTIONAL)
@@ -685,7 +704,8 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
         final MethodSpec.Builder decrOne = MethodSpec.methodBuilder("Decr")
                 .addJavadoc("Generate an UPDATE FROM ... <strong>SET $L = $L - 1</strong>", fieldName, fieldName)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("where.with($T.decr($S))",
+                .addStatement("whereClause($S, where$$ -> where$$.with($T.decr($S)))",
+                        shapeToken("SET", "decr", cqlColumn),
                         QUERY_BUILDER, cqlColumn)
                 .returns(newTypeName);
 
@@ -694,17 +714,18 @@ public abstract class UpdateDSLCodeGen extends AbstractDSLCodeGen {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(sourceType, paramDecr, Modifier.FINAL)
-                .addStatement("where.with($T.decr($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.with($T.decr($S, $T.bindMarker($S))))",
+                        shapeToken("SET", "decr", cqlColumn, cqlColumn),
                         QUERY_BUILDER, cqlColumn, QUERY_BUILDER, cqlColumn)
                 .addStatement("boundValues.add($N)", paramDecr)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldName, paramDecr, OPTIONAL)
                 .returns(newTypeName);
 
         if (returnType == ReturnType.NEW) {
-            incrOne.addStatement("return new $T(where, cassandraOptions)", newTypeName);
-            incr.addStatement("return new $T(where, cassandraOptions)", newTypeName);
-            decrOne.addStatement("return new $T(where, cassandraOptions)", newTypeName);
-            decr.addStatement("return new $T(where, cassandraOptions)", newTypeName);
+            incrOne.addStatement("return new $T(cassandraOptions)", newTypeName);
+            incr.addStatement("return new $T(cassandraOptions)", newTypeName);
+            decrOne.addStatement("return new $T(cassandraOptions)", newTypeName);
+            decr.addStatement("return new $T(cassandraOptions)", newTypeName);
         } else {
             incrOne.addStatement("return $T.this", newTypeName);
             incr.addStatement("return $T.this", newTypeName);
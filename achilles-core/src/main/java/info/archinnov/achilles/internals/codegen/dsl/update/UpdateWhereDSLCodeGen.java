@@ -37,9 +37,8 @@ public abstract class UpdateWhereDSLCodeGen extends AbstractDSLCodeGen
 
     public static final MethodSpec WHERE_CONSTRUCTOR = MethodSpec.constructorBuilder()
             .addModifiers(Modifier.PUBLIC)
-            .addParameter(UPDATE_DOT_WHERE, "where")
             .addParameter(OPTIONS, "cassandraOptions")
-            .addStatement("super(where, cassandraOptions)")
+            .addStatement("super(cassandraOptions)")
             .build();
 
     public abstract void augmentPartitionKeyRelationClassForWhereClause(TypeSpec.Builder relationClassBuilder,
@@ -106,13 +105,14 @@ public abstract class UpdateWhereDSLCodeGen extends AbstractDSLCodeGen
         final TypeSpec.Builder builder = TypeSpec.classBuilder(lastSignature.className)
                 .superclass(lastSignature.superType)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addMethod(buildWhereConstructorWithOptions(UPDATE_DOT_WHERE))
+                .addMethod(buildWhereConstructorWithOptions())
                 .addMethod(buildGetEntityClass(signature))
                 .addMethod(buildGetMetaInternal(signature.entityRawClass))
                 .addMethod(buildGetRte())
                 .addMethod(buildGetOptions())
                 .addMethod(buildGetBoundValuesInternal())
                 .addMethod(buildGetEncodedBoundValuesInternal())
+                .addMethod(buildGetStatementShapeInternal())
                 .addMethod(buildGetThis(lastSignature.returnClassType));
 
         buildLWtConditionMethods(signature, lastSignature.className, lastSignature, hasCounter, builder);
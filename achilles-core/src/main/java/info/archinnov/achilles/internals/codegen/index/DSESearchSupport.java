@@ -108,7 +108,8 @@ public interface DSESearchSupport {
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, fieldInfo.fieldName)
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
-                .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.eq($S, $T.bindMarker($S))))",
+                        shapeToken("WHERE", "eq", "solr_query", "solr_query"),
                         QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
                 .endControlFlow()
                 .addStatement("cassandraOptions.appendToSolrQuery($S + $N + $S)", fieldInfo.quotedCqlColumn + ":",
@@ -116,7 +117,7 @@ public interface DSESearchSupport {
                 .returns(nextType);
 
         if (returnType == ReturnType.NEW) {
-            builder.addStatement("return new $T(where, cassandraOptions)", nextType);
+            builder.addStatement("return new $T(cassandraOptions)", nextType);
         } else {
             builder.addStatement("return $T.this", nextType);
         }
@@ -130,14 +131,15 @@ public interface DSESearchSupport {
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, fieldInfo.fieldName)
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
-                .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.eq($S, $T.bindMarker($S))))",
+                        shapeToken("WHERE", "eq", "solr_query", "solr_query"),
                         QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
                 .endControlFlow()
                 .addStatement("cassandraOptions.appendToSolrQuery($S + $N)", fieldInfo.quotedCqlColumn + ":*", fieldInfo.fieldName)
                 .returns(nextType);
 
         if (returnType == ReturnType.NEW) {
-            builder.addStatement("return new $T(where, cassandraOptions)", nextType);
+            builder.addStatement("return new $T(cassandraOptions)", nextType);
         } else {
             builder.addStatement("return $T.this", nextType);
         }
@@ -151,14 +153,15 @@ public interface DSESearchSupport {
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, fieldInfo.fieldName)
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
-                .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.eq($S, $T.bindMarker($S))))",
+                        shapeToken("WHERE", "eq", "solr_query", "solr_query"),
                         QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
                 .endControlFlow()
                 .addStatement("cassandraOptions.appendToSolrQuery($S + $N + $S)", fieldInfo.quotedCqlColumn + ":*", fieldInfo.fieldName, "*")
                 .returns(nextType);
 
         if (returnType == ReturnType.NEW) {
-            builder.addStatement("return new $T(where, cassandraOptions)", nextType);
+            builder.addStatement("return new $T(cassandraOptions)", nextType);
         } else {
             builder.addStatement("return $T.this", nextType);
         }
@@ -174,7 +177,8 @@ public interface DSESearchSupport {
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(fieldInfo.typeName, param)
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
-                .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.eq($S, $T.bindMarker($S))))",
+                        shapeToken("WHERE", "eq", "solr_query", "solr_query"),
                         QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
                 .endControlFlow()
                 .addStatement("cassandraOptions.appendToSolrQuery($T.format($S, $S, meta.$L.encodeFromJava($N, $T.of(cassandraOptions))))",
@@ -186,7 +190,7 @@ public interface DSESearchSupport {
                 .returns(nextType);
 
         if (returnType == ReturnType.NEW) {
-            builder.addStatement("return new $T(where, cassandraOptions)", nextType);
+            builder.addStatement("return new $T(cassandraOptions)", nextType);
         } else {
             builder.addStatement("return $T.this", nextType);
         }
@@ -207,7 +211,8 @@ public interface DSESearchSupport {
                 .addParameter(fieldInfo.typeName, param)
                 .addStatement("$T dateFormat = new $T($T.SOLR_DATE_FORMAT)", SIMPLE_DATE_FORMAT, SIMPLE_DATE_FORMAT, DSE_SEARCH_ANNOT)
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
-                .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.eq($S, $T.bindMarker($S))))",
+                        shapeToken("WHERE", "eq", "solr_query", "solr_query"),
                         QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
                 .endControlFlow()
                 .addStatement("cassandraOptions.appendToSolrQuery($T.format($S, $S, dateFormat.format(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))))",
@@ -218,7 +223,7 @@ public interface DSESearchSupport {
                 .returns(nextType);
 
         if (returnType == ReturnType.NEW) {
-            builder.addStatement("return new $T(where, cassandraOptions)", nextType);
+            builder.addStatement("return new $T(cassandraOptions)", nextType);
         } else {
             builder.addStatement("return $T.this", nextType);
         }
@@ -235,7 +240,8 @@ public interface DSESearchSupport {
                 .addParameter(fieldInfo.typeName, param1)
                 .addParameter(fieldInfo.typeName, param2)
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
-                .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.eq($S, $T.bindMarker($S))))",
+                        shapeToken("WHERE", "eq", "solr_query", "solr_query"),
                         QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
                 .endControlFlow()
                 .addStatement("cassandraOptions.appendToSolrQuery($T.format($S, $S, meta.$L.encodeFromJava($N, $T.of(cassandraOptions)), meta.$L.encodeFromJava($N, $T.of(cassandraOptions))))",
@@ -246,7 +252,7 @@ public interface DSESearchSupport {
                 .returns(nextType);
 
         if (returnType == ReturnType.NEW) {
-            builder.addStatement("return new $T(where, cassandraOptions)", nextType);
+            builder.addStatement("return new $T(cassandraOptions)", nextType);
         } else {
             builder.addStatement("return $T.this", nextType);
         }
@@ -264,7 +270,8 @@ public interface DSESearchSupport {
                 .addParameter(fieldInfo.typeName, param2)
                 .addStatement("$T dateFormat = new $T($T.SOLR_DATE_FORMAT)", SIMPLE_DATE_FORMAT, SIMPLE_DATE_FORMAT, DSE_SEARCH_ANNOT)
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
-                .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.eq($S, $T.bindMarker($S))))",
+                        shapeToken("WHERE", "eq", "solr_query", "solr_query"),
                         QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
                 .endControlFlow()
                 .addStatement("cassandraOptions.appendToSolrQuery($T.format($S, $S, dateFormat.format(meta.$L.encodeFromJava($N, $T.of(cassandraOptions))), dateFormat.format(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))))",
@@ -275,7 +282,7 @@ public interface DSESearchSupport {
                 .returns(nextType);
 
         if (returnType == ReturnType.NEW) {
-            builder.addStatement("return new $T(where, cassandraOptions)", nextType);
+            builder.addStatement("return new $T(cassandraOptions)", nextType);
         } else {
             builder.addStatement("return $T.this", nextType);
         }
@@ -291,7 +298,8 @@ public interface DSESearchSupport {
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, param)
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
-                .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.eq($S, $T.bindMarker($S))))",
+                        shapeToken("WHERE", "eq", "solr_query", "solr_query"),
                         QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
                 .endControlFlow()
                 .addStatement("cassandraOptions.appendToSolrQuery($T.format($S, $S, $N))",
@@ -299,7 +307,7 @@ public interface DSESearchSupport {
                 .returns(nextType);
 
         if (returnType == ReturnType.NEW) {
-            builder.addStatement("return new $T(where, cassandraOptions)", nextType);
+            builder.addStatement("return new $T(cassandraOptions)", nextType);
         } else {
             builder.addStatement("return $T.this", nextType);
         }
@@ -317,13 +325,14 @@ public interface DSESearchSupport {
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, param)
                 .beginControlFlow("if(!cassandraOptions.hasSolrQuery())")
-                .addStatement("where.and($T.eq($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.eq($S, $T.bindMarker($S))))",
+                        shapeToken("WHERE", "eq", "solr_query", "solr_query"),
                         QUERY_BUILDER, "solr_query", QUERY_BUILDER, "solr_query")
                 .endControlFlow()
                 .addStatement("cassandraOptions.rawSolrQuery($N)", param)
                 .returns(nextType);
 
-        builder.addStatement("return new $T(where, cassandraOptions)", nextType);
+        builder.addStatement("return new $T(cassandraOptions)", nextType);
         return builder.build();
     }
 
@@ -64,23 +64,23 @@ public abstract class IndexSelectDSLCodeGen extends SelectDSLCodeGen {
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.context.columnType != ColumnType.COMPUTED && !x.isUDT())
-                .forEach(x -> selectClassBuilder.addMethod(buildSelectColumnMethod(selectColumnsTypeName, x, "select", NEW)));
+                .forEach(x -> selectClassBuilder.addMethod(buildSelectColumnMethod(selectColumnsTypeName, x, NEW)));
 
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.isUDT())
                 .forEach(x -> buildSelectUDTClassAndMethods(selectClassBuilder, selectColumnsTypeName,
-                        signature.indexSelectClassName(), "", x, "select", NEW));
+                        signature.indexSelectClassName(), "", x, NEW));
 
         signature.fieldMetaSignatures
                 .stream()
                 .filter(x -> x.context.columnType == ColumnType.COMPUTED)
-                .forEach(x -> selectClassBuilder.addMethod(buildSelectComputedColumnMethod(selectColumnsTypeName, x, "select", NEW)));
+                .forEach(x -> selectClassBuilder.addMethod(buildSelectComputedColumnMethod(selectColumnsTypeName, x, NEW)));
 
-        selectClassBuilder.addMethod(buildSelectFunctionCallMethod(selectColumnsTypeMapTypeName, "select", NEW));
+        selectClassBuilder.addMethod(buildSelectFunctionCallMethod(selectColumnsTypeMapTypeName, NEW));
 
-        selectClassBuilder.addMethod(buildAllColumns(selectFromTypeName, SELECT_DOT_WHERE, "select"));
-        selectClassBuilder.addMethod(buildAllColumnsWithSchemaProvider(selectFromTypeName, SELECT_DOT_WHERE, "select"));
+        selectClassBuilder.addMethod(buildAllColumns(selectFromTypeName, "select"));
+        selectClassBuilder.addMethod(buildAllColumnsWithSchemaProvider(selectFromTypeName, "select"));
 
         augmentSelectClass(context, signature, selectClassBuilder);
 
@@ -98,32 +98,27 @@ public abstract class IndexSelectDSLCodeGen extends SelectDSLCodeGen {
 
         final TypeSpec.Builder selectColumnsBuilder = TypeSpec.classBuilder(classesSignature.selectColumnsClassName)
             .superclass(ABSTRACT_SELECT_COLUMNS)
-            .addModifiers(Modifier.PUBLIC)
-            .addMethod(MethodSpec.constructorBuilder()
-                .addModifiers(Modifier.PUBLIC)
-                .addParameter(SELECT_DOT_SELECTION, "selection")
-                .addStatement("super(selection)")
-                .build());
+            .addModifiers(Modifier.PUBLIC);
 
         signature.fieldMetaSignatures
             .stream()
             .filter(x -> x.context.columnType != ColumnType.COMPUTED && !x.isUDT())
-            .forEach(x -> selectColumnsBuilder.addMethod(buildSelectColumnMethod(selectColumnsTypeName, x, "selection", THIS)));
+            .forEach(x -> selectColumnsBuilder.addMethod(buildSelectColumnMethod(selectColumnsTypeName, x, THIS)));
 
         signature.fieldMetaSignatures
             .stream()
             .filter(x -> x.isUDT())
-            .forEach(x -> buildSelectUDTClassAndMethods(selectColumnsBuilder, selectColumnsTypeName, signature.indexSelectColumnsReturnType(), "", x, "selection", THIS));
+            .forEach(x -> buildSelectUDTClassAndMethods(selectColumnsBuilder, selectColumnsTypeName, signature.indexSelectColumnsReturnType(), "", x, THIS));
 
         signature.fieldMetaSignatures
             .stream()
             .filter(x -> x.context.columnType == ColumnType.COMPUTED)
-            .forEach(x -> selectColumnsBuilder.addMethod(buildSelectComputedColumnMethod(selectColumnsTypeName, x, "selection", THIS)));
+            .forEach(x -> selectColumnsBuilder.addMethod(buildSelectComputedColumnMethod(selectColumnsTypeName, x, THIS)));
 
-        selectColumnsBuilder.addMethod(buildSelectFunctionCallMethod(selectColumnsTypedMapTypeName, "selection", NEW));
+        selectColumnsBuilder.addMethod(buildSelectFunctionCallMethod(selectColumnsTypedMapTypeName, NEW));
 
-        selectColumnsBuilder.addMethod(buildFrom(selectFromTypeName, SELECT_DOT_WHERE, "selection"));
-        selectColumnsBuilder.addMethod(buildFromWithSchemaProvider(selectFromTypeName, SELECT_DOT_WHERE, "selection"));
+        selectColumnsBuilder.addMethod(buildFrom(selectFromTypeName));
+        selectColumnsBuilder.addMethod(buildFromWithSchemaProvider(selectFromTypeName));
 
         return selectColumnsBuilder.build();
     }
@@ -137,20 +132,19 @@ public abstract class IndexSelectDSLCodeGen extends SelectDSLCodeGen {
                 .superclass(ABSTRACT_SELECT_FROM)
                 .addModifiers(Modifier.PUBLIC)
                 .addMethod(MethodSpec.constructorBuilder()
-                        .addParameter(SELECT_DOT_WHERE, "where")
                         .addParameter(OPTIONS, "cassandraOptions")
-                        .addStatement("super(where, cassandraOptions)")
+                        .addStatement("super(cassandraOptions)")
                         .build())
                 .addMethod(MethodSpec.methodBuilder("where")
                         .addJavadoc("Generate a SELECT ... FROM ... <strong>WHERE</strong> ...")
                         .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                        .addStatement("return new $T(where, cassandraOptions)", selectWhereTypeName)
+                        .addStatement("return new $T(cassandraOptions)", selectWhereTypeName)
                         .returns(selectWhereTypeName)
                         .build())
                 .addMethod(MethodSpec.methodBuilder("without_WHERE_Clause")
                         .addJavadoc("Generate a SELECT statement <strong>without</strong> the <strong>WHERE</strong> clause")
                         .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                        .addStatement("return new $T(where, cassandraOptions)", selectEndTypeName)
+                        .addStatement("return new $T(cassandraOptions)", selectEndTypeName)
                         .returns(selectEndTypeName)
                         .build())
                 .build();
@@ -165,20 +159,19 @@ public abstract class IndexSelectDSLCodeGen extends SelectDSLCodeGen {
                 .superclass(ABSTRACT_SELECT_FROM_TYPED_MAP)
                 .addModifiers(Modifier.PUBLIC)
                 .addMethod(MethodSpec.constructorBuilder()
-                        .addParameter(SELECT_DOT_WHERE, "where")
                         .addParameter(OPTIONS, "cassandraOptions")
-                        .addStatement("super(where, cassandraOptions)")
+                        .addStatement("super(cassandraOptions)")
                         .build())
                 .addMethod(MethodSpec.methodBuilder("where")
                         .addJavadoc("Generate a SELECT ... FROM ... <strong>WHERE</strong> ...")
                         .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                        .addStatement("return new $T(where, cassandraOptions)", selectWhereTypedMapTypeName)
+                        .addStatement("return new $T(cassandraOptions)", selectWhereTypedMapTypeName)
                         .returns(selectWhereTypedMapTypeName)
                         .build())
                 .addMethod(MethodSpec.methodBuilder("without_WHERE_Clause")
                         .addJavadoc("Generate a SELECT statement <strong>without</strong> the <strong>WHERE</strong> clause")
                         .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                        .addStatement("return new $T(where, cassandraOptions)", selectEndTypedMapTypeName)
+                        .addStatement("return new $T(cassandraOptions)", selectEndTypedMapTypeName)
                         .returns(selectEndTypedMapTypeName)
                         .build())
                 .build();
@@ -78,7 +78,7 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
         final TypeSpec.Builder indexSelectWhereBuilder = TypeSpec.classBuilder(indexSelectWhereClassName)
                 .superclass(classSignatureParams.abstractWherePartitionType)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addMethod(buildWhereConstructorWithOptions(SELECT_DOT_WHERE));
+                .addMethod(buildWhereConstructorWithOptions());
 
         final String endClassName = signature.endClassName(classSignatureParams.endDslSuffix);
         final TypeName endTypeName = ClassName.get(DSL_PACKAGE, endClassName);
@@ -116,13 +116,14 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
         final TypeSpec.Builder builder = TypeSpec.classBuilder(lastSignature.className)
                 .superclass(lastSignature.superType)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addMethod(buildWhereConstructorWithOptions(SELECT_DOT_WHERE))
+                .addMethod(buildWhereConstructorWithOptions())
                 .addMethod(buildGetEntityClass(signature))
                 .addMethod(buildGetMetaInternal(signature.entityRawClass))
                 .addMethod(buildGetRte())
                 .addMethod(buildGetOptions())
                 .addMethod(buildGetBoundValuesInternal())
                 .addMethod(buildGetEncodedBoundValuesInternal())
+                .addMethod(buildGetStatementShapeInternal())
                 .addMethod(buildLimit(lastSignature))
                 .addMethod(buildGetThis(lastSignature.returnClassType));
 
@@ -203,10 +204,9 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(indexFieldInfo.indexMetaSignature.mapKeyType, paramKey)
                 .addParameter(indexFieldInfo.indexMetaSignature.mapValueType, paramValue)
-                .addStatement("where.and($T.of($S, $T.bindMarker($S), $T.bindMarker($S)))",
-                        MAP_ENTRY_CLAUSE, indexFieldInfo.quotedCqlColumn,
-                        QUERY_BUILDER, paramKey,
-                        QUERY_BUILDER, paramValue)
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.of($S, $T.bindMarker($S), $T.bindMarker($S))))",
+                        shapeToken("WHERE", "entry", indexFieldInfo.quotedCqlColumn, paramKey, paramValue),
+                        MAP_ENTRY_CLAUSE, indexFieldInfo.quotedCqlColumn, QUERY_BUILDER, paramKey, QUERY_BUILDER, paramValue)
                 .addStatement("boundValues.add($N)", paramKey)
                 .addStatement("boundValues.add($N)", paramValue)
                 .addStatement("encodedValues.add(meta.$L.encodeSingleKeyElement($N, $T.of(cassandraOptions)))", indexFieldInfo.fieldName, paramKey, OPTIONAL)
@@ -216,7 +216,7 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
         if(returnType == ReturnType.THIS) {
             return builder.addStatement("return $T.this", returnClassType).build();
         } else {
-            return builder.addStatement("return new $T(where, cassandraOptions)", returnClassType).build();
+            return builder.addStatement("return new $T(cassandraOptions)", returnClassType).build();
         }
     }
 
@@ -228,7 +228,8 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(indexFieldInfo.indexMetaSignature.mapKeyType, param)
-                .addStatement("where.and($T.containsKey($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.containsKey($S, $T.bindMarker($S))))",
+                        shapeToken("WHERE", "containsKey", indexFieldInfo.quotedCqlColumn, indexFieldInfo.quotedCqlColumn),
                         QUERY_BUILDER, indexFieldInfo.quotedCqlColumn, QUERY_BUILDER, indexFieldInfo.quotedCqlColumn)
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeSingleKeyElement($N, $T.of(cassandraOptions)))", indexFieldInfo.fieldName, param, OPTIONAL)
@@ -237,7 +238,7 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
         if(returnType == ReturnType.THIS) {
             return builder.addStatement("return $T.this", returnClassType).build();
         } else {
-            return builder.addStatement("return new $T(where, cassandraOptions)", returnClassType).build();
+            return builder.addStatement("return new $T(cassandraOptions)", returnClassType).build();
         }
     }
 
@@ -249,7 +250,8 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(indexFieldInfo.indexMetaSignature.mapValueType, param)
-                .addStatement("where.and($T.contains($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.contains($S, $T.bindMarker($S))))",
+                        shapeToken("WHERE", "contains", indexFieldInfo.quotedCqlColumn, indexFieldInfo.quotedCqlColumn),
                         QUERY_BUILDER, indexFieldInfo.quotedCqlColumn, QUERY_BUILDER, indexFieldInfo.quotedCqlColumn)
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeSingleValueElement($N, $T.of(cassandraOptions)))", indexFieldInfo.fieldName, param, OPTIONAL)
@@ -258,7 +260,7 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
         if(returnType == ReturnType.THIS) {
             return builder.addStatement("return $T.this", returnClassType).build();
         } else {
-            return builder.addStatement("return new $T(where, cassandraOptions)", returnClassType).build();
+            return builder.addStatement("return new $T(cassandraOptions)", returnClassType).build();
         }
     }
 
@@ -269,7 +271,8 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(indexFieldInfo.indexMetaSignature.collectionElementType, param)
-                .addStatement("where.and($T.contains($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.contains($S, $T.bindMarker($S))))",
+                        shapeToken("WHERE", "contains", indexFieldInfo.quotedCqlColumn, indexFieldInfo.quotedCqlColumn),
                         QUERY_BUILDER, indexFieldInfo.quotedCqlColumn, QUERY_BUILDER, indexFieldInfo.quotedCqlColumn)
                 .addStatement("boundValues.add($N)", param)
                 .addStatement("encodedValues.add(meta.$L.encodeSingleElement($N, $T.of(cassandraOptions)))", indexFieldInfo.fieldName, param, OPTIONAL)
@@ -277,7 +280,7 @@ public abstract class IndexSelectWhereDSLCodeGen extends SelectWhereDSLCodeGen
         if(returnType == ReturnType.THIS) {
             return builder.addStatement("return $T.this", returnClassType).build();
         } else {
-            return builder.addStatement("return new $T(where, cassandraOptions)", returnClassType).build();
+            return builder.addStatement("return new $T(cassandraOptions)", returnClassType).build();
         }
     }
 
@@ -16,6 +16,7 @@
 
 package info.archinnov.achilles.internals.codegen.index;
 
+import static info.archinnov.achilles.internals.codegen.dsl.AbstractDSLCodeGen.shapeToken;
 import static info.archinnov.achilles.internals.parser.TypeUtils.OPTIONAL;
 import static info.archinnov.achilles.internals.parser.TypeUtils.QUERY_BUILDER;
 import static info.archinnov.achilles.internals.parser.TypeUtils.STRING;
@@ -36,14 +37,15 @@ public interface SASISupport {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, fieldInfo.fieldName)
-                .addStatement("where.and($T.like($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.like($S, $T.bindMarker($S))))",
+                        shapeToken("WHERE", "like", fieldInfo.quotedCqlColumn, fieldInfo.quotedCqlColumn),
                         QUERY_BUILDER, fieldInfo.quotedCqlColumn, QUERY_BUILDER, fieldInfo.quotedCqlColumn)
                 .addStatement("boundValues.add($N + $S)", fieldInfo.fieldName, "%")
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N + $S, $T.of(cassandraOptions)))", fieldInfo.fieldName, fieldInfo.fieldName, "%", OPTIONAL)
                 .returns(nextType);
 
         if (returnType == AbstractDSLCodeGen.ReturnType.NEW) {
-            builder.addStatement("return new $T(where, cassandraOptions)", nextType);
+            builder.addStatement("return new $T(cassandraOptions)", nextType);
         } else {
             builder.addStatement("return $T.this", nextType);
         }
@@ -56,14 +58,15 @@ public interface SASISupport {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, fieldInfo.fieldName)
-                .addStatement("where.and($T.like($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.like($S, $T.bindMarker($S))))",
+                        shapeToken("WHERE", "like", fieldInfo.quotedCqlColumn, fieldInfo.quotedCqlColumn),
                         QUERY_BUILDER, fieldInfo.quotedCqlColumn, QUERY_BUILDER, fieldInfo.quotedCqlColumn)
                 .addStatement("boundValues.add($S + $N)", "%", fieldInfo.fieldName)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($S + $N, $T.of(cassandraOptions)))", fieldInfo.fieldName, "%", fieldInfo.fieldName, OPTIONAL)
                 .returns(nextType);
 
         if (returnType == AbstractDSLCodeGen.ReturnType.NEW) {
-            builder.addStatement("return new $T(where, cassandraOptions)", nextType);
+            builder.addStatement("return new $T(cassandraOptions)", nextType);
         } else {
             builder.addStatement("return $T.this", nextType);
         }
@@ -76,14 +79,15 @@ public interface SASISupport {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, fieldInfo.fieldName)
-                .addStatement("where.and($T.like($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.like($S, $T.bindMarker($S))))",
+                        shapeToken("WHERE", "like", fieldInfo.quotedCqlColumn, fieldInfo.quotedCqlColumn),
                         QUERY_BUILDER, fieldInfo.quotedCqlColumn, QUERY_BUILDER, fieldInfo.quotedCqlColumn)
                 .addStatement("boundValues.add($S + $N + $S)", "%", fieldInfo.fieldName, "%")
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($S + $N + $S, $T.of(cassandraOptions)))", fieldInfo.fieldName, "%", fieldInfo.fieldName, "%", OPTIONAL)
                 .returns(nextType);
 
         if (returnType == AbstractDSLCodeGen.ReturnType.NEW) {
-            builder.addStatement("return new $T(where, cassandraOptions)", nextType);
+            builder.addStatement("return new $T(cassandraOptions)", nextType);
         } else {
             builder.addStatement("return $T.this", nextType);
         }
@@ -96,14 +100,15 @@ public interface SASISupport {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(STRING, fieldInfo.fieldName)
-                .addStatement("where.and($T.like($S, $T.bindMarker($S)))",
+                .addStatement("whereClause($S, where$$ -> where$$.and($T.like($S, $T.bindMarker($S))))",
+                        shapeToken("WHERE", "like", fieldInfo.quotedCqlColumn, fieldInfo.quotedCqlColumn),
                         QUERY_BUILDER, fieldInfo.quotedCqlColumn, QUERY_BUILDER, fieldInfo.quotedCqlColumn)
                 .addStatement("boundValues.add($N)", fieldInfo.fieldName)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldInfo.fieldName, fieldInfo.fieldName, OPTIONAL)
                 .returns(nextType);
 
         if (returnType == AbstractDSLCodeGen.ReturnType.NEW) {
-            builder.addStatement("return new $T(where, cassandraOptions)", nextType);
+            builder.addStatement("return new $T(cassandraOptions)", nextType);
         } else {
             builder.addStatement("return $T.this", nextType);
         }
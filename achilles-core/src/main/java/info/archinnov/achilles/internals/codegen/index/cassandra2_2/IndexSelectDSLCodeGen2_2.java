@@ -42,7 +42,7 @@ public class IndexSelectDSLCodeGen2_2 extends IndexSelectDSLCodeGen2_1
 
         final String className = FROM_JSON_DSL_SUFFIX;
         builder.addType(buildSelectFromJSON(className, selectWhereJSONTypeName, selectEndJSONTypeName));
-        builder.addMethod(buildAllColumnsJSON(selectFromJSONTypeName, SELECT_DOT_WHERE, "select"));
-        builder.addMethod(buildAllColumnsJSONWithSchemaProvider(selectFromJSONTypeName, SELECT_DOT_WHERE, "select"));
+        builder.addMethod(buildAllColumnsJSON(selectFromJSONTypeName, "select"));
+        builder.addMethod(buildAllColumnsJSONWithSchemaProvider(selectFromJSONTypeName, "select"));
     }
 }
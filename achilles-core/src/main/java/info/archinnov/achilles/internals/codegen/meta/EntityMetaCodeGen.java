@@ -140,6 +140,7 @@ public class EntityMetaCodeGen implements CommonBeanMetaCodeGen {
         builder.addAnnotation(ACHILLES_META_ANNOT)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addMethod(buildEntityClass(rawClassTypeName))
+                .addMethod(buildNewEntityInstance(rawClassTypeName))
                 .addMethod(buildDerivedTableName(elm, globalParsingContext.namingStrategy))
                 .addMethod(buildFieldNameToCqlColumn(fieldMetaSignatures))
                 .addMethod(buildGetStaticReadConsistency(consistency))
@@ -203,6 +204,15 @@ public class EntityMetaCodeGen implements CommonBeanMetaCodeGen {
                 .build();
     }
 
+    private MethodSpec buildNewEntityInstance(TypeName rawClassTypeName) {
+        return MethodSpec.methodBuilder("newEntityInstance")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .returns(rawClassTypeName)
+                .addStatement("return new $T()", rawClassTypeName)
+                .build();
+    }
+
     private MethodSpec buildStaticKeyspace(String staticValue) {
 
         final Optional<String> keyspace = Optional.ofNullable(isBlank(staticValue) ? null : staticValue);
@@ -65,7 +65,8 @@ public class UDTMetaCodeGen implements CommonBeanMetaCodeGen {
                 .addMethod(buildGetParentEntityClass(context))
                 .addMethod(buildComponentsProperty(rawBeanType, parsingResults))
                 .addMethod(buildCreateUDTFromBeanT(rawBeanType, parsingResults))
-                .addMethod(buildCreateBeanFromUDT(rawBeanType, parsingResults));
+                .addMethod(buildCreateBeanFromUDT(rawBeanType, parsingResults))
+                .addMethod(buildNewUDTInstance(rawBeanType));
 
         for (FieldMetaSignature x : parsingResults) {
             builder.addField(x.buildPropertyAsField());
@@ -195,6 +196,15 @@ public class UDTMetaCodeGen implements CommonBeanMetaCodeGen {
         return builder.build();
     }
 
+    private MethodSpec buildNewUDTInstance(TypeName rawBeanType) {
+        return MethodSpec.methodBuilder("newUDTInstance")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .returns(rawBeanType)
+                .addStatement("return new $T()", rawBeanType)
+                .build();
+    }
+
     private MethodSpec buildCreateBeanFromUDT(TypeName rawBeanType, List<FieldMetaSignature> parsingResults) {
         final ClassName udtType = ClassName.get(UDTValue.class);
 
@@ -203,7 +213,7 @@ public class UDTMetaCodeGen implements CommonBeanMetaCodeGen {
                 .addModifiers(Modifier.PROTECTED)
                 .addParameter(udtType, "udtValue")
                 .returns(rawBeanType)
-                .addStatement("final $T instance = udtFactory.newInstance(udtClass)", rawBeanType);
+                .addStatement("final $T instance = instantiate()", rawBeanType);
 
         for (FieldMetaSignature x : parsingResults) {
             builder.addStatement("$L.decodeField(udtValue, instance)", x.context.fieldName);
@@ -36,6 +36,8 @@ import info.archinnov.achilles.internals.interceptor.DefaultPostLoadBeanValidati
 import info.archinnov.achilles.internals.interceptor.DefaultPreMutateBeanValidationInterceptor;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.json.JacksonMapperFactory;
+import info.archinnov.achilles.type.EntityCachePolicy;
+import info.archinnov.achilles.type.HedgingPolicy;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
@@ -54,6 +56,12 @@ public class ConfigurationContext {
     private boolean forceSchemaGeneration;
     private boolean validateSchema = true;
 
+    private boolean deduplicateConcurrentReads = false;
+
+    private boolean partitionKeyInFanOut = false;
+
+    private boolean directAsyncCompletion = false;
+
     private List<Class<?>> manageEntities;
 
     private JacksonMapperFactory jacksonMapperFactory;
@@ -66,6 +74,10 @@ public class ConfigurationContext {
     private Map<String, ConsistencyLevel> writeConsistencyLevelMap = new HashMap<>();
     private Map<String, ConsistencyLevel> serialConsistencyLevelMap = new HashMap<>();
 
+    private Map<String, HedgingPolicy> hedgingPolicyMap = new HashMap<>();
+
+    private Map<String, EntityCachePolicy> entityCachePolicyMap = new HashMap<>();
+
     private Validator beanValidator;
     private DefaultPreMutateBeanValidationInterceptor preMutateBeanValidationInterceptor;
     private Optional<DefaultPostLoadBeanValidationInterceptor> postLoadBeanValidationInterceptor = Optional.empty();
@@ -74,6 +86,14 @@ public class ConfigurationContext {
 
     private int preparedStatementLRUCacheSize;
 
+    private Optional<String> preparedStatementsWarmupFile = Optional.empty();
+
+    private int preparedStatementsWarmupSize;
+
+    private long preparedStatementsWarmupSaveInterval;
+
+    private long preparedStatementsWarmupTimeout;
+
     private InsertStrategy globalInsertStrategy;
     private NamingStrategy globalNamingStrategy;
 
@@ -111,6 +131,30 @@ public class ConfigurationContext {
         this.validateSchema = validateSchema;
     }
 
+    public boolean isDirectAsyncCompletion() {
+        return directAsyncCompletion;
+    }
+
+    public void setDirectAsyncCompletion(boolean directAsyncCompletion) {
+        this.directAsyncCompletion = directAsyncCompletion;
+    }
+
+    public boolean isDeduplicateConcurrentReads() {
+        return deduplicateConcurrentReads;
+    }
+
+    public void setDeduplicateConcurrentReads(boolean deduplicateConcurrentReads) {
+        this.deduplicateConcurrentReads = deduplicateConcurrentReads;
+    }
+
+    public boolean isPartitionKeyInFanOut() {
+        return partitionKeyInFanOut;
+    }
+
+    public void setPartitionKeyInFanOut(boolean partitionKeyInFanOut) {
+        this.partitionKeyInFanOut = partitionKeyInFanOut;
+    }
+
     public List<Class<?>> getManageEntities() {
         return manageEntities;
     }
@@ -182,6 +226,38 @@ public class ConfigurationContext {
         this.preparedStatementLRUCacheSize = preparedStatementLRUCacheSize;
     }
 
+    public Optional<String> getPreparedStatementsWarmupFile() {
+        return preparedStatementsWarmupFile;
+    }
+
+    public void setPreparedStatementsWarmupFile(Optional<String> preparedStatementsWarmupFile) {
+        this.preparedStatementsWarmupFile = preparedStatementsWarmupFile;
+    }
+
+    public int getPreparedStatementsWarmupSize() {
+        return preparedStatementsWarmupSize;
+    }
+
+    public void setPreparedStatementsWarmupSize(int preparedStatementsWarmupSize) {
+        this.preparedStatementsWarmupSize = preparedStatementsWarmupSize;
+    }
+
+    public long getPreparedStatementsWarmupSaveInterval() {
+        return preparedStatementsWarmupSaveInterval;
+    }
+
+    public void setPreparedStatementsWarmupSaveInterval(long preparedStatementsWarmupSaveInterval) {
+        this.preparedStatementsWarmupSaveInterval = preparedStatementsWarmupSaveInterval;
+    }
+
+    public long getPreparedStatementsWarmupTimeout() {
+        return preparedStatementsWarmupTimeout;
+    }
+
+    public void setPreparedStatementsWarmupTimeout(long preparedStatementsWarmupTimeout) {
+        this.preparedStatementsWarmupTimeout = preparedStatementsWarmupTimeout;
+    }
+
     public InsertStrategy getGlobalInsertStrategy() {
         return globalInsertStrategy;
     }
@@ -218,6 +294,14 @@ public class ConfigurationContext {
         return serialConsistencyLevelMap.get(tableName);
     }
 
+    public HedgingPolicy getHedgingPolicyForTable(String tableName) {
+        return hedgingPolicyMap.get(tableName);
+    }
+
+    public EntityCachePolicy getEntityCachePolicyForTable(String tableName) {
+        return entityCachePolicyMap.get(tableName);
+    }
+
     public ObjectMapper getMapperFor(Class<?> type) {
         return jacksonMapperFactory.getMapper(type);
     }
@@ -234,6 +318,14 @@ public class ConfigurationContext {
         this.serialConsistencyLevelMap = serialConsistencyLevelMap;
     }
 
+    public void setHedgingPolicyMap(Map<String, HedgingPolicy> hedgingPolicyMap) {
+        this.hedgingPolicyMap = hedgingPolicyMap;
+    }
+
+    public void setEntityCachePolicyMap(Map<String, EntityCachePolicy> entityCachePolicyMap) {
+        this.entityCachePolicyMap = entityCachePolicyMap;
+    }
+
     public Optional<String> getCurrentKeyspace() {
         return currentKeyspace;
     }
@@ -338,12 +430,18 @@ public class ConfigurationContext {
         LOGGER.debug("Injecting global consistency levels");
         entityProperty.injectConsistencyLevels(session, this);
 
+        LOGGER.debug("Injecting hedging policy");
+        entityProperty.injectHedgingPolicy(this);
+
         LOGGER.debug("Injecting runtime codecs");
         entityProperty.injectRuntimeCodecs(runtimeCodecs);
 
         LOGGER.debug("Injecting user type factory and tuple type factory");
         entityProperty.inject(userTypeFactory, tupleTypeFactory);
 
+        LOGGER.debug("Injecting entity cache");
+        entityProperty.injectEntityCache(this);
+
     }
 
 
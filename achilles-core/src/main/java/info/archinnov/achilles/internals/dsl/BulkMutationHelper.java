@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.dsl;
+
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.ExecutionInfo;
+
+import info.archinnov.achilles.internals.futures.FutureUtils;
+import info.archinnov.achilles.type.BulkMutationResult;
+import info.archinnov.achilles.type.tuples.Tuple2;
+
+public class BulkMutationHelper {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkMutationHelper.class);
+
+    /**
+     * Default maximum number of mutations in flight for a bulk operation
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 64;
+
+    /**
+     * Execute one mutation per entity with at most <strong>maxInFlight</strong> mutations pending
+     * and aggregate their outcome in a {@link info.archinnov.achilles.type.BulkMutationResult}
+     */
+    public static <ENTITY> CompletableFuture<BulkMutationResult<ENTITY>> executeBulk(List<ENTITY> entities, int maxInFlight,
+                                                                                     Function<ENTITY, CompletableFuture<ExecutionInfo>> mutation) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Execute bulk mutation of %s entities with max in flight %s", entities.size(), maxInFlight));
+        }
+
+        return FutureUtils
+                .executeWithMaxInFlight(entities.size(), maxInFlight, index -> mutation.apply(entities.get(index)))
+                .thenApply(futures -> {
+                    final List<ExecutionInfo> executionInfos = new ArrayList<>(futures.size());
+                    final List<Tuple2<ENTITY, Throwable>> failures = new ArrayList<>();
+                    for (int i = 0; i < futures.size(); i++) {
+                        try {
+                            executionInfos.add(futures.get(i).join());
+                        } catch (CompletionException | CancellationException e) {
+                            failures.add(Tuple2.of(entities.get(i), unwrap(e)));
+                        }
+                    }
+                    if (LOGGER.isDebugEnabled() && !failures.isEmpty()) {
+                        LOGGER.debug(format("Bulk mutation done with %s failure(s) out of %s entities", failures.size(), entities.size()));
+                    }
+                    return new BulkMutationResult<>(executionInfos, failures);
+                });
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -22,6 +22,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import org.reactivestreams.Publisher;
+
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.ExecutionInfo;
 import com.datastax.driver.core.ResultSet;
@@ -31,6 +33,7 @@ import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.internals.types.ResultSetPublisher;
 import info.archinnov.achilles.internals.types.TypedMapIteratorWrapper;
 import info.archinnov.achilles.type.TypedMap;
 import info.archinnov.achilles.type.tuples.Tuple2;
@@ -59,10 +62,8 @@ public interface RawAndTypeMapDefaultImpl extends TypedMapAware, StatementTypeAw
         CompletableFuture<ResultSet> futureRS = runtimeEngine().execute(statementWrapper);
 
         return futureRS
-                .thenApply(options()::resultSetAsyncListener)
-                .thenApply(x -> statementWrapper.logReturnResults(x, options().computeMaxDisplayedResults(runtimeEngine().configContext)))
-                .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> Tuple2.of(mapResultSetToTypedMaps(x), x.getExecutionInfo()));
+                .thenApply(statementWrapper.postProcessing(options(), options().computeMaxDisplayedResults(runtimeEngine().configContext),
+                        x -> Tuple2.of(mapResultSetToTypedMaps(x), x.getExecutionInfo())));
     }
 
     @Override
@@ -78,10 +79,8 @@ public interface RawAndTypeMapDefaultImpl extends TypedMapAware, StatementTypeAw
         CompletableFuture<ResultSet> cfutureRS = runtimeEngine().execute(statementWrapper);
 
         return cfutureRS
-                .thenApply(options()::resultSetAsyncListener)
-                .thenApply(x -> statementWrapper.logReturnResults(x, options().computeMaxDisplayedResults(runtimeEngine().configContext)))
-                .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> Tuple2.of(mapRowToTypedMap(x.one()), x.getExecutionInfo()));
+                .thenApply(statementWrapper.postProcessing(options(), options().computeMaxDisplayedResults(runtimeEngine().configContext),
+                        x -> Tuple2.of(mapRowToTypedMap(x.one()), x.getExecutionInfo())));
     }
 
     @Override
@@ -104,4 +103,12 @@ public interface RawAndTypeMapDefaultImpl extends TypedMapAware, StatementTypeAw
         TypedMapIteratorWrapper iterator = (TypedMapIteratorWrapper) this.typedMapIterator();
         return Tuple2.of(iterator, iterator.getExecutionInfo());
     }
+
+    @Override
+    default Publisher<TypedMap> typedMapPublisher() {
+        StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement()),
+                meta(), boundStatement(), encodedBoundValues());
+
+        return new ResultSetPublisher<>(runtimeEngine(), statementWrapper, options(), this::mapRowToTypedMap);
+    }
 }
@@ -23,6 +23,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.IntStream;
 
+import org.reactivestreams.Publisher;
+
 import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.ExecutionInfo;
 import com.datastax.driver.core.ResultSet;
@@ -48,6 +50,14 @@ public interface TypedMapAware extends AsyncAware {
      */
     Tuple2<Iterator<TypedMap>, ExecutionInfo> typedMapIteratorWithExecutionInfo();
 
+    /**
+     * Return a {@link org.reactivestreams.Publisher}&lt;{@link info.archinnov.achilles.type.TypedMap}&gt;
+     * <br/>
+     * The SELECT action is executed when the subscriber first requests items and the
+     * following pages are fetched asynchronously, only when required by the subscriber demand
+     */
+    Publisher<TypedMap> typedMapPublisher();
+
     /**
      * Execute the SELECT action and return a {@link java.util.concurrent.CompletableFuture}&lt;{@link info.archinnov.achilles.type.tuples.Tuple2}&lt;
      * {@link java.util.List}&lt;{@link info.archinnov.achilles.type.TypedMap}&gt;, {@link com.datastax.driver.core.ExecutionInfo}&gt;&gt;
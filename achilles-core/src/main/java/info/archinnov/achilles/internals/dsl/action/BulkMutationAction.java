@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.dsl.action;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import info.archinnov.achilles.exception.AchillesBulkMutationException;
+import info.archinnov.achilles.internals.dsl.AsyncAware;
+import info.archinnov.achilles.type.BulkMutationResult;
+import info.archinnov.achilles.type.Empty;
+
+public interface BulkMutationAction<ENTITY> extends AsyncAware {
+
+    /**
+     * Execute the bulk INSERT/UPDATE/DELETE action.
+     * If any mutation fails, an {@link info.archinnov.achilles.exception.AchillesBulkMutationException}
+     * is raised once all the other mutations are done
+     */
+    default void execute() {
+        try {
+            Uninterruptibles.getUninterruptibly(executeAsync());
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Execute the bulk INSERT/UPDATE/DELETE action
+     * and return a {@link info.archinnov.achilles.type.BulkMutationResult} object.
+     * Failed mutations are reported in the result, no exception is raised
+     */
+    default BulkMutationResult<ENTITY> executeWithStats() {
+        try {
+            return Uninterruptibles.getUninterruptibly(executeAsyncWithStats());
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Execute the bulk INSERT/UPDATE/DELETE action asynchronously
+     * and return a {@link java.util.concurrent.CompletableFuture}
+     * of {@link info.archinnov.achilles.type.Empty} object.
+     * The future completes exceptionally with an {@link info.archinnov.achilles.exception.AchillesBulkMutationException}
+     * if any mutation fails
+     */
+    default CompletableFuture<Empty> executeAsync() {
+        return executeAsyncWithStats()
+                .thenApply(result -> {
+                    if (result.hasFailures()) {
+                        throw new AchillesBulkMutationException(result);
+                    }
+                    return Empty.INSTANCE;
+                });
+    }
+
+    /**
+     * Execute the bulk INSERT/UPDATE/DELETE action asynchronously
+     * and return a {@link java.util.concurrent.CompletableFuture}
+     * of {@link info.archinnov.achilles.type.BulkMutationResult} object.
+     * The future never completes exceptionally because of a failed mutation
+     */
+    CompletableFuture<BulkMutationResult<ENTITY>> executeAsyncWithStats();
+
+}
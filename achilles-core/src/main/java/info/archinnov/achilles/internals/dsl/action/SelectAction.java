@@ -20,6 +20,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+
+import org.reactivestreams.Publisher;
 
 import com.datastax.driver.core.ExecutionInfo;
 import com.google.common.util.concurrent.Uninterruptibles;
@@ -45,6 +48,27 @@ public interface SelectAction<ENTITY> extends AsyncAware {
      */
     Tuple2<Iterator<ENTITY>, ExecutionInfo> iteratorWithExecutionInfo();
 
+    /**
+     * Return a {@link org.reactivestreams.Publisher}&lt;ENTITY&gt; of entity instances.
+     * <br/>
+     * The SELECT action is executed when the subscriber first requests items and the
+     * following pages are fetched asynchronously, only when required by the subscriber demand.
+     * Cancelling the subscription stops fetching further pages
+     */
+    Publisher<ENTITY> publisher();
+
+    /**
+     * Execute the SELECT action when the terminal operation starts
+     * and return a {@link java.util.stream.Stream}&lt;ENTITY&gt; of entity instances.
+     * <br/>
+     * The stream splits at page boundaries: with <strong>.parallel()</strong>, the rows of a page are
+     * mapped to entities on several threads while the next page is being fetched.
+     * Row listeners and interceptors may then be called concurrently
+     * <br/>
+     * WARNING: <strong>the terminal operation blocks at each page boundary if the next page has not been received yet</strong>
+     */
+    Stream<ENTITY> stream();
+
     /**
      * Execute the SELECT action
      * and return the first entity instance
@@ -124,4 +148,33 @@ public interface SelectAction<ENTITY> extends AsyncAware {
      * a list of entity instances with {@link com.datastax.driver.core.ExecutionInfo}
      */
     CompletableFuture<Tuple2<List<ENTITY>, ExecutionInfo>> getListAsyncWithStats();
+
+    /**
+     * Execute the SELECT action asynchronously
+     * and return a {@link java.util.concurrent.CompletableFuture} of
+     * the list of <strong>all</strong> entity instances, fetching asynchronously all the result pages
+     * <br/>
+     * WARNING: <strong>all the rows are kept in memory, use {@link #getListAsync(int)} to put an upper bound</strong>
+     */
+    default CompletableFuture<List<ENTITY>> getAllAsync() {
+        return getListAsync(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Execute the SELECT action asynchronously
+     * and return a {@link java.util.concurrent.CompletableFuture} of
+     * a list of at most <strong>maxRows</strong> entity instances, fetching asynchronously
+     * the following result pages if needed
+     */
+    default CompletableFuture<List<ENTITY>> getListAsync(int maxRows) {
+        return getListAsyncWithStats(maxRows).thenApply(Tuple2::_1);
+    }
+
+    /**
+     * Execute the SELECT action asynchronously
+     * and return a {@link java.util.concurrent.CompletableFuture} of
+     * a list of at most <strong>maxRows</strong> entity instances with the {@link com.datastax.driver.core.ExecutionInfo}
+     * of the last fetched page. The following result pages are fetched asynchronously if needed
+     */
+    CompletableFuture<Tuple2<List<ENTITY>, ExecutionInfo>> getListAsyncWithStats(int maxRows);
 }
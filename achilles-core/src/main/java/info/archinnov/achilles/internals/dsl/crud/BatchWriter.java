@@ -0,0 +1,389 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.dsl.crud;
+
+import static info.archinnov.achilles.type.interceptor.Event.*;
+import static info.archinnov.achilles.validation.Validator.validateTrue;
+import static java.lang.String.format;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.*;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import info.archinnov.achilles.internals.dsl.AsyncAware;
+import info.archinnov.achilles.internals.dsl.StatementProvider;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.type.Empty;
+import info.archinnov.achilles.type.interceptor.Event;
+
+/**
+ * Write entities using <strong>UNLOGGED</strong> batches grouped by partition.
+ * <br/>
+ * <br/>
+ * Statements generated from {@link InsertWithOptions} and {@link UpdateWithOptions} are grouped by
+ * routing key so that each batch targets a single partition, which is the cheapest write path for Cassandra.
+ * A group is flushed as soon as one of the following thresholds is hit:
+ * <ul>
+ * <li>the number of statements reaches {@link #withMaxStatementsPerBatch(int)}</li>
+ * <li>the size of the bound values reaches {@link #withMaxBytesPerBatch(int)}</li>
+ * <li>the first statement of the group has waited for {@link #withLingerTime(long, TimeUnit)}</li>
+ * </ul>
+ * Interceptors are triggered for each entity as for a normal INSERT/UPDATE.
+ * Lightweight transactions cannot be mixed with other statements in a batch so
+ * they are executed individually, their LWT result listeners being triggered as usual.
+ * Statements having a <em>resultSetAsyncListener</em> are also executed individually so that
+ * the listener receives their own result set.
+ * Statements whose routing key cannot be computed are never grouped: each of them is sent on its own
+ * rather than in a multi-partition batch.
+ * <br/>
+ * <br/>
+ * The consistency level and retry policy of a batch are taken from its first statement.
+ * <br/>
+ * <br/>
+ * Always call {@link #close()} (or use a <em>try-with-resources</em> block) to flush the remaining statements
+ * <pre class="code"><code class="java">
+ * try (BatchWriter&lt;User&gt; writer = manager.batchWriter()) {
+ *     for (User user : users) {
+ *         writer.add(manager.crud().insert(user));
+ *     }
+ * }
+ * </code></pre>
+ */
+public class BatchWriter<ENTITY> implements AutoCloseable, AsyncAware {
+
+    /**
+     * Default maximum number of statements in a batch
+     */
+    public static final int DEFAULT_MAX_STATEMENTS_PER_BATCH = 20;
+
+    /**
+     * Default maximum size of bound values in a batch, kept below the default
+     * Cassandra <em>batch_size_warn_threshold_in_kb</em> (5kb)
+     */
+    public static final int DEFAULT_MAX_BYTES_PER_BATCH = 4 * 1024;
+
+    /**
+     * Default maximum waiting time in milliseconds for a statement before its batch is flushed
+     */
+    public static final long DEFAULT_LINGER_TIME_IN_MILLIS = 10L;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchWriter.class);
+    private static final AtomicInteger WRITER_NUMBER = new AtomicInteger(0);
+
+    private final AbstractEntityProperty<ENTITY> meta;
+    private final RuntimeEngine rte;
+    private final ProtocolVersion protocolVersion;
+    private final CodecRegistry codecRegistry;
+    private final Map<ByteBuffer, PendingBatch> pendingBatches = new HashMap<>();
+    private final Set<CompletableFuture<?>> inFlight = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler;
+
+    private int maxStatementsPerBatch = DEFAULT_MAX_STATEMENTS_PER_BATCH;
+    private int maxBytesPerBatch = DEFAULT_MAX_BYTES_PER_BATCH;
+    private long lingerTimeInMillis = DEFAULT_LINGER_TIME_IN_MILLIS;
+    private boolean closed = false;
+
+    public BatchWriter(AbstractEntityProperty<ENTITY> meta, RuntimeEngine rte) {
+        this.meta = meta;
+        this.rte = rte;
+        final Configuration configuration = rte.getCluster().getConfiguration();
+        this.protocolVersion = configuration.getProtocolOptions().getProtocolVersion();
+        this.codecRegistry = configuration.getCodecRegistry();
+        final String threadName = "achilles-batch-writer-" + WRITER_NUMBER.incrementAndGet();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Flush a batch as soon as it contains <strong>maxStatementsPerBatch</strong> statements.
+     * Default value = {@link #DEFAULT_MAX_STATEMENTS_PER_BATCH}
+     */
+    public synchronized BatchWriter<ENTITY> withMaxStatementsPerBatch(int maxStatementsPerBatch) {
+        validateTrue(maxStatementsPerBatch > 0, "Max statements per batch should be strictly positive");
+        this.maxStatementsPerBatch = maxStatementsPerBatch;
+        return this;
+    }
+
+    /**
+     * Flush a batch as soon as its bound values reach <strong>maxBytesPerBatch</strong> bytes.
+     * Default value = {@link #DEFAULT_MAX_BYTES_PER_BATCH}
+     */
+    public synchronized BatchWriter<ENTITY> withMaxBytesPerBatch(int maxBytesPerBatch) {
+        validateTrue(maxBytesPerBatch > 0, "Max bytes per batch should be strictly positive");
+        this.maxBytesPerBatch = maxBytesPerBatch;
+        return this;
+    }
+
+    /**
+     * Flush a batch at the latest <strong>lingerTime</strong> after its first statement has been added.
+     * Default value = {@link #DEFAULT_LINGER_TIME_IN_MILLIS} milliseconds
+     */
+    public synchronized BatchWriter<ENTITY> withLingerTime(long lingerTime, TimeUnit timeUnit) {
+        validateTrue(lingerTime > 0, "Linger time should be strictly positive");
+        this.lingerTimeInMillis = timeUnit.toMillis(lingerTime);
+        return this;
+    }
+
+    /**
+     * Add an INSERT to this writer
+     *
+     * @return a {@link java.util.concurrent.CompletableFuture} completed once the batch containing this INSERT is executed
+     */
+    public CompletableFuture<ExecutionInfo> add(InsertWithOptions<ENTITY> insert) {
+        if (insert.isLightWeightTransaction() || insert.getOptions().getResultSetAsyncListeners().isPresent()) {
+            return track(insert.executeAsyncWithStats());
+        }
+        return addStatement(insert, insert.getInstance(), PRE_INSERT, POST_INSERT);
+    }
+
+    /**
+     * Add an UPDATE to this writer
+     *
+     * @return a {@link java.util.concurrent.CompletableFuture} completed once the batch containing this UPDATE is executed
+     */
+    public CompletableFuture<ExecutionInfo> add(UpdateWithOptions<ENTITY> update) {
+        if (update.isLightWeightTransaction() || update.getOptions().getResultSetAsyncListeners().isPresent()) {
+            return track(update.executeAsyncWithStats());
+        }
+        return addStatement(update, update.getInstance(), PRE_UPDATE, POST_UPDATE);
+    }
+
+    /**
+     * Flush all pending batches asynchronously
+     *
+     * @return a {@link java.util.concurrent.CompletableFuture} completed once all the statements
+     * added so far are executed. Failures are reported through the futures returned by the <em>add()</em> methods
+     */
+    public CompletableFuture<Empty> flushAsync() {
+        final List<PendingBatch> batches;
+        synchronized (this) {
+            batches = new ArrayList<>(pendingBatches.values());
+            pendingBatches.clear();
+            batches.forEach(this::markInFlight);
+        }
+
+        batches.forEach(this::execute);
+
+        final CompletableFuture<?>[] futures = inFlight.toArray(new CompletableFuture<?>[0]);
+        return CompletableFuture.allOf(futures).handle((x, throwable) -> Empty.INSTANCE);
+    }
+
+    /**
+     * Flush all pending batches and wait for their completion
+     */
+    public void flush() {
+        try {
+            Uninterruptibles.getUninterruptibly(flushAsync());
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Flush all pending batches, wait for their completion and release this writer resources.
+     * Statements can no longer be added once the writer is closed
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        try {
+            flush();
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private CompletableFuture<ExecutionInfo> addStatement(StatementProvider statementProvider, ENTITY instance, Event preEvent, Event postEvent) {
+        meta.triggerInterceptorsForEvent(preEvent, instance);
+
+        final BoundStatement boundStatement = statementProvider.generateAndGetBoundStatement();
+        final PendingStatement pendingStatement = new PendingStatement(boundStatement, estimateSize(boundStatement),
+                () -> meta.triggerInterceptorsForEvent(postEvent, instance));
+        final ByteBuffer routingKey = boundStatement.getRoutingKey(protocolVersion, codecRegistry);
+
+        PendingBatch batchToFlush = null;
+        synchronized (this) {
+            validateTrue(!closed, "Cannot add statements to a closed BatchWriter");
+            if (routingKey == null) {
+                batchToFlush = markInFlight(new PendingBatch(null));
+                batchToFlush.add(pendingStatement);
+            } else {
+                batchToFlush = addToPendingBatch(routingKey, pendingStatement);
+            }
+        }
+
+        if (batchToFlush != null) {
+            execute(batchToFlush);
+        }
+        return pendingStatement.future;
+    }
+
+    private PendingBatch addToPendingBatch(ByteBuffer routingKey, PendingStatement pendingStatement) {
+        final PendingBatch pendingBatch = pendingBatches.computeIfAbsent(routingKey, PendingBatch::new);
+        pendingBatch.add(pendingStatement);
+        if (pendingBatch.statements.size() >= maxStatementsPerBatch || pendingBatch.bytes >= maxBytesPerBatch) {
+            pendingBatches.remove(routingKey);
+            return markInFlight(pendingBatch);
+        } else if (pendingBatch.statements.size() == 1) {
+            pendingBatch.lingerTask = scheduler.schedule(() -> flushOnLingerTime(pendingBatch), lingerTimeInMillis, TimeUnit.MILLISECONDS);
+        }
+        return null;
+    }
+
+    private void flushOnLingerTime(PendingBatch pendingBatch) {
+        synchronized (this) {
+            if (pendingBatches.get(pendingBatch.routingKey) != pendingBatch) {
+                return;
+            }
+            pendingBatches.remove(pendingBatch.routingKey);
+            markInFlight(pendingBatch);
+        }
+        execute(pendingBatch);
+    }
+
+    /**
+     * Must be called while holding the lock that removes the batch from the pending ones,
+     * so that a concurrent flush never sees a batch that is neither pending nor in-flight
+     */
+    private PendingBatch markInFlight(PendingBatch pendingBatch) {
+        track(pendingBatch.done);
+        return pendingBatch;
+    }
+
+    private void execute(PendingBatch pendingBatch) {
+        if (pendingBatch.lingerTask != null) {
+            pendingBatch.lingerTask.cancel(false);
+        }
+
+        final List<PendingStatement> statements = pendingBatch.statements;
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Flushing %s statement(s) and %s byte(s) for entity %s",
+                    statements.size(), pendingBatch.bytes, meta.entityClass.getCanonicalName()));
+        }
+
+        meta.getEntityCache().ifPresent(entityCache -> statements.forEach(statement -> entityCache.invalidate(statement.boundStatement)));
+
+        final CompletableFuture<ResultSet> futureRS;
+        try {
+            futureRS = (statements.size() == 1
+                    ? rte.execute(statements.get(0).boundStatement)
+                    : rte.execute(toUnloggedBatch(statements)))
+                    .whenComplete((rs, throwable) -> meta.getEntityCache()
+                            .ifPresent(entityCache -> statements.forEach(statement -> entityCache.invalidate(statement.boundStatement))));
+        } catch (Throwable throwable) {
+            statements.forEach(statement -> statement.future.completeExceptionally(throwable));
+            pendingBatch.done.complete(Empty.INSTANCE);
+            return;
+        }
+
+        futureRS.whenComplete((rs, throwable) -> {
+            for (PendingStatement statement : statements) {
+                if (throwable != null) {
+                    statement.future.completeExceptionally(throwable);
+                } else {
+                    try {
+                        statement.postExecution.run();
+                        statement.future.complete(rs.getExecutionInfo());
+                    } catch (Throwable postExecutionFailure) {
+                        statement.future.completeExceptionally(postExecutionFailure);
+                    }
+                }
+            }
+            pendingBatch.done.complete(Empty.INSTANCE);
+        });
+    }
+
+    private static BatchStatement toUnloggedBatch(List<PendingStatement> statements) {
+        final BatchStatement batchStatement = new BatchStatement(BatchStatement.Type.UNLOGGED);
+        statements.forEach(statement -> batchStatement.add(statement.boundStatement));
+        final BoundStatement first = statements.get(0).boundStatement;
+        if (first.getConsistencyLevel() != null) {
+            batchStatement.setConsistencyLevel(first.getConsistencyLevel());
+        }
+        if (first.getSerialConsistencyLevel() != null) {
+            batchStatement.setSerialConsistencyLevel(first.getSerialConsistencyLevel());
+        }
+        if (first.getRetryPolicy() != null) {
+            batchStatement.setRetryPolicy(first.getRetryPolicy());
+        }
+        return batchStatement;
+    }
+
+    private <T> CompletableFuture<T> track(CompletableFuture<T> future) {
+        inFlight.add(future);
+        future.whenComplete((x, throwable) -> inFlight.remove(future));
+        return future;
+    }
+
+    private static int estimateSize(BoundStatement boundStatement) {
+        int size = 0;
+        final int variablesCount = boundStatement.preparedStatement().getVariables().size();
+        for (int i = 0; i < variablesCount; i++) {
+            if (boundStatement.isSet(i)) {
+                final ByteBuffer value = boundStatement.getBytesUnsafe(i);
+                size += value == null ? 0 : value.remaining();
+            }
+        }
+        return size;
+    }
+
+    private static class PendingStatement {
+        private final BoundStatement boundStatement;
+        private final int bytes;
+        private final Runnable postExecution;
+        private final CompletableFuture<ExecutionInfo> future = new CompletableFuture<>();
+
+        private PendingStatement(BoundStatement boundStatement, int bytes, Runnable postExecution) {
+            this.boundStatement = boundStatement;
+            this.bytes = bytes;
+            this.postExecution = postExecution;
+        }
+    }
+
+    private static class PendingBatch {
+        private final ByteBuffer routingKey;
+        private final List<PendingStatement> statements = new ArrayList<>();
+        private final CompletableFuture<Empty> done = new CompletableFuture<>();
+        private int bytes = 0;
+        private ScheduledFuture<?> lingerTask;
+
+        private PendingBatch(ByteBuffer routingKey) {
+            this.routingKey = routingKey;
+        }
+
+        private void add(PendingStatement statement) {
+            statements.add(statement);
+            bytes += statement.bytes;
+        }
+    }
+}
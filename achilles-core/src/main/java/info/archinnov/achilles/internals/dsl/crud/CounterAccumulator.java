@@ -0,0 +1,305 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.dsl.crud;
+
+import static info.archinnov.achilles.validation.Validator.validateNotNull;
+import static info.archinnov.achilles.validation.Validator.validateTrue;
+import static java.lang.String.format;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import info.archinnov.achilles.internals.dsl.AsyncAware;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractProperty;
+import info.archinnov.achilles.internals.metamodel.columns.ColumnType;
+import info.archinnov.achilles.internals.runtime.BeanValueExtractor;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.internals.statements.PreparedStatementGenerator;
+import info.archinnov.achilles.type.Empty;
+
+/**
+ * Client-side buffer coalescing increments of counter columns.
+ * <br/>
+ * <br/>
+ * Increments are accumulated in memory per primary key and written as a single counter
+ * UPDATE per primary key every <strong>flushInterval</strong> or as soon as
+ * <strong>maxPendingKeys</strong> distinct primary keys are pending. For hot counters this
+ * reduces the write rate on the cluster by orders of magnitude, at the expense of a delayed
+ * visibility of the increments.
+ * <br/>
+ * <br/>
+ * Static counters are accumulated along with the other counters. An UPDATE incrementing
+ * only static counters is restricted to the partition key.
+ * <br/>
+ * <br/>
+ * Remaining increments are flushed when the accumulator is closed or, at the latest,
+ * when the ManagerFactory is shut down. Failed flushes are logged and <strong>not</strong>
+ * retried since counter updates are not idempotent
+ * <pre class="code"><code class="java">
+ * CounterAccumulator&lt;PageViews&gt; accumulator = manager.counterAccumulator();
+ *
+ * // counter fields hold the deltas, null fields are ignored
+ * accumulator.increment(new PageViews(pageId, 1L));
+ * </code></pre>
+ */
+public class CounterAccumulator<ENTITY> implements AutoCloseable, AsyncAware {
+
+    /**
+     * Default flush interval in milliseconds
+     */
+    public static final long DEFAULT_FLUSH_INTERVAL_IN_MILLIS = 1000L;
+
+    /**
+     * Default number of pending primary keys triggering a flush
+     */
+    public static final int DEFAULT_MAX_PENDING_KEYS = 10_000;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CounterAccumulator.class);
+    private static final AtomicInteger ACCUMULATOR_NUMBER = new AtomicInteger(0);
+
+    private final AbstractEntityProperty<ENTITY> meta;
+    private final RuntimeEngine rte;
+    private final List<AbstractProperty<ENTITY, ?, ?>> counterColumns;
+    private final BitSet staticCounterColumns;
+    private final int maxPendingKeys;
+    private final ScheduledExecutorService scheduler;
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final AtomicBoolean flushTriggered = new AtomicBoolean(false);
+    private final Map<BitSet, PreparedStatement> preparedStatements = new ConcurrentHashMap<>();
+    private volatile ConcurrentHashMap<List<Object>, PendingCounters> pending = new ConcurrentHashMap<>();
+    private boolean closed = false;
+
+    public CounterAccumulator(AbstractEntityProperty<ENTITY> meta, RuntimeEngine rte, long flushInterval, TimeUnit timeUnit, int maxPendingKeys) {
+        validateTrue(flushInterval > 0, "Flush interval should be strictly positive");
+        validateTrue(maxPendingKeys > 0, "Max pending keys should be strictly positive");
+        this.meta = meta;
+        this.rte = rte;
+        this.counterColumns = new ArrayList<>(meta.counterColumns);
+        meta.staticColumns
+                .stream()
+                .filter(x -> x.fieldInfo.columnType == ColumnType.STATIC_COUNTER)
+                .forEach(this.counterColumns::add);
+        this.staticCounterColumns = new BitSet(counterColumns.size());
+        for (int i = 0; i < counterColumns.size(); i++) {
+            if (counterColumns.get(i).fieldInfo.columnType == ColumnType.STATIC_COUNTER) {
+                staticCounterColumns.set(i);
+            }
+        }
+        this.maxPendingKeys = maxPendingKeys;
+        final String threadName = "achilles-counter-accumulator-" + ACCUMULATOR_NUMBER.incrementAndGet();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::scheduledFlush, flushInterval, flushInterval, timeUnit);
+        rte.registerForShutdown(this);
+    }
+
+    /**
+     * Accumulate the values of all non-null counter fields of this instance
+     * for its primary key. Negative values decrement the counters
+     *
+     * @param instance an entity instance with its primary key set and counter fields holding the deltas
+     */
+    public void increment(ENTITY instance) {
+        validateNotNull(instance, "Entity holding counter increments should not be null");
+
+        final Object[] encodedPrimaryKey = BeanValueExtractor.extractPrimaryKeyValues(instance, meta, Optional.empty())._2();
+        for (Object encodedValue : encodedPrimaryKey) {
+            validateNotNull(encodedValue, "Primary key columns of entity %s should not be null", instance);
+        }
+
+        final long[] deltas = new long[counterColumns.size()];
+        for (int i = 0; i < deltas.length; i++) {
+            final Object value = counterColumns.get(i).getFieldValue(instance);
+            deltas[i] = value == null ? 0L : ((Number) value).longValue();
+        }
+
+        final int pendingKeys;
+        swapLock.readLock().lock();
+        try {
+            validateTrue(!closed, "Cannot increment counters on a closed CounterAccumulator");
+            final ConcurrentHashMap<List<Object>, PendingCounters> current = pending;
+            final PendingCounters counters = current
+                    .computeIfAbsent(Arrays.asList(encodedPrimaryKey), key -> new PendingCounters(encodedPrimaryKey, deltas.length));
+            for (int i = 0; i < deltas.length; i++) {
+                if (deltas[i] != 0L) {
+                    counters.deltas[i].add(deltas[i]);
+                }
+            }
+            pendingKeys = current.size();
+        } finally {
+            swapLock.readLock().unlock();
+        }
+
+        if (pendingKeys >= maxPendingKeys && flushTriggered.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                flushTriggered.set(false);
+                scheduledFlush();
+            });
+        }
+    }
+
+    /**
+     * Write all pending increments asynchronously, one counter UPDATE per primary key
+     *
+     * @return a {@link java.util.concurrent.CompletableFuture} completed once all the UPDATEs are executed
+     */
+    public CompletableFuture<Empty> flushAsync() {
+        final ConcurrentHashMap<List<Object>, PendingCounters> toFlush;
+        swapLock.writeLock().lock();
+        try {
+            toFlush = pending;
+            pending = new ConcurrentHashMap<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        if (toFlush.isEmpty()) {
+            return CompletableFuture.completedFuture(Empty.INSTANCE);
+        }
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Flushing counter increments of %s primary key(s) for entity %s",
+                    toFlush.size(), meta.entityClass.getCanonicalName()));
+        }
+
+        final List<CompletableFuture<?>> futures = new ArrayList<>(toFlush.size());
+        for (PendingCounters counters : toFlush.values()) {
+            final BitSet changedColumns = new BitSet(counterColumns.size());
+            final List<Object> values = new ArrayList<>();
+            for (int i = 0; i < counters.deltas.length; i++) {
+                final long delta = counters.deltas[i].sum();
+                if (delta != 0L) {
+                    changedColumns.set(i);
+                    values.add(delta);
+                }
+            }
+            if (changedColumns.isEmpty()) {
+                continue;
+            }
+            if (isStaticCountersOnly(changedColumns)) {
+                values.addAll(Arrays.asList(counters.encodedPrimaryKey).subList(0, meta.partitionKeys.size()));
+            } else {
+                values.addAll(Arrays.asList(counters.encodedPrimaryKey));
+            }
+
+            final BoundStatement boundStatement = getPreparedStatement(changedColumns).bind(values.toArray());
+            boundStatement.setConsistencyLevel(meta.writeConsistency(Optional.empty()));
+            meta.getEntityCache().ifPresent(entityCache -> entityCache.invalidate(boundStatement));
+            futures.add(rte.execute(boundStatement).whenComplete((rs, throwable) -> {
+                meta.getEntityCache().ifPresent(entityCache -> entityCache.invalidate(boundStatement));
+                if (throwable != null) {
+                    LOGGER.error(format("Fail to flush counter increments %s for primary key %s of entity %s : %s",
+                            values.subList(0, changedColumns.cardinality()), Arrays.toString(counters.encodedPrimaryKey),
+                            meta.entityClass.getCanonicalName(), throwable.getMessage()), throwable);
+                }
+            }));
+        }
+
+        return CompletableFuture
+                .allOf(futures.toArray(new CompletableFuture<?>[futures.size()]))
+                .thenApply(x -> Empty.INSTANCE);
+    }
+
+    /**
+     * Write all pending increments and wait for completion
+     */
+    public void flush() {
+        try {
+            Uninterruptibles.getUninterruptibly(flushAsync());
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Stop the periodic flush and write all pending increments.
+     * Counters can no longer be incremented once the accumulator is closed
+     */
+    @Override
+    public void close() {
+        swapLock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        rte.unregisterForShutdown(this);
+        scheduler.shutdownNow();
+        flush();
+    }
+
+    private void scheduledFlush() {
+        try {
+            flushAsync();
+        } catch (Throwable throwable) {
+            // Never let an exception cancel the periodic flush
+            LOGGER.error(format("Fail to flush counter increments for entity %s : %s",
+                    meta.entityClass.getCanonicalName(), throwable.getMessage()), throwable);
+        }
+    }
+
+    private boolean isStaticCountersOnly(BitSet changedColumns) {
+        final BitSet nonStaticColumns = (BitSet) changedColumns.clone();
+        nonStaticColumns.andNot(staticCounterColumns);
+        return nonStaticColumns.isEmpty();
+    }
+
+    private PreparedStatement getPreparedStatement(BitSet changedColumns) {
+        return preparedStatements.computeIfAbsent(changedColumns, columns -> {
+            final List<AbstractProperty<?, ?, ?>> columnsToIncrement = new ArrayList<>(columns.cardinality());
+            columns.stream().forEach(index -> columnsToIncrement.add(counterColumns.get(index)));
+            return rte.prepareDynamicQuery(PreparedStatementGenerator.generateCounterIncrement(meta, columnsToIncrement));
+        });
+    }
+
+    @Override
+    public String toString() {
+        return format("CounterAccumulator{entity=%s}", meta.entityClass.getCanonicalName());
+    }
+
+    private static class PendingCounters {
+        private final Object[] encodedPrimaryKey;
+        private final LongAdder[] deltas;
+
+        private PendingCounters(Object[] encodedPrimaryKey, int counterColumnsCount) {
+            this.encodedPrimaryKey = encodedPrimaryKey;
+            this.deltas = new LongAdder[counterColumnsCount];
+            for (int i = 0; i < counterColumnsCount; i++) {
+                this.deltas[i] = new LongAdder();
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.dsl.crud;
+
+import static info.archinnov.achilles.internals.dsl.BulkMutationHelper.DEFAULT_MAX_IN_FLIGHT;
+import static info.archinnov.achilles.validation.Validator.validateTrue;
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import info.archinnov.achilles.internals.dsl.BulkMutationHelper;
+import info.archinnov.achilles.internals.dsl.action.BulkMutationAction;
+import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForUpdateOrDelete;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.type.BulkMutationResult;
+
+public class DeleteAllWithOptions<ENTITY> extends AbstractOptionsForUpdateOrDelete<DeleteAllWithOptions<ENTITY>>
+        implements BulkMutationAction<ENTITY> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeleteAllWithOptions.class);
+
+    private final List<ENTITY> instances;
+    private final BiFunction<ENTITY, Optional<CassandraOptions>, DeleteWithOptions<ENTITY>> mutationFactory;
+    private final CassandraOptions options;
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+    private Optional<Boolean> ifExists = Optional.empty();
+
+    public DeleteAllWithOptions(Collection<ENTITY> instances,
+                                BiFunction<ENTITY, Optional<CassandraOptions>, DeleteWithOptions<ENTITY>> mutationFactory,
+                                Optional<CassandraOptions> cassandraOptions) {
+        this.instances = new ArrayList<>(instances);
+        this.mutationFactory = mutationFactory;
+        this.options = cassandraOptions.orElse(new CassandraOptions());
+    }
+
+    /**
+     * Set the maximum number of mutations pending at the same time.
+     * Default value = {@link info.archinnov.achilles.internals.dsl.BulkMutationHelper#DEFAULT_MAX_IN_FLIGHT}
+     */
+    public DeleteAllWithOptions<ENTITY> withMaxInFlight(int maxInFlight) {
+        validateTrue(maxInFlight > 0, "Max in flight for bulk mutation should be strictly positive");
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    /**
+     * Generate a ... <strong>IF EXISTS</strong> if true
+     */
+    public DeleteAllWithOptions<ENTITY> ifExists(boolean ifExists) {
+        this.ifExists = Optional.of(ifExists);
+        return this;
+    }
+
+    /**
+     * Generate a ... <strong>IF EXISTS</strong>
+     */
+    public DeleteAllWithOptions<ENTITY> ifExists() {
+        this.ifExists = Optional.of(true);
+        return this;
+    }
+
+    @Override
+    public CompletableFuture<BulkMutationResult<ENTITY>> executeAsyncWithStats() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Execute bulk delete async for %s entities", instances.size()));
+        }
+
+        return BulkMutationHelper.executeBulk(instances, maxInFlight, instance -> {
+            final DeleteWithOptions<ENTITY> mutation = mutationFactory.apply(instance, Optional.of(options));
+            ifExists.ifPresent(mutation::ifExists);
+            lwtResultListeners.ifPresent(mutation::withLwtResultListeners);
+            return mutation.executeAsyncWithStats();
+        });
+    }
+
+    @Override
+    protected CassandraOptions getOptions() {
+        return options;
+    }
+
+    @Override
+    protected DeleteAllWithOptions<ENTITY> getThis() {
+        return this;
+    }
+}
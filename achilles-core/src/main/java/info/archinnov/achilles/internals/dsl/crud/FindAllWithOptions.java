@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.dsl.crud;
+
+import static info.archinnov.achilles.internals.cache.CacheKey.Operation.FIND;
+import static info.archinnov.achilles.validation.Validator.validateTrue;
+import static java.lang.String.format;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.*;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import info.archinnov.achilles.internals.dsl.AsyncAware;
+import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForSelect;
+import info.archinnov.achilles.internals.futures.FutureUtils;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
+import info.archinnov.achilles.internals.statements.OperationType;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.type.tuples.Tuple2;
+
+/**
+ * Load many entities by their complete primary key.
+ * <br/>
+ * <br/>
+ * Keys are grouped by their primary replica using the cluster token metadata,
+ * each group being queried concurrently with at most <strong>maxInFlightPerHost</strong>
+ * pending requests so that a large fan-out does not overload a single node
+ * nor exhaust the driver per-connection request limits.
+ * <br/>
+ * <br/>
+ * Entities are returned in the same order as the provided primary keys,
+ * with <strong>null</strong> for keys that do not match any row
+ */
+public class FindAllWithOptions<ENTITY> extends AbstractOptionsForSelect<FindAllWithOptions<ENTITY>>
+        implements AsyncAware {
+
+    /**
+     * Default maximum number of pending requests per replica
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT_PER_HOST = 32;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FindAllWithOptions.class);
+
+    private final AbstractEntityProperty<ENTITY> meta;
+    private final RuntimeEngine rte;
+    private final List<Object[]> primaryKeyValues;
+    private final List<Object[]> encodedPrimaryKeyValues;
+    private final CassandraOptions options;
+    private int maxInFlightPerHost = DEFAULT_MAX_IN_FLIGHT_PER_HOST;
+
+    public FindAllWithOptions(AbstractEntityProperty<ENTITY> meta, RuntimeEngine rte,
+                              List<Object[]> primaryKeyValues, List<Object[]> encodedPrimaryKeyValues,
+                              Optional<CassandraOptions> cassandraOptions) {
+        this.meta = meta;
+        this.rte = rte;
+        this.primaryKeyValues = primaryKeyValues;
+        this.encodedPrimaryKeyValues = encodedPrimaryKeyValues;
+        this.options = cassandraOptions.orElse(new CassandraOptions());
+    }
+
+    /**
+     * Set the maximum number of pending requests per replica.
+     * Default value = {@link #DEFAULT_MAX_IN_FLIGHT_PER_HOST}
+     */
+    public FindAllWithOptions<ENTITY> withMaxInFlightPerHost(int maxInFlightPerHost) {
+        validateTrue(maxInFlightPerHost > 0, "Max in flight per host should be strictly positive");
+        this.maxInFlightPerHost = maxInFlightPerHost;
+        return this;
+    }
+
+    public List<ENTITY> get() {
+        try {
+            return Uninterruptibles.getUninterruptibly(getAsync());
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    public Tuple2<List<ENTITY>, List<ExecutionInfo>> getWithStats() {
+        try {
+            return Uninterruptibles.getUninterruptibly(getAsyncWithStats());
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    public CompletableFuture<List<ENTITY>> getAsync() {
+        return getAsyncWithStats().thenApply(tuple2 -> tuple2._1());
+    }
+
+    public CompletableFuture<Tuple2<List<ENTITY>, List<ExecutionInfo>>> getAsyncWithStats() {
+        final int keysCount = primaryKeyValues.size();
+        final List<StatementWrapper> statementWrappers = getInternalBoundStatementWrappers();
+        final Collection<List<Integer>> indicesByReplica = groupIndicesByReplica(statementWrappers);
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Find all async with execution info for %s primary keys on %s replica(s)",
+                    keysCount, indicesByReplica.size()));
+        }
+
+        final List<CompletableFuture<List<CompletableFuture<Tuple2<ENTITY, ExecutionInfo>>>>> groups = new ArrayList<>(indicesByReplica.size());
+        for (List<Integer> indices : indicesByReplica) {
+            groups.add(FutureUtils.executeWithMaxInFlight(indices.size(), maxInFlightPerHost,
+                    index -> findOne(statementWrappers.get(indices.get(index)))));
+        }
+
+        return CompletableFuture
+                .allOf(groups.toArray(new CompletableFuture<?>[groups.size()]))
+                .thenApply(done -> {
+                    final List<ENTITY> entities = new ArrayList<>(Collections.nCopies(keysCount, null));
+                    final List<ExecutionInfo> executionInfos = new ArrayList<>(Collections.nCopies(keysCount, null));
+                    int groupIndex = 0;
+                    for (List<Integer> indices : indicesByReplica) {
+                        final List<CompletableFuture<Tuple2<ENTITY, ExecutionInfo>>> results = groups.get(groupIndex++).join();
+                        for (int i = 0; i < indices.size(); i++) {
+                            // join() re-throws the first failure encountered
+                            final Tuple2<ENTITY, ExecutionInfo> tuple2 = results.get(i).join();
+                            entities.set(indices.get(i), tuple2._1());
+                            executionInfos.set(indices.get(i), tuple2._2());
+                        }
+                    }
+                    return Tuple2.of(entities, executionInfos);
+                });
+    }
+
+    @Override
+    protected CassandraOptions getOptions() {
+        return options;
+    }
+
+    @Override
+    protected FindAllWithOptions<ENTITY> getThis() {
+        return this;
+    }
+
+    private CompletableFuture<Tuple2<ENTITY, ExecutionInfo>> findOne(StatementWrapper statementWrapper) {
+        return rte.execute(statementWrapper)
+                .thenApply(statementWrapper.postProcessing(options, options.computeMaxDisplayedResults(rte.configContext), rs -> {
+                    final Row row = rs.one();
+                    options.rowAsyncListener(row);
+                    final ENTITY entity = meta.createEntityFrom(row);
+                    meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+                    return Tuple2.of(entity, rs.getExecutionInfo());
+                }));
+    }
+
+    private List<StatementWrapper> getInternalBoundStatementWrappers() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Get bound statement wrappers"));
+        }
+
+        final PreparedStatement ps = FIND.getPreparedStatement(rte, meta, options);
+        final List<StatementWrapper> statementWrappers = new ArrayList<>(primaryKeyValues.size());
+        for (int i = 0; i < primaryKeyValues.size(); i++) {
+            final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT, meta, ps,
+                    primaryKeyValues.get(i), encodedPrimaryKeyValues.get(i));
+            statementWrapper.applyOptions(options);
+            statementWrappers.add(statementWrapper);
+        }
+        return statementWrappers;
+    }
+
+    /**
+     * Group statement indices by the primary replica owning their partition.
+     * Statements whose routing key cannot be computed are put in a separate group
+     */
+    private Collection<List<Integer>> groupIndicesByReplica(List<StatementWrapper> statementWrappers) {
+        final Cluster cluster = rte.getCluster();
+        final Metadata metadata = cluster.getMetadata();
+        final ProtocolVersion protocolVersion = cluster.getConfiguration().getProtocolOptions().getProtocolVersion();
+        final CodecRegistry codecRegistry = cluster.getConfiguration().getCodecRegistry();
+
+        final Map<Optional<Host>, List<Integer>> indicesByReplica = new LinkedHashMap<>();
+        for (int i = 0; i < statementWrappers.size(); i++) {
+            final BoundStatement boundStatement = statementWrappers.get(i).getBoundStatement();
+            final ByteBuffer routingKey = boundStatement.getRoutingKey(protocolVersion, codecRegistry);
+            final String keyspace = boundStatement.getKeyspace();
+            Optional<Host> replica = Optional.empty();
+            if (routingKey != null && keyspace != null) {
+                replica = metadata.getReplicas(Metadata.quote(keyspace), routingKey).stream().findFirst();
+            }
+            indicesByReplica.computeIfAbsent(replica, key -> new ArrayList<>()).add(i);
+        }
+        return indicesByReplica.values();
+    }
+}
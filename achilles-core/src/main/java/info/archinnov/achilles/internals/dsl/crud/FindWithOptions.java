@@ -32,6 +32,7 @@ import com.datastax.driver.core.*;
 import com.google.common.util.concurrent.Uninterruptibles;
 
 import info.archinnov.achilles.internals.cache.CacheKey;
+import info.archinnov.achilles.internals.cache.EntityCache;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.dsl.AsyncAware;
@@ -86,6 +87,13 @@ public class FindWithOptions<ENTITY> extends AbstractOptionsForSelect<FindWithOp
         return getAsyncWithStats().thenApply(tuple2 -> tuple2._1());
     }
 
+    /**
+     * When an entity cache is configured for the table, the entity is served from memory if present
+     * and no {@link com.datastax.driver.core.ExecutionInfo} is returned (<strong>null</strong>).
+     * <br/>
+     * The entity cache is bypassed when a consistency level, a row listener or a result set listener
+     * is set on this find so that the read always reaches Cassandra
+     */
     public CompletableFuture<Tuple2<ENTITY, ExecutionInfo>> getAsyncWithStats() {
 
         StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
@@ -93,21 +101,44 @@ public class FindWithOptions<ENTITY> extends AbstractOptionsForSelect<FindWithOp
             LOGGER.trace(format("Find async with execution info : %s",
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
+
+        final Optional<EntityCache> entityCache = isEntityCacheBypassed() ? Optional.empty() : meta.getEntityCache();
+        final long invalidationCount = entityCache.map(EntityCache::getInvalidationCount).orElse(0L);
+        if (entityCache.isPresent()) {
+            final Optional<Row> cachedRow = entityCache.get().get(statementWrapper.getBoundStatement());
+            if (cachedRow.isPresent()) {
+                if (LOGGER.isTraceEnabled()) {
+                    LOGGER.trace(format("Found cached entity for primary key %s", Arrays.toString(primaryKeyValues)));
+                }
+                return CompletableFuture.completedFuture(Tuple2.of(mapRowToEntity(cachedRow.get()), null));
+            }
+        }
+
         CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
 
         return futureRS
-                .thenApply(options::resultSetAsyncListener)
-                .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
-                .thenApply(statementWrapper::logTrace)
-                .thenApply(rs -> {
+                .thenApply(statementWrapper.postProcessing(options, options.computeMaxDisplayedResults(rte.configContext), rs -> {
                     final Row row = rs.one();
                     options.rowAsyncListener(row);
-                    return Tuple2.of(meta.createEntityFrom(row), rs.getExecutionInfo());
-                })
-                .thenApply(tuple2 -> {
-                    meta.triggerInterceptorsForEvent(Event.POST_LOAD, tuple2._1());
-                    return tuple2;
-                });
+                    if (row != null && entityCache.isPresent()) {
+                        entityCache.get().put(statementWrapper.getBoundStatement(), row, invalidationCount);
+                    }
+                    return Tuple2.of(mapRowToEntity(row), rs.getExecutionInfo());
+                }));
+    }
+
+    private boolean isEntityCacheBypassed() {
+        // Entities of another keyspace/table provided at runtime are never cached
+        return options.hasSchemaNameProvider()
+                || options.hasCl()
+                || options.getRowAsyncListeners().isPresent()
+                || options.getResultSetAsyncListeners().isPresent();
+    }
+
+    private ENTITY mapRowToEntity(Row row) {
+        final ENTITY entity = meta.createEntityFrom(row);
+        meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+        return entity;
     }
 
     @Override
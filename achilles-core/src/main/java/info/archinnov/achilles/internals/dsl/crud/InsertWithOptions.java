@@ -21,8 +21,8 @@ import static info.archinnov.achilles.internals.dsl.LWTHelper.triggerLWTListener
 import static info.archinnov.achilles.type.interceptor.Event.POST_INSERT;
 import static info.archinnov.achilles.type.interceptor.Event.PRE_INSERT;
 import static java.lang.String.format;
-import static java.util.stream.Collectors.toList;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -109,7 +109,7 @@ public class InsertWithOptions<ENTITY> extends AbstractOptionsForCRUDInsert<Inse
         BoundValuesWrapper wrapper = insertStatic == true
                 ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
                 : meta.extractAllValuesFromEntity(instance, options);
-        return wrapper.boundValuesInfo.stream().map(x -> x.boundValue).collect(toList());
+        return Arrays.asList(wrapper.getBoundValues());
     }
 
     @Override
@@ -117,7 +117,15 @@ public class InsertWithOptions<ENTITY> extends AbstractOptionsForCRUDInsert<Inse
         BoundValuesWrapper wrapper = insertStatic == true
                 ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
                 : meta.extractAllValuesFromEntity(instance, options);
-        return wrapper.boundValuesInfo.stream().map(x -> x.encodedValue).collect(toList());
+        return Arrays.asList(wrapper.getEncodedValues());
+    }
+
+    ENTITY getInstance() {
+        return instance;
+    }
+
+    boolean isLightWeightTransaction() {
+        return ifNotExists.orElse(false);
     }
 
     @Override
@@ -19,8 +19,8 @@ package info.archinnov.achilles.internals.dsl.crud;
 import static info.archinnov.achilles.internals.dsl.LWTHelper.triggerLWTListeners;
 import static info.archinnov.achilles.type.interceptor.Event.*;
 import static java.lang.String.format;
-import static java.util.stream.Collectors.toList;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -108,7 +108,7 @@ public class UpdateWithOptions<ENTITY> extends AbstractOptionsForCRUDUpdate<Upda
         BoundValuesWrapper wrapper = updateStatic == true
                 ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
                 : meta.extractAllValuesFromEntity(instance, options);
-        return wrapper.boundValuesInfo.stream().map(x -> x.boundValue).collect(toList());
+        return Arrays.asList(wrapper.getBoundValues());
     }
 
     @Override
@@ -116,7 +116,15 @@ public class UpdateWithOptions<ENTITY> extends AbstractOptionsForCRUDUpdate<Upda
         BoundValuesWrapper wrapper = updateStatic == true
                 ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
                 : meta.extractAllValuesFromEntity(instance, options);
-        return wrapper.boundValuesInfo.stream().map(x -> x.encodedValue).collect(toList());
+        return Arrays.asList(wrapper.getEncodedValues());
+    }
+
+    ENTITY getInstance() {
+        return instance;
+    }
+
+    boolean isLightWeightTransaction() {
+        return ifExists.orElse(false);
     }
 
     @Override
@@ -140,8 +148,9 @@ public class UpdateWithOptions<ENTITY> extends AbstractOptionsForCRUDUpdate<Upda
     }
 
     private PreparedStatement getInternalPreparedStatement() {
-        return rte.prepareDynamicQuery(PreparedStatementGenerator.generateUpdate(instance, meta, options, updateStatic,
-                (ifExists.isPresent() && ifExists.get() == true)));
+        final boolean lwt = ifExists.isPresent() && ifExists.get() == true;
+        return rte.prepareDynamicQuery(PreparedStatementGenerator.generateUpdateShape(instance, meta, options, updateStatic, lwt),
+                () -> PreparedStatementGenerator.generateUpdate(instance, meta, options, updateStatic, lwt).getQueryString());
     }
 
 
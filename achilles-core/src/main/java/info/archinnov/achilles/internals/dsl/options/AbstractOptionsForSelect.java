@@ -22,6 +22,7 @@ import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import com.datastax.driver.core.ConsistencyLevel;
@@ -31,6 +32,7 @@ import com.datastax.driver.core.Row;
 import com.datastax.driver.core.policies.RetryPolicy;
 
 import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.type.HedgingPolicy;
 
 public abstract class AbstractOptionsForSelect<T extends AbstractOptionsForSelect<T>> {
 
@@ -80,6 +82,16 @@ public abstract class AbstractOptionsForSelect<T extends AbstractOptionsForSelec
         return getThis();
     }
 
+    /**
+     * When iterating over the results, fetch the next page asynchronously as soon as
+     * there are less than <strong>prefetchThreshold</strong> rows left in the current page,
+     * instead of blocking at each page boundary. A value of 0 disables read-ahead
+     */
+    public T withPrefetchThreshold(int prefetchThreshold) {
+        getOptions().setPrefetchThreshold(Optional.of(Integer.max(0, prefetchThreshold)));
+        return getThis();
+    }
+
     /**
      * Hint the current statement as idempotent. Useful for retry strategy
      */
@@ -96,6 +108,24 @@ public abstract class AbstractOptionsForSelect<T extends AbstractOptionsForSelec
         return getThis();
     }
 
+    /**
+     * Hedge the SELECT statement: if no response is received after the given delay, fire a second
+     * identical request and keep the first successful response. Only applied to statements flagged as idempotent
+     */
+    public T withHedgedRead(long delay, TimeUnit timeUnit) {
+        getOptions().setHedgingPolicy(Optional.of(HedgingPolicy.fixedDelay(delay, timeUnit)));
+        return getThis();
+    }
+
+    /**
+     * Hedge the SELECT statement once its latency exceeds the given percentile (e.g. 99.0)
+     * of the latencies observed for the same query. Only applied to statements flagged as idempotent
+     */
+    public T withHedgedReadAtPercentile(double latencyPercentile) {
+        getOptions().setHedgingPolicy(Optional.of(HedgingPolicy.latencyPercentile(latencyPercentile)));
+        return getThis();
+    }
+
     /**
      * Set the given outgoing payload map on the generated statement
      * @throws NullPointerException if outgoingPayload is null
@@ -22,20 +22,34 @@ import java.util.List;
 import com.datastax.driver.core.querybuilder.Delete;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 
+import info.archinnov.achilles.internals.cache.StatementShape;
 import info.archinnov.achilles.internals.dsl.SchemaNameAware;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 
 public abstract class AbstractDelete implements SchemaNameAware {
 
-    protected final Delete.Selection delete;
+    private static final StatementShape.From<Delete.Builder> FROM = (delete, keyspace, table) -> delete.from(keyspace, table).where();
+
     protected final RuntimeEngine rte;
     protected final List<Object> boundValues = new ArrayList<>();
     protected final List<Object> encodedValues = new ArrayList<>();
+    protected final StatementShape statementShape = new StatementShape(getClass(), QueryBuilder::delete);
 
     protected AbstractDelete(RuntimeEngine rte) {
-        this.delete = QueryBuilder.delete();
         this.rte = rte;
     }
 
+    protected final void selectionClause(Object token, StatementShape.Clause<Delete.Selection> clause) {
+        statementShape.add(token, clause);
+    }
+
+    protected final void fromTable(String keyspace, String table) {
+        statementShape.from(keyspace, table, FROM);
+    }
+
+    protected final void whereClause(Object token, StatementShape.Clause<Delete.Where> clause) {
+        statementShape.add(token, clause);
+    }
+
 
 }
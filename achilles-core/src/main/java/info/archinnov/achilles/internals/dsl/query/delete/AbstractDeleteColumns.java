@@ -16,17 +16,8 @@
 
 package info.archinnov.achilles.internals.dsl.query.delete;
 
-import com.datastax.driver.core.querybuilder.Delete;
-
 import info.archinnov.achilles.internals.dsl.SchemaNameAware;
 
 public abstract class AbstractDeleteColumns implements SchemaNameAware {
 
-    protected final Delete.Selection deleteColumns;
-
-    protected AbstractDeleteColumns(Delete.Selection deleteColumns) {
-        this.deleteColumns = deleteColumns;
-    }
-
-
 }
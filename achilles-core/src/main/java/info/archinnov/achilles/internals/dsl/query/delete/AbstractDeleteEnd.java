@@ -32,6 +32,7 @@ import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.querybuilder.Delete;
 
+import info.archinnov.achilles.internals.cache.StatementShape;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
@@ -46,12 +47,11 @@ public abstract class AbstractDeleteEnd<T extends AbstractDeleteEnd<T, ENTITY>,
         extends AbstractOptionsForUpdateOrDelete<T> implements MutationAction, StatementProvider {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractDeleteEnd.class);
+    private static final StatementShape.Clause<Delete.Where> IF_EXISTS = Delete.Where::ifExists;
 
-    protected final Delete.Where where;
     protected final CassandraOptions cassandraOptions;
 
-    protected AbstractDeleteEnd(Delete.Where where, CassandraOptions cassandraOptions) {
-        this.where = where;
+    protected AbstractDeleteEnd(CassandraOptions cassandraOptions) {
         this.cassandraOptions = cassandraOptions;
     }
 
@@ -59,6 +59,8 @@ public abstract class AbstractDeleteEnd<T extends AbstractDeleteEnd<T, ENTITY>,
 
     protected abstract List<Object> getEncodedValuesInternal();
 
+    protected abstract StatementShape getStatementShapeInternal();
+
     protected abstract AbstractEntityProperty<ENTITY> getMetaInternal();
 
     protected abstract Class<ENTITY> getEntityClass();
@@ -67,13 +69,13 @@ public abstract class AbstractDeleteEnd<T extends AbstractDeleteEnd<T, ENTITY>,
 
     public T ifExists(boolean ifExists) {
         if (ifExists) {
-            where.ifExists();
+            getStatementShapeInternal().add("IF EXISTS", IF_EXISTS);
         }
         return getThis();
     }
 
     public T ifExists() {
-        where.ifExists();
+        getStatementShapeInternal().add("IF EXISTS", IF_EXISTS);
         return getThis();
     }
 
@@ -106,7 +108,7 @@ public abstract class AbstractDeleteEnd<T extends AbstractDeleteEnd<T, ENTITY>,
 
     @Override
     public String getStatementAsString() {
-        return where.getQueryString();
+        return getStatementShapeInternal().buildQuery().getQueryString();
     }
 
 
@@ -129,7 +131,7 @@ public abstract class AbstractDeleteEnd<T extends AbstractDeleteEnd<T, ENTITY>,
         final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
         final CassandraOptions cassandraOptions = getOptions();
 
-        PreparedStatement ps = rte.prepareDynamicQuery(where);
+        PreparedStatement ps = rte.prepareDynamicQuery(getStatementShapeInternal());
 
         StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.DELETE,
                 meta, ps,
@@ -17,18 +17,15 @@
 package info.archinnov.achilles.internals.dsl.query.delete;
 
 
-import com.datastax.driver.core.querybuilder.Delete;
 
 import info.archinnov.achilles.internals.options.CassandraOptions;
 
 
 public abstract class AbstractDeleteFrom {
 
-    protected final Delete.Where where;
     protected final CassandraOptions cassandraOptions;
 
-    protected AbstractDeleteFrom(Delete.Where where, CassandraOptions cassandraOptions) {
-        this.where = where;
+    protected AbstractDeleteFrom(CassandraOptions cassandraOptions) {
         this.cassandraOptions = cassandraOptions;
     }
 }
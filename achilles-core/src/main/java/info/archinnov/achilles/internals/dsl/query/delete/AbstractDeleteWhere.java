@@ -16,17 +16,14 @@
 
 package info.archinnov.achilles.internals.dsl.query.delete;
 
-import com.datastax.driver.core.querybuilder.Delete;
 
 import info.archinnov.achilles.internals.options.CassandraOptions;
 
 public abstract class AbstractDeleteWhere {
 
-    protected final Delete.Where where;
     protected final CassandraOptions cassandraOptions;
 
-    protected AbstractDeleteWhere(Delete.Where where, CassandraOptions cassandraOptions) {
-        this.where = where;
+    protected AbstractDeleteWhere(CassandraOptions cassandraOptions) {
         this.cassandraOptions = cassandraOptions;
     }
 }
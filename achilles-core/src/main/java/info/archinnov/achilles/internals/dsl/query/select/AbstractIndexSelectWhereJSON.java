@@ -22,7 +22,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.PreparedStatement;
-import com.datastax.driver.core.querybuilder.Select;
 
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
@@ -36,8 +35,8 @@ public abstract class AbstractIndexSelectWhereJSON<T extends AbstractIndexSelect
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractIndexSelectWhereJSON.class);
 
-    protected AbstractIndexSelectWhereJSON(Select.Where where, CassandraOptions cassandraOptions) {
-        super(where, cassandraOptions);
+    protected AbstractIndexSelectWhereJSON(CassandraOptions cassandraOptions) {
+        super(cassandraOptions);
     }
 
     @Override
@@ -50,21 +49,21 @@ public abstract class AbstractIndexSelectWhereJSON<T extends AbstractIndexSelect
         final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
         final CassandraOptions cassandraOptions = getOptions();
 
-        final String queryString;
+        final PreparedStatement ps;
+
         if (cassandraOptions.hasRawSolrQuery()) {
             getBoundValuesInternal().add(0, cassandraOptions.generateRawSolrQuery());
             getEncodedValuesInternal().add(0, cassandraOptions.generateRawSolrQuery());
-            queryString = where.getQueryString();
+            ps = rte.prepareDynamicQuery(getStatementShapeInternal());
         } else if (cassandraOptions.hasSolrQuery()) {
             getBoundValuesInternal().add(0, cassandraOptions.generateSolrQuery());
             getEncodedValuesInternal().add(0, cassandraOptions.generateSolrQuery());
-            queryString = where.getQueryString();
+            ps = rte.prepareDynamicQuery(getStatementShapeInternal());
         } else {
-            queryString = where.getQueryString().trim().replaceFirst(";$", " ALLOW FILTERING;");
+            ps = rte.prepareDynamicQuery(getStatementShapeInternal(),
+                    () -> getStatementShapeInternal().buildQuery().getQueryString().trim().replaceFirst(";$", " ALLOW FILTERING;"));
         }
 
-        final PreparedStatement ps = rte.prepareDynamicQuery(queryString);
-
         final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT,
                 meta, ps,
                 getBoundValuesInternal().toArray(),
@@ -22,18 +22,32 @@ import java.util.List;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Select;
 
+import info.archinnov.achilles.internals.cache.StatementShape;
 import info.archinnov.achilles.internals.dsl.SchemaNameAware;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 
 public abstract class AbstractSelect implements SchemaNameAware {
 
-    protected final Select.Selection select;
+    private static final StatementShape.From<Select.Builder> FROM = (select, keyspace, table) -> select.from(keyspace, table).where();
+
     protected final RuntimeEngine rte;
     protected final List<Object> boundValues = new ArrayList<>();
     protected final List<Object> encodedValues = new ArrayList<>();
+    protected final StatementShape statementShape = new StatementShape(getClass(), QueryBuilder::select);
 
     protected AbstractSelect(RuntimeEngine rte) {
-        this.select = QueryBuilder.select();
         this.rte = rte;
     }
+
+    protected final void selectionClause(Object token, StatementShape.Clause<Select.Selection> clause) {
+        statementShape.add(token, clause);
+    }
+
+    protected final void fromTable(String keyspace, String table) {
+        statementShape.from(keyspace, table, FROM);
+    }
+
+    protected final void whereClause(Object token, StatementShape.Clause<Select.Where> clause) {
+        statementShape.add(token, clause);
+    }
 }
@@ -17,16 +17,8 @@
 package info.archinnov.achilles.internals.dsl.query.select;
 
 
-import com.datastax.driver.core.querybuilder.Select;
-
 import info.archinnov.achilles.internals.dsl.SchemaNameAware;
 
 public abstract class AbstractSelectColumns implements SchemaNameAware {
 
-    protected final Select.Selection selection;
-
-    protected AbstractSelectColumns(Select.Selection selection) {
-        this.selection = selection;
-    }
-
 }
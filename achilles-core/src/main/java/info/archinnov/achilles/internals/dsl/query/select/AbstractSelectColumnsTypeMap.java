@@ -17,16 +17,8 @@
 package info.archinnov.achilles.internals.dsl.query.select;
 
 
-import com.datastax.driver.core.querybuilder.Select;
-
 import info.archinnov.achilles.internals.dsl.SchemaNameAware;
 
 public abstract class AbstractSelectColumnsTypeMap implements SchemaNameAware {
 
-    protected final Select.Selection selection;
-
-    protected AbstractSelectColumnsTypeMap(Select.Selection selection) {
-        this.selection = selection;
-    }
-
 }
@@ -17,18 +17,15 @@
 package info.archinnov.achilles.internals.dsl.query.select;
 
 
-import com.datastax.driver.core.querybuilder.Select;
 
 import info.archinnov.achilles.internals.options.CassandraOptions;
 
 
 public abstract class AbstractSelectFromTypeMap {
 
-    protected final Select.Where where;
     protected final CassandraOptions cassandraOptions;
 
-    protected AbstractSelectFromTypeMap(Select.Where where, CassandraOptions cassandraOptions) {
-        this.where = where;
+    protected AbstractSelectFromTypeMap(CassandraOptions cassandraOptions) {
         this.cassandraOptions = cassandraOptions;
     }
 
@@ -19,17 +19,24 @@ package info.archinnov.achilles.internals.dsl.query.select;
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
 
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.*;
-import com.datastax.driver.core.querybuilder.Select;
+import com.google.common.util.concurrent.Uninterruptibles;
 
+import info.archinnov.achilles.internals.cache.StatementShape;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
@@ -41,10 +48,14 @@ import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
 import info.archinnov.achilles.internals.statements.OperationType;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
 import info.archinnov.achilles.internals.types.EntityIteratorWrapper;
+import info.archinnov.achilles.internals.types.ResultSetPublisher;
+import info.archinnov.achilles.internals.types.ResultSetSpliterator;
 import info.archinnov.achilles.internals.types.TypedMapIteratorWrapper;
+import info.archinnov.achilles.type.Page;
 import info.archinnov.achilles.type.TypedMap;
 import info.archinnov.achilles.type.interceptor.Event;
 import info.archinnov.achilles.type.tuples.Tuple2;
+import info.archinnov.achilles.validation.Validator;
 
 public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTITY>, ENTITY>
         extends AbstractOptionsForSelect<T>
@@ -52,11 +63,9 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractSelectWhere.class);
 
-    protected final Select.Where where;
     protected final CassandraOptions cassandraOptions;
 
-    protected AbstractSelectWhere(Select.Where where, CassandraOptions cassandraOptions) {
-        this.where = where;
+    protected AbstractSelectWhere(CassandraOptions cassandraOptions) {
         this.cassandraOptions = cassandraOptions;
     }
 
@@ -64,6 +73,8 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
 
     protected abstract List<Object> getEncodedValuesInternal();
 
+    protected abstract StatementShape getStatementShapeInternal();
+
     protected abstract AbstractEntityProperty<ENTITY> getMetaInternal();
 
     protected abstract Class<ENTITY> getEntityClass();
@@ -94,14 +105,79 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
         return Tuple2.of(iterator, iterator.getExecutionInfo());
     }
 
-    public CompletableFuture<Tuple2<List<ENTITY>, ExecutionInfo>> getListAsyncWithStats() {
-
+    @Override
+    public Stream<ENTITY> stream() {
         final RuntimeEngine rte = getRte();
         final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
         final CassandraOptions options = getOptions();
 
         final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
 
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Generate stream for select : %s",
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        return ResultSetSpliterator.stream(() -> {
+            try {
+                return Uninterruptibles.getUninterruptibly(rte.execute(statementWrapper)
+                        .thenApply(options::resultSetAsyncListener)
+                        .thenApply(statementWrapper::logTrace));
+            } catch (ExecutionException e) {
+                throw extractCauseFromExecutionException(e);
+            }
+        }, row -> {
+            statementWrapper.logReturnedRow(row);
+            options.rowAsyncListener(row);
+            final ENTITY entity = meta.createEntityFrom(row);
+            meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+            return entity;
+        });
+    }
+
+    @Override
+    public Publisher<ENTITY> publisher() {
+        final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
+        return new ResultSetPublisher<>(getRte(), getInternalBoundStatementWrapper(), getOptions(), row -> {
+            final ENTITY entity = meta.createEntityFrom(row);
+            meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+            return entity;
+        });
+    }
+
+    /**
+     * If this SELECT has an IN restriction on the partition key, split it into concurrent
+     * single-partition queries, each routed to a replica owning the partition, instead of
+     * a single multi-partitions query going through one coordinator.
+     * <br/>
+     * <br/>
+     * Results are merged back in the order of the IN values, the clustering order being preserved
+     * within each partition and truncated to the LIMIT, if any. Please note that the fetch size then applies per partition.
+     * <br/>
+     * Only the list-returning methods are concerned, iterators, streams and publishers
+     * always execute a single query.
+     * <br/>
+     * This setting overrides the global <strong>PARTITION_KEY_IN_FAN_OUT</strong> configuration
+     */
+    public T withPartitionKeyInFanOut(boolean partitionKeyInFanOut) {
+        getOptions().setPartitionKeyInFanOut(Optional.of(partitionKeyInFanOut));
+        return getThis();
+    }
+
+    public CompletableFuture<Tuple2<List<ENTITY>, ExecutionInfo>> getListAsyncWithStats() {
+        final List<StatementWrapper> partitionStatements = splitByPartition();
+        if (!partitionStatements.isEmpty()) {
+            return PartitionKeyInFanOut.executeAndMerge(partitionStatements, Integer.MAX_VALUE, this::selectFirstPage);
+        }
+        return selectFirstPage(getInternalBoundStatementWrapper());
+    }
+
+    private CompletableFuture<Tuple2<List<ENTITY>, ExecutionInfo>> selectFirstPage(StatementWrapper statementWrapper) {
+
+        final RuntimeEngine rte = getRte();
+        final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
+        final CassandraOptions options = getOptions();
+
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Select async with execution info : %s",
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
@@ -110,23 +186,114 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
         CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
 
         return futureRS
-                .thenApply(options::resultSetAsyncListener)
-                .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
-                .thenApply(statementWrapper::logTrace)
-                .thenApply(rs -> Tuple2.of(IntStream.range(0, rs.getAvailableWithoutFetching())
+                .thenApply(statementWrapper.postProcessing(options, options.computeMaxDisplayedResults(rte.configContext), rs -> Tuple2.of(IntStream.range(0, rs.getAvailableWithoutFetching())
                             .mapToObj(index -> {
                                 final Row row = rs.one();
                                 options.rowAsyncListener(row);
-                                return meta.createEntityFrom(row);
+                                final ENTITY entity = meta.createEntityFrom(row);
+                                meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+                                return entity;
                             })
                             .collect(toList()),
-                            rs.getExecutionInfo()))
-                .thenApply(tuple2 -> {
-                    for (ENTITY entity : tuple2._1()) {
-                        meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+                            rs.getExecutionInfo())));
+    }
+
+    @Override
+    public CompletableFuture<Tuple2<List<ENTITY>, ExecutionInfo>> getListAsyncWithStats(int maxRows) {
+        Validator.validateTrue(maxRows > 0, "The maximum number of rows '%s' should be strictly positive", maxRows);
+
+        final List<StatementWrapper> partitionStatements = splitByPartition();
+        if (!partitionStatements.isEmpty()) {
+            return PartitionKeyInFanOut.executeAndMerge(partitionStatements, maxRows,
+                    statementWrapper -> selectAllPages(statementWrapper, maxRows));
+        }
+        return selectAllPages(getInternalBoundStatementWrapper(), maxRows);
+    }
+
+    private CompletableFuture<Tuple2<List<ENTITY>, ExecutionInfo>> selectAllPages(StatementWrapper statementWrapper, int maxRows) {
+
+        final RuntimeEngine rte = getRte();
+        final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
+        final CassandraOptions options = getOptions();
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Select all pages async with execution info : %s",
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        return rte.execute(statementWrapper)
+                .thenApply(statementWrapper.postProcessing(options, options.computeMaxDisplayedResults(rte.configContext), Function.identity()))
+                .thenCompose(rs -> rte.fetchAllPages(rs, maxRows, row -> {
+                    options.rowAsyncListener(row);
+                    final ENTITY entity = meta.createEntityFrom(row);
+                    meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+                    return entity;
+                }));
+    }
+
+    /**
+     * When fetching a page with {@link #getPage()} or {@link #getPageAsync()}, execute in the background
+     * the query of the following page, keyed by the returned cursor. When this cursor is provided back with
+     * <em>withPagingState(String)</em>, the pre-fetched page is used instead of querying Cassandra again.
+     * <br/>
+     * <br/>
+     * At most {@link RuntimeEngine#PREFETCHED_PAGES_MAX_SIZE} pages are kept and a page not consumed
+     * within {@link RuntimeEngine#PREFETCHED_PAGES_TTL_IN_SECONDS} seconds is evicted
+     */
+    public T withNextPagePrefetch(boolean nextPagePrefetch) {
+        getOptions().setNextPagePrefetch(Optional.of(nextPagePrefetch));
+        return getThis();
+    }
+
+    /**
+     * Fetch a single page of entities along with the cursor to fetch the following page.
+     * To resume the paging, provide the cursor back with <em>withPagingState(String)</em>
+     */
+    public Page<ENTITY> getPage() {
+        try {
+            return Uninterruptibles.getUninterruptibly(getPageAsync());
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Fetch asynchronously a single page of entities along with the cursor to fetch the following page.
+     * To resume the paging, provide the cursor back with <em>withPagingState(String)</em>
+     */
+    public CompletableFuture<Page<ENTITY>> getPageAsync() {
+        final RuntimeEngine rte = getRte();
+        final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
+        final CassandraOptions options = getOptions();
+
+        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
+        final Optional<String> cursor = options.getPagingState().map(PagingState::toString);
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Select page async with cursor %s : %s", cursor,
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        return rte.executePage(statementWrapper, cursor)
+                .thenApply(statementWrapper.postProcessing(options, options.computeMaxDisplayedResults(rte.configContext), rs -> {
+                    final Optional<PagingState> nextPagingState = Optional.ofNullable(rs.getExecutionInfo().getPagingState());
+                    if (nextPagingState.isPresent() && options.getNextPagePrefetch().orElse(false)) {
+                        final StatementWrapper nextPageStatementWrapper = getInternalBoundStatementWrapper();
+                        nextPageStatementWrapper.getBoundStatement().setPagingState(nextPagingState.get());
+                        rte.prefetchPage(nextPageStatementWrapper, nextPagingState.get().toString());
                     }
-                    return tuple2;
-                });
+
+                    final List<ENTITY> entities = IntStream.range(0, rs.getAvailableWithoutFetching())
+                            .mapToObj(index -> {
+                                final Row row = rs.one();
+                                options.rowAsyncListener(row);
+                                final ENTITY entity = meta.createEntityFrom(row);
+                                meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+                                return entity;
+                            })
+                            .collect(toList());
+                    return new Page<>(entities, nextPagingState.map(PagingState::toString), rs.getExecutionInfo());
+                }));
     }
 
     /***************************************************************************************
@@ -134,11 +301,17 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
      ***************************************************************************************/
     @Override
     public CompletableFuture<Tuple2<List<TypedMap>, ExecutionInfo>> getTypedMapsAsyncWithStats() {
+        final List<StatementWrapper> partitionStatements = splitByPartition();
+        if (!partitionStatements.isEmpty()) {
+            return PartitionKeyInFanOut.executeAndMerge(partitionStatements, Integer.MAX_VALUE, this::selectTypedMaps);
+        }
+        return selectTypedMaps(getInternalBoundStatementWrapper());
+    }
+
+    private CompletableFuture<Tuple2<List<TypedMap>, ExecutionInfo>> selectTypedMaps(StatementWrapper statementWrapper) {
         final RuntimeEngine rte = getRte();
         final CassandraOptions options = getOptions();
 
-        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
-
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Select async with execution info : %s",
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
@@ -146,10 +319,8 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
         CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
 
         return futureRS
-            .thenApply(options::resultSetAsyncListener)
-                    .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
-                    .thenApply(statementWrapper::logTrace)
-                    .thenApply(x -> Tuple2.of(mapResultSetToTypedMaps(x), x.getExecutionInfo()));
+            .thenApply(statementWrapper.postProcessing(options, options.computeMaxDisplayedResults(rte.configContext),
+                    x -> Tuple2.of(mapResultSetToTypedMaps(x), x.getExecutionInfo())));
     }
 
 
@@ -168,10 +339,8 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
         CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
 
         return cfutureRS
-                .thenApply(options::resultSetAsyncListener)
-                .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
-                .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> Tuple2.of(mapRowToTypedMap(x.one()), x.getExecutionInfo()));
+                .thenApply(statementWrapper.postProcessing(options, options.computeMaxDisplayedResults(rte.configContext),
+                        x -> Tuple2.of(mapRowToTypedMap(x.one()), x.getExecutionInfo())));
     }
 
     @Override
@@ -195,6 +364,11 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
         final TypedMapIteratorWrapper iterator = (TypedMapIteratorWrapper)this.typedMapIterator();
         return Tuple2.of(iterator, iterator.getExecutionInfo());
     }
+
+    @Override
+    public Publisher<TypedMap> typedMapPublisher() {
+        return new ResultSetPublisher<>(getRte(), getInternalBoundStatementWrapper(), getOptions(), this::mapRowToTypedMap);
+    }
     /***************************************************************************************
      * Utility API                                                                         *
      ***************************************************************************************/
@@ -205,7 +379,7 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
 
     @Override
     public String getStatementAsString() {
-        return where.getQueryString();
+        return getStatementShapeInternal().buildQuery().getQueryString();
     }
 
     @Override
@@ -227,7 +401,7 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
         final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
         final CassandraOptions cassandraOptions = getOptions();
 
-        final PreparedStatement ps = rte.prepareDynamicQuery(where);
+        final PreparedStatement ps = rte.prepareDynamicQuery(getStatementShapeInternal());
 
         final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT,
                 meta, ps,
@@ -237,4 +411,15 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
         statementWrapper.applyOptions(cassandraOptions);
         return statementWrapper;
     }
+
+    private List<StatementWrapper> splitByPartition() {
+        final RuntimeEngine rte = getRte();
+        final CassandraOptions cassandraOptions = getOptions();
+        if (!cassandraOptions.isPartitionKeyInFanOut(rte.configContext)) {
+            return Collections.emptyList();
+        }
+
+        return PartitionKeyInFanOut.splitByPartition(rte, getMetaInternal(), rte.prepareDynamicQuery(getStatementShapeInternal()),
+                getBoundValuesInternal().toArray(), getEncodedValuesInternal().toArray(), cassandraOptions);
+    }
 }
@@ -28,8 +28,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.*;
-import com.datastax.driver.core.querybuilder.Select;
 
+import info.archinnov.achilles.internals.cache.StatementShape;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.action.SelectJSONAction;
 import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForSelect;
@@ -48,11 +48,9 @@ public abstract class AbstractSelectWhereJSON<T extends AbstractSelectWhereJSON<
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractSelectWhereJSON.class);
 
-    protected final Select.Where where;
     protected final CassandraOptions cassandraOptions;
 
-    protected AbstractSelectWhereJSON(Select.Where where, CassandraOptions cassandraOptions) {
-        this.where = where;
+    protected AbstractSelectWhereJSON(CassandraOptions cassandraOptions) {
         this.cassandraOptions = cassandraOptions;
     }
 
@@ -60,6 +58,8 @@ public abstract class AbstractSelectWhereJSON<T extends AbstractSelectWhereJSON<
 
     protected abstract List<Object> getEncodedValuesInternal();
 
+    protected abstract StatementShape getStatementShapeInternal();
+
     protected abstract AbstractEntityProperty<ENTITY> getMetaInternal();
 
     protected abstract Class<ENTITY> getEntityClass();
@@ -85,13 +85,10 @@ public abstract class AbstractSelectWhereJSON<T extends AbstractSelectWhereJSON<
         CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
 
         return futureRS
-                .thenApply(options::resultSetAsyncListener)
-                .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
-                .thenApply(statementWrapper::logTrace)
-                .thenApply(resultSet -> Tuple2.of(IntStream
+                .thenApply(statementWrapper.postProcessing(options, options.computeMaxDisplayedResults(rte.configContext), resultSet -> Tuple2.of(IntStream
                         .range(0, resultSet.getAvailableWithoutFetching())
                         .mapToObj(index -> resultSet.one().getString("[json]"))
-                        .collect(Collectors.toList()), resultSet.getExecutionInfo()));
+                        .collect(Collectors.toList()), resultSet.getExecutionInfo())));
     }
 
     @Override
@@ -126,7 +123,7 @@ public abstract class AbstractSelectWhereJSON<T extends AbstractSelectWhereJSON<
 
     @Override
     public String getStatementAsString() {
-        return where.getQueryString();
+        return getStatementShapeInternal().buildQuery().getQueryString();
     }
 
     @Override
@@ -148,7 +145,7 @@ public abstract class AbstractSelectWhereJSON<T extends AbstractSelectWhereJSON<
         final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
         final CassandraOptions cassandraOptions = getOptions();
 
-        final PreparedStatement ps = rte.prepareDynamicQuery(where);
+        final PreparedStatement ps = rte.prepareDynamicQuery(getStatementShapeInternal());
 
         final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT,
                 meta, ps,
@@ -17,18 +17,15 @@
 package info.archinnov.achilles.internals.dsl.query.select;
 
 
-import com.datastax.driver.core.querybuilder.Select;
 
 import info.archinnov.achilles.internals.options.CassandraOptions;
 
 
 public abstract class AbstractSelectWherePartitionJSON {
 
-    protected final Select.Where where;
     protected final CassandraOptions cassandraOptions;
 
-    protected AbstractSelectWherePartitionJSON(Select.Where where, CassandraOptions cassandraOptions) {
-        this.where = where;
+    protected AbstractSelectWherePartitionJSON(CassandraOptions cassandraOptions) {
         this.cassandraOptions = cassandraOptions;
     }
 }
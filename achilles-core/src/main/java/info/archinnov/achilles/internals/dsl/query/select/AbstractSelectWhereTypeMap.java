@@ -22,12 +22,13 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.*;
-import com.datastax.driver.core.querybuilder.Select;
 
+import info.archinnov.achilles.internals.cache.StatementShape;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.TypedMapAware;
 import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForSelect;
@@ -37,6 +38,7 @@ import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
 import info.archinnov.achilles.internals.statements.OperationType;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.internals.types.ResultSetPublisher;
 import info.archinnov.achilles.internals.types.TypedMapIteratorWrapper;
 import info.archinnov.achilles.type.TypedMap;
 import info.archinnov.achilles.type.tuples.Tuple2;
@@ -47,11 +49,9 @@ public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTy
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractSelectWhereTypeMap.class);
 
-    protected final Select.Where where;
     protected final CassandraOptions cassandraOptions;
 
-    protected AbstractSelectWhereTypeMap(Select.Where where, CassandraOptions cassandraOptions) {
-        this.where = where;
+    protected AbstractSelectWhereTypeMap(CassandraOptions cassandraOptions) {
         this.cassandraOptions = cassandraOptions;
     }
 
@@ -59,6 +59,8 @@ public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTy
 
     protected abstract List<Object> getEncodedValuesInternal();
 
+    protected abstract StatementShape getStatementShapeInternal();
+
     protected abstract AbstractEntityProperty<ENTITY> getMetaInternal();
 
     protected abstract Class<ENTITY> getEntityClass();
@@ -82,10 +84,8 @@ public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTy
         CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
 
         return futureRS
-            .thenApply(options::resultSetAsyncListener)
-                    .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
-                    .thenApply(statementWrapper::logTrace)
-                    .thenApply(x -> Tuple2.of(mapResultSetToTypedMaps(x), x.getExecutionInfo()));
+            .thenApply(statementWrapper.postProcessing(options, options.computeMaxDisplayedResults(rte.configContext),
+                    x -> Tuple2.of(mapResultSetToTypedMaps(x), x.getExecutionInfo())));
     }
 
 
@@ -104,10 +104,8 @@ public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTy
         CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
 
         return cfutureRS
-                .thenApply(options::resultSetAsyncListener)
-                .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
-                .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> Tuple2.of(mapRowToTypedMap(x.one()), x.getExecutionInfo()));
+                .thenApply(statementWrapper.postProcessing(options, options.computeMaxDisplayedResults(rte.configContext),
+                        x -> Tuple2.of(mapRowToTypedMap(x.one()), x.getExecutionInfo())));
     }
 
     @Override
@@ -132,6 +130,11 @@ public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTy
         return Tuple2.of(iterator, iterator.getExecutionInfo());
     }
 
+    @Override
+    public Publisher<TypedMap> typedMapPublisher() {
+        return new ResultSetPublisher<>(getRte(), getInternalBoundStatementWrapper(), getOptions(), this::mapRowToTypedMap);
+    }
+
 
     /***************************************************************************************
      * Utility API                                                                         *
@@ -143,7 +146,7 @@ public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTy
 
     @Override
     public String getStatementAsString() {
-        return where.getQueryString();
+        return getStatementShapeInternal().buildQuery().getQueryString();
     }
 
     @Override
@@ -165,7 +168,7 @@ public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTy
         final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
         final CassandraOptions cassandraOptions = getOptions();
 
-        final PreparedStatement ps = rte.prepareDynamicQuery(where);
+        final PreparedStatement ps = rte.prepareDynamicQuery(getStatementShapeInternal());
 
         final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT,
                 meta, ps,
@@ -0,0 +1,208 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.dsl.query.select;
+
+import static java.lang.String.format;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.*;
+
+import info.archinnov.achilles.internals.futures.FutureUtils;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
+import info.archinnov.achilles.internals.statements.OperationType;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.tuples.Tuple2;
+
+/**
+ * Split a SELECT having an IN restriction on the partition key into single-partition statements,
+ * one for each combination of partition key values, so that each of them can be routed by the
+ * token aware load balancing policy to a replica owning the partition.
+ * <br/>
+ * <br/>
+ * The same prepared statement is re-used, each IN value being bound as a singleton list.
+ * Since Cassandra does not report partition key indices for IN restrictions, the routing key
+ * is computed here from the bound values
+ */
+public class PartitionKeyInFanOut {
+
+    /**
+     * Maximum number of single-partition queries pending at the same time
+     */
+    public static final int MAX_IN_FLIGHT = 32;
+
+    /**
+     * Name of the bind marker generated by the DSL <em>limit()</em> method
+     */
+    static final String LIMIT_BIND_MARKER = "lim";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PartitionKeyInFanOut.class);
+
+    /**
+     * Build one statement per partition, in the IN order. The first partition key component
+     * varies the slowest.
+     * <br/>
+     * Return an empty list if the statement has no IN restriction on the partition key
+     * or if a paging state is provided, in which case the statement should be executed as is
+     */
+    public static List<StatementWrapper> splitByPartition(RuntimeEngine rte, AbstractEntityProperty<?> meta, PreparedStatement ps,
+                                                          Object[] boundValues, Object[] encodedValues, CassandraOptions options) {
+        if (options.hasPagingState()) {
+            return Collections.emptyList();
+        }
+
+        final ColumnDefinitions variables = ps.getVariables();
+        final int[] partitionKeyIndices = new int[meta.partitionKeys.size()];
+        final boolean[] inRestrictions = new boolean[partitionKeyIndices.length];
+        boolean hasInRestriction = false;
+        for (int i = 0; i < partitionKeyIndices.length; i++) {
+            final AbstractProperty<?, ?, ?> partitionKey = meta.partitionKeys.get(i);
+            final int index = indexOfVariable(variables, partitionKey.getColumnForSelect());
+            if (index < 0) {
+                return Collections.emptyList();
+            }
+            partitionKeyIndices[i] = index;
+            inRestrictions[i] = isInRestriction(variables.getType(index), partitionKey.getDataType(), encodedValues[index]);
+            hasInRestriction |= inRestrictions[i];
+        }
+
+        if (!hasInRestriction) {
+            return Collections.emptyList();
+        }
+
+        final Cluster cluster = rte.getCluster();
+        final ProtocolVersion protocolVersion = cluster.getConfiguration().getProtocolOptions().getProtocolVersion();
+        final CodecRegistry codecRegistry = cluster.getConfiguration().getCodecRegistry();
+
+        List<Object[][]> combinations = Collections.singletonList(new Object[][]{boundValues.clone(), encodedValues.clone()});
+        for (int i = 0; i < partitionKeyIndices.length; i++) {
+            if (!inRestrictions[i]) {
+                continue;
+            }
+            final int index = partitionKeyIndices[i];
+            final List<?> rawValues = (List<?>) boundValues[index];
+            final List<?> encodedInValues = (List<?>) encodedValues[index];
+            final List<Object[][]> expanded = new ArrayList<>(combinations.size() * encodedInValues.size());
+            for (Object[][] combination : combinations) {
+                for (int j = 0; j < encodedInValues.size(); j++) {
+                    final Object[] newBoundValues = combination[0].clone();
+                    final Object[] newEncodedValues = combination[1].clone();
+                    newBoundValues[index] = Collections.singletonList(rawValues.get(j));
+                    newEncodedValues[index] = Collections.singletonList(encodedInValues.get(j));
+                    expanded.add(new Object[][]{newBoundValues, newEncodedValues});
+                }
+            }
+            combinations = expanded;
+        }
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Split select %s into %s single-partition queries",
+                    ps.getQueryString(), combinations.size()));
+        }
+
+        final List<StatementWrapper> statementWrappers = new ArrayList<>(combinations.size());
+        for (Object[][] combination : combinations) {
+            final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT, meta, ps, combination[0], combination[1]);
+            statementWrapper.applyOptions(options);
+            final ByteBuffer[] routingKey = new ByteBuffer[partitionKeyIndices.length];
+            for (int i = 0; i < partitionKeyIndices.length; i++) {
+                final int index = partitionKeyIndices[i];
+                if (inRestrictions[i]) {
+                    final DataType elementType = variables.getType(index).getTypeArguments().get(0);
+                    final Object value = ((List<?>) combination[1][index]).get(0);
+                    routingKey[i] = codecRegistry.codecFor(elementType, value).serialize(value, protocolVersion);
+                } else {
+                    routingKey[i] = statementWrapper.getBoundStatement().getBytesUnsafe(index);
+                }
+            }
+            statementWrapper.getBoundStatement().setRoutingKey(routingKey);
+            statementWrappers.add(statementWrapper);
+        }
+        return statementWrappers;
+    }
+
+    /**
+     * Execute concurrently the single-partition queries and merge their results in the statements order,
+     * keeping at most <strong>maxRows</strong> elements. The execution info of the first query is returned.
+     * <br/>
+     * Since each single-partition query applies the LIMIT on its own, the merged result is also truncated
+     * to the LIMIT bound on the statements, if any, as the original multi-partitions query would be
+     * <br/>
+     * If any query fails, the returned future fails with the first failure encountered
+     */
+    public static <T> CompletableFuture<Tuple2<List<T>, ExecutionInfo>> executeAndMerge(List<StatementWrapper> statementWrappers, int maxRows,
+                                                                                      Function<StatementWrapper, CompletableFuture<Tuple2<List<T>, ExecutionInfo>>> query) {
+        final int mergedMaxRows = statementWrappers.isEmpty()
+                ? maxRows
+                : Integer.min(maxRows, boundLimit(statementWrappers.get(0).getBoundStatement(), Integer.MAX_VALUE));
+        return FutureUtils
+                .executeWithMaxInFlight(statementWrappers.size(), MAX_IN_FLIGHT, index -> query.apply(statementWrappers.get(index)))
+                .thenApply(results -> {
+                    final List<T> merged = new ArrayList<>();
+                    ExecutionInfo executionInfo = null;
+                    for (CompletableFuture<Tuple2<List<T>, ExecutionInfo>> result : results) {
+                        // join() re-throws the first failure encountered
+                        final Tuple2<List<T>, ExecutionInfo> tuple2 = result.join();
+                        if (executionInfo == null) {
+                            executionInfo = tuple2._2();
+                        }
+                        for (T element : tuple2._1()) {
+                            if (merged.size() >= mergedMaxRows) {
+                                break;
+                            }
+                            merged.add(element);
+                        }
+                    }
+                    return Tuple2.of(merged, executionInfo);
+                });
+    }
+
+    static int boundLimit(BoundStatement boundStatement, int defaultLimit) {
+        final int index = boundStatement.preparedStatement().getVariables().getIndexOf(LIMIT_BIND_MARKER);
+        if (index < 0 || !boundStatement.isSet(index) || boundStatement.isNull(index)) {
+            return defaultLimit;
+        }
+        return boundStatement.getInt(index);
+    }
+
+    private static int indexOfVariable(ColumnDefinitions variables, String column) {
+        for (int i = 0; i < variables.size(); i++) {
+            if (variables.getName(i).equalsIgnoreCase(column)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isInRestriction(DataType variableType, DataType columnType, Object encodedValue) {
+        return encodedValue instanceof List
+                && variableType.getName().equals(DataType.Name.LIST)
+                && !variableType.equals(columnType);
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.dsl.query.select;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.*;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.internals.dsl.AsyncAware;
+import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForSelect;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
+import info.archinnov.achilles.internals.statements.OperationType;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.internals.types.PrefetchingRowIterator;
+import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Full table scan split by token ranges.
+ * <br/>
+ * The token ring is split into sub-ranges using the cluster metadata and
+ * each sub-range is read with a <strong>SELECT ... WHERE token(partition key) &gt; ? AND token(partition key) &lt;= ?</strong>
+ * query. Up to <strong>parallelism</strong> sub-ranges are read concurrently, each by a dedicated worker thread.
+ * <br/>
+ * Entities are not returned in token order
+ */
+public class TokenRangeScan<ENTITY> extends AbstractOptionsForSelect<TokenRangeScan<ENTITY>> implements AsyncAware {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TokenRangeScan.class);
+
+    private static final String START_TOKEN = "achilles_start_token";
+    private static final String END_TOKEN = "achilles_end_token";
+    private static final long POLL_INTERVAL_IN_MILLIS = 100L;
+
+    private final RuntimeEngine rte;
+    private final AbstractEntityProperty<ENTITY> meta;
+    private final CassandraOptions cassandraOptions;
+    private final int parallelism;
+    private final String boundedRangeQuery;
+    private final String openRangeQuery;
+    private final String fullRingQuery;
+
+    public TokenRangeScan(RegularStatement selectFromStatement, CassandraOptions cassandraOptions, AbstractEntityProperty<ENTITY> meta,
+                          RuntimeEngine rte, int parallelism) {
+        Validator.validateTrue(parallelism > 0, "The token range scan parallelism '%s' should be strictly positive", parallelism);
+        this.rte = rte;
+        this.meta = meta;
+        this.cassandraOptions = cassandraOptions;
+        this.parallelism = parallelism;
+
+        final String selectFrom = selectFromStatement.getQueryString().replaceAll(";$", "");
+        final String token = meta.partitionKeys
+                .stream()
+                .map(x -> x.fieldInfo.quotedCqlColumn)
+                .collect(joining(",", "token(", ")"));
+        this.boundedRangeQuery = format("%s WHERE %s>:%s AND %s<=:%s", selectFrom, token, START_TOKEN, token, END_TOKEN);
+        // Last range of the ring, ending at the partitioner minimum token
+        this.openRangeQuery = format("%s WHERE %s>:%s", selectFrom, token, START_TOKEN);
+        // Single range (t, t] covering the whole ring, e.g. a single node owning a single token
+        this.fullRingQuery = selectFrom;
+    }
+
+    /**
+     * Scan all the token ranges and pass each entity to the given consumer.
+     * <br/>
+     * <strong>The consumer is called concurrently from several worker threads and should be thread-safe</strong>
+     * <br/>
+     * WARNING: <strong>this method blocks until the whole table has been scanned</strong>
+     */
+    public void forEach(Consumer<ENTITY> consumer) {
+        try {
+            Uninterruptibles.getUninterruptibly(forEachAsync(consumer));
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Scan asynchronously all the token ranges and pass each entity to the given consumer.
+     * Cancelling the returned {@link java.util.concurrent.CompletableFuture} stops the scan.
+     * <br/>
+     * <strong>The consumer is called concurrently from several worker threads and should be thread-safe</strong>
+     */
+    public CompletableFuture<Void> forEachAsync(Consumer<ENTITY> consumer) {
+        final CompletableFuture<Void> scan = new CompletableFuture<>();
+        startScan(scan, consumer);
+        return scan;
+    }
+
+    /**
+     * Scan all the token ranges and return an {@link java.util.Iterator} over the entities.
+     * <br/>
+     * Workers stop fetching rows when the consumer lags behind, keeping at most
+     * <strong>parallelism x fetch size</strong> entities in memory
+     */
+    public Iterator<ENTITY> iterator() {
+        final int fetchSize = cassandraOptions.getFetchSize()
+                .orElse(rte.getCluster().getConfiguration().getQueryOptions().getFetchSize());
+        final BlockingQueue<ENTITY> queue = new ArrayBlockingQueue<>(Integer.max(1, fetchSize) * parallelism);
+        final CompletableFuture<Void> scan = new CompletableFuture<>();
+
+        startScan(scan, entity -> {
+            try {
+                while (!queue.offer(entity, POLL_INTERVAL_IN_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (scan.isDone()) {
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AchillesException("Token range scan has been interrupted");
+            }
+        });
+        return new ScanIterator(queue, scan);
+    }
+
+    /**
+     * Scan all the token ranges and return a {@link java.util.stream.Stream} of the entities.
+     * <br/>
+     * Closing the stream stops the scan
+     */
+    public Stream<ENTITY> stream() {
+        final ScanIterator iterator = (ScanIterator) iterator();
+        return StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    @Override
+    protected TokenRangeScan<ENTITY> getThis() {
+        return this;
+    }
+
+    @Override
+    protected CassandraOptions getOptions() {
+        return cassandraOptions;
+    }
+
+    private void startScan(CompletableFuture<Void> scan, Consumer<ENTITY> sink) {
+        final List<TokenRange> tokenRanges = splitTokenRanges(rte.getCluster().getMetadata().getTokenRanges(), parallelism);
+        final PreparedStatement boundedRangePS = rte.prepareDynamicQuery(boundedRangeQuery);
+        final PreparedStatement openRangePS = rte.prepareDynamicQuery(openRangeQuery);
+        final PreparedStatement fullRingPS = rte.prepareDynamicQuery(fullRingQuery);
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Scanning %s token ranges with parallelism %s : %s",
+                    tokenRanges.size(), parallelism, boundedRangeQuery));
+        }
+
+        final Queue<TokenRange> pendingRanges = new ConcurrentLinkedQueue<>(tokenRanges);
+        final int workersCount = Integer.min(parallelism, tokenRanges.size());
+        final AtomicInteger runningWorkers = new AtomicInteger(workersCount);
+        final ExecutorService workers = Executors.newFixedThreadPool(workersCount, new ScanThreadFactory());
+
+        scan.whenComplete((result, throwable) -> workers.shutdownNow());
+
+        for (int i = 0; i < workersCount; i++) {
+            workers.execute(() -> {
+                try {
+                    TokenRange tokenRange;
+                    while (!scan.isDone() && (tokenRange = pendingRanges.poll()) != null) {
+                        scanTokenRange(boundedRangePS, openRangePS, fullRingPS, tokenRange, sink, scan);
+                    }
+                    if (runningWorkers.decrementAndGet() == 0) {
+                        scan.complete(null);
+                    }
+                } catch (Throwable throwable) {
+                    scan.completeExceptionally(throwable);
+                }
+            });
+        }
+    }
+
+    private void scanTokenRange(PreparedStatement boundedRangePS, PreparedStatement openRangePS, PreparedStatement fullRingPS,
+                                TokenRange tokenRange, Consumer<ENTITY> sink, CompletableFuture<Void> scan) {
+        final Token start = tokenRange.getStart();
+        final Token end = tokenRange.getEnd();
+
+        final BoundStatement bs;
+        final Object[] tokens;
+        switch (RangeBounds.of(start, end)) {
+            case FULL_RING:
+                bs = fullRingPS.bind();
+                tokens = new Object[0];
+                break;
+            case OPEN:
+                bs = openRangePS.bind().setToken(START_TOKEN, start);
+                tokens = new Object[]{start};
+                break;
+            default:
+                bs = boundedRangePS.bind().setToken(START_TOKEN, start).setToken(END_TOKEN, end);
+                tokens = new Object[]{start, end};
+        }
+        bs.setIdempotent(true);
+
+        final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT, meta, bs, tokens, tokens);
+        statementWrapper.applyOptions(cassandraOptions);
+
+        final ResultSet resultSet;
+        try {
+            resultSet = statementWrapper.logTrace(cassandraOptions
+                    .resultSetAsyncListener(Uninterruptibles.getUninterruptibly(rte.execute(statementWrapper))));
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+
+        final Iterator<Row> rows = PrefetchingRowIterator.forResultSet(resultSet, cassandraOptions);
+        while (!scan.isDone() && rows.hasNext()) {
+            final Row row = rows.next();
+            statementWrapper.logReturnedRow(row);
+            cassandraOptions.rowAsyncListener(row);
+            final ENTITY entity = meta.createEntityFrom(row);
+            meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+            sink.accept(entity);
+        }
+    }
+
+    static List<TokenRange> splitTokenRanges(Set<TokenRange> tokenRanges, int parallelism) {
+        if (tokenRanges.isEmpty()) {
+            throw new AchillesException("Cannot scan token ranges because the cluster token metadata is not available. " +
+                    "Check that token metadata is enabled in the driver query options");
+        }
+        final List<TokenRange> ringRanges = tokenRanges
+                .stream()
+                .flatMap(range -> range.unwrap().stream())
+                .sorted()
+                .collect(toList());
+
+        final int splitFactor = (parallelism + ringRanges.size() - 1) / ringRanges.size();
+        if (splitFactor <= 1) {
+            return ringRanges;
+        }
+        return ringRanges
+                .stream()
+                .flatMap(range -> range.splitEvenly(splitFactor).stream())
+                .collect(toList());
+    }
+
+    enum RangeBounds {
+        /**
+         * (start, end] with start &lt; end
+         */
+        BOUNDED,
+        /**
+         * (start, minToken], the last range of the ring
+         */
+        OPEN,
+        /**
+         * (t, t], the whole ring
+         */
+        FULL_RING;
+
+        static RangeBounds of(Token start, Token end) {
+            if (start.equals(end)) {
+                return FULL_RING;
+            }
+            return end.compareTo(start) <= 0 ? OPEN : BOUNDED;
+        }
+    }
+
+    private final class ScanIterator implements Iterator<ENTITY>, AutoCloseable {
+
+        private final BlockingQueue<ENTITY> queue;
+        private final CompletableFuture<Void> scan;
+        private ENTITY next;
+
+        private ScanIterator(BlockingQueue<ENTITY> queue, CompletableFuture<Void> scan) {
+            this.queue = queue;
+            this.scan = scan;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                // Check completion before polling so that no entity enqueued before the end of the scan is missed
+                final boolean done = scan.isDone();
+                try {
+                    next = queue.poll(POLL_INTERVAL_IN_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    close();
+                    throw new AchillesException("Token range scan has been interrupted");
+                }
+                if (next == null && done) {
+                    if (scan.isCompletedExceptionally() && !scan.isCancelled()) {
+                        try {
+                            Uninterruptibles.getUninterruptibly(scan);
+                        } catch (ExecutionException e) {
+                            throw extractCauseFromExecutionException(e);
+                        }
+                    }
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public ENTITY next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final ENTITY entity = next;
+            next = null;
+            return entity;
+        }
+
+        @Override
+        public void close() {
+            scan.cancel(false);
+        }
+    }
+
+    private static final class ScanThreadFactory implements ThreadFactory {
+
+        private static final AtomicInteger THREAD_COUNTER = new AtomicInteger(0);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            final Thread thread = new Thread(runnable, "achilles-token-range-scan-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -19,19 +19,38 @@ package info.archinnov.achilles.internals.dsl.query.update;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.datastax.driver.core.querybuilder.Update;
+
+import info.archinnov.achilles.internals.cache.StatementShape;
 import info.archinnov.achilles.internals.dsl.SchemaNameAware;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 
 public abstract class AbstractUpdate implements SchemaNameAware {
 
+    private static final StatementShape.From<Object> FROM = (none, keyspace, table) -> QueryBuilder.update(keyspace, table).where();
+
     protected final RuntimeEngine rte;
     protected final List<Object> boundValues = new ArrayList<>();
     protected final List<Object> encodedValues = new ArrayList<>();
+    protected final StatementShape statementShape = new StatementShape(getClass());
 
 
     protected AbstractUpdate(RuntimeEngine rte) {
         this.rte = rte;
     }
 
+    protected final void fromTable(String keyspace, String table) {
+        statementShape.from(keyspace, table, FROM);
+    }
+
+    protected final void whereClause(Object token, StatementShape.Clause<Update.Where> clause) {
+        statementShape.add(token, clause);
+    }
+
+    protected final void whereClause(Object token, Object value, StatementShape.Clause<Update.Where> clause) {
+        statementShape.add(token, value, clause);
+    }
+
 
 }
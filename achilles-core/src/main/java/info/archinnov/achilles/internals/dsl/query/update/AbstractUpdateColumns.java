@@ -17,18 +17,15 @@
 package info.archinnov.achilles.internals.dsl.query.update;
 
 
-import com.datastax.driver.core.querybuilder.Update;
 
 import info.archinnov.achilles.internals.options.CassandraOptions;
 
 
 public abstract class AbstractUpdateColumns {
 
-    protected final Update.Where where;
     protected final CassandraOptions cassandraOptions;
 
-    protected AbstractUpdateColumns(Update.Where where, CassandraOptions cassandraOptions) {
-        this.where = where;
+    protected AbstractUpdateColumns(CassandraOptions cassandraOptions) {
         this.cassandraOptions = cassandraOptions;
     }
 
@@ -32,6 +32,7 @@ import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Update;
 
+import info.archinnov.achilles.internals.cache.StatementShape;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.dsl.LWTHelper;
@@ -49,12 +50,12 @@ public abstract class AbstractUpdateEnd<T extends AbstractUpdateEnd<T, ENTITY>,
         implements MutationAction, StatementProvider {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractUpdateEnd.class);
+    private static final StatementShape.Clause<Update.Where> IF_EXISTS = Update.Where::ifExists;
+    private static final StatementShape.Clause<Update.Where> USING_TTL = where -> where.using(QueryBuilder.ttl(QueryBuilder.bindMarker("ttl")));
 
-    protected final Update.Where where;
     protected final CassandraOptions cassandraOptions;
 
-    protected AbstractUpdateEnd(Update.Where where, CassandraOptions cassandraOptions) {
-        this.where = where;
+    protected AbstractUpdateEnd(CassandraOptions cassandraOptions) {
         this.cassandraOptions = cassandraOptions;
     }
 
@@ -62,6 +63,8 @@ public abstract class AbstractUpdateEnd<T extends AbstractUpdateEnd<T, ENTITY>,
 
     protected abstract List<Object> getEncodedValuesInternal();
 
+    protected abstract StatementShape getStatementShapeInternal();
+
     protected abstract AbstractEntityProperty<ENTITY> getMetaInternal();
 
     protected abstract Class<ENTITY> getEntityClass();
@@ -73,7 +76,7 @@ public abstract class AbstractUpdateEnd<T extends AbstractUpdateEnd<T, ENTITY>,
      */
     public T ifExists(boolean ifExists) {
         if (ifExists) {
-            where.ifExists();
+            getStatementShapeInternal().add("IF EXISTS", IF_EXISTS);
         }
         return getThis();
     }
@@ -82,12 +85,12 @@ public abstract class AbstractUpdateEnd<T extends AbstractUpdateEnd<T, ENTITY>,
      *  UPDATE ... IF EXISTS
      */
     public T ifExists() {
-        where.ifExists();
+        getStatementShapeInternal().add("IF EXISTS", IF_EXISTS);
         return getThis();
     }
 
     public T usingTimeToLive(int timeToLive) {
-        where.using(QueryBuilder.ttl(QueryBuilder.bindMarker("ttl")));
+        getStatementShapeInternal().add("USING TTL", USING_TTL);
         getBoundValuesInternal().add(0, timeToLive);
         getEncodedValuesInternal().add(0, timeToLive);
         return getThis();
@@ -122,7 +125,7 @@ public abstract class AbstractUpdateEnd<T extends AbstractUpdateEnd<T, ENTITY>,
 
     @Override
     public String getStatementAsString() {
-        return where.getQueryString();
+        return getStatementShapeInternal().buildQuery().getQueryString();
     }
 
     @Override
@@ -143,7 +146,7 @@ public abstract class AbstractUpdateEnd<T extends AbstractUpdateEnd<T, ENTITY>,
         final RuntimeEngine rte = getRte();
         final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
         final CassandraOptions cassandraOptions = getOptions();
-        final PreparedStatement ps = rte.prepareDynamicQuery(where);
+        final PreparedStatement ps = rte.prepareDynamicQuery(getStatementShapeInternal());
 
         final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.UPDATE,
                 meta, ps,
@@ -17,18 +17,15 @@
 package info.archinnov.achilles.internals.dsl.query.update;
 
 
-import com.datastax.driver.core.querybuilder.Update;
 
 import info.archinnov.achilles.internals.options.CassandraOptions;
 
 
 public abstract class AbstractUpdateFrom {
 
-    protected final Update.Where where;
     protected final CassandraOptions cassandraOptions;
 
-    protected AbstractUpdateFrom(Update.Where where, CassandraOptions cassandraOptions) {
-        this.where = where;
+    protected AbstractUpdateFrom(CassandraOptions cassandraOptions) {
         this.cassandraOptions = cassandraOptions;
     }
 }
@@ -17,17 +17,14 @@
 package info.archinnov.achilles.internals.dsl.query.update;
 
 
-import com.datastax.driver.core.querybuilder.Update;
 
 import info.archinnov.achilles.internals.options.CassandraOptions;
 
 public abstract class AbstractUpdateWhere {
 
-    protected final Update.Where where;
     protected final CassandraOptions cassandraOptions;
 
-    protected AbstractUpdateWhere(Update.Where where, CassandraOptions cassandraOptions) {
-        this.where = where;
+    protected AbstractUpdateWhere(CassandraOptions cassandraOptions) {
         this.cassandraOptions = cassandraOptions;
     }
 
@@ -146,6 +146,16 @@ public class NativeQuery implements MutationAction, RawAndTypeMapDefaultImpl {
         return this;
     }
 
+    /**
+     * When iterating over the results, fetch the next page asynchronously as soon as
+     * there are less than <strong>prefetchThreshold</strong> rows left in the current page,
+     * instead of blocking at each page boundary. A value of 0 disables read-ahead
+     */
+    public NativeQuery withPrefetchThreshold(int prefetchThreshold) {
+        this.options.setPrefetchThreshold(Optional.of(Integer.max(0, prefetchThreshold)));
+        return this;
+    }
+
     /**
      * When DEBUG log is enabled, restrict the Results Display to maximum <strong>DMLResultsDisplaySize</strong> rows. This only applies to SELECT statements
      * <br/>
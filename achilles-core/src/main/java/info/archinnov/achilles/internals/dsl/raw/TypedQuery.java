@@ -23,9 +23,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +36,7 @@ import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.ExecutionInfo;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
+import com.google.common.util.concurrent.Uninterruptibles;
 
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
@@ -42,8 +46,11 @@ import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
 import info.archinnov.achilles.internals.types.EntityIteratorWrapper;
+import info.archinnov.achilles.internals.types.ResultSetPublisher;
+import info.archinnov.achilles.internals.types.ResultSetSpliterator;
 import info.archinnov.achilles.type.interceptor.Event;
 import info.archinnov.achilles.type.tuples.Tuple2;
+import info.archinnov.achilles.validation.Validator;
 
 /**
  * Typed query
@@ -139,6 +146,16 @@ public class TypedQuery<ENTITY> implements SelectAction<ENTITY>, RawAndTypeMapDe
         return this;
     }
 
+    /**
+     * When iterating over the results, fetch the next page asynchronously as soon as
+     * there are less than <strong>prefetchThreshold</strong> rows left in the current page,
+     * instead of blocking at each page boundary. A value of 0 disables read-ahead
+     */
+    public TypedQuery<ENTITY> withPrefetchThreshold(int prefetchThreshold) {
+        this.options.setPrefetchThreshold(Optional.of(Integer.max(0, prefetchThreshold)));
+        return this;
+    }
+
     /**
      * When DEBUG log is enabled, restrict the Results Display to maximum <strong>DMLResultsDisplaySize</strong> rows. This only applies to SELECT statements
      * <br/>
@@ -186,6 +203,56 @@ public class TypedQuery<ENTITY> implements SelectAction<ENTITY>, RawAndTypeMapDe
         return Tuple2.of(iterator, iterator.getExecutionInfo());
     }
 
+    /**
+     * Execute the typed query when the terminal operation starts and return a stream of entities.
+     * The stream splits at page boundaries so that parallel streams map rows on several threads
+     *
+     * @return Stream&lt;ENTITY&gt;
+     */
+    @Override
+    public Stream<ENTITY> stream() {
+        StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement), meta,
+                boundStatement, encodedBoundValues);
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(String.format("Generate stream for typed query : %s",
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        return ResultSetSpliterator.stream(() -> {
+            try {
+                return Uninterruptibles.getUninterruptibly(rte.execute(statementWrapper)
+                        .thenApply(options::resultSetAsyncListener)
+                        .thenApply(statementWrapper::logTrace));
+            } catch (ExecutionException e) {
+                throw extractCauseFromExecutionException(e);
+            }
+        }, row -> {
+            statementWrapper.logReturnedRow(row);
+            options.rowAsyncListener(row);
+            final ENTITY entity = meta.createEntityFrom(row);
+            meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+            return entity;
+        });
+    }
+
+    /**
+     * Return a publisher of entities, fetching pages on demand
+     *
+     * @return Publisher&lt;ENTITY&gt;
+     */
+    @Override
+    public Publisher<ENTITY> publisher() {
+        StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement), meta,
+                boundStatement, encodedBoundValues);
+
+        return new ResultSetPublisher<>(rte, statementWrapper, options, row -> {
+            final ENTITY entity = meta.createEntityFrom(row);
+            meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+            return entity;
+        });
+    }
+
     /**
      * Execute the typed query asynchronously and return a list of entities with execution info
      *
@@ -204,23 +271,44 @@ public class TypedQuery<ENTITY> implements SelectAction<ENTITY>, RawAndTypeMapDe
         CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
 
         return futureRS
-                .thenApply(options::resultSetAsyncListener)
-                .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
-                .thenApply(statementWrapper::logTrace)
-                .thenApply(rs -> Tuple2.of(IntStream.range(0, rs.getAvailableWithoutFetching())
+                .thenApply(statementWrapper.postProcessing(options, options.computeMaxDisplayedResults(rte.configContext), rs -> Tuple2.of(IntStream.range(0, rs.getAvailableWithoutFetching())
                                 .mapToObj(index -> {
                                     final Row row = rs.one();
                                     options.rowAsyncListener(row);
-                                    return meta.createEntityFrom(row);
+                                    final ENTITY entity = meta.createEntityFrom(row);
+                                    meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+                                    return entity;
                                 })
                                 .collect(toList()),
-                        rs.getExecutionInfo()))
-                .thenApply(tuple2 -> {
-                    for (ENTITY entity : tuple2._1()) {
-                        meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
-                    }
-                    return tuple2;
-                });
+                        rs.getExecutionInfo())));
+    }
+
+    /**
+     * Execute the typed query asynchronously and return a list of at most <strong>maxRows</strong> entities,
+     * fetching asynchronously the following result pages if needed, with the execution info of the last fetched page
+     *
+     * @return CompletableFuture&lt;Tuple2&lt;List&lt;ENTITY&gt;, ExecutionInfo&gt;&gt;
+     */
+    @Override
+    public CompletableFuture<Tuple2<List<ENTITY>, ExecutionInfo>> getListAsyncWithStats(int maxRows) {
+        Validator.validateTrue(maxRows > 0, "The maximum number of rows '%s' should be strictly positive", maxRows);
+
+        StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement), meta,
+                boundStatement, encodedBoundValues);
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(String.format("Select all pages async with execution info : %s",
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        return rte.execute(statementWrapper)
+                .thenApply(statementWrapper.postProcessing(options, options.computeMaxDisplayedResults(rte.configContext), Function.identity()))
+                .thenCompose(rs -> rte.fetchAllPages(rs, maxRows, row -> {
+                    options.rowAsyncListener(row);
+                    final ENTITY entity = meta.createEntityFrom(row);
+                    meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+                    return entity;
+                }));
     }
 
     @Override
@@ -22,20 +22,25 @@ import static info.archinnov.achilles.internals.schema.SchemaValidator.validateD
 import static info.archinnov.achilles.internals.statements.PreparedStatementGenerator.*;
 import static info.archinnov.achilles.validation.Validator.validateNotNull;
 import static java.lang.String.format;
-import static java.util.stream.Collectors.toList;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.BiMap;
 
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.internals.cache.EntityCache;
 import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.cassandra_version.InternalCassandraVersion;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
+import info.archinnov.achilles.internals.factory.DefaultBeanFactory;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
 import info.archinnov.achilles.internals.injectable.*;
@@ -44,9 +49,12 @@ import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.runtime.BeanValueExtractor;
 import info.archinnov.achilles.internals.schema.SchemaContext;
 import info.archinnov.achilles.internals.schema.SchemaCreator;
+import info.archinnov.achilles.internals.statements.BoundValuesBinder;
 import info.archinnov.achilles.internals.statements.BoundValuesWrapper;
 import info.archinnov.achilles.internals.strategy.naming.InternalNamingStrategy;
 import info.archinnov.achilles.internals.types.OverridingOptional;
+import info.archinnov.achilles.type.EntityCachePolicy;
+import info.archinnov.achilles.type.HedgingPolicy;
 import info.archinnov.achilles.internals.utils.CollectionsHelper;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
@@ -88,14 +96,23 @@ public abstract class AbstractEntityProperty<T> implements
     public final List<AbstractProperty<T, ?, ?>> counterColumns;
     public final List<AbstractProperty<T, ?, ?>> allColumns;
     public final List<AbstractProperty<T, ?, ?>> allColumnsWithComputed;
+    public final BoundValuesBinder<T> allValuesBinder;
+    public final BoundValuesBinder<T> partitionKeysAndStaticValuesBinder;
     public final List<Interceptor<T>> interceptors = new ArrayList<>();
     protected BeanFactory beanFactory;
+    private boolean useGeneratedInstantiator;
     protected Optional<String> keyspace = Optional.empty();
     protected ConsistencyLevel readConsistencyLevel;
     protected ConsistencyLevel writeConsistencyLevel;
     protected ConsistencyLevel serialConsistencyLevel;
+    protected Optional<HedgingPolicy> hedgingPolicy = Optional.empty();
+    protected Optional<EntityCache> entityCache = Optional.empty();
     protected InsertStrategy insertStrategy;
     public Optional<SchemaNameProvider> schemaStrategy = Optional.empty();
+    private final Cache<ColumnDefinitions, RowMapping<T>> rowMappings = CacheBuilder.newBuilder().weakKeys().maximumSize(64).build();
+    private volatile RowMapping<T> lastRowMapping;
+    private volatile String baseTableKeyspace;
+    private volatile String baseTableOrViewName;
 
 
     public AbstractEntityProperty() {
@@ -120,6 +137,10 @@ public abstract class AbstractEntityProperty<T> implements
         counterColumns = getCounterColumns();
         allColumns = getAllColumns();
         allColumnsWithComputed = getAllColumnsWithComputed();
+        allValuesBinder = new BoundValuesBinder<>(allColumns);
+        @SuppressWarnings("unchecked")
+        final List<AbstractProperty<T, ?, ?>> partitionKeysAndStaticColumns = CollectionsHelper.appendAll(partitionKeys, staticColumns);
+        partitionKeysAndStaticValuesBinder = new BoundValuesBinder<>(partitionKeysAndStaticColumns);
     }
 
     protected abstract Class<T> getEntityClass();
@@ -158,6 +179,8 @@ public abstract class AbstractEntityProperty<T> implements
 
     protected abstract List<AbstractProperty<T, ?, ?>> getCounterColumns();
 
+    protected abstract T newEntityInstance();
+
     protected EntityType getType() {
         return EntityType.TABLE;
     }
@@ -215,6 +238,9 @@ public abstract class AbstractEntityProperty<T> implements
     }
 
     public void triggerInterceptorsForEvent(Event event, T instance) {
+        if (interceptors.isEmpty()) {
+            return;
+        }
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Trigger interceptors for entity %s on event %s",
                     instance, event.name()));
@@ -225,23 +251,44 @@ public abstract class AbstractEntityProperty<T> implements
                 .forEach(x -> x.onEvent(instance, event));
     }
 
+    /**
+     * Create a new entity instance with the generated constructor call,
+     * unless a custom {@link BeanFactory} has been configured
+     */
+    protected T instantiate() {
+        return useGeneratedInstantiator ? newEntityInstance() : beanFactory.newInstance(entityClass);
+    }
+
     public T createEntityFrom(Row row) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Create entity of type %s from Cassandra row %s",
                     entityClass.getCanonicalName(), row));
         }
         if (row != null) {
-            T newInstance = beanFactory.newInstance(entityClass);
-            final List<String> cqlColumns = row.getColumnDefinitions().asList().stream().map(def -> def.getName()).collect(toList());
-            allColumnsWithComputed
-                    .stream()
-                    .filter(x -> cqlColumns.contains(x.getColumnForSelect()))
-                    .forEach(x -> x.decodeField(row, newInstance));
+            T newInstance = instantiate();
+            final RowMapping<T> mapping = getRowMapping(row.getColumnDefinitions());
+            for (int i = 0; i < mapping.properties.size(); i++) {
+                mapping.properties.get(i).decodeField(row, mapping.indices[i], newInstance);
+            }
             return newInstance;
         }
         return null;
     }
 
+    private RowMapping<T> getRowMapping(ColumnDefinitions columnDefinitions) {
+        final RowMapping<T> lastMapping = lastRowMapping;
+        if (lastMapping != null && lastMapping.columnDefinitions == columnDefinitions) {
+            return lastMapping;
+        }
+        try {
+            final RowMapping<T> mapping = rowMappings.get(columnDefinitions, () -> new RowMapping<>(columnDefinitions, allColumnsWithComputed));
+            lastRowMapping = mapping;
+            return mapping;
+        } catch (ExecutionException e) {
+            throw new AchillesException(e);
+        }
+    }
+
     public BoundValuesWrapper extractAllValuesFromEntity(T instance, CassandraOptions cassandraOptions) {
         return BeanValueExtractor.extractAllValues(instance, this, cassandraOptions);
     }
@@ -276,6 +323,34 @@ public abstract class AbstractEntityProperty<T> implements
         return tableName;
     }
 
+    /**
+     * Keyspace used by the DSL <strong>fromBaseTable()</strong> queries.
+     * <br/>
+     * It is resolved once and reset when a new keyspace or schema name provider is injected
+     */
+    public String getBaseTableKeyspace() {
+        String keyspace = baseTableKeyspace;
+        if (keyspace == null) {
+            keyspace = getKeyspace().orElse("unknown_keyspace_for_" + entityClass.getCanonicalName());
+            baseTableKeyspace = keyspace;
+        }
+        return keyspace;
+    }
+
+    /**
+     * Table or view name used by the DSL <strong>fromBaseTable()</strong> queries.
+     * <br/>
+     * It is resolved once and reset when a new schema name provider is injected
+     */
+    public String getBaseTableOrViewName() {
+        String tableName = baseTableOrViewName;
+        if (tableName == null) {
+            tableName = getTableOrViewName();
+            baseTableOrViewName = tableName;
+        }
+        return tableName;
+    }
+
     public void prepareStaticStatements(InternalCassandraVersion cassandraVersion, Session session, StatementsCache cache) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Preparing static statements for entity of type %s",
@@ -356,6 +431,7 @@ public abstract class AbstractEntityProperty<T> implements
                     keyspace, entityClass.getCanonicalName()));
         }
         this.keyspace = Optional.of(keyspace);
+        this.baseTableKeyspace = null;
 
         allColumns.stream().forEach(x -> x.injectKeyspace(keyspace));
     }
@@ -409,6 +485,43 @@ public abstract class AbstractEntityProperty<T> implements
         }
     }
 
+    public Optional<HedgingPolicy> hedgingPolicy(Optional<HedgingPolicy> runtimeHedgingPolicy) {
+        return runtimeHedgingPolicy.isPresent() ? runtimeHedgingPolicy : hedgingPolicy;
+    }
+
+    public void injectHedgingPolicy(ConfigurationContext configContext) {
+        this.hedgingPolicy = Optional.ofNullable(configContext.getHedgingPolicyForTable(this.getTableOrViewName()));
+        if (LOGGER.isDebugEnabled() && hedgingPolicy.isPresent()) {
+            LOGGER.debug(format("Injecting hedging policy %s into entity meta of %s",
+                    hedgingPolicy.get(), entityClass.getCanonicalName()));
+        }
+    }
+
+    public Optional<EntityCache> getEntityCache() {
+        return entityCache;
+    }
+
+    public void injectEntityCache(ConfigurationContext configContext) {
+        final EntityCachePolicy entityCachePolicy = configContext.getEntityCachePolicyForTable(this.getTableOrViewName());
+        if (entityCachePolicy == null) {
+            return;
+        }
+
+        if (isView()) {
+            LOGGER.warn(format("Ignoring entity cache policy %s for materialized view %s, only tables can be cached",
+                    entityCachePolicy, entityClass.getCanonicalName()));
+            return;
+        }
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Injecting entity cache with policy %s into entity meta of %s",
+                    entityCachePolicy, entityClass.getCanonicalName()));
+        }
+        @SuppressWarnings("unchecked")
+        final List<AbstractProperty<T, ?, ?>> primaryKeys = CollectionsHelper.appendAll(partitionKeys, clusteringColumns);
+        this.entityCache = Optional.of(new EntityCache(getTableOrViewName(), primaryKeys, entityCachePolicy));
+    }
+
     @Override
     public void inject(InsertStrategy insertStrategy) {
         if (LOGGER.isDebugEnabled()) {
@@ -426,6 +539,8 @@ public abstract class AbstractEntityProperty<T> implements
                     schemaNameProvider, entityClass.getCanonicalName()));
         }
         this.schemaStrategy = Optional.ofNullable(schemaNameProvider);
+        this.baseTableKeyspace = null;
+        this.baseTableOrViewName = null;
         for (AbstractProperty<T, ?, ?> x : allColumns) {
             x.inject(schemaNameProvider);
         }
@@ -438,6 +553,7 @@ public abstract class AbstractEntityProperty<T> implements
                     factory, entityClass.getCanonicalName()));
         }
         beanFactory = factory;
+        useGeneratedInstantiator = factory.getClass() == DefaultBeanFactory.class;
 
         for (AbstractProperty<T, ?, ?> x : allColumns) {
             x.inject(factory);
@@ -492,4 +608,32 @@ public abstract class AbstractEntityProperty<T> implements
     public enum EntityType {
         TABLE, VIEW
     }
+
+    /**
+     * Properties found in a given set of column definitions, with the index of their column.
+     * Resolved once per ColumnDefinitions instance, which is shared by all rows of a page
+     * and by all executions of a prepared statement
+     */
+    private static final class RowMapping<T> {
+        private final ColumnDefinitions columnDefinitions;
+        private final List<AbstractProperty<T, ?, ?>> properties = new ArrayList<>();
+        private final int[] indices;
+
+        private RowMapping(ColumnDefinitions columnDefinitions, List<AbstractProperty<T, ?, ?>> candidates) {
+            this.columnDefinitions = columnDefinitions;
+            final Map<String, Integer> columnIndices = new HashMap<>();
+            for (int i = 0; i < columnDefinitions.size(); i++) {
+                columnIndices.putIfAbsent(columnDefinitions.getName(i), i);
+            }
+            final List<Integer> foundIndices = new ArrayList<>();
+            for (AbstractProperty<T, ?, ?> candidate : candidates) {
+                final Integer index = columnIndices.get(candidate.getColumnForSelect());
+                if (index != null) {
+                    properties.add(candidate);
+                    foundIndices.add(index);
+                }
+            }
+            this.indices = foundIndices.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
 }
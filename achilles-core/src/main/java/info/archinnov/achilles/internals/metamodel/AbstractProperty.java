@@ -23,6 +23,7 @@ import java.util.Optional;
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.GettableData;
 import com.datastax.driver.core.SettableData;
+import com.datastax.driver.core.TypeCodec;
 import com.datastax.driver.core.UDTValue;
 import com.google.common.reflect.TypeToken;
 
@@ -134,6 +135,19 @@ public abstract class AbstractProperty<ENTITY, VALUEFROM, VALUETO>
 
     abstract VALUEFROM decodeFromGettableInternal(GettableData gettableData);
 
+    VALUEFROM decodeFromGettableInternal(GettableData gettableData, int index) {
+        return decodeFromGettableInternal(gettableData);
+    }
+
+    /**
+     * Java driver codec serializing this column straight from its Java type, when its Achilles codec
+     * is a {@link info.archinnov.achilles.type.codec.ByteBufferCodec}
+     * @return
+     */
+    public Optional<TypeCodec<VALUEFROM>> getDirectCodec() {
+        return Optional.empty();
+    }
+
     /**
      * Decode the given raw object to Java value value using Achilles codec system
      * @param o
@@ -245,6 +259,17 @@ public abstract class AbstractProperty<ENTITY, VALUEFROM, VALUETO>
         fieldInfo.setter.set(entity, valuefrom);
     }
 
+    /**
+     * Same as {@link #decodeField(GettableData, Object)} but checking nullity with the already resolved
+     * index of the column in the given GettableData
+     */
+    public void decodeField(GettableData gettableData, int index, ENTITY entity) {
+        final VALUEFROM valuefrom = gettableData.isNull(index) && !isOptional()
+                ? null
+                : decodeFromGettableInternal(gettableData, index);
+        fieldInfo.setter.set(entity, valuefrom);
+    }
+
     /**
      * Call the getter on the given entity to get the value
      * @param entity
@@ -34,6 +34,7 @@ import com.datastax.driver.core.schemabuilder.SchemaBuilder;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import info.archinnov.achilles.annotations.UDT;
+import info.archinnov.achilles.internals.factory.DefaultBeanFactory;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
 import info.archinnov.achilles.internals.injectable.*;
@@ -62,6 +63,7 @@ public abstract class AbstractUDTClassProperty<A>
     public final List<AbstractProperty<A, ?, ?>> componentsProperty;
     public final Class<?> parentEntityClass;
     protected BeanFactory udtFactory;
+    private boolean useGeneratedInstantiator;
     protected UserTypeFactory userTypeFactory;
     protected UserType userType;
     protected Optional<SchemaNameProvider> schemaNameProvider = Optional.empty();
@@ -95,6 +97,16 @@ public abstract class AbstractUDTClassProperty<A>
 
     protected abstract A createBeanFromUDT(UDTValue udtValue);
 
+    protected abstract A newUDTInstance();
+
+    /**
+     * Create a new UDT instance with the generated constructor call,
+     * unless a custom {@link BeanFactory} has been configured
+     */
+    protected A instantiate() {
+        return useGeneratedInstantiator ? newUDTInstance() : udtFactory.newInstance(udtClass);
+    }
+
     protected UserType getUserType(Optional<CassandraOptions> cassandraOptions) {
         if (cassandraOptions.isPresent()) {
             return buildType(cassandraOptions);
@@ -146,6 +158,7 @@ public abstract class AbstractUDTClassProperty<A>
     @Override
     public void inject(BeanFactory factory) {
         udtFactory = factory;
+        useGeneratedInstantiator = factory.getClass() == DefaultBeanFactory.class;
         for (AbstractProperty<A, ?, ?> x : componentsProperty) {
             x.inject(udtFactory);
         }
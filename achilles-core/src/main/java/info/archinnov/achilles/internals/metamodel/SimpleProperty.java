@@ -31,16 +31,20 @@ import org.slf4j.LoggerFactory;
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.GettableData;
 import com.datastax.driver.core.SettableData;
+import com.datastax.driver.core.TypeCodec;
 import com.datastax.driver.core.UDTValue;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.reflect.TypeToken;
 
+import info.archinnov.achilles.internals.codec.ByteBufferTypeCodec;
 import info.archinnov.achilles.internals.codec.JSONCodec;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
 import info.archinnov.achilles.internals.metamodel.columns.FieldInfo;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.types.RuntimeCodecWrapper;
+import info.archinnov.achilles.internals.utils.NamingHelper;
+import info.archinnov.achilles.type.codec.ByteBufferCodec;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
 import info.archinnov.achilles.type.factory.BeanFactory;
@@ -54,6 +58,7 @@ public class SimpleProperty<ENTITY, VALUEFROM, VALUETO> extends AbstractProperty
     public final Function<GettableData, VALUETO> gettable;
     public final BiConsumer<SettableData, VALUETO> settable;
     public final DataType dataTypeInternal;
+    private Optional<TypeCodec<VALUEFROM>> directCodec;
 
     public SimpleProperty(FieldInfo<ENTITY, VALUEFROM> fieldInfo, DataType dataType,
                           Function<GettableData, VALUETO> gettable,
@@ -66,6 +71,7 @@ public class SimpleProperty<ENTITY, VALUEFROM, VALUETO> extends AbstractProperty
         this.gettable = gettable;
         this.settable = settable;
         this.valueCodec = valueCodec;
+        this.directCodec = buildDirectCodec(valueCodec);
     }
 
     @Override
@@ -107,9 +113,28 @@ public class SimpleProperty<ENTITY, VALUEFROM, VALUETO> extends AbstractProperty
             LOGGER.trace(format("Decode '%s' from gettable object %s", fieldName, gettableData));
         }
 
+        if (directCodec.isPresent()) {
+            return gettableData.get(NamingHelper.maybeQuote(getColumnForSelect()), directCodec.get());
+        }
         return valueCodec.decode(gettable.apply(gettableData));
     }
 
+    @Override
+    VALUEFROM decodeFromGettableInternal(GettableData gettableData, int index) {
+        if (directCodec.isPresent()) {
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Decode '%s' from gettable object %s at index %s", fieldName, gettableData, index));
+            }
+            return gettableData.get(index, directCodec.get());
+        }
+        return decodeFromGettableInternal(gettableData);
+    }
+
+    @Override
+    public Optional<TypeCodec<VALUEFROM>> getDirectCodec() {
+        return directCodec;
+    }
+
 
     @Override
     public VALUEFROM decodeFromRawInternal(Object o) {
@@ -171,7 +196,9 @@ public class SimpleProperty<ENTITY, VALUEFROM, VALUETO> extends AbstractProperty
     @Override
     public void injectRuntimeCodecs(Map<CodecSignature<?, ?>, Codec<?, ?>> runtimeCodecs) {
         if (valueCodec instanceof RuntimeCodecWrapper) {
-            ((RuntimeCodecWrapper)valueCodec).inject(runtimeCodecs);
+            final RuntimeCodecWrapper<VALUEFROM, VALUETO> wrapper = (RuntimeCodecWrapper<VALUEFROM, VALUETO>) valueCodec;
+            wrapper.inject(runtimeCodecs);
+            directCodec = buildDirectCodec(wrapper.getDelegate());
         }
     }
 
@@ -179,4 +206,11 @@ public class SimpleProperty<ENTITY, VALUEFROM, VALUETO> extends AbstractProperty
     public void injectKeyspace(String keyspace) {
         // No op
     }
+
+    private Optional<TypeCodec<VALUEFROM>> buildDirectCodec(Codec<VALUEFROM, VALUETO> codec) {
+        if (codec instanceof ByteBufferCodec) {
+            return Optional.of(new ByteBufferTypeCodec<>(dataTypeInternal, valueFromTypeToken, (ByteBufferCodec<VALUEFROM, VALUETO>) codec));
+        }
+        return Optional.empty();
+    }
 }
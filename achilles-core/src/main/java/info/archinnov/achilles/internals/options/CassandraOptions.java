@@ -34,6 +34,7 @@ import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.statements.OperationType;
 import info.archinnov.achilles.internals.types.LimitedResultSetWrapper;
 import info.archinnov.achilles.internals.types.OverridingOptional;
+import info.archinnov.achilles.type.HedgingPolicy;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.validation.Validator;
 
@@ -48,7 +49,11 @@ public class CassandraOptions {
     private Optional<Long> defaultTimestamp = Optional.empty();
     private Optional<Integer> timeToLive = Optional.empty();
     private Optional<Integer> fetchSize = Optional.empty();
+    private Optional<Integer> prefetchThreshold = Optional.empty();
+    private Optional<Boolean> partitionKeyInFanOut = Optional.empty();
+    private Optional<Boolean> nextPagePrefetch = Optional.empty();
     private Optional<Boolean> idempotent = Optional.empty();
+    private Optional<HedgingPolicy> hedgingPolicy = Optional.empty();
     private Optional<Map<String, ByteBuffer>> outgoingPayLoad = Optional.empty();
     private Optional<PagingState> pagingState = Optional.empty();
     private Optional<RetryPolicy> retryPolicy = Optional.empty();
@@ -151,6 +156,46 @@ public class CassandraOptions {
         this.fetchSize = fetchSize;
     }
 
+    public boolean hasPrefetchThreshold() {
+        return prefetchThreshold.isPresent();
+    }
+
+    public Optional<Integer> getPrefetchThreshold() {
+        return prefetchThreshold;
+    }
+
+    public void setPrefetchThreshold(Optional<Integer> prefetchThreshold) {
+        this.prefetchThreshold = prefetchThreshold;
+    }
+
+    public boolean hasPartitionKeyInFanOut() {
+        return partitionKeyInFanOut.isPresent();
+    }
+
+    public Optional<Boolean> getPartitionKeyInFanOut() {
+        return partitionKeyInFanOut;
+    }
+
+    public void setPartitionKeyInFanOut(Optional<Boolean> partitionKeyInFanOut) {
+        this.partitionKeyInFanOut = partitionKeyInFanOut;
+    }
+
+    public boolean isPartitionKeyInFanOut(ConfigurationContext configContext) {
+        return partitionKeyInFanOut.orElse(configContext.isPartitionKeyInFanOut());
+    }
+
+    public boolean hasNextPagePrefetch() {
+        return nextPagePrefetch.isPresent();
+    }
+
+    public Optional<Boolean> getNextPagePrefetch() {
+        return nextPagePrefetch;
+    }
+
+    public void setNextPagePrefetch(Optional<Boolean> nextPagePrefetch) {
+        this.nextPagePrefetch = nextPagePrefetch;
+    }
+
     public boolean hasIdempotent() {
         return idempotent.isPresent();
     }
@@ -163,6 +208,18 @@ public class CassandraOptions {
         this.idempotent = idempotent;
     }
 
+    public boolean hasHedgingPolicy() {
+        return hedgingPolicy.isPresent();
+    }
+
+    public Optional<HedgingPolicy> getHedgingPolicy() {
+        return hedgingPolicy;
+    }
+
+    public void setHedgingPolicy(Optional<HedgingPolicy> hedgingPolicy) {
+        this.hedgingPolicy = hedgingPolicy;
+    }
+
     public boolean hasOutgoingPayload() {
         return outgoingPayLoad.isPresent();
     }
@@ -200,6 +257,9 @@ public class CassandraOptions {
     }
 
     public ResultSet resultSetAsyncListener(ResultSet originalResultSet) {
+        if (!resultSetAsyncListeners.isPresent()) {
+            return originalResultSet;
+        }
 
         final LimitedResultSetWrapper limitedRs = new LimitedResultSetWrapper(originalResultSet);
         if (LOGGER.isTraceEnabled()) {
@@ -212,6 +272,9 @@ public class CassandraOptions {
     }
 
     public Row rowAsyncListener(Row row) {
+        if (!rowAsyncListeners.isPresent()) {
+            return row;
+        }
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(String.format("Applying Async listeners %s to row %s",
                     rowAsyncListeners, row));
@@ -312,7 +375,11 @@ public class CassandraOptions {
         sb.append(", defaultTimestamp=").append(defaultTimestamp);
         sb.append(", timeToLive=").append(timeToLive);
         sb.append(", fetchSize=").append(fetchSize);
+        sb.append(", prefetchThreshold=").append(prefetchThreshold);
+        sb.append(", partitionKeyInFanOut=").append(partitionKeyInFanOut);
+        sb.append(", nextPagePrefetch=").append(nextPagePrefetch);
         sb.append(", idempotent=").append(idempotent);
+        sb.append(", hedgingPolicy=").append(hedgingPolicy);
         sb.append(", outgoingPayLoad=").append(outgoingPayLoad);
         sb.append(", pagingState=").append(pagingState);
         sb.append(", retryPolicy=").append(retryPolicy);
@@ -47,6 +47,7 @@ import info.archinnov.achilles.annotations.SASI.Normalization;
 import info.archinnov.achilles.bootstrap.AbstractManagerFactoryBuilder;
 import info.archinnov.achilles.configuration.ConfigurationParameters;
 import info.archinnov.achilles.internals.apt.annotations.AchillesMeta;
+import info.archinnov.achilles.internals.cache.StatementShape;
 import info.archinnov.achilles.internals.cassandra_version.InternalCassandraVersion;
 import info.archinnov.achilles.internals.codec.*;
 import info.archinnov.achilles.internals.codegen.function.InternalSystemFunctionRegistry;
@@ -187,6 +188,7 @@ public class TypeUtils {
     public static final ClassName ABSTRACT_SELECT_FROM = ClassName.get(AbstractSelectFrom.class);
     public static final ClassName ABSTRACT_SELECT_FROM_TYPED_MAP = ClassName.get(AbstractSelectFromTypeMap.class);
     public static final ClassName ABSTRACT_SELECT_FROM_JSON = ClassName.get(AbstractSelectFromJSON.class);
+    public static final ClassName TOKEN_RANGE_SCAN = ClassName.get(TokenRangeScan.class);
     public static final ClassName ABSTRACT_SELECT_WHERE = ClassName.get(AbstractSelectWhere.class);
     public static final ClassName ABSTRACT_INDEX_SELECT_WHERE = ClassName.get(AbstractIndexSelectWhere.class);
     public static final ClassName ABSTRACT_SELECT_WHERE_TYPED_MAP = ClassName.get(AbstractSelectWhereTypeMap.class);
@@ -228,12 +230,17 @@ public class TypeUtils {
     public static final ClassName ABSTRACT_ENTITY_PROPERTY = ClassName.get(AbstractEntityProperty.class);
     public static final ClassName ABSTRACT_VIEW_PROPERTY = ClassName.get(AbstractViewProperty.class);
     public static final ClassName RUNTIME_ENGINE = ClassName.get(RuntimeEngine.class);
+    public static final ClassName STATEMENT_SHAPE = ClassName.get(StatementShape.class);
     public static final ClassName INSERT_WITH_OPTIONS = ClassName.get(InsertWithOptions.class);
     public static final ClassName UPDATE_WITH_OPTIONS = ClassName.get(UpdateWithOptions.class);
     public static final ClassName INSERT_JSON_WITH_OPTIONS = ClassName.get(InsertJSONWithOptions.class);
     public static final ClassName FIND_WITH_OPTIONS = ClassName.get(FindWithOptions.class);
+    public static final ClassName FIND_ALL_WITH_OPTIONS = ClassName.get(FindAllWithOptions.class);
     public static final ClassName DELETE_WITH_OPTIONS = ClassName.get(DeleteWithOptions.class);
     public static final ClassName DELETE_BY_PARTITION_WITH_OPTIONS = ClassName.get(DeleteByPartitionWithOptions.class);
+    public static final ClassName INSERT_ALL_WITH_OPTIONS = ClassName.get(InsertAllWithOptions.class);
+    public static final ClassName UPDATE_ALL_WITH_OPTIONS = ClassName.get(UpdateAllWithOptions.class);
+    public static final ClassName DELETE_ALL_WITH_OPTIONS = ClassName.get(DeleteAllWithOptions.class);
     public static final ClassName INTERNAL_CASSANDRA_VERSION = ClassName.get(InternalCassandraVersion.class);
 
     // UDF & UDA
@@ -248,6 +255,7 @@ public class TypeUtils {
     public static final ClassName CLASS = ClassName.get(Class.class);
     public static final ClassName ARRAYS_UTILS = ClassName.get(ArrayUtils.class);
     public static final ClassName ARRAY_LIST = ClassName.get(ArrayList.class);
+    public static final ClassName COLLECTION = ClassName.get(Collection.class);
     public static final ClassName ARRAYS = ClassName.get(Arrays.class);
     public static final ClassName COLLECTORS = ClassName.get(Collectors.class);
     public static final ClassName SETS = ClassName.get(Sets.class);
@@ -303,11 +311,6 @@ public class TypeUtils {
 
     // Java Driver types
     public static final TypeName CLUSTER = ClassName.get(Cluster.class);
-    public static final TypeName SELECT_DOT_SELECTION = ClassName.get(Select.Selection.class);
-    public static final TypeName SELECT_DOT_WHERE = ClassName.get(Select.Where.class);
-    public static final TypeName DELETE_DOT_WHERE = ClassName.get(Delete.Where.class);
-    public static final TypeName DELETE_DOT_SELECTION = ClassName.get(Delete.Selection.class);
-    public static final TypeName UPDATE_DOT_WHERE = ClassName.get(Update.Where.class);
     public static final TypeName QUERY_BUILDER = ClassName.get(QueryBuilder.class);
     public static final TypeName BOUND_STATEMENT = ClassName.get(BoundStatement.class);
     public static final TypeName PREPARED_STATEMENT = ClassName.get(PreparedStatement.class);
@@ -16,21 +16,32 @@
 
 package info.archinnov.achilles.internals.runtime;
 
+import static info.archinnov.achilles.internals.dsl.crud.CounterAccumulator.DEFAULT_FLUSH_INTERVAL_IN_MILLIS;
+import static info.archinnov.achilles.internals.dsl.crud.CounterAccumulator.DEFAULT_MAX_PENDING_KEYS;
 import static info.archinnov.achilles.internals.runtime.BeanInternalValidator.validateColumnsForInsertOrUpdateStatic;
 import static info.archinnov.achilles.internals.runtime.BeanInternalValidator.validatePrimaryKey;
 import static info.archinnov.achilles.internals.statement.StatementHelper.isSelectStatement;
 import static info.archinnov.achilles.validation.Validator.*;
 import static java.lang.String.format;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.*;
+import com.google.common.cache.CacheStats;
 
+import info.archinnov.achilles.internals.cache.EntityCache;
+import info.archinnov.achilles.internals.dsl.crud.BatchWriter;
+import info.archinnov.achilles.internals.dsl.crud.CounterAccumulator;
+import info.archinnov.achilles.internals.dsl.crud.DeleteAllWithOptions;
+import info.archinnov.achilles.internals.dsl.crud.InsertAllWithOptions;
 import info.archinnov.achilles.internals.dsl.crud.InsertJSONWithOptions;
+import info.archinnov.achilles.internals.dsl.crud.UpdateAllWithOptions;
 import info.archinnov.achilles.internals.dsl.crud.UpdateWithOptions;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.dsl.crud.DeleteWithOptions;
@@ -94,6 +105,80 @@ public abstract class AbstractManager<ENTITY> {
         return rte.getCluster();
     }
 
+    /**
+     * Return the hit/miss statistics of the in-memory entity cache, if an
+     * {@link info.archinnov.achilles.type.EntityCachePolicy} is configured for this entity
+     *
+     * @return {@link com.google.common.cache.CacheStats} of the entity cache or Optional.empty()
+     */
+    public Optional<CacheStats> getEntityCacheStats() {
+        return meta_internal.getEntityCache().map(EntityCache::getStats);
+    }
+
+    /**
+     * Evict all the entities of the in-memory entity cache, if an
+     * {@link info.archinnov.achilles.type.EntityCachePolicy} is configured for this entity.
+     * Useful when the table has been modified by another client
+     */
+    public void invalidateEntityCache() {
+        meta_internal.getEntityCache().ifPresent(EntityCache::invalidateAll);
+    }
+
+    /**
+     * Create a new {@link info.archinnov.achilles.internals.dsl.crud.BatchWriter} grouping
+     * INSERT/UPDATE statements of this entity into single-partition <strong>UNLOGGED</strong> batches.
+     * <br/>
+     * The writer should be closed after use to flush the remaining statements
+     *
+     * @return a new {@link info.archinnov.achilles.internals.dsl.crud.BatchWriter} for this entity
+     */
+    public BatchWriter<ENTITY> batchWriter() {
+        validateTrue(meta_internal.isTable(), "Cannot create a batch writer for the view '%s'", entityClass.getCanonicalName());
+        validateFalse(meta_internal.isCounter(), "Cannot create a batch writer for the counter entity '%s'", entityClass.getCanonicalName());
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Create batch writer for entity %s", entityClass.getCanonicalName()));
+        }
+
+        return new BatchWriter<>(meta_internal, rte);
+    }
+
+    /**
+     * Create a new {@link info.archinnov.achilles.internals.dsl.crud.CounterAccumulator} coalescing
+     * counter increments of this entity, flushed every
+     * {@link info.archinnov.achilles.internals.dsl.crud.CounterAccumulator#DEFAULT_FLUSH_INTERVAL_IN_MILLIS} milliseconds
+     * or as soon as {@link info.archinnov.achilles.internals.dsl.crud.CounterAccumulator#DEFAULT_MAX_PENDING_KEYS}
+     * primary keys are pending
+     *
+     * @return a new {@link info.archinnov.achilles.internals.dsl.crud.CounterAccumulator} for this counter entity
+     */
+    public CounterAccumulator<ENTITY> counterAccumulator() {
+        return counterAccumulator(DEFAULT_FLUSH_INTERVAL_IN_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_MAX_PENDING_KEYS);
+    }
+
+    /**
+     * Create a new {@link info.archinnov.achilles.internals.dsl.crud.CounterAccumulator} coalescing
+     * counter increments of this entity.
+     * <br/>
+     * Pending increments are flushed when the accumulator is closed or when the ManagerFactory is shut down
+     *
+     * @param flushInterval  interval between two flushes
+     * @param timeUnit       time unit of the flush interval
+     * @param maxPendingKeys number of pending primary keys triggering a flush
+     * @return a new {@link info.archinnov.achilles.internals.dsl.crud.CounterAccumulator} for this counter entity
+     */
+    public CounterAccumulator<ENTITY> counterAccumulator(long flushInterval, TimeUnit timeUnit, int maxPendingKeys) {
+        validateTrue(meta_internal.isTable(), "Cannot create a counter accumulator for the view '%s'", entityClass.getCanonicalName());
+        validateTrue(meta_internal.isCounter(), "Cannot create a counter accumulator for the entity '%s' because it has no counter column", entityClass.getCanonicalName());
+        validateNotNull(timeUnit, "Time unit of the flush interval should not be null");
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Create counter accumulator for entity %s", entityClass.getCanonicalName()));
+        }
+
+        return new CounterAccumulator<>(meta_internal, rte, flushInterval, timeUnit, maxPendingKeys);
+    }
+
     protected InsertWithOptions<ENTITY> insertInternal(ENTITY instance, boolean insertStatic, Optional<CassandraOptions> cassandraOptions) {
 
         validateNotNull(instance, "Entity to be inserted should not be null");
@@ -151,6 +236,36 @@ public abstract class AbstractManager<ENTITY> {
         return new DeleteWithOptions<>(entityClass, meta_internal, rte, tuple._1(), tuple._2(), Optional.of(instance), cassandraOptions);
     }
 
+    protected InsertAllWithOptions<ENTITY> insertAllInternal(Collection<ENTITY> instances, Optional<CassandraOptions> cassandraOptions) {
+        validateNotNull(instances, "Entities to be inserted should not be null");
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Create bulk insert CRUD for %s entities", instances.size()));
+        }
+
+        return new InsertAllWithOptions<>(instances, (instance, options) -> insertInternal(instance, false, options), cassandraOptions);
+    }
+
+    protected UpdateAllWithOptions<ENTITY> updateAllInternal(Collection<ENTITY> instances, Optional<CassandraOptions> cassandraOptions) {
+        validateNotNull(instances, "Entities to be updated to Cassandra should not be null");
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Create bulk update CRUD for %s entities", instances.size()));
+        }
+
+        return new UpdateAllWithOptions<>(instances, (instance, options) -> updateInternal(instance, false, options), cassandraOptions);
+    }
+
+    protected DeleteAllWithOptions<ENTITY> deleteAllInternal(Collection<ENTITY> instances, Optional<CassandraOptions> cassandraOptions) {
+        validateNotNull(instances, "Entities to be deleted should not be null");
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Create bulk delete CRUD for %s entities", instances.size()));
+        }
+
+        return new DeleteAllWithOptions<>(instances, this::deleteInternal, cassandraOptions);
+    }
+
     protected TypedQuery<ENTITY> typedQueryForSelectInternal(BoundStatement boundStatement) {
         validateTrue(isSelectStatement(boundStatement), "Statement provided for typed query should be an SELECT statement");
 
@@ -21,6 +21,7 @@ import static info.archinnov.achilles.internals.schema.SchemaCreator.generateUDT
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
 
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +42,7 @@ import com.datastax.driver.extras.codecs.jdk8.LocalDateCodec;
 import com.datastax.driver.extras.codecs.jdk8.LocalTimeCodec;
 import com.datastax.driver.extras.codecs.jdk8.ZonedDateTimeCodec;
 
+import info.archinnov.achilles.internals.cache.PreparedStatementsWarmup;
 import info.archinnov.achilles.internals.cassandra_version.InternalCassandraVersion;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
@@ -95,15 +97,28 @@ public abstract class AbstractManagerFactory {
         return tableName;
     }
 
+    /**
+     * Number of hedged (speculative) SELECT requests sent by this manager factory since bootstrap.
+     * See {@link info.archinnov.achilles.type.HedgingPolicy}
+     */
+    public long getHedgedReadsCount() {
+        return rte.getHedgedReadsCount();
+    }
+
     /**
      * Shutdown the manager factory and the related session and executor service (if they are created by Achilles).
      * If the Java driver Session object and/or the executor service were provided as bootstrap parameter, Achilles
      * will <strong>NOT</strong> shut them down. This should be handled externally
+     * <br/>
+     * Pending counter increments of all {@link info.archinnov.achilles.internals.dsl.crud.CounterAccumulator}
+     * are flushed and the prepared statements warmup file (if configured) is saved before the session is closed
      */
     @PreDestroy
     public void shutDown() {
         LOGGER.info("Calling shutdown on ManagerFactory");
 
+        rte.closeResourcesRegisteredForShutdown();
+
         if (!configContext.isProvidedSession()) {
             LOGGER.info(format("Closing built Session object %s", rte.session));
             rte.session.close();
@@ -124,6 +139,7 @@ public abstract class AbstractManagerFactory {
             validateSchema();
         }
         prepareStaticStatements();
+        warmUpDynamicStatements();
     }
 
     protected void addNativeCodecs() {
@@ -247,5 +263,17 @@ public abstract class AbstractManagerFactory {
                 .forEach(x -> x.prepareStaticStatements(getCassandraVersion(), configContext.getSession(), rte.cache));
     }
 
+    protected void warmUpDynamicStatements() {
+        final Optional<String> warmupFile = configContext.getPreparedStatementsWarmupFile();
+        if (warmupFile.isPresent()) {
+            final PreparedStatementsWarmup warmup = new PreparedStatementsWarmup(Paths.get(warmupFile.get()),
+                    configContext.getPreparedStatementsWarmupSize(), configContext.getPreparedStatementsWarmupTimeout(),
+                    rte.cache, configContext.getSession());
+            warmup.warmUp();
+            warmup.startPeriodicSave(configContext.getPreparedStatementsWarmupSaveInterval());
+            rte.registerForShutdown(warmup);
+        }
+    }
+
 
 }
@@ -17,26 +17,19 @@
 package info.archinnov.achilles.internals.runtime;
 
 import static java.lang.String.format;
-import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.ArrayUtils.addAll;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Optional;
-import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.datastax.driver.core.SettableData;
-
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
-import info.archinnov.achilles.internals.metamodel.AbstractProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
-import info.archinnov.achilles.internals.statements.BoundValueInfo;
+import info.archinnov.achilles.internals.statements.BoundValuesBinder;
 import info.archinnov.achilles.internals.statements.BoundValuesWrapper;
-import info.archinnov.achilles.internals.types.OverridingOptional;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 public class BeanValueExtractor {
@@ -49,63 +42,7 @@ public class BeanValueExtractor {
                     instance, entityProperty.entityClass.getCanonicalName()));
         }
 
-        final List<BoundValueInfo> boundValues = new ArrayList<>();
-        final List<BoundValueInfo> partitionKeys = entityProperty.partitionKeys
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    final BiConsumer<Object, SettableData> lambda = x1::encodeToSettable;
-                    return BoundValueInfo.of(lambda, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList());
-
-        boundValues.addAll(partitionKeys);
-
-        boundValues.addAll(entityProperty.staticColumns
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList()));
-
-        boundValues.addAll(entityProperty.clusteringColumns
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList()));
-
-        boundValues.addAll(entityProperty.normalColumns
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList()));
-
-        boundValues.addAll(entityProperty.counterColumns
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList()));
-
-        final Optional<Integer> ttl = OverridingOptional
-                .from(cassandraOptions.getTimeToLive())
-                .andThen(entityProperty.staticTTL)
-                .getOptional();
-
-        boundValues.add(ttl.isPresent()
-                ? BoundValueInfo.of((Object value, SettableData settableData) -> settableData.setInt("ttl", ttl.get()), ttl.get(), ttl.get())
-                : BoundValueInfo.of((Object value, SettableData settableData) -> settableData.setInt("ttl", 0), 0, 0));
-
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(format("Extracted encoded bound values : %s", boundValues));
-        }
-        return new BoundValuesWrapper(entityProperty, boundValues);
+        return extractValues(instance, entityProperty, entityProperty.allValuesBinder, cassandraOptions);
     }
 
     public static <T> Tuple2<Object[], Object[]> extractPrimaryKeyValues(T instance, AbstractEntityProperty<T> entityProperty, Optional<CassandraOptions> cassandraOptions) {
@@ -136,43 +73,21 @@ public class BeanValueExtractor {
 
     public static <T> BoundValuesWrapper extractPartitionKeysAndStaticValues(T instance, AbstractEntityProperty<T> entityProperty, CassandraOptions cassandraOptions) {
         if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(format("Extract partition key values and static columns from entity %s of type %",
+            LOGGER.debug(format("Extract partition key values and static columns from entity %s of type %s",
                     instance, entityProperty.entityClass.getCanonicalName()));
         }
 
-        final List<BoundValueInfo> boundValues = new ArrayList<>();
-        final List<BoundValueInfo> partitionKeys = entityProperty.partitionKeys
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    final BiConsumer<Object, SettableData> lambda = x1::encodeToSettable;
-                    return BoundValueInfo.of(lambda, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList());
-
-        boundValues.addAll(partitionKeys);
-
-        boundValues.addAll(entityProperty.staticColumns
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList()));
-
-        final Optional<Integer> ttl = OverridingOptional
-                .from(cassandraOptions.getTimeToLive())
-                .andThen(entityProperty.staticTTL)
-                .getOptional();
-
-        boundValues.add(ttl.isPresent()
-                ? BoundValueInfo.of((Object value, SettableData settableData) -> settableData.setInt("ttl", ttl.get()), ttl.get(), ttl.get())
-                : BoundValueInfo.of((Object value, SettableData settableData) -> settableData.setInt("ttl", 0), 0, 0));
+        return extractValues(instance, entityProperty, entityProperty.partitionKeysAndStaticValuesBinder, cassandraOptions);
+    }
+
+    private static <T> BoundValuesWrapper extractValues(T instance, AbstractEntityProperty<T> entityProperty,
+                                                        BoundValuesBinder<T> binder, CassandraOptions cassandraOptions) {
+        final Integer ttl = cassandraOptions.getTimeToLive().orElse(entityProperty.staticTTL.orElse(0));
+        final Object[] bindValues = binder.extractBindValues(instance, ttl, Optional.ofNullable(cassandraOptions));
 
         if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(format("Extracted encoded bound values : %s", boundValues));
+            LOGGER.debug(format("Extracted bound values : %s", Arrays.toString(bindValues)));
         }
-        return new BoundValuesWrapper(entityProperty, boundValues);
-
+        return new BoundValuesWrapper(entityProperty, binder, instance, bindValues);
     }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.runtime;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Keep the last {@link #SAMPLE_SIZE} latencies of a query in a ring buffer.
+ * Percentiles are read from a sorted snapshot refreshed every {@link #REFRESH_INTERVAL} records
+ * so that looking up a percentile on the hot path is only an array access
+ */
+public class LatencyTracker {
+
+    static final int SAMPLE_SIZE = 1024;
+    static final int MIN_SAMPLES = 100;
+    static final int REFRESH_INTERVAL = 100;
+
+    private final AtomicLongArray samples = new AtomicLongArray(SAMPLE_SIZE);
+    private final AtomicLong recordCount = new AtomicLong(0);
+    private volatile long[] sortedSnapshot = new long[0];
+
+    public void record(long latencyInNanos) {
+        final long count = recordCount.getAndIncrement();
+        samples.set((int) (count % SAMPLE_SIZE), latencyInNanos);
+        if ((count + 1) % REFRESH_INTERVAL == 0) {
+            refreshSnapshot((int) Math.min(count + 1, SAMPLE_SIZE));
+        }
+    }
+
+    /**
+     * @return the latency in nanos at the given percentile (e.g. 99.0)
+     * or empty if not enough latencies have been recorded yet
+     */
+    public OptionalLong percentile(double percentile) {
+        final long[] snapshot = sortedSnapshot;
+        if (snapshot.length < MIN_SAMPLES) {
+            return OptionalLong.empty();
+        }
+        final int index = (int) Math.ceil(percentile / 100 * snapshot.length) - 1;
+        return OptionalLong.of(snapshot[Math.max(0, Math.min(index, snapshot.length - 1))]);
+    }
+
+    private void refreshSnapshot(int sampleCount) {
+        final long[] snapshot = new long[sampleCount];
+        for (int i = 0; i < sampleCount; i++) {
+            snapshot[i] = samples.get(i);
+        }
+        Arrays.sort(snapshot);
+        sortedSnapshot = snapshot;
+    }
+}
@@ -19,9 +19,16 @@ package info.archinnov.achilles.internals.runtime;
 import static info.archinnov.achilles.internals.futures.FutureUtils.toCompletableFuture;
 import static java.lang.String.format;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
+import java.util.OptionalLong;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.slf4j.Logger;
@@ -29,18 +36,36 @@ import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.*;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.MoreExecutors;
 
 import info.archinnov.achilles.internals.cache.CacheKey;
+import info.archinnov.achilles.internals.cache.EntityCache;
+import info.archinnov.achilles.internals.cache.StatementShape;
 import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.internals.types.SharedResultSet;
+import info.archinnov.achilles.type.HedgingPolicy;
 import info.archinnov.achilles.type.SchemaNameProvider;
+import info.archinnov.achilles.type.tuples.Tuple2;
 
 public class RuntimeEngine {
 
+    /**
+     * Maximum number of pages pre-fetched for a cursor and not consumed yet
+     */
+    public static final int PREFETCHED_PAGES_MAX_SIZE = 1000;
+
+    /**
+     * Delay after which a pre-fetched page which has not been consumed is evicted
+     */
+    public static final long PREFETCHED_PAGES_TTL_IN_SECONDS = 60L;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(RuntimeEngine.class);
 
     public final StatementsCache cache;
@@ -48,16 +73,32 @@ public class RuntimeEngine {
     public final Session session;
     public final String currentKeyspace;
     public final ExecutorService executor;
+    private final Executor completionExecutor;
 
     public TupleTypeFactory tupleTypeFactory;
     public UserTypeFactory userTypeFactory;
 
+    private final Queue<AutoCloseable> resourcesToCloseOnShutdown = new ConcurrentLinkedQueue<>();
+
+    private final ConcurrentMap<String, LatencyTracker> latencyTrackers = new ConcurrentHashMap<>();
+    private final LongAdder hedgedReadsCount = new LongAdder();
+    private volatile ScheduledExecutorService hedgingScheduler;
+    private final Optional<ConcurrentMap<InFlightReadKey, CompletableFuture<ResultSet>>> inFlightReads;
+    private final Cache<String, CompletableFuture<ResultSet>> prefetchedPages = CacheBuilder.newBuilder()
+            .maximumSize(PREFETCHED_PAGES_MAX_SIZE)
+            .expireAfterWrite(PREFETCHED_PAGES_TTL_IN_SECONDS, TimeUnit.SECONDS)
+            .build();
+
     public RuntimeEngine(ConfigurationContext configContext) {
         this.configContext = configContext;
         this.session = configContext.getSession();
         this.cache = configContext.getStatementsCache();
         this.currentKeyspace = configContext.getCurrentKeyspace().orElseGet(session::getLoggedKeyspace);
         this.executor = configContext.getExecutorService();
+        this.completionExecutor = configContext.isDirectAsyncCompletion() ? MoreExecutors.directExecutor() : executor;
+        this.inFlightReads = configContext.isDeduplicateConcurrentReads()
+                ? Optional.of(new ConcurrentHashMap<>())
+                : Optional.empty();
     }
 
     public PreparedStatement getStaticCache(CacheKey cacheKey) {
@@ -70,14 +111,83 @@ public class RuntimeEngine {
         }
 
         wrapper.logDML();
-        return toCompletableFuture(session.executeAsync(wrapper.getBoundStatement()), executor);
+        final BoundStatement boundStatement = wrapper.getBoundStatement();
+        final Optional<EntityCache> modifiedEntityCache = wrapper.getModifiedEntityCache();
+        if (modifiedEntityCache.isPresent()) {
+            return executeAndInvalidate(wrapper, modifiedEntityCache.get());
+        }
+        if (inFlightReads.isPresent() && wrapper.isDeduplicableRead() && !boundStatement.isTracing()) {
+            return executeDeduplicated(wrapper, inFlightReads.get());
+        }
+        return executeInternal(wrapper);
+    }
+
+    /**
+     * Concurrent identical reads share the in-flight request of the first caller. The key
+     * is removed as soon as the request completes so that later reads always hit Cassandra.
+     * <br/>
+     * Only fully fetched results can be shared, otherwise the other callers re-execute the statement
+     */
+    private CompletableFuture<ResultSet> executeDeduplicated(StatementWrapper wrapper,
+                                                             ConcurrentMap<InFlightReadKey, CompletableFuture<ResultSet>> inFlightReads) {
+        final InFlightReadKey key = new InFlightReadKey(wrapper.getBoundStatement());
+        final CompletableFuture<ResultSet> newRequest = new CompletableFuture<>();
+        final CompletableFuture<ResultSet> inFlightRequest = inFlightReads.putIfAbsent(key, newRequest);
+
+        if (inFlightRequest != null) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(format("Joining in-flight read for statement %s",
+                        wrapper.getBoundStatement().preparedStatement().getQueryString()));
+            }
+            return inFlightRequest.thenCompose(rs -> rs instanceof SharedResultSet
+                    ? CompletableFuture.completedFuture(((SharedResultSet) rs).newView())
+                    : executeInternal(wrapper));
+        }
+
+        executeInternal(wrapper).whenComplete((rs, throwable) -> {
+            inFlightReads.remove(key, newRequest);
+            if (throwable != null) {
+                newRequest.completeExceptionally(throwable);
+            } else {
+                newRequest.complete(rs.isFullyFetched() ? new SharedResultSet(rs) : rs);
+            }
+        });
+        return newRequest.thenApply(rs -> rs instanceof SharedResultSet ? ((SharedResultSet) rs).newView() : rs);
+    }
+
+    /**
+     * The modified entries are invalidated before the mutation is sent and once again when it completes,
+     * successfully or not, so that a read racing with the mutation cannot keep a stale entity in cache
+     */
+    private CompletableFuture<ResultSet> executeAndInvalidate(StatementWrapper wrapper, EntityCache entityCache) {
+        final BoundStatement boundStatement = wrapper.getBoundStatement();
+        entityCache.invalidate(boundStatement);
+        return executeInternal(wrapper).whenComplete((rs, throwable) -> entityCache.invalidate(boundStatement));
+    }
+
+    private CompletableFuture<ResultSet> executeInternal(StatementWrapper wrapper) {
+        final BoundStatement boundStatement = wrapper.getBoundStatement();
+        final Optional<HedgingPolicy> hedgingPolicy = wrapper.getHedgingPolicy();
+        if (hedgingPolicy.isPresent() && isIdempotent(boundStatement)) {
+            return executeHedged(boundStatement, hedgingPolicy.get());
+        }
+        return toCompletableFuture(session.executeAsync(boundStatement), completionExecutorFor(boundStatement));
+    }
+
+    /**
+     * Traced statements are always completed on the async executor because logging the trace
+     * blocks on <em>ExecutionInfo.getQueryTrace()</em>, which must never run on a driver I/O thread
+     * when <strong>DIRECT_ASYNC_COMPLETION</strong> is enabled
+     */
+    private Executor completionExecutorFor(Statement statement) {
+        return statement.isTracing() ? executor : completionExecutor;
     }
 
     public CompletableFuture<ResultSet> execute(BoundStatement boundStatement) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Executing bound statement %s", boundStatement.preparedStatement().getQueryString()));
         }
-        return toCompletableFuture(session.executeAsync(boundStatement), executor);
+        return toCompletableFuture(session.executeAsync(boundStatement), completionExecutor);
     }
 
     public CompletableFuture<ResultSet> execute(BatchStatement batchStatement) {
@@ -88,13 +198,188 @@ public class RuntimeEngine {
                             .map(Statement::toString)
                             .reduce("", (x, y) -> x + y)));
         }
-        return toCompletableFuture(session.executeAsync(batchStatement), executor);
+        return toCompletableFuture(session.executeAsync(batchStatement), completionExecutor);
+    }
+
+    /**
+     * Fetch asynchronously the next page of the given {@link com.datastax.driver.core.ResultSet}
+     */
+    public CompletableFuture<ResultSet> fetchMoreResults(ResultSet resultSet) {
+        return toCompletableFuture(resultSet.fetchMoreResults(), completionExecutor);
+    }
+
+    /**
+     * Execute the statement of a page resumed from the given <strong>cursor</strong>, re-using
+     * the page pre-fetched for this cursor if any. A pre-fetched page is handed over only once
+     */
+    public CompletableFuture<ResultSet> executePage(StatementWrapper wrapper, Optional<String> cursor) {
+        if (cursor.isPresent()) {
+            final CompletableFuture<ResultSet> prefetchedPage = prefetchedPages.asMap()
+                    .remove(prefetchedPageKey(wrapper, cursor.get()));
+            if (prefetchedPage != null) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(format("Using pre-fetched page for statement %s",
+                            wrapper.getBoundStatement().preparedStatement().getQueryString()));
+                }
+                return prefetchedPage;
+            }
+        }
+        return execute(wrapper);
+    }
+
+    /**
+     * Execute in the background the statement of the page following the given <strong>cursor</strong>
+     * so that it is ready when the cursor is provided back. The statement should already carry the paging state
+     * of the cursor. Pages not consumed are evicted after {@link #PREFETCHED_PAGES_TTL_IN_SECONDS} seconds
+     */
+    public void prefetchPage(StatementWrapper wrapper, String cursor) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Pre-fetching next page for statement %s",
+                    wrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        wrapper.logDML();
+        final String key = prefetchedPageKey(wrapper, cursor);
+        final CompletableFuture<ResultSet> page = executeInternal(wrapper);
+        prefetchedPages.put(key, page);
+        // Failed pre-fetches are discarded so that the page is queried again
+        page.whenComplete((rs, throwable) -> {
+            if (throwable != null) {
+                prefetchedPages.asMap().remove(key, page);
+            }
+        });
+    }
+
+    private static String prefetchedPageKey(StatementWrapper wrapper, String cursor) {
+        return wrapper.getBoundStatement().preparedStatement().getQueryString() + "|" + cursor;
+    }
+
+    /**
+     * Map the rows of the given {@link com.datastax.driver.core.ResultSet} page by page, fetching
+     * asynchronously the following pages, until <strong>maxRows</strong> rows have been mapped
+     * or all pages have been fetched. Each page is mapped as soon as it is received and no thread is blocked.
+     * <br/>
+     * The returned {@link com.datastax.driver.core.ExecutionInfo} is the one of the last fetched page
+     */
+    public <T> CompletableFuture<Tuple2<List<T>, ExecutionInfo>> fetchAllPages(ResultSet resultSet, int maxRows, Function<Row, T> rowMapper) {
+        return mapPages(resultSet, maxRows, rowMapper, new ArrayList<>(Integer.min(maxRows, resultSet.getAvailableWithoutFetching())));
+    }
+
+    private <T> CompletableFuture<Tuple2<List<T>, ExecutionInfo>> mapPages(ResultSet resultSet, int maxRows, Function<Row, T> rowMapper, List<T> results) {
+        int available = resultSet.getAvailableWithoutFetching();
+        while (available-- > 0 && results.size() < maxRows) {
+            results.add(rowMapper.apply(resultSet.one()));
+        }
+
+        if (results.size() >= maxRows || resultSet.isFullyFetched()) {
+            return CompletableFuture.completedFuture(Tuple2.of(results, resultSet.getExecutionInfo()));
+        }
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Fetching next page after %s mapped rows", results.size()));
+        }
+        return fetchMoreResults(resultSet).thenCompose(rs -> mapPages(rs, maxRows, rowMapper, results));
+    }
+
+    /**
+     * Number of hedged (speculative) requests sent since the start
+     */
+    public long getHedgedReadsCount() {
+        return hedgedReadsCount.sum();
+    }
+
+    private boolean isIdempotent(Statement statement) {
+        final Boolean idempotent = statement.isIdempotent();
+        return idempotent != null
+                ? idempotent
+                : session.getCluster().getConfiguration().getQueryOptions().getDefaultIdempotence();
+    }
+
+    private CompletableFuture<ResultSet> executeHedged(BoundStatement boundStatement, HedgingPolicy hedgingPolicy) {
+        final OptionalLong hedgingDelay;
+        final Optional<LatencyTracker> latencyTracker;
+        if (hedgingPolicy.isFixedDelay()) {
+            hedgingDelay = OptionalLong.of(hedgingPolicy.getFixedDelayInNanos());
+            latencyTracker = Optional.empty();
+        } else {
+            final LatencyTracker tracker = latencyTrackers
+                    .computeIfAbsent(boundStatement.preparedStatement().getQueryString(), queryString -> new LatencyTracker());
+            hedgingDelay = tracker.percentile(hedgingPolicy.getLatencyPercentile());
+            latencyTracker = Optional.of(tracker);
+        }
+
+        final long startTime = System.nanoTime();
+        final CompletableFuture<ResultSet> result = new CompletableFuture<>();
+        final AtomicInteger pendingRequests = new AtomicInteger(1);
+        final CompletableFuture<ResultSet> primaryRequest = toCompletableFuture(session.executeAsync(boundStatement), completionExecutorFor(boundStatement));
+        final Optional<ScheduledFuture<?>> hedgeTask;
+
+        if (hedgingDelay.isPresent()) {
+            hedgeTask = Optional.of(getHedgingScheduler().schedule(() -> {
+                if (result.isDone()) return;
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(format("Hedging bound statement %s", boundStatement.preparedStatement().getQueryString()));
+                }
+                pendingRequests.incrementAndGet();
+                hedgedReadsCount.increment();
+                final CompletableFuture<ResultSet> hedgedRequest = toCompletableFuture(session.executeAsync(boundStatement), completionExecutorFor(boundStatement));
+                hedgedRequest.whenComplete((rs, throwable) -> completeHedged(result, pendingRequests, rs, throwable));
+                result.whenComplete((rs, throwable) -> hedgedRequest.cancel(true));
+            }, hedgingDelay.getAsLong(), TimeUnit.NANOSECONDS));
+        } else {
+            hedgeTask = Optional.empty();
+        }
+
+        primaryRequest.whenComplete((rs, throwable) -> completeHedged(result, pendingRequests, rs, throwable));
+        return result.whenComplete((rs, throwable) -> {
+            hedgeTask.ifPresent(task -> task.cancel(false));
+            primaryRequest.cancel(true);
+            if (throwable == null) {
+                latencyTracker.ifPresent(tracker -> tracker.record(System.nanoTime() - startTime));
+            }
+        });
+    }
+
+    private void completeHedged(CompletableFuture<ResultSet> result, AtomicInteger pendingRequests, ResultSet rs, Throwable throwable) {
+        if (throwable == null) {
+            result.complete(rs);
+        } else if (pendingRequests.decrementAndGet() == 0) {
+            result.completeExceptionally(throwable);
+        }
+    }
+
+    private ScheduledExecutorService getHedgingScheduler() {
+        if (hedgingScheduler == null) {
+            synchronized (this) {
+                if (hedgingScheduler == null) {
+                    final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                        final Thread thread = new Thread(runnable, "achilles-hedged-reads");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    registerForShutdown(scheduler::shutdownNow);
+                    hedgingScheduler = scheduler;
+                }
+            }
+        }
+        return hedgingScheduler;
     }
 
     public PreparedStatement prepareDynamicQuery(RegularStatement statement) {
         return prepareDynamicQuery(statement.getQueryString());
     }
 
+    public PreparedStatement prepareDynamicQuery(StatementShape shape) {
+        return prepareDynamicQuery(shape, () -> shape.buildQuery().getQueryString());
+    }
+
+    public PreparedStatement prepareDynamicQuery(StatementShape shape, Supplier<String> queryString) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Preparing dynamic query with shape %s", shape));
+        }
+        return cache.getDynamicCache(shape, queryString, session);
+    }
+
     public PreparedStatement prepareDynamicQuery(String queryString) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Preparing dynamic query %s", queryString));
@@ -124,4 +409,61 @@ public class RuntimeEngine {
     public Cluster getCluster() {
         return session.getCluster();
     }
+
+    /**
+     * Register a resource holding pending writes so that it is closed, hence flushed,
+     * before the session is closed on ManagerFactory shutdown
+     */
+    public void registerForShutdown(AutoCloseable resource) {
+        resourcesToCloseOnShutdown.add(resource);
+    }
+
+    public void unregisterForShutdown(AutoCloseable resource) {
+        resourcesToCloseOnShutdown.remove(resource);
+    }
+
+    public void closeResourcesRegisteredForShutdown() {
+        AutoCloseable resource;
+        while ((resource = resourcesToCloseOnShutdown.poll()) != null) {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                LOGGER.error(format("Error while closing resource %s on shutdown : %s", resource, e.getMessage()), e);
+            }
+        }
+    }
+
+    private static final class InFlightReadKey {
+        private final PreparedId preparedId;
+        private final List<ByteBuffer> encodedValues;
+        private final ConsistencyLevel consistencyLevel;
+        private final int hashCode;
+
+        private InFlightReadKey(BoundStatement boundStatement) {
+            this.preparedId = boundStatement.preparedStatement().getPreparedId();
+            final int variablesCount = boundStatement.preparedStatement().getVariables().size();
+            this.encodedValues = new ArrayList<>(variablesCount);
+            for (int i = 0; i < variablesCount; i++) {
+                encodedValues.add(boundStatement.getBytesUnsafe(i));
+            }
+            this.consistencyLevel = boundStatement.getConsistencyLevel();
+            this.hashCode = 31 * (31 * System.identityHashCode(preparedId) + encodedValues.hashCode())
+                    + (consistencyLevel == null ? 0 : consistencyLevel.hashCode());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final InFlightReadKey that = (InFlightReadKey) o;
+            return preparedId == that.preparedId &&
+                    consistencyLevel == that.consistencyLevel &&
+                    encodedValues.equals(that.encodedValues);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -18,6 +18,7 @@ package info.archinnov.achilles.internals.statements;
 
 import static java.lang.String.format;
 
+import java.util.Optional;
 import java.util.UUID;
 
 import org.slf4j.Logger;
@@ -28,9 +29,11 @@ import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
 
+import info.archinnov.achilles.internals.cache.EntityCache;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.types.ResultSetWrapper;
+import info.archinnov.achilles.type.HedgingPolicy;
 
 public class BoundStatementWrapper implements StatementWrapper {
 
@@ -43,6 +46,8 @@ public class BoundStatementWrapper implements StatementWrapper {
     private final Logger actualLogger;
     private BoundStatement bs;
     private UUID queryId;
+    private Optional<HedgingPolicy> hedgingPolicy = Optional.empty();
+    private boolean deduplicableRead = false;
 
 
     public BoundStatementWrapper(OperationType operationType, AbstractEntityProperty<?> meta, PreparedStatement ps,
@@ -78,6 +83,25 @@ public class BoundStatementWrapper implements StatementWrapper {
     @Override
     public void applyOptions(CassandraOptions cassandraOptions) {
         cassandraOptions.applyOptions(operationType, meta, bs);
+        if (operationType == OperationType.SELECT) {
+            hedgingPolicy = meta.hedgingPolicy(cassandraOptions.getHedgingPolicy());
+            deduplicableRead = !cassandraOptions.hasPagingState();
+        }
+    }
+
+    @Override
+    public Optional<HedgingPolicy> getHedgingPolicy() {
+        return hedgingPolicy;
+    }
+
+    @Override
+    public boolean isDeduplicableRead() {
+        return deduplicableRead;
+    }
+
+    @Override
+    public Optional<EntityCache> getModifiedEntityCache() {
+        return operationType.isUpsert ? meta.getEntityCache() : Optional.empty();
     }
 
     @Override
@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.internals.statements;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.TypeCodec;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import info.archinnov.achilles.internals.metamodel.AbstractProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+
+/**
+ * Binding plan for a fixed list of entity properties followed by the <strong>ttl</strong> bind marker.
+ * <br/>
+ * The properties are resolved once per entity meta and the index of each bind marker once
+ * per prepared statement, so extracting and binding the values of an instance is a single
+ * pass over plain arrays
+ */
+public class BoundValuesBinder<T> {
+
+    public static final String TTL_BIND_MARKER = "ttl";
+
+    private final AbstractProperty<T, ?, ?>[] properties;
+    private final String[] bindMarkers;
+    private final Cache<PreparedStatement, int[]> markerIndices = CacheBuilder.newBuilder().weakKeys().maximumSize(256).build();
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public BoundValuesBinder(List<AbstractProperty<T, ?, ?>> properties) {
+        this.properties = properties.toArray(new AbstractProperty[properties.size()]);
+        this.bindMarkers = new String[this.properties.length + 1];
+        for (int i = 0; i < this.properties.length; i++) {
+            bindMarkers[i] = this.properties[i].fieldInfo.quotedCqlColumn;
+        }
+        bindMarkers[this.properties.length] = TTL_BIND_MARKER;
+    }
+
+    /**
+     * Values of the instance to bind, in properties order, with the ttl as last value.
+     * Properties having a direct driver codec keep their Java value, the others are encoded
+     */
+    public Object[] extractBindValues(T instance, Integer ttl, Optional<CassandraOptions> cassandraOptions) {
+        final Object[] bindValues = new Object[bindMarkers.length];
+        for (int i = 0; i < properties.length; i++) {
+            final AbstractProperty<T, ?, ?> property = properties[i];
+            bindValues[i] = property.getDirectCodec().isPresent()
+                    ? property.getFieldValue(instance)
+                    : property.encodeField(instance, cassandraOptions);
+        }
+        bindValues[properties.length] = ttl;
+        return bindValues;
+    }
+
+    /**
+     * Raw Java values of the instance, in properties order, with the ttl as last value.
+     * Only needed for DML logging so it is computed on demand
+     */
+    @SuppressWarnings("unchecked")
+    Object[] extractValues(Object instance, Object ttl) {
+        final Object[] values = new Object[bindMarkers.length];
+        for (int i = 0; i < properties.length; i++) {
+            values[i] = properties[i].getFieldValue((T) instance);
+        }
+        values[properties.length] = ttl;
+        return values;
+    }
+
+    /**
+     * Encoded values from the values to bind, converting the ones kept as Java value
+     * for properties having a direct driver codec
+     */
+    @SuppressWarnings("unchecked")
+    Object[] toEncodedValues(Object[] bindValues) {
+        Object[] encodedValues = bindValues;
+        for (int i = 0; i < properties.length; i++) {
+            if (properties[i].getDirectCodec().isPresent()) {
+                if (encodedValues == bindValues) {
+                    encodedValues = bindValues.clone();
+                }
+                encodedValues[i] = ((AbstractProperty<T, Object, ?>) properties[i]).encodeFromJava(bindValues[i]);
+            }
+        }
+        return encodedValues;
+    }
+
+    /**
+     * Bind all the values by index, null values included
+     */
+    BoundStatement bindAllValues(PreparedStatement ps, Object[] bindValues) {
+        return bind(ps, bindValues, true);
+    }
+
+    /**
+     * Bind the non-null values by index. Bind markers without value are left <em>unset</em>
+     */
+    BoundStatement bindNonNullValues(PreparedStatement ps, Object[] bindValues) {
+        return bind(ps, bindValues, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private BoundStatement bind(PreparedStatement ps, Object[] bindValues, boolean bindNulls) {
+        final int[] indices = indicesFor(ps);
+        final ColumnDefinitions variables = ps.getVariables();
+        final CodecRegistry codecRegistry = ps.getCodecRegistry();
+        final BoundStatement bs = ps.bind();
+        for (int i = 0; i < indices.length; i++) {
+            final int index = indices[i];
+            final Object value = bindValues[i];
+            if (index < 0) {
+                continue;
+            } else if (value == null) {
+                if (bindNulls) bs.setToNull(index);
+            } else if (i < properties.length && properties[i].getDirectCodec().isPresent()) {
+                bs.set(index, value, (TypeCodec<Object>) properties[i].getDirectCodec().get());
+            } else {
+                bs.set(index, value, codecRegistry.codecFor(variables.getType(index), value));
+            }
+        }
+        return bs;
+    }
+
+    private int[] indicesFor(PreparedStatement ps) {
+        int[] indices = markerIndices.getIfPresent(ps);
+        if (indices == null) {
+            final ColumnDefinitions variables = ps.getVariables();
+            indices = new int[bindMarkers.length];
+            for (int i = 0; i < bindMarkers.length; i++) {
+                indices[i] = variables.getIndexOf(bindMarkers[i]);
+            }
+            markerIndices.put(ps, indices);
+        }
+        return indices;
+    }
+}
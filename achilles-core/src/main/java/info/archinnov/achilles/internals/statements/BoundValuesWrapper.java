@@ -19,7 +19,7 @@ package info.archinnov.achilles.internals.statements;
 import static info.archinnov.achilles.type.strategy.InsertStrategy.ALL_FIELDS;
 import static java.lang.String.format;
 
-import java.util.List;
+import java.util.Arrays;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,51 +34,56 @@ import info.archinnov.achilles.type.strategy.InsertStrategy;
 public class BoundValuesWrapper {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BoundValuesWrapper.class);
+    private static final Object[] NO_VALUES = new Object[0];
 
-    public final List<BoundValueInfo> boundValuesInfo;
     public final AbstractEntityProperty<?> meta;
+    private final BoundValuesBinder<?> binder;
+    private final Object instance;
+    private final Object[] bindValues;
 
-    public BoundValuesWrapper(AbstractEntityProperty<?> meta, List<BoundValueInfo> boundValuesInfo) {
+    public BoundValuesWrapper(AbstractEntityProperty<?> meta, BoundValuesBinder<?> binder, Object instance, Object[] bindValues) {
         this.meta = meta;
-        this.boundValuesInfo = boundValuesInfo;
+        this.binder = binder;
+        this.instance = instance;
+        this.bindValues = bindValues;
+    }
+
+    public Object[] getBoundValues() {
+        return binder.extractValues(instance, bindValues[bindValues.length - 1]);
+    }
+
+    public Object[] getEncodedValues() {
+        return binder.toEncodedValues(bindValues);
     }
 
     public StatementWrapper bindWithInsertStrategy(PreparedStatement ps, InsertStrategy insertStrategy) {
 
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Bind values %s to query %s with insert strategy %s",
-                    boundValuesInfo, ps.getQueryString(), insertStrategy.name()));
+                    Arrays.toString(bindValues), ps.getQueryString(), insertStrategy.name()));
         }
 
-        if (insertStrategy == ALL_FIELDS) {
-            return new BoundStatementWrapper(OperationType.INSERT, meta, ps,
-                    boundValuesInfo.stream().map(x -> x.boundValue).toArray(),
-                    boundValuesInfo.stream().map(x -> x.encodedValue).toArray());
-        } else {
-            BoundStatement bs = ps.bind();
-            boundValuesInfo.stream()
-                    .filter(x -> x.encodedValue != null)
-                    .forEach(x -> x.setter.accept(x.encodedValue, bs));
-            return new BoundStatementWrapper(OperationType.INSERT, meta, bs,
-                    boundValuesInfo.stream().map(x -> x.boundValue).toArray(),
-                    boundValuesInfo.stream().map(x -> x.encodedValue).toArray());
-        }
+        final BoundStatement bs = insertStrategy == ALL_FIELDS
+                ? binder.bindAllValues(ps, bindValues)
+                : binder.bindNonNullValues(ps, bindValues);
+        return newBoundStatementWrapper(OperationType.INSERT, bs);
     }
 
     public StatementWrapper bindForUpdate(PreparedStatement ps) {
 
         if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace(format("Bind values %s to query %s for UPDATE %s",
-                    boundValuesInfo, ps.getQueryString()));
+            LOGGER.trace(format("Bind values %s to query %s for UPDATE",
+                    Arrays.toString(bindValues), ps.getQueryString()));
         }
 
-        BoundStatement bs = ps.bind();
-        boundValuesInfo.stream()
-                .filter(x -> x.encodedValue != null)
-                .forEach(x -> x.setter.accept(x.encodedValue, bs));
-        return new BoundStatementWrapper(OperationType.UPDATE, meta, bs,
-                boundValuesInfo.stream().map(x -> x.boundValue).toArray(),
-                boundValuesInfo.stream().map(x -> x.encodedValue).toArray());
+        return newBoundStatementWrapper(OperationType.UPDATE, binder.bindNonNullValues(ps, bindValues));
+    }
 
+    private BoundStatementWrapper newBoundStatementWrapper(OperationType operationType, BoundStatement bs) {
+        if (meta.entityLogger.isDebugEnabled() || StatementWrapper.DML_LOGGER.isDebugEnabled()) {
+            return new BoundStatementWrapper(operationType, meta, bs, getBoundValues(), getEncodedValues());
+        } else {
+            return new BoundStatementWrapper(operationType, meta, bs, NO_VALUES, NO_VALUES);
+        }
     }
 }
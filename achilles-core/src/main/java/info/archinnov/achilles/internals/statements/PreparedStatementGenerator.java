@@ -20,6 +20,8 @@ import static com.datastax.driver.core.querybuilder.QueryBuilder.*;
 import static info.archinnov.achilles.internals.cache.CacheKey.Operation.*;
 import static java.lang.String.format;
 
+import java.util.BitSet;
+import java.util.List;
 import java.util.Optional;
 
 import org.slf4j.Logger;
@@ -30,6 +32,7 @@ import com.datastax.driver.core.Session;
 import com.datastax.driver.core.querybuilder.*;
 
 import info.archinnov.achilles.internals.cache.CacheKey;
+import info.archinnov.achilles.internals.cache.StatementShape;
 import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.cassandra_version.CassandraFeature;
 import info.archinnov.achilles.internals.cassandra_version.InternalCassandraVersion;
@@ -238,6 +241,41 @@ public class PreparedStatementGenerator {
         return insert.using(ttl(bindMarker("ttl")));
     }
 
+    /**
+     * Shape of the UPDATE generated by {@link #generateUpdate(Object, AbstractEntityProperty, CassandraOptions, boolean, boolean)}.
+     * <br/>
+     * The assigned columns are identified by a bitmask over <em>allColumns</em> so the query string is only
+     * rendered the first time a given combination of non-null columns and flags is seen
+     */
+    public static <T> StatementShape generateUpdateShape(T instance, AbstractEntityProperty<T> entityProperty, CassandraOptions options,
+                                                         boolean staticValuesOnly, boolean ifExists) {
+        final List<AbstractProperty<T, ?, ?>> allColumns = entityProperty.allColumns;
+        final BitSet nonNullColumns = new BitSet(allColumns.size());
+        for (int i = 0; i < allColumns.size(); i++) {
+            final AbstractProperty<T, ?, ?> x = allColumns.get(i);
+            final ColumnType columnType = x.fieldInfo.columnType;
+            if (columnType == ColumnType.PARTITION || columnType == ColumnType.CLUSTERING) continue;
+            if (staticValuesOnly && columnType != ColumnType.STATIC) continue;
+            if (x.getJavaValue(instance) != null) {
+                nonNullColumns.set(i);
+            }
+        }
+
+        final StatementShape shape = new StatementShape(entityProperty.entityClass);
+        shape.add(UPDATE);
+        if (options.getSchemaNameProvider().isPresent()) {
+            final SchemaNameProvider provider = options.getSchemaNameProvider().get();
+            shape.from(provider.keyspaceFor(entityProperty.entityClass), provider.tableNameFor(entityProperty.entityClass));
+        } else {
+            shape.from(entityProperty.getBaseTableKeyspace(), entityProperty.getBaseTableOrViewName());
+        }
+        shape.add(nonNullColumns);
+        shape.add(staticValuesOnly);
+        shape.add(ifExists);
+        shape.add(options.hasDefaultTimestamp());
+        return shape;
+    }
+
     public static <T> RegularStatement generateUpdate(T instance, AbstractEntityProperty<T> entityProperty, CassandraOptions options,
                                                       boolean staticValuesOnly, boolean ifExists) {
         if (LOGGER.isDebugEnabled()) {
@@ -280,6 +318,38 @@ public class PreparedStatementGenerator {
         return where;
     }
 
+    /**
+     * Counter increment UPDATE for the given counter columns.
+     * <br/>
+     * When only static counters are incremented, the WHERE clause is restricted to the partition keys
+     */
+    public static RegularStatement generateCounterIncrement(AbstractEntityProperty<?> entityProperty, List<AbstractProperty<?, ?, ?>> counterColumns) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Generate counter increment UPDATE query for entity of type %s", entityProperty.entityClass.getCanonicalName()));
+        }
+
+        final Update update = getUpdateWithTableName(entityProperty, Optional.empty());
+
+        Update.Assignments assignments = update.with();
+        counterColumns.forEach(x -> assignments.and(QueryBuilder.incr(x.fieldInfo.quotedCqlColumn, bindMarker(x.fieldInfo.quotedCqlColumn))));
+
+        final Update.Where where = update.where();
+        entityProperty
+                .partitionKeys
+                .forEach(x -> where.and(QueryBuilder.eq(x.fieldInfo.quotedCqlColumn, bindMarker(x.fieldInfo.quotedCqlColumn))));
+
+        final boolean staticCountersOnly = counterColumns
+                .stream()
+                .allMatch(x -> x.fieldInfo.columnType == ColumnType.STATIC_COUNTER);
+        if (!staticCountersOnly) {
+            entityProperty
+                    .clusteringColumns
+                    .forEach(x -> where.and(QueryBuilder.eq(x.fieldInfo.quotedCqlColumn, bindMarker(x.fieldInfo.quotedCqlColumn))));
+        }
+
+        return where;
+    }
+
     public static RegularStatement generateInsertJSON(AbstractEntityProperty<?> entityProperty, Optional<SchemaNameProvider> schemaNameProvider) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Generate INSERT JSON query for entity of type %s", entityProperty.entityClass.getCanonicalName()));
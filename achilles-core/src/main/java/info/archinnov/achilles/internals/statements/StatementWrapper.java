@@ -21,6 +21,7 @@ import static info.archinnov.achilles.internals.utils.LoggerHelper.replaceByteBu
 import static java.lang.String.format;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.IntStream;
 
 import org.apache.commons.lang3.ArrayUtils;
@@ -30,9 +31,11 @@ import org.slf4j.LoggerFactory;
 import com.datastax.driver.core.*;
 import com.datastax.driver.core.exceptions.TraceRetrievalException;
 
+import info.archinnov.achilles.internals.cache.EntityCache;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.types.ResultSetWrapper;
 import info.archinnov.achilles.logger.AchillesLoggers;
+import info.archinnov.achilles.type.HedgingPolicy;
 
 public interface StatementWrapper {
     Logger LOGGER = LoggerFactory.getLogger(StatementWrapper.class);
@@ -46,6 +49,24 @@ public interface StatementWrapper {
 
     void applyOptions(CassandraOptions cassandraOptions);
 
+    default Optional<HedgingPolicy> getHedgingPolicy() {
+        return Optional.empty();
+    }
+
+    /**
+     * Whether the statement is a read which can share its in-flight request with identical concurrent reads
+     */
+    default boolean isDeduplicableRead() {
+        return false;
+    }
+
+    /**
+     * Entity cache whose entries may be modified by this statement, if any
+     */
+    default Optional<EntityCache> getModifiedEntityCache() {
+        return Optional.empty();
+    }
+
     void logDML();
 
     ResultSet logReturnResults(ResultSet resultSet, int maxDisplayedRows);
@@ -54,6 +75,15 @@ public interface StatementWrapper {
 
     ResultSet logTrace(ResultSet resultSet);
 
+    /**
+     * Fuse the result set async listeners, the returned results logging, the tracing and the given
+     * mapping into a single function so that the post-processing of a read runs as one asynchronous stage.
+     * Disabled steps cost a flag check only
+     */
+    default <T> Function<ResultSet, T> postProcessing(CassandraOptions options, int maxDisplayedRows, Function<ResultSet, T> mapper) {
+        return resultSet -> mapper.apply(logTrace(logReturnResults(options.resultSetAsyncListener(resultSet), maxDisplayedRows)));
+    }
+
     default void writeDMLStatementLog(Logger actualLogger, UUID queryId, String queryString, ConsistencyLevel consistencyLevel, Object[] boundValues, Object[] encodedValues) {
         if (actualLogger.isDebugEnabled()) {
             if (LOGGER.isDebugEnabled()) {
@@ -115,8 +145,8 @@ public interface StatementWrapper {
     }
 
     default void tracingInternal(Logger actualLogger, UUID queryId, ResultSet resultSet) {
-        StringBuilder trace = new StringBuilder();
         if (actualLogger.isTraceEnabled()) {
+            StringBuilder trace = new StringBuilder();
             for (ExecutionInfo executionInfo : resultSet.getAllExecutionInfo()) {
 
                 trace.append(format("\n\nTracing for Query ID %s at host %s with achieved consistency level %s \n", queryId.toString(), executionInfo.getQueriedHost(), executionInfo.getAchievedConsistencyLevel()));
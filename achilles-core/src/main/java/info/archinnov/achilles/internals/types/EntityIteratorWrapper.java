@@ -52,7 +52,7 @@ public class EntityIteratorWrapper<ENTITY> implements Iterator<ENTITY>, AsyncAwa
                         EntityIteratorWrapper.this.executionInfo = rs.getExecutionInfo();
                         return rs;
                     })
-                    .thenApply(rs -> rs.iterator()));
+                    .thenApply(rs -> PrefetchingRowIterator.forResultSet(rs, cassandraOptions)));
         } catch (ExecutionException e) {
             throw extractCauseFromExecutionException(e);
         }
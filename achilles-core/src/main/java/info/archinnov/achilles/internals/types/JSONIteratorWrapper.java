@@ -47,7 +47,7 @@ public class JSONIteratorWrapper implements Iterator<String>, AsyncAware {
                         JSONIteratorWrapper.this.executionInfo = rs.getExecutionInfo();
                         return rs;
                     })
-                    .thenApply(rs -> rs.iterator()));
+                    .thenApply(rs -> PrefetchingRowIterator.forResultSet(rs, cassandraOptions)));
         } catch (ExecutionException e) {
             throw extractCauseFromExecutionException(e);
         }
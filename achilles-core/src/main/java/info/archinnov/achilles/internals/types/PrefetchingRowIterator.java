@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.types;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+
+import info.archinnov.achilles.internals.options.CassandraOptions;
+
+/**
+ * Iterator over the rows of a {@link com.datastax.driver.core.ResultSet} which triggers
+ * the asynchronous fetch of the next page as soon as the number of rows left
+ * in the current page drops below the given threshold. Network latency of the next page
+ * is then overlapped with the processing of the remaining rows.
+ * <br/>
+ * A threshold of 0 disables read-ahead and only fetches the next page when the current one is exhausted
+ */
+public class PrefetchingRowIterator implements Iterator<Row> {
+
+    private final ResultSet resultSet;
+    private final int prefetchThreshold;
+
+    public PrefetchingRowIterator(ResultSet resultSet, int prefetchThreshold) {
+        this.resultSet = resultSet;
+        this.prefetchThreshold = prefetchThreshold;
+    }
+
+    public static Iterator<Row> forResultSet(ResultSet resultSet, CassandraOptions options) {
+        return new PrefetchingRowIterator(resultSet, options.getPrefetchThreshold().orElse(0));
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !resultSet.isExhausted();
+    }
+
+    @Override
+    public Row next() {
+        final Row row = resultSet.one();
+        if (row == null) {
+            throw new NoSuchElementException();
+        }
+        if (prefetchThreshold > 0
+                && resultSet.getAvailableWithoutFetching() < prefetchThreshold
+                && !resultSet.isFullyFetched()) {
+            // No-op if the next page is already being fetched
+            resultSet.fetchMoreResults();
+        }
+        return row;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.types;
+
+import static java.lang.String.format;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+
+/**
+ * Cold {@link org.reactivestreams.Publisher} over the rows of a SELECT statement.
+ * <br/>
+ * The statement is executed when the subscriber first signals demand and the
+ * following pages are fetched asynchronously only once the current page has been
+ * fully emitted and there is still outstanding demand. Each subscription
+ * re-executes the statement
+ */
+public class ResultSetPublisher<T> implements Publisher<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResultSetPublisher.class);
+
+    private final RuntimeEngine rte;
+    private final StatementWrapper statementWrapper;
+    private final CassandraOptions options;
+    private final Function<Row, T> rowMapper;
+
+    public ResultSetPublisher(RuntimeEngine rte, StatementWrapper statementWrapper, CassandraOptions options, Function<Row, T> rowMapper) {
+        this.rte = rte;
+        this.statementWrapper = statementWrapper;
+        this.options = options;
+        this.rowMapper = rowMapper;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "Subscriber should not be null");
+        subscriber.onSubscribe(new ResultSetSubscription(subscriber));
+    }
+
+    private final class ResultSetSubscription implements Subscription {
+
+        private final Subscriber<? super T> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        /**
+         * Set on cancellation and after a terminal signal
+         */
+        private volatile boolean cancelled;
+        private volatile boolean fetching;
+        private volatile ResultSet resultSet;
+        private volatile Throwable error;
+
+        private ResultSetSubscription(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException(format("Requested items count should be strictly positive, got %s", n));
+            } else {
+                long current, next;
+                do {
+                    current = requested.get();
+                    next = current + n < 0 ? Long.MAX_VALUE : current + n;
+                } while (!requested.compareAndSet(current, next));
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void onPage(ResultSet page, Throwable throwable) {
+            if (throwable != null) {
+                error = throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause()
+                        : throwable;
+            } else {
+                resultSet = page;
+            }
+            fetching = false;
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                emitAvailableRows();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emitAvailableRows() {
+            if (cancelled) {
+                return;
+            }
+            if (error != null) {
+                cancelled = true;
+                subscriber.onError(error);
+                return;
+            }
+            if (fetching) {
+                return;
+            }
+
+            final ResultSet rs = resultSet;
+            if (rs == null) {
+                if (requested.get() > 0) {
+                    if (LOGGER.isTraceEnabled()) {
+                        LOGGER.trace(format("Execute statement for publisher : %s",
+                                statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+                    }
+                    fetching = true;
+                    final CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper)
+                            .thenApply(options::resultSetAsyncListener)
+                            .thenApply(statementWrapper::logTrace);
+                    futureRS.whenComplete(this::onPage);
+                }
+                return;
+            }
+
+            long emitted = 0L;
+            final long demand = requested.get();
+            while (emitted != demand && rs.getAvailableWithoutFetching() > 0) {
+                if (cancelled) {
+                    return;
+                }
+                final T item;
+                try {
+                    final Row row = rs.one();
+                    statementWrapper.logReturnedRow(row);
+                    options.rowAsyncListener(row);
+                    item = rowMapper.apply(row);
+                } catch (Throwable throwable) {
+                    cancelled = true;
+                    subscriber.onError(throwable);
+                    return;
+                }
+                subscriber.onNext(item);
+                emitted++;
+            }
+
+            if (emitted > 0 && demand != Long.MAX_VALUE) {
+                requested.addAndGet(-emitted);
+            }
+
+            if (rs.getAvailableWithoutFetching() == 0) {
+                if (rs.isFullyFetched()) {
+                    cancelled = true;
+                    subscriber.onComplete();
+                } else if (!cancelled && requested.get() > 0) {
+                    fetching = true;
+                    rte.fetchMoreResults(rs).whenComplete(this::onPage);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.types;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+
+/**
+ * {@link java.util.Spliterator} over the rows of a {@link com.datastax.driver.core.ResultSet}, mapped lazily
+ * with the given row mapper.
+ * <br/>
+ * Splitting happens at page boundaries: {@link #trySplit()} hands over the rows of the current page,
+ * which can then be mapped on another thread, and triggers the asynchronous fetch of the next page.
+ * Parallel streams can thus map a page on several cores while the next one is in flight
+ */
+public class ResultSetSpliterator<T> implements Spliterator<T> {
+
+    private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.NONNULL;
+
+    private final ResultSet resultSet;
+    private final Function<Row, T> rowMapper;
+
+    public ResultSetSpliterator(ResultSet resultSet, Function<Row, T> rowMapper) {
+        this.resultSet = resultSet;
+        this.rowMapper = rowMapper;
+    }
+
+    /**
+     * Create a sequential {@link java.util.stream.Stream} whose {@link com.datastax.driver.core.ResultSet}
+     * is only obtained when the terminal operation starts
+     */
+    public static <T> Stream<T> stream(Supplier<ResultSet> resultSetSupplier, Function<Row, T> rowMapper) {
+        return StreamSupport.stream(() -> new ResultSetSpliterator<>(resultSetSupplier.get(), rowMapper), CHARACTERISTICS, false);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (resultSet.isExhausted()) {
+            return false;
+        }
+        action.accept(rowMapper.apply(resultSet.one()));
+        return true;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        // Blocks only if the current page is empty and the next one has not been received yet
+        if (resultSet.isExhausted()) {
+            return null;
+        }
+
+        final int pageSize = resultSet.getAvailableWithoutFetching();
+        final List<Row> page = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            page.add(resultSet.one());
+        }
+
+        if (!resultSet.isFullyFetched()) {
+            resultSet.fetchMoreResults();
+        }
+        return new PageSpliterator<>(Spliterators.spliterator(page, CHARACTERISTICS), rowMapper);
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    /**
+     * Rows of an already fetched page, mapped lazily so that the mapping cost is borne by the consuming thread
+     */
+    private static final class PageSpliterator<T> implements Spliterator<T> {
+
+        private final Spliterator<Row> rows;
+        private final Function<Row, T> rowMapper;
+
+        private PageSpliterator(Spliterator<Row> rows, Function<Row, T> rowMapper) {
+            this.rows = rows;
+            this.rowMapper = rowMapper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            return rows.tryAdvance(row -> action.accept(rowMapper.apply(row)));
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            rows.forEachRemaining(row -> action.accept(rowMapper.apply(row)));
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            final Spliterator<Row> prefix = rows.trySplit();
+            return prefix == null ? null : new PageSpliterator<>(prefix, rowMapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return rows.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return rows.characteristics();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.types;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * Fully fetched ResultSet whose rows are shared between several consumers.
+ * Each consumer must call {@link #newView()} to get its own read position over the rows
+ */
+public class SharedResultSet implements ResultSet {
+
+    private final ResultSet delegate;
+    private final List<Row> rows;
+    private int position = 0;
+
+    public SharedResultSet(ResultSet delegate) {
+        this(delegate, new ArrayList<>(delegate.all()));
+    }
+
+    private SharedResultSet(ResultSet delegate, List<Row> rows) {
+        this.delegate = delegate;
+        this.rows = rows;
+    }
+
+    public SharedResultSet newView() {
+        return new SharedResultSet(delegate, rows);
+    }
+
+    @Override
+    public ColumnDefinitions getColumnDefinitions() {
+        return delegate.getColumnDefinitions();
+    }
+
+    @Override
+    public boolean isExhausted() {
+        return position >= rows.size();
+    }
+
+    @Override
+    public Row one() {
+        return isExhausted() ? null : rows.get(position++);
+    }
+
+    @Override
+    public List<Row> all() {
+        final List<Row> remaining = new ArrayList<>(rows.subList(position, rows.size()));
+        position = rows.size();
+        return remaining;
+    }
+
+    @Override
+    public Iterator<Row> iterator() {
+        return new Iterator<Row>() {
+            @Override
+            public boolean hasNext() {
+                return !isExhausted();
+            }
+
+            @Override
+            public Row next() {
+                if (isExhausted()) throw new NoSuchElementException();
+                return rows.get(position++);
+            }
+        };
+    }
+
+    @Override
+    public int getAvailableWithoutFetching() {
+        return rows.size() - position;
+    }
+
+    @Override
+    public boolean isFullyFetched() {
+        return true;
+    }
+
+    @Override
+    public ListenableFuture<ResultSet> fetchMoreResults() {
+        return Futures.immediateFuture(this);
+    }
+
+    @Override
+    public ExecutionInfo getExecutionInfo() {
+        return delegate.getExecutionInfo();
+    }
+
+    @Override
+    public List<ExecutionInfo> getAllExecutionInfo() {
+        return delegate.getAllExecutionInfo();
+    }
+
+    @Override
+    public boolean wasApplied() {
+        return delegate.wasApplied();
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
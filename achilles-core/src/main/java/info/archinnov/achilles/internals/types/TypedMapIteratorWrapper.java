@@ -50,7 +50,7 @@ public class TypedMapIteratorWrapper implements Iterator<TypedMap>, AsyncAware {
                         TypedMapIteratorWrapper.this.executionInfo = rs.getExecutionInfo();
                         return rs;
                     })
-                    .thenApply(rs -> rs.iterator()));
+                    .thenApply(rs -> PrefetchingRowIterator.forResultSet(rs, cassandraOptions)));
         } catch (ExecutionException e) {
             throw extractCauseFromExecutionException(e);
         }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.internals.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PreparedStatementsWarmupTest {
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private PreparedStatement ps;
+
+    @Test
+    public void should_save_and_read_most_used_query_strings_first() throws Exception {
+        //Given
+        final Path warmupFile = Files.createTempDirectory("achilles").resolve("warmup.txt");
+        final StatementsCache cache = new StatementsCache(100);
+        when(session.prepare(anyString())).thenReturn(ps);
+        final PreparedStatementsWarmup warmup = new PreparedStatementsWarmup(warmupFile, 2, 30L, cache, session);
+
+        cache.getDynamicCache("SELECT * FROM ks.table1;", session);
+        cache.getDynamicCache("SELECT *\nFROM ks.table2\tWHERE id='a\\b';", session);
+        cache.getDynamicCache("SELECT *\nFROM ks.table2\tWHERE id='a\\b';", session);
+        cache.getDynamicCache("SELECT * FROM ks.table3;", session);
+        cache.getDynamicCache("SELECT * FROM ks.table3;", session);
+        cache.getDynamicCache("SELECT * FROM ks.table3;", session);
+
+        //When
+        warmup.save();
+
+        //Then
+        assertThat(warmup.readQueryStrings()).containsExactly(
+                "SELECT * FROM ks.table3;",
+                "SELECT *\nFROM ks.table2\tWHERE id='a\\b';");
+    }
+
+    @Test
+    public void should_keep_prepared_statements_and_continue_on_warmup_timeout() throws Exception {
+        //Given
+        final Path warmupFile = Files.createTempDirectory("achilles").resolve("warmup.txt");
+        Files.write(warmupFile, Arrays.asList("2\tSELECT * FROM ks.table1;", "1\tSELECT * FROM ks.table2;"));
+        final StatementsCache cache = new StatementsCache(100);
+        final SettableFuture<PreparedStatement> neverPrepared = SettableFuture.create();
+        when(session.prepareAsync("SELECT * FROM ks.table1;")).thenReturn(Futures.immediateFuture(ps));
+        when(session.prepareAsync("SELECT * FROM ks.table2;")).thenReturn(neverPrepared);
+        final PreparedStatementsWarmup warmup = new PreparedStatementsWarmup(warmupFile, 2, 1L, cache, session);
+
+        //When
+        warmup.warmUp();
+
+        //Then
+        assertThat(cache.getDynamicCache("SELECT * FROM ks.table1;", session)).isSameAs(ps);
+        verify(session, never()).prepare("SELECT * FROM ks.table1;");
+    }
+
+    @Test
+    public void should_escape_and_unescape_query_string() throws Exception {
+        //Given
+        final String queryString = "SELECT *\r\nFROM ks.table\tWHERE id='\\n';";
+
+        //When
+        final String escaped = PreparedStatementsWarmup.escape(queryString);
+
+        //Then
+        assertThat(escaped).doesNotContain("\n").doesNotContain("\r").doesNotContain("\t");
+        assertThat(PreparedStatementsWarmup.unescape(escaped)).isEqualTo(queryString);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.internals.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.datastax.driver.core.querybuilder.Select;
+
+public class StatementShapeTest {
+
+    @Test
+    public void should_be_equal_when_same_tokens() throws Exception {
+        //Given
+        final StatementShape shape1 = buildShape(String.class, "id", "value");
+        final StatementShape shape2 = buildShape(String.class, "id", "value");
+
+        //When
+        final boolean equal = shape1.equals(shape2);
+
+        //Then
+        assertThat(equal).isTrue();
+        assertThat(shape1.hashCode()).isEqualTo(shape2.hashCode());
+    }
+
+    @Test
+    public void should_not_be_equal_when_tokens_order_differs() throws Exception {
+        //Given
+        final StatementShape shape1 = buildShape(String.class, "id", "value");
+        final StatementShape shape2 = buildShape(String.class, "value", "id");
+
+        //When
+        final boolean equal = shape1.equals(shape2);
+
+        //Then
+        assertThat(equal).isFalse();
+    }
+
+    @Test
+    public void should_not_be_equal_when_dsl_class_differs() throws Exception {
+        //Given
+        final StatementShape shape1 = buildShape(String.class, "id");
+        final StatementShape shape2 = buildShape(Integer.class, "id");
+
+        //When
+        final boolean equal = shape1.equals(shape2);
+
+        //Then
+        assertThat(equal).isFalse();
+    }
+
+    @Test
+    public void should_not_be_equal_when_table_differs() throws Exception {
+        //Given
+        final StatementShape shape1 = buildShape(String.class, "id");
+        final StatementShape shape2 = buildShape(String.class, "id");
+        shape1.from("ks", "table1");
+        shape2.from("ks", "table2");
+
+        //When
+        final boolean equal = shape1.equals(shape2);
+
+        //Then
+        assertThat(equal).isFalse();
+    }
+
+    @Test
+    public void should_not_be_equal_when_query_string_fallback_differs() throws Exception {
+        //Given
+        final StatementShape shape1 = buildShape(String.class, "id");
+        final StatementShape shape2 = buildShape(String.class, "id");
+        shape2.fallbackToQueryString();
+
+        //When
+        final boolean equal = shape1.equals(shape2);
+
+        //Then
+        assertThat(equal).isFalse();
+        assertThat(shape2.isQueryStringFallback()).isTrue();
+    }
+
+    @Test
+    public void should_copy_independently_of_original() throws Exception {
+        //Given
+        final StatementShape shape = buildShape(String.class, "id");
+
+        //When
+        final StatementShape copy = shape.copy();
+        shape.add("value");
+
+        //Then
+        assertThat(copy).isEqualTo(buildShape(String.class, "id"));
+        assertThat(copy.hashCode()).isEqualTo(buildShape(String.class, "id").hashCode());
+        assertThat(copy).isNotEqualTo(shape);
+    }
+
+    @Test
+    public void should_build_query_by_replaying_clauses() throws Exception {
+        //Given
+        final StatementShape shape = new StatementShape(String.class, QueryBuilder::select);
+        shape.<Select.Selection>add("SELECT column(id)", selection -> selection.column("id"));
+        shape.<Select.Builder>from("ks", "table", (select, keyspace, table) -> select.from(keyspace, table).where());
+        shape.<Select.Where>add("WHERE eq(id,id)", where -> where.and(QueryBuilder.eq("id", QueryBuilder.bindMarker("id"))));
+
+        //When
+        final String queryString = shape.buildQuery().getQueryString();
+
+        //Then
+        assertThat(queryString).isEqualTo("SELECT id FROM ks.table WHERE id=:id;");
+    }
+
+    @Test
+    public void should_not_build_query_tree_until_requested() throws Exception {
+        //Given
+        final AtomicInteger rootCalls = new AtomicInteger();
+        final StatementShape shape = new StatementShape(String.class, () -> {
+            rootCalls.incrementAndGet();
+            return QueryBuilder.select();
+        });
+
+        //When
+        shape.<Select.Selection>add("select all()", Select.Selection::all);
+        shape.<Select.Builder>from("ks", "table", (select, keyspace, table) -> select.from(keyspace, table).where());
+
+        //Then
+        assertThat(rootCalls.get()).isEqualTo(0);
+        assertThat(shape.buildQuery().getQueryString()).isEqualTo("SELECT * FROM ks.table;");
+        assertThat(rootCalls.get()).isEqualTo(1);
+    }
+
+    private static StatementShape buildShape(Class<?> dslClass, Object... tokens) {
+        final StatementShape shape = new StatementShape(dslClass);
+        for (Object token : tokens) {
+            shape.add(token);
+        }
+        return shape;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.internals.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StatementsCacheTest {
+
+    private static final String QUERY1 = "SELECT * FROM ks.table WHERE id=:id;";
+    private static final String QUERY2 = "SELECT value FROM ks.table WHERE id=:id;";
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private PreparedStatement ps1, ps2;
+
+    @Test
+    public void should_render_and_prepare_only_once_on_shape_cache_hit() throws Exception {
+        //Given
+        final StatementsCache cache = new StatementsCache(100);
+        final AtomicInteger renderCount = new AtomicInteger(0);
+        final Supplier<String> queryString = () -> {
+            renderCount.incrementAndGet();
+            return QUERY1;
+        };
+        when(session.prepare(QUERY1)).thenReturn(ps1);
+
+        //When
+        final PreparedStatement first = cache.getDynamicCache(buildShape("select all()"), queryString, session);
+        final PreparedStatement second = cache.getDynamicCache(buildShape("select all()"), queryString, session);
+
+        //Then
+        assertThat(first).isSameAs(ps1);
+        assertThat(second).isSameAs(ps1);
+        assertThat(renderCount.get()).isEqualTo(1);
+        verify(session, times(1)).prepare(QUERY1);
+    }
+
+    @Test
+    public void should_prepare_new_statement_on_shape_cache_miss() throws Exception {
+        //Given
+        final StatementsCache cache = new StatementsCache(100);
+        when(session.prepare(QUERY1)).thenReturn(ps1);
+        when(session.prepare(QUERY2)).thenReturn(ps2);
+
+        //When
+        final PreparedStatement first = cache.getDynamicCache(buildShape("select all()"), () -> QUERY1, session);
+        final PreparedStatement second = cache.getDynamicCache(buildShape("SELECT column(value)"), () -> QUERY2, session);
+
+        //Then
+        assertThat(first).isSameAs(ps1);
+        assertThat(second).isSameAs(ps2);
+        verify(session, times(1)).prepare(QUERY1);
+        verify(session, times(1)).prepare(QUERY2);
+    }
+
+    @Test
+    public void should_not_be_affected_by_shape_modified_after_caching() throws Exception {
+        //Given
+        final StatementsCache cache = new StatementsCache(100);
+        when(session.prepare(QUERY1)).thenReturn(ps1);
+        when(session.prepare(QUERY2)).thenReturn(ps2);
+        final StatementShape shape = buildShape("select all()");
+        cache.getDynamicCache(shape, () -> QUERY1, session);
+
+        //When
+        shape.add("SELECT column(value)");
+        final PreparedStatement actual = cache.getDynamicCache(buildShape("select all()"), () -> QUERY2, session);
+
+        //Then
+        assertThat(actual).isSameAs(ps1);
+        verify(session, never()).prepare(QUERY2);
+    }
+
+    @Test
+    public void should_look_up_by_query_string_when_shape_falls_back() throws Exception {
+        //Given
+        final StatementsCache cache = new StatementsCache(100);
+        final AtomicInteger renderCount = new AtomicInteger(0);
+        final Supplier<String> queryString = () -> {
+            renderCount.incrementAndGet();
+            return QUERY1;
+        };
+        when(session.prepare(QUERY1)).thenReturn(ps1);
+        final StatementShape shape = buildShape("select all()");
+        shape.fallbackToQueryString();
+
+        //When
+        final PreparedStatement first = cache.getDynamicCache(shape, queryString, session);
+        final PreparedStatement second = cache.getDynamicCache(shape, queryString, session);
+
+        //Then
+        assertThat(first).isSameAs(ps1);
+        assertThat(second).isSameAs(ps1);
+        assertThat(renderCount.get()).isEqualTo(2);
+        verify(session, times(1)).prepare(QUERY1);
+    }
+
+    private static StatementShape buildShape(String clause) {
+        final StatementShape shape = new StatementShape(StatementsCacheTest.class);
+        shape.add(clause);
+        shape.from("ks", "table");
+        return shape;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.internals.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.TypeCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.reflect.TypeToken;
+
+public class ByteBufferTypeCodecTest {
+
+    private static final ProtocolVersion V4 = ProtocolVersion.V4;
+
+    @Test
+    public void should_serialize_enum_name_like_the_driver_text_codec() throws Exception {
+        //Given
+        final EnumNameCodec<ConsistencyLevel> codec = new EnumNameCodec<>(Arrays.asList(ConsistencyLevel.values()), ConsistencyLevel.class);
+        final ByteBufferTypeCodec<ConsistencyLevel, String> typeCodec = new ByteBufferTypeCodec<>(DataType.text(), TypeToken.of(ConsistencyLevel.class), codec);
+
+        //When
+        final ByteBuffer bytes = typeCodec.serialize(ConsistencyLevel.LOCAL_QUORUM, V4);
+
+        //Then
+        assertThat(bytes).isEqualTo(TypeCodec.varchar().serialize("LOCAL_QUORUM", V4));
+        assertThat(typeCodec.deserialize(bytes, V4)).isSameAs(ConsistencyLevel.LOCAL_QUORUM);
+        assertThat(typeCodec.deserialize(TypeCodec.varchar().serialize("ONE", V4), V4)).isSameAs(ConsistencyLevel.ONE);
+        assertThat(typeCodec.serialize(null, V4)).isNull();
+        assertThat(typeCodec.format(ConsistencyLevel.ONE)).isEqualTo("'ONE'");
+    }
+
+    @Test
+    public void should_serialize_enum_ordinal_like_the_driver_int_codec() throws Exception {
+        //Given
+        final EnumOrdinalCodec<ConsistencyLevel> codec = new EnumOrdinalCodec<>(Arrays.asList(ConsistencyLevel.values()), ConsistencyLevel.class);
+        final ByteBufferTypeCodec<ConsistencyLevel, Integer> typeCodec = new ByteBufferTypeCodec<>(DataType.cint(), TypeToken.of(ConsistencyLevel.class), codec);
+
+        //When
+        final ByteBuffer bytes = typeCodec.serialize(ConsistencyLevel.QUORUM, V4);
+
+        //Then
+        assertThat(bytes).isEqualTo(TypeCodec.cint().serialize(ConsistencyLevel.QUORUM.ordinal(), V4));
+        assertThat(typeCodec.deserialize(bytes, V4)).isSameAs(ConsistencyLevel.QUORUM);
+    }
+
+    @Test
+    public void should_serialize_json_like_the_driver_text_codec() throws Exception {
+        //Given
+        final JSONCodec<Map<Integer, List<Integer>>> codec = new JSONCodec<>(Map.class,
+                JSONCodec.TYPE_FACTORY_INSTANCE.constructMapType(Map.class, Integer.class, List.class));
+        codec.setObjectMapper(new ObjectMapper());
+        final ByteBufferTypeCodec<Map<Integer, List<Integer>>, String> typeCodec = new ByteBufferTypeCodec<>(DataType.text(),
+                new TypeToken<Map<Integer, List<Integer>>>(){}, codec);
+        final Map<Integer, List<Integer>> value = ImmutableMap.of(1, Arrays.asList(1, 2));
+
+        //When
+        final ByteBuffer bytes = typeCodec.serialize(value, V4);
+
+        //Then
+        assertThat(bytes).isEqualTo(TypeCodec.varchar().serialize(codec.encode(value), V4));
+        assertThat(typeCodec.deserialize(bytes, V4)).isEqualTo(value);
+    }
+
+    @Test
+    public void should_stream_large_json_from_heap_and_direct_buffers() throws Exception {
+        //Given
+        final JSONCodec<List<String>> codec = new JSONCodec<>(List.class,
+                JSONCodec.TYPE_FACTORY_INSTANCE.constructCollectionType(List.class, String.class));
+        codec.setObjectMapper(new ObjectMapper());
+        final List<String> value = Collections.nCopies(10_000, "\u00e9l\u00e9ment");
+
+        //When
+        final ByteBuffer heapBytes = codec.serialize(value, V4);
+        final ByteBuffer directBytes = ByteBuffer.allocateDirect(heapBytes.remaining());
+        directBytes.put(heapBytes.duplicate()).flip();
+
+        //Then
+        assertThat(heapBytes).isEqualTo(TypeCodec.varchar().serialize(codec.encode(value), V4));
+        assertThat(codec.deserialize(heapBytes, V4)).isEqualTo(value);
+        assertThat(codec.deserialize(directBytes, V4)).isEqualTo(value);
+        assertThat(directBytes.remaining()).isEqualTo(heapBytes.remaining());
+    }
+
+    @Test
+    public void should_not_pin_oversized_array_after_large_json() throws Exception {
+        //Given
+        final JSONCodec<List<String>> codec = new JSONCodec<>(List.class,
+                JSONCodec.TYPE_FACTORY_INSTANCE.constructCollectionType(List.class, String.class));
+        codec.setObjectMapper(new ObjectMapper());
+        codec.serialize(Collections.nCopies(10_000, "large"), V4);
+
+        //When
+        final ByteBuffer bytes = codec.serialize(Collections.singletonList("small"), V4);
+
+        //Then
+        assertThat(bytes.remaining()).isEqualTo("[\"small\"]".length());
+        assertThat(bytes.array().length).isEqualTo(bytes.remaining());
+    }
+
+    @Test
+    public void should_bound_json_size_hint() throws Exception {
+        //When
+        final int afterSpike = JSONCodec.nextSizeHint(256, 10_000_000);
+        final int afterSmall = JSONCodec.nextSizeHint(afterSpike, 10);
+
+        //Then
+        assertThat(afterSpike).isEqualTo(64 * 1024);
+        assertThat(afterSmall).isLessThan(afterSpike).isGreaterThanOrEqualTo(256);
+        assertThat(JSONCodec.nextSizeHint(256, 10)).isEqualTo(256);
+    }
+}
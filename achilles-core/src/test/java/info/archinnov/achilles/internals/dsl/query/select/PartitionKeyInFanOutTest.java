@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.dsl.query.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ExecutionInfo;
+
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.tuples.Tuple2;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PartitionKeyInFanOutTest {
+
+    @Mock
+    private StatementWrapper statementWrapper1, statementWrapper2;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private BoundStatement boundStatement;
+
+    @Mock
+    private ExecutionInfo executionInfo;
+
+    @Before
+    public void setUp() {
+        when(statementWrapper1.getBoundStatement()).thenReturn(boundStatement);
+        when(statementWrapper2.getBoundStatement()).thenReturn(boundStatement);
+    }
+
+    @Test
+    public void should_truncate_merged_results_to_bound_limit() throws Exception {
+        //Given
+        when(boundStatement.preparedStatement().getVariables().getIndexOf("lim")).thenReturn(2);
+        when(boundStatement.isSet(2)).thenReturn(true);
+        when(boundStatement.getInt(2)).thenReturn(3);
+
+        //When
+        final Tuple2<List<String>, ExecutionInfo> merged = PartitionKeyInFanOut
+                .executeAndMerge(Arrays.asList(statementWrapper1, statementWrapper2), Integer.MAX_VALUE, this::query)
+                .get();
+
+        //Then
+        assertThat(merged._1()).containsExactly("a1", "a2", "b1");
+        assertThat(merged._2()).isSameAs(executionInfo);
+    }
+
+    @Test
+    public void should_truncate_merged_results_to_max_rows_when_lower_than_limit() throws Exception {
+        //Given
+        when(boundStatement.preparedStatement().getVariables().getIndexOf("lim")).thenReturn(2);
+        when(boundStatement.isSet(2)).thenReturn(true);
+        when(boundStatement.getInt(2)).thenReturn(3);
+
+        //When
+        final Tuple2<List<String>, ExecutionInfo> merged = PartitionKeyInFanOut
+                .executeAndMerge(Arrays.asList(statementWrapper1, statementWrapper2), 1, this::query)
+                .get();
+
+        //Then
+        assertThat(merged._1()).containsExactly("a1");
+    }
+
+    @Test
+    public void should_merge_all_results_when_no_limit() throws Exception {
+        //Given
+        when(boundStatement.preparedStatement().getVariables().getIndexOf("lim")).thenReturn(-1);
+
+        //When
+        final Tuple2<List<String>, ExecutionInfo> merged = PartitionKeyInFanOut
+                .executeAndMerge(Arrays.asList(statementWrapper1, statementWrapper2), Integer.MAX_VALUE, this::query)
+                .get();
+
+        //Then
+        assertThat(merged._1()).containsExactly("a1", "a2", "b1", "b2");
+    }
+
+    private CompletableFuture<Tuple2<List<String>, ExecutionInfo>> query(StatementWrapper statementWrapper) {
+        final List<String> rows = statementWrapper == statementWrapper1
+                ? Arrays.asList("a1", "a2")
+                : Arrays.asList("b1", "b2");
+        return CompletableFuture.completedFuture(Tuple2.of(rows, executionInfo));
+    }
+}
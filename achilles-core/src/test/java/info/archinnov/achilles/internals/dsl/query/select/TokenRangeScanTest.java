@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.internals.dsl.query.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.Token;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.internals.dsl.query.select.TokenRangeScan.RangeBounds;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TokenRangeScanTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Mock
+    private Token start, end;
+
+    @Test
+    public void should_scan_whole_ring_when_range_starts_and_ends_on_same_token() throws Exception {
+        //Given
+        when(start.compareTo(start)).thenReturn(0);
+
+        //When
+        final RangeBounds rangeBounds = RangeBounds.of(start, start);
+
+        //Then
+        assertThat(rangeBounds).isSameAs(RangeBounds.FULL_RING);
+    }
+
+    @Test
+    public void should_scan_open_range_when_range_ends_on_min_token() throws Exception {
+        //Given
+        when(end.compareTo(start)).thenReturn(-1);
+
+        //When
+        final RangeBounds rangeBounds = RangeBounds.of(start, end);
+
+        //Then
+        assertThat(rangeBounds).isSameAs(RangeBounds.OPEN);
+    }
+
+    @Test
+    public void should_scan_bounded_range() throws Exception {
+        //Given
+        when(end.compareTo(start)).thenReturn(1);
+
+        //When
+        final RangeBounds rangeBounds = RangeBounds.of(start, end);
+
+        //Then
+        assertThat(rangeBounds).isSameAs(RangeBounds.BOUNDED);
+    }
+
+    @Test
+    public void should_fail_when_no_token_range_is_available() throws Exception {
+        //Given
+        exception.expect(AchillesException.class);
+        exception.expectMessage("token metadata is not available");
+
+        //When
+        TokenRangeScan.splitTokenRanges(Collections.emptySet(), 4);
+    }
+}
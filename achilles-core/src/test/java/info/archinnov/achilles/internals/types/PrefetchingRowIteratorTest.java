@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PrefetchingRowIteratorTest {
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private Row row;
+
+    @Test
+    public void should_fetch_next_page_when_below_threshold() throws Exception {
+        //Given
+        when(resultSet.one()).thenReturn(row);
+        when(resultSet.getAvailableWithoutFetching()).thenReturn(1);
+        when(resultSet.isFullyFetched()).thenReturn(false);
+        final PrefetchingRowIterator iterator = new PrefetchingRowIterator(resultSet, 2);
+
+        //When
+        final Row actual = iterator.next();
+
+        //Then
+        assertThat(actual).isSameAs(row);
+        verify(resultSet).fetchMoreResults();
+    }
+
+    @Test
+    public void should_not_fetch_next_page_when_above_threshold() throws Exception {
+        //Given
+        when(resultSet.one()).thenReturn(row);
+        when(resultSet.getAvailableWithoutFetching()).thenReturn(5);
+        final PrefetchingRowIterator iterator = new PrefetchingRowIterator(resultSet, 2);
+
+        //When
+        iterator.next();
+
+        //Then
+        verify(resultSet, never()).fetchMoreResults();
+    }
+
+    @Test
+    public void should_not_fetch_next_page_when_fully_fetched() throws Exception {
+        //Given
+        when(resultSet.one()).thenReturn(row);
+        when(resultSet.getAvailableWithoutFetching()).thenReturn(0);
+        when(resultSet.isFullyFetched()).thenReturn(true);
+        final PrefetchingRowIterator iterator = new PrefetchingRowIterator(resultSet, 2);
+
+        //When
+        iterator.next();
+
+        //Then
+        verify(resultSet, never()).fetchMoreResults();
+    }
+
+    @Test
+    public void should_not_fetch_next_page_when_disabled() throws Exception {
+        //Given
+        when(resultSet.one()).thenReturn(row);
+        when(resultSet.getAvailableWithoutFetching()).thenReturn(0);
+        final PrefetchingRowIterator iterator = new PrefetchingRowIterator(resultSet, 0);
+
+        //When
+        iterator.next();
+
+        //Then
+        verify(resultSet, never()).fetchMoreResults();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ResultSetSpliteratorTest {
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private Row row1, row2;
+
+    @Test
+    public void should_split_current_page_and_fetch_next_one() throws Exception {
+        //Given
+        when(resultSet.isExhausted()).thenReturn(false);
+        when(resultSet.getAvailableWithoutFetching()).thenReturn(2);
+        when(resultSet.one()).thenReturn(row1, row2);
+        when(resultSet.isFullyFetched()).thenReturn(false);
+        final ResultSetSpliterator<Row> spliterator = new ResultSetSpliterator<>(resultSet, row -> row);
+
+        //When
+        final Spliterator<Row> page = spliterator.trySplit();
+
+        //Then
+        assertThat(page.estimateSize()).isEqualTo(2L);
+        final List<Row> rows = new ArrayList<>();
+        page.forEachRemaining(rows::add);
+        assertThat(rows).containsExactly(row1, row2);
+        verify(resultSet).fetchMoreResults();
+    }
+
+    @Test
+    public void should_not_split_when_exhausted() throws Exception {
+        //Given
+        when(resultSet.isExhausted()).thenReturn(true);
+        final ResultSetSpliterator<Row> spliterator = new ResultSetSpliterator<>(resultSet, row -> row);
+
+        //When
+        final Spliterator<Row> page = spliterator.trySplit();
+
+        //Then
+        assertThat(page).isNull();
+        verify(resultSet, never()).fetchMoreResults();
+    }
+
+    @Test
+    public void should_map_rows_lazily() throws Exception {
+        //Given
+        when(resultSet.isExhausted()).thenReturn(false, false, true);
+        when(resultSet.one()).thenReturn(row1, row2);
+        final List<Row> mapped = new ArrayList<>();
+        final ResultSetSpliterator<String> spliterator = new ResultSetSpliterator<>(resultSet, row -> {
+            mapped.add(row);
+            return row == row1 ? "row1" : "row2";
+        });
+
+        //When
+        final List<String> actual = new ArrayList<>();
+        spliterator.tryAdvance(actual::add);
+
+        //Then
+        assertThat(actual).containsExactly("row1");
+        assertThat(mapped).containsExactly(row1);
+    }
+}
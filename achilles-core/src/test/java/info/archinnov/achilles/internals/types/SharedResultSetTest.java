@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.internals.types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SharedResultSetTest {
+
+    @Mock
+    private ResultSet delegate;
+
+    @Mock
+    private Row row1, row2, row3;
+
+    @Test
+    public void should_return_itself_when_fetching_more_results() throws Exception {
+        //Given
+        when(delegate.all()).thenReturn(Arrays.asList(row1, row2));
+        final SharedResultSet view = new SharedResultSet(delegate).newView();
+
+        //When
+        final ResultSet fetched = view.fetchMoreResults().get();
+
+        //Then
+        assertThat(fetched).isSameAs(view);
+        assertThat(view.isFullyFetched()).isTrue();
+        assertThat(view.all()).containsExactly(row1, row2);
+    }
+
+    @Test
+    public void should_split_pages_of_shared_result() throws Exception {
+        //Given
+        when(delegate.all()).thenReturn(Arrays.asList(row1, row2, row3));
+        final SharedResultSet view = new SharedResultSet(delegate).newView();
+        final ResultSetSpliterator<Row> spliterator = new ResultSetSpliterator<>(view, row -> row);
+
+        //When
+        final Spliterator<Row> page = spliterator.trySplit();
+        final List<Row> rows = new ArrayList<>();
+        page.forEachRemaining(rows::add);
+        spliterator.forEachRemaining(rows::add);
+
+        //Then
+        assertThat(rows).containsExactly(row1, row2, row3);
+    }
+
+    @Test
+    public void should_stream_shared_result_in_parallel() throws Exception {
+        //Given
+        when(delegate.all()).thenReturn(Arrays.asList(row1, row2, row3));
+        final SharedResultSet shared = new SharedResultSet(delegate);
+
+        //When
+        final List<Row> rows = StreamSupport.stream(new ResultSetSpliterator<>(shared.newView(), row -> row), true)
+                .collect(Collectors.toList());
+
+        //Then
+        assertThat(rows).containsExactly(row1, row2, row3);
+    }
+
+    @Test
+    public void should_prefetch_over_shared_result() throws Exception {
+        //Given
+        when(delegate.all()).thenReturn(Arrays.asList(row1, row2));
+        final PrefetchingRowIterator iterator = new PrefetchingRowIterator(new SharedResultSet(delegate).newView(), 10);
+
+        //When
+        final List<Row> rows = new ArrayList<>();
+        iterator.forEachRemaining(rows::add);
+
+        //Then
+        assertThat(rows).containsExactly(row1, row2);
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.exception;
+
+import info.archinnov.achilles.type.BulkMutationResult;
+
+/**
+ * Exception raised when at least one mutation of a bulk INSERT/UPDATE/DELETE failed.
+ * The cause is the first failure encountered, all the details are available
+ * from {@link #getResult()}
+ */
+public class AchillesBulkMutationException extends AchillesException {
+    private static final long serialVersionUID = 1L;
+    private final transient BulkMutationResult<?> result;
+
+    public AchillesBulkMutationException(BulkMutationResult<?> result) {
+        super(result.toString(), result.getFailures().isEmpty() ? null : result.getFailures().get(0)._2());
+        this.result = result;
+    }
+
+    public BulkMutationResult<?> getResult() {
+        return result;
+    }
+}
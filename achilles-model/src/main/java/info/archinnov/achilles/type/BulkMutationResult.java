@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type;
+
+import static java.lang.String.format;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.datastax.driver.core.ExecutionInfo;
+
+import info.archinnov.achilles.type.tuples.Tuple2;
+
+/**
+ * Result of a bulk INSERT/UPDATE/DELETE operation.
+ * <br/>
+ * <br/>
+ * Each mutation of the bulk is executed independently so a failure on one
+ * entity does not prevent the others from being written. This class aggregates
+ * the {@link com.datastax.driver.core.ExecutionInfo} of all successful mutations
+ * and the entities whose mutation failed, along with the failure cause
+ *
+ * @param <ENTITY> entity type
+ */
+public class BulkMutationResult<ENTITY> {
+
+    private final List<ExecutionInfo> executionInfos;
+    private final List<Tuple2<ENTITY, Throwable>> failures;
+
+    public BulkMutationResult(List<ExecutionInfo> executionInfos, List<Tuple2<ENTITY, Throwable>> failures) {
+        this.executionInfos = Collections.unmodifiableList(executionInfos);
+        this.failures = Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * @return the execution infos of all successful mutations, in submission order
+     */
+    public List<ExecutionInfo> getExecutionInfos() {
+        return executionInfos;
+    }
+
+    /**
+     * @return the entities whose mutation failed with their failure cause, in submission order
+     */
+    public List<Tuple2<ENTITY, Throwable>> getFailures() {
+        return failures;
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    public int getSuccessCount() {
+        return executionInfos.size();
+    }
+
+    public int getFailureCount() {
+        return failures.size();
+    }
+
+    @Override
+    public String toString() {
+        return format("BulkMutationResult{successCount=%s, failureCount=%s}", executionInfos.size(), failures.size());
+    }
+}
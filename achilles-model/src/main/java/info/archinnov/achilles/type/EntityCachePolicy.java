@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Policy for the in-memory cache of an entity table. Entities loaded by their primary key
+ * are kept in memory and served without querying Cassandra until they are evicted.
+ * <br/>
+ * <br/>
+ * Entries are evicted once <strong>maximumSize</strong> is reached or <strong>timeToLive</strong>
+ * after they have been loaded. Any INSERT, UPDATE or DELETE issued for the entity through the same
+ * ManagerFactory invalidates the modified entries. Writes done by other clients are only visible
+ * once the entries expire, so the time to live bounds the staleness
+ */
+public class EntityCachePolicy {
+
+    private final long maximumSize;
+    private final long timeToLiveInNanos;
+
+    private EntityCachePolicy(long maximumSize, long timeToLiveInNanos) {
+        this.maximumSize = maximumSize;
+        this.timeToLiveInNanos = timeToLiveInNanos;
+    }
+
+    /**
+     * Cache at most <strong>maximumSize</strong> entities, each of them for at most <strong>timeToLive</strong>
+     * @throws IllegalArgumentException if maximumSize or timeToLive is not strictly positive
+     */
+    public static EntityCachePolicy of(long maximumSize, long timeToLive, TimeUnit timeUnit) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("The entity cache maximum size should be strictly positive");
+        }
+        if (timeToLive <= 0) {
+            throw new IllegalArgumentException("The entity cache time to live should be strictly positive");
+        }
+        return new EntityCachePolicy(maximumSize, timeUnit.toNanos(timeToLive));
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getTimeToLiveInNanos() {
+        return timeToLiveInNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "EntityCachePolicy{maximumSize=" + maximumSize + ", timeToLiveInNanos=" + timeToLiveInNanos + "}";
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Policy for hedged (speculative) reads. When a SELECT statement is
+ * flagged as idempotent and no response has been received after the hedging delay,
+ * <strong>Achilles</strong> fires a second identical request and keeps the first successful response.
+ * <br/>
+ * <br/>
+ * The delay can be either fixed or derived from the observed latency percentile of the query
+ */
+public class HedgingPolicy {
+
+    private final long fixedDelayInNanos;
+    private final double latencyPercentile;
+
+    private HedgingPolicy(long fixedDelayInNanos, double latencyPercentile) {
+        this.fixedDelayInNanos = fixedDelayInNanos;
+        this.latencyPercentile = latencyPercentile;
+    }
+
+    /**
+     * Hedge the read after a fixed delay
+     * @throws IllegalArgumentException if delay is negative
+     */
+    public static HedgingPolicy fixedDelay(long delay, TimeUnit timeUnit) {
+        if (delay < 0) {
+            throw new IllegalArgumentException("The hedging delay should not be negative");
+        }
+        return new HedgingPolicy(timeUnit.toNanos(delay), -1);
+    }
+
+    /**
+     * Hedge the read once its latency exceeds the given percentile (e.g. 99.0)
+     * of the latencies observed so far for the same query.
+     * No read is hedged until enough latencies have been recorded
+     * @throws IllegalArgumentException if percentile is not strictly between 0 and 100
+     */
+    public static HedgingPolicy latencyPercentile(double percentile) {
+        if (percentile <= 0 || percentile >= 100) {
+            throw new IllegalArgumentException("The hedging latency percentile should be strictly between 0 and 100");
+        }
+        return new HedgingPolicy(-1, percentile);
+    }
+
+    public boolean isFixedDelay() {
+        return fixedDelayInNanos >= 0;
+    }
+
+    public long getFixedDelayInNanos() {
+        return fixedDelayInNanos;
+    }
+
+    public double getLatencyPercentile() {
+        return latencyPercentile;
+    }
+
+    @Override
+    public String toString() {
+        return isFixedDelay()
+                ? "HedgingPolicy{fixedDelayInNanos=" + fixedDelayInNanos + "}"
+                : "HedgingPolicy{latencyPercentile=" + latencyPercentile + "}";
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type;
+
+import static java.lang.String.format;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import com.datastax.driver.core.ExecutionInfo;
+
+/**
+ * A single page of a SELECT, along with an opaque cursor to fetch the following page.
+ * <br/>
+ * <br/>
+ * The cursor is a plain string so it can be handed over to a client, for example in a REST
+ * response, and provided back later with <em>withPagingState(String)</em> to resume the paging
+ * on the same query. The cursor is absent when there is no more page to fetch
+ *
+ * @param <ENTITY> entity type
+ */
+public class Page<ENTITY> {
+
+    private final List<ENTITY> entities;
+    private final Optional<String> cursor;
+    private final ExecutionInfo executionInfo;
+
+    public Page(List<ENTITY> entities, Optional<String> cursor, ExecutionInfo executionInfo) {
+        this.entities = Collections.unmodifiableList(entities);
+        this.cursor = cursor;
+        this.executionInfo = executionInfo;
+    }
+
+    /**
+     * @return the entities of this page, in the query order
+     */
+    public List<ENTITY> getEntities() {
+        return entities;
+    }
+
+    /**
+     * @return the cursor to fetch the following page or Optional.empty() if this page is the last one
+     */
+    public Optional<String> getCursor() {
+        return cursor;
+    }
+
+    public boolean hasNextPage() {
+        return cursor.isPresent();
+    }
+
+    public ExecutionInfo getExecutionInfo() {
+        return executionInfo;
+    }
+
+    @Override
+    public String toString() {
+        return format("Page{size=%s, hasNextPage=%s}", entities.size(), cursor.isPresent());
+    }
+}
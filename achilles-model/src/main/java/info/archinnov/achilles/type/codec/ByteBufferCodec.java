@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.type.codec;
+
+import java.nio.ByteBuffer;
+
+import com.datastax.driver.core.ProtocolVersion;
+
+import info.archinnov.achilles.exception.AchillesTranscodingException;
+
+/**
+ * Optional flavor of {@link Codec} that can also serialize the source type straight to the
+ * Cassandra binary format of the target type, and deserialize it back. <br/>
+ * <br/>
+ * When a codec declared with <strong>{@literal @}Codec</strong> or registered as a runtime codec implements this interface,
+ * Achilles binds and reads the column through a Java driver <strong>TypeCodec</strong> wrapping it, skipping the
+ * intermediate target type instance. <br/>
+ * The bytes produced by {@link #serialize(Object, ProtocolVersion)} should be exactly the bytes the Java driver would
+ * produce for the value returned by {@link #encode(Object)}
+ * <br/>
+ * <br/>
+ *
+ * @param <FROM> sourceType
+ * @param <TO>   targetType compatible with Cassandra
+ */
+public interface ByteBufferCodec<FROM, TO> extends Codec<FROM, TO> {
+
+    /**
+     * Serialize the source value into the Cassandra binary format of the target type
+     * @param fromJava source value, can be null
+     * @param protocolVersion native protocol version in use
+     * @return serialized value or null
+     */
+    ByteBuffer serialize(FROM fromJava, ProtocolVersion protocolVersion) throws AchillesTranscodingException;
+
+    /**
+     * Deserialize the Cassandra binary format of the target type into the source value
+     * @param fromCassandra serialized value, can be null or empty
+     * @param protocolVersion native protocol version in use
+     * @return source value or null
+     */
+    FROM deserialize(ByteBuffer fromCassandra, ProtocolVersion protocolVersion) throws AchillesTranscodingException;
+}
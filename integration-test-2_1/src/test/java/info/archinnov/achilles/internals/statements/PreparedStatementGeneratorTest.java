@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.archinnov.achilles.internals.statements;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+
+import info.archinnov.achilles.generated.meta.entity.EntityWithStaticColumn_AchillesMeta;
+import info.archinnov.achilles.generated.meta.entity.EntityWithStaticCounterColumn_AchillesMeta;
+import info.archinnov.achilles.internals.cache.StatementShape;
+import info.archinnov.achilles.internals.cache.StatementsCache;
+import info.archinnov.achilles.internals.entities.EntityWithStaticColumn;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PreparedStatementGeneratorTest {
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private PreparedStatement ps;
+
+    @Test
+    public void should_reuse_prepared_update_for_instances_with_same_non_null_columns() throws Exception {
+        //Given
+        final EntityWithStaticColumn_AchillesMeta meta = staticColumnMeta();
+        final StatementsCache cache = new StatementsCache(100);
+        final CassandraOptions options = new CassandraOptions();
+        final EntityWithStaticColumn entity1 = buildEntity(1L, null, "value1");
+        final EntityWithStaticColumn entity2 = buildEntity(2L, null, "value2");
+        when(session.prepare(anyString())).thenReturn(ps);
+
+        //When
+        final StatementShape shape1 = PreparedStatementGenerator.generateUpdateShape(entity1, meta, options, false, false);
+        final StatementShape shape2 = PreparedStatementGenerator.generateUpdateShape(entity2, meta, options, false, false);
+        final PreparedStatement ps1 = cache.getDynamicCache(shape1,
+                () -> PreparedStatementGenerator.generateUpdate(entity1, meta, options, false, false).getQueryString(), session);
+        final PreparedStatement ps2 = cache.getDynamicCache(shape2,
+                () -> PreparedStatementGenerator.generateUpdate(entity2, meta, options, false, false).getQueryString(), session);
+
+        //Then
+        assertThat(shape1).isEqualTo(shape2);
+        assertThat(shape1.hashCode()).isEqualTo(shape2.hashCode());
+        assertThat(ps1).isSameAs(ps);
+        assertThat(ps2).isSameAs(ps);
+        verify(session, times(1)).prepare("UPDATE ks.entitywithstaticcolumn USING TTL :ttl SET value=:value WHERE id=:id AND uuid=:uuid;");
+    }
+
+    @Test
+    public void should_generate_different_update_shape_when_non_null_columns_change() throws Exception {
+        //Given
+        final EntityWithStaticColumn_AchillesMeta meta = staticColumnMeta();
+        final CassandraOptions options = new CassandraOptions();
+        final EntityWithStaticColumn valueOnly = buildEntity(1L, null, "value");
+        final EntityWithStaticColumn staticOnly = buildEntity(1L, "static", null);
+        final EntityWithStaticColumn both = buildEntity(1L, "static", "value");
+
+        //When
+        final StatementShape valueOnlyShape = PreparedStatementGenerator.generateUpdateShape(valueOnly, meta, options, false, false);
+        final StatementShape staticOnlyShape = PreparedStatementGenerator.generateUpdateShape(staticOnly, meta, options, false, false);
+        final StatementShape bothShape = PreparedStatementGenerator.generateUpdateShape(both, meta, options, false, false);
+
+        //Then
+        assertThat(valueOnlyShape).isNotEqualTo(staticOnlyShape);
+        assertThat(valueOnlyShape).isNotEqualTo(bothShape);
+        assertThat(staticOnlyShape).isNotEqualTo(bothShape);
+        assertThat(PreparedStatementGenerator.generateUpdate(staticOnly, meta, options, false, false).getQueryString())
+                .isEqualTo("UPDATE ks.entitywithstaticcolumn USING TTL :ttl SET static_col=:static_col WHERE id=:id AND uuid=:uuid;");
+        assertThat(PreparedStatementGenerator.generateUpdate(both, meta, options, false, false).getQueryString())
+                .isEqualTo("UPDATE ks.entitywithstaticcolumn USING TTL :ttl SET static_col=:static_col,value=:value WHERE id=:id AND uuid=:uuid;");
+    }
+
+    @Test
+    public void should_generate_different_update_shape_when_flags_change() throws Exception {
+        //Given
+        final EntityWithStaticColumn_AchillesMeta meta = staticColumnMeta();
+        final CassandraOptions options = new CassandraOptions();
+        final CassandraOptions optionsWithTimestamp = new CassandraOptions();
+        optionsWithTimestamp.setDefaultTimestamp(Optional.of(100L));
+        final EntityWithStaticColumn entity = buildEntity(1L, "static", null);
+
+        //When
+        final StatementShape shape = PreparedStatementGenerator.generateUpdateShape(entity, meta, options, false, false);
+        final StatementShape staticOnlyShape = PreparedStatementGenerator.generateUpdateShape(entity, meta, options, true, false);
+        final StatementShape ifExistsShape = PreparedStatementGenerator.generateUpdateShape(entity, meta, options, false, true);
+        final StatementShape timestampShape = PreparedStatementGenerator.generateUpdateShape(entity, meta, optionsWithTimestamp, false, false);
+
+        //Then
+        assertThat(shape).isNotEqualTo(staticOnlyShape);
+        assertThat(shape).isNotEqualTo(ifExistsShape);
+        assertThat(shape).isNotEqualTo(timestampShape);
+        assertThat(staticOnlyShape).isNotEqualTo(ifExistsShape);
+        assertThat(staticOnlyShape).isNotEqualTo(timestampShape);
+        assertThat(ifExistsShape).isNotEqualTo(timestampShape);
+        assertThat(PreparedStatementGenerator.generateUpdate(entity, meta, options, true, false).getQueryString())
+                .isEqualTo("UPDATE ks.entitywithstaticcolumn USING TTL :ttl SET static_col=:static_col WHERE id=:id;");
+        assertThat(PreparedStatementGenerator.generateUpdate(entity, meta, options, false, true).getQueryString())
+                .isEqualTo("UPDATE ks.entitywithstaticcolumn USING TTL :ttl SET static_col=:static_col WHERE id=:id AND uuid=:uuid IF EXISTS;");
+        assertThat(PreparedStatementGenerator.generateUpdate(entity, meta, optionsWithTimestamp, false, false).getQueryString())
+                .isEqualTo("UPDATE ks.entitywithstaticcolumn USING TIMESTAMP :timestamp AND TTL :ttl SET static_col=:static_col WHERE id=:id AND uuid=:uuid;");
+    }
+
+    @Test
+    public void should_generate_counter_increment_with_full_primary_key() throws Exception {
+        //Given
+        final EntityWithStaticCounterColumn_AchillesMeta meta = staticCounterMeta();
+
+        //When
+        final String query = PreparedStatementGenerator
+                .generateCounterIncrement(meta, Arrays.asList(EntityWithStaticCounterColumn_AchillesMeta.count))
+                .getQueryString();
+
+        //Then
+        assertThat(query).isEqualTo("UPDATE ks.entity_static_counter SET count=count+:count WHERE id=:id AND uuid=:uuid;");
+    }
+
+    @Test
+    public void should_generate_static_counter_increment_with_partition_keys_only() throws Exception {
+        //Given
+        final EntityWithStaticCounterColumn_AchillesMeta meta = staticCounterMeta();
+
+        //When
+        final String query = PreparedStatementGenerator
+                .generateCounterIncrement(meta, Arrays.asList(EntityWithStaticCounterColumn_AchillesMeta.staticCount))
+                .getQueryString();
+
+        //Then
+        assertThat(query).isEqualTo("UPDATE ks.entity_static_counter SET static_count=static_count+:static_count WHERE id=:id;");
+    }
+
+    @Test
+    public void should_generate_mixed_counter_increment_with_full_primary_key() throws Exception {
+        //Given
+        final EntityWithStaticCounterColumn_AchillesMeta meta = staticCounterMeta();
+
+        //When
+        final String query = PreparedStatementGenerator
+                .generateCounterIncrement(meta, Arrays.asList(EntityWithStaticCounterColumn_AchillesMeta.staticCount, EntityWithStaticCounterColumn_AchillesMeta.count))
+                .getQueryString();
+
+        //Then
+        assertThat(query).isEqualTo("UPDATE ks.entity_static_counter SET static_count=static_count+:static_count,count=count+:count " +
+                "WHERE id=:id AND uuid=:uuid;");
+    }
+
+    private static EntityWithStaticColumn_AchillesMeta staticColumnMeta() {
+        final EntityWithStaticColumn_AchillesMeta meta = new EntityWithStaticColumn_AchillesMeta();
+        meta.injectKeyspace("ks");
+        return meta;
+    }
+
+    private static EntityWithStaticCounterColumn_AchillesMeta staticCounterMeta() {
+        final EntityWithStaticCounterColumn_AchillesMeta meta = new EntityWithStaticCounterColumn_AchillesMeta();
+        meta.injectKeyspace("ks");
+        return meta;
+    }
+
+    private static EntityWithStaticColumn buildEntity(Long id, String staticCol, String value) {
+        final EntityWithStaticColumn entity = new EntityWithStaticColumn();
+        entity.setId(id);
+        entity.setUuid(UUID.randomUUID());
+        entity.setStaticCol(staticCol);
+        entity.setValue(value);
+        return entity;
+    }
+}
@@ -18,14 +18,18 @@ package info.archinnov.achilles.it;
 
 import static com.datastax.driver.core.ConsistencyLevel.*;
 import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -46,7 +50,9 @@ import com.google.common.collect.Sets;
 import info.archinnov.achilles.generated.ManagerFactory;
 import info.archinnov.achilles.generated.ManagerFactoryBuilder;
 import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.exception.AchillesBulkMutationException;
 import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.internals.dsl.crud.BatchWriter;
 import info.archinnov.achilles.internals.dsl.crud.DeleteByPartitionWithOptions;
 import info.archinnov.achilles.internals.dsl.crud.DeleteWithOptions;
 import info.archinnov.achilles.internals.dsl.crud.InsertWithOptions;
@@ -54,6 +60,7 @@ import info.archinnov.achilles.it.utils.CassandraLogAsserter;
 import info.archinnov.achilles.junit.AchillesTestResource;
 import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
 import info.archinnov.achilles.script.ScriptExecutor;
+import info.archinnov.achilles.type.BulkMutationResult;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener;
 import info.archinnov.achilles.type.strategy.InsertStrategy;
@@ -305,6 +312,142 @@ public class TestCRUDSimpleEntity {
         assertThat(row.getString("value")).isEqualTo("value_tenant3");
     }
 
+    @Test
+    public void should_insert_all() throws Exception {
+        //Given
+        final Date date = buildDateKey();
+        final List<SimpleEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            entities.add(new SimpleEntity(RandomUtils.nextLong(0L, Long.MAX_VALUE), date, "value" + i));
+        }
+
+        //When
+        final BulkMutationResult<SimpleEntity> result = manager.crud()
+                .insertAll(entities)
+                .withMaxInFlight(3)
+                .executeWithStats();
+
+        //Then
+        assertThat(result.hasFailures()).isFalse();
+        assertThat(result.getSuccessCount()).isEqualTo(10);
+        for (SimpleEntity entity : entities) {
+            final Row row = session.execute("SELECT value FROM simple WHERE id = " + entity.getId()).one();
+            assertThat(row).isNotNull();
+            assertThat(row.getString("value")).isEqualTo(entity.getValue());
+        }
+    }
+
+    @Test
+    public void should_insert_all_and_report_failed_entities() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final SimpleEntity valid = new SimpleEntity(id, buildDateKey(), "value");
+        final SimpleEntity invalid = new SimpleEntity(RandomUtils.nextLong(0L, Long.MAX_VALUE), null, "invalid");
+
+        //When
+        final BulkMutationResult<SimpleEntity> result = manager.crud()
+                .insertAll(Arrays.asList(invalid, valid))
+                .executeWithStats();
+
+        //Then
+        assertThat(result.getSuccessCount()).isEqualTo(1);
+        assertThat(result.getFailureCount()).isEqualTo(1);
+        assertThat(result.getFailures().get(0)._1()).isSameAs(invalid);
+        final Row row = session.execute("SELECT value FROM simple WHERE id = " + id).one();
+        assertThat(row.getString("value")).isEqualTo("value");
+    }
+
+    @Test(expected = AchillesBulkMutationException.class)
+    public void should_fail_insert_all_when_any_entity_fails() throws Exception {
+        //Given
+        final SimpleEntity invalid = new SimpleEntity(RandomUtils.nextLong(0L, Long.MAX_VALUE), null, "invalid");
+
+        //When
+        manager.crud().insertAll(Arrays.asList(invalid)).execute();
+    }
+
+    @Test
+    public void should_update_all() throws Exception {
+        //Given
+        final long id1 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final long id2 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = buildDateKey();
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id1, "table", "simple"));
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id2, "table", "simple"));
+
+        //When
+        manager.crud()
+                .updateAll(Arrays.asList(new SimpleEntity(id1, date, "new_value1"), new SimpleEntity(id2, date, "new_value2")))
+                .withConsistencyLevel(ONE)
+                .execute();
+
+        //Then
+        assertThat(session.execute("SELECT value FROM simple WHERE id = " + id1).one().getString("value")).isEqualTo("new_value1");
+        assertThat(session.execute("SELECT value FROM simple WHERE id = " + id2).one().getString("value")).isEqualTo("new_value2");
+    }
+
+    @Test
+    public void should_insert_and_update_with_batch_writer() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date1 = buildDateKey();
+        final Date date2 = new Date();
+        final List<CompletableFuture<ExecutionInfo>> futures = new ArrayList<>();
+
+        //When
+        try (BatchWriter<SimpleEntity> writer = manager.batchWriter().withMaxStatementsPerBatch(2)) {
+            futures.add(writer.add(manager.crud().insert(new SimpleEntity(id, date1, "value1"))));
+            futures.add(writer.add(manager.crud().insert(new SimpleEntity(id, date2, "value2"))));
+            futures.add(writer.add(manager.crud().update(new SimpleEntity(id, date1, "new_value1"))));
+        }
+
+        //Then
+        for (CompletableFuture<ExecutionInfo> future : futures) {
+            assertThat(future.isDone()).isTrue();
+            assertThat(future.isCompletedExceptionally()).isFalse();
+        }
+        final List<Row> rows = session.execute("SELECT value FROM simple WHERE id = " + id).all();
+        assertThat(rows).hasSize(2);
+        assertThat(rows.stream().map(row -> row.getString("value")).collect(toList())).containsOnly("new_value1", "value2");
+    }
+
+    @Test
+    public void should_flush_batch_writer_on_linger_time() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final BatchWriter<SimpleEntity> writer = manager.batchWriter().withLingerTime(5, TimeUnit.MILLISECONDS);
+
+        //When
+        final ExecutionInfo executionInfo = writer
+                .add(manager.crud().insert(new SimpleEntity(id, buildDateKey(), "value")))
+                .get(10, TimeUnit.SECONDS);
+
+        //Then
+        assertThat(executionInfo).isNotNull();
+        assertThat(session.execute("SELECT value FROM simple WHERE id = " + id).one().getString("value")).isEqualTo("value");
+        writer.close();
+    }
+
+    @Test
+    public void should_trigger_result_set_listener_with_batch_writer() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final AtomicBoolean listenerCalled = new AtomicBoolean(false);
+
+        //When
+        try (BatchWriter<SimpleEntity> writer = manager.batchWriter()) {
+            writer.add(manager.crud().insert(new SimpleEntity(id, buildDateKey(), "value"))
+                    .withResultSetAsyncListener(rs -> {
+                        listenerCalled.getAndSet(true);
+                        return rs;
+                    }));
+        }
+
+        //Then
+        assertThat(listenerCalled.get()).isTrue();
+        assertThat(session.execute("SELECT value FROM simple WHERE id = " + id).one().getString("value")).isEqualTo("value");
+    }
+
     @Test
     public void should_find_by_id() throws Exception {
         //Given
@@ -343,6 +486,73 @@ public class TestCRUDSimpleEntity {
         assertThat(executionInfo.getQueriedHost().isUp()).isTrue();
     }
 
+    @Test
+    public void should_find_all_by_ids() throws Exception {
+        //Given
+        final long id1 = RandomUtils.nextLong(0, Long.MAX_VALUE);
+        final long id2 = RandomUtils.nextLong(0, Long.MAX_VALUE);
+        final long missingId = RandomUtils.nextLong(0, Long.MAX_VALUE);
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id1, "table", "simple"));
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id2, "table", "simple"));
+        final Date date = buildDateKey();
+
+        //When
+        final List<SimpleEntity> actual = manager.crud()
+                .findAllByIds(Arrays.asList(Tuple2.of(id2, date), Tuple2.of(missingId, date), Tuple2.of(id1, date)))
+                .withMaxInFlightPerHost(1)
+                .get();
+
+        //Then
+        assertThat(actual).hasSize(3);
+        assertThat(actual.get(0).getId()).isEqualTo(id2);
+        assertThat(actual.get(1)).isNull();
+        assertThat(actual.get(2).getId()).isEqualTo(id1);
+        assertThat(actual.get(2).getSimpleMap()).containsEntry(10, "ten");
+    }
+
+    @Test
+    public void should_find_with_hedged_read() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = buildDateKey();
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id, "table", "simple"));
+        final long hedgedReadsCount = resource.getManagerFactory().getHedgedReadsCount();
+
+        //When
+        final SimpleEntity found = manager
+                .crud()
+                .findById(id, date)
+                .isIdempotent()
+                .withHedgedRead(0, TimeUnit.MILLISECONDS)
+                .get();
+
+        //Then
+        assertThat(found).isNotNull();
+        assertThat(found.getValue()).isEqualTo("0 AM");
+        assertThat(resource.getManagerFactory().getHedgedReadsCount()).isGreaterThan(hedgedReadsCount);
+    }
+
+    @Test
+    public void should_not_hedge_non_idempotent_read() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = buildDateKey();
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id, "table", "simple"));
+        final long hedgedReadsCount = resource.getManagerFactory().getHedgedReadsCount();
+
+        //When
+        final SimpleEntity found = manager
+                .crud()
+                .findById(id, date)
+                .isIdempotent(false)
+                .withHedgedRead(0, TimeUnit.MILLISECONDS)
+                .get();
+
+        //Then
+        assertThat(found).isNotNull();
+        assertThat(resource.getManagerFactory().getHedgedReadsCount()).isEqualTo(hedgedReadsCount);
+    }
+
     @Test
     public void should_find_with_async_listeners() throws Exception {
         //Given
@@ -435,6 +645,27 @@ public class TestCRUDSimpleEntity {
         assertThat(executionInfo.getQueriedHost().isUp()).isTrue();
     }
 
+    @Test
+    public void should_delete_all() throws Exception {
+        //Given
+        final long id1 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final long id2 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = buildDateKey();
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id1, "table", "simple"));
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id2, "table", "simple"));
+
+        //When
+        final BulkMutationResult<SimpleEntity> result = manager.crud()
+                .deleteAll(Arrays.asList(new SimpleEntity(id1, date, null), new SimpleEntity(id2, date, null)))
+                .withMaxInFlight(1)
+                .executeWithStats();
+
+        //Then
+        assertThat(result.getSuccessCount()).isEqualTo(2);
+        assertThat(session.execute("SELECT * FROM simple WHERE id = " + id1).all()).isEmpty();
+        assertThat(session.execute("SELECT * FROM simple WHERE id = " + id2).all()).isEmpty();
+    }
+
     @Test
     public void should_delete_by_partition() throws Exception {
         //Given
@@ -657,6 +657,53 @@ public class TestDSLEntityWithClusterings {
         assertThat(actuals.get(4).getString("value")).isEqualTo("val1");
     }
 
+    @Test
+    public void should_dsl_select_partitions_IN_with_fan_out() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id1 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final long id2 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id1", id1);
+        values.put("id2", id1);
+        values.put("id3", id1);
+        values.put("id4", id2);
+        values.put("id5", id2);
+
+        final UUID uuid = new UUID(0L, 0L);
+
+        values.put("uuid1", uuid);
+        values.put("uuid2", uuid);
+        values.put("uuid3", uuid);
+        values.put("uuid4", uuid);
+        values.put("uuid5", uuid);
+
+        values.put("date1", "'2015-10-01 00:00:00+0000'");
+        values.put("date2", "'2015-10-02 00:00:00+0000'");
+        values.put("date3", "'2015-10-03 00:00:00+0000'");
+        values.put("date4", "'2015-10-04 00:00:00+0000'");
+        values.put("date5", "'2015-10-05 00:00:00+0000'");
+
+        scriptExecutor.executeScriptTemplate("EntityWithClusteringColumns/insert_many_rows.cql", values);
+
+        //When
+        final List<EntityWithClusteringColumns> list = manager
+                .dsl()
+                .select()
+                .value()
+                .fromBaseTable()
+                .where()
+                .id().IN(id2, id1)
+                .withPartitionKeyInFanOut(true)
+                .getList();
+
+        //Then
+        assertThat(list
+                        .stream()
+                        .map(EntityWithClusteringColumns::getValue)
+                        .collect(toList())
+        ).containsExactly("val5", "val4", "val3", "val2", "val1");
+    }
+
     private Date buildDateKey() throws ParseException {
         SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss z");
         dateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
@@ -25,8 +25,10 @@ import static org.assertj.core.api.Assertions.entry;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.Rule;
@@ -48,9 +50,11 @@ import info.archinnov.achilles.generated.function.SystemFunctions;
 import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
 import info.archinnov.achilles.internals.entities.SimpleEntity;
 import info.archinnov.achilles.it.utils.CassandraLogAsserter;
+import info.archinnov.achilles.it.utils.RecordingSubscriber;
 import info.archinnov.achilles.junit.AchillesTestResource;
 import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
 import info.archinnov.achilles.script.ScriptExecutor;
+import info.archinnov.achilles.type.Page;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener;
 import info.archinnov.achilles.type.tuples.Tuple2;
@@ -447,6 +451,331 @@ public class TestDSLSimpleEntity {
         assertThat(iterator.hasNext()).isFalse();
     }
 
+    @Test
+    public void should_dsl_select_with_parallel_stream() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        values.put("date1", "'2015-10-01 00:00:00+0000'");
+        values.put("date2", "'2015-10-02 00:00:00+0000'");
+        values.put("date3", "'2015-10-03 00:00:00+0000'");
+        values.put("date4", "'2015-10-04 00:00:00+0000'");
+        values.put("date5", "'2015-10-05 00:00:00+0000'");
+        values.put("date6", "'2015-10-06 00:00:00+0000'");
+        values.put("date7", "'2015-10-07 00:00:00+0000'");
+        values.put("date8", "'2015-10-08 00:00:00+0000'");
+        values.put("date9", "'2015-10-09 00:00:00+0000'");
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+
+        //When
+        final List<String> actual = manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .withFetchSize(2)
+                .stream()
+                .parallel()
+                .map(SimpleEntity::getValue)
+                .collect(Collectors.toList());
+
+        //Then
+        assertThat(actual).containsExactly("id - date1", "id - date2", "id - date3", "id - date4", "id - date5",
+                "id - date6", "id - date7", "id - date8", "id - date9");
+    }
+
+    @Test
+    public void should_dsl_select_all_pages_async() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        values.put("date1", "'2015-10-01 00:00:00+0000'");
+        values.put("date2", "'2015-10-02 00:00:00+0000'");
+        values.put("date3", "'2015-10-03 00:00:00+0000'");
+        values.put("date4", "'2015-10-04 00:00:00+0000'");
+        values.put("date5", "'2015-10-05 00:00:00+0000'");
+        values.put("date6", "'2015-10-06 00:00:00+0000'");
+        values.put("date7", "'2015-10-07 00:00:00+0000'");
+        values.put("date8", "'2015-10-08 00:00:00+0000'");
+        values.put("date9", "'2015-10-09 00:00:00+0000'");
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+
+        //When
+        final List<SimpleEntity> actual = manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .withFetchSize(2)
+                .getAllAsync()
+                .get();
+
+        //Then
+        assertThat(actual).hasSize(9);
+        assertThat(actual.get(0).getValue()).isEqualTo("id - date1");
+        assertThat(actual.get(8).getValue()).isEqualTo("id - date9");
+    }
+
+    @Test
+    public void should_dsl_select_pages_async_up_to_max_rows() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        values.put("date1", "'2015-10-01 00:00:00+0000'");
+        values.put("date2", "'2015-10-02 00:00:00+0000'");
+        values.put("date3", "'2015-10-03 00:00:00+0000'");
+        values.put("date4", "'2015-10-04 00:00:00+0000'");
+        values.put("date5", "'2015-10-05 00:00:00+0000'");
+        values.put("date6", "'2015-10-06 00:00:00+0000'");
+        values.put("date7", "'2015-10-07 00:00:00+0000'");
+        values.put("date8", "'2015-10-08 00:00:00+0000'");
+        values.put("date9", "'2015-10-09 00:00:00+0000'");
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+
+        //When
+        final List<SimpleEntity> actual = manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .withFetchSize(2)
+                .getListAsync(5)
+                .get();
+
+        //Then
+        assertThat(actual).hasSize(5);
+        assertThat(actual.get(4).getValue()).isEqualTo("id - date5");
+    }
+
+    @Test
+    public void should_dsl_select_with_iterator_and_prefetch() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        values.put("date1", "'2015-10-01 00:00:00+0000'");
+        values.put("date2", "'2015-10-02 00:00:00+0000'");
+        values.put("date3", "'2015-10-03 00:00:00+0000'");
+        values.put("date4", "'2015-10-04 00:00:00+0000'");
+        values.put("date5", "'2015-10-05 00:00:00+0000'");
+        values.put("date6", "'2015-10-06 00:00:00+0000'");
+        values.put("date7", "'2015-10-07 00:00:00+0000'");
+        values.put("date8", "'2015-10-08 00:00:00+0000'");
+        values.put("date9", "'2015-10-09 00:00:00+0000'");
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+
+        //When
+        final Iterator<SimpleEntity> iterator = manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .withFetchSize(3)
+                .withPrefetchThreshold(2)
+                .iterator();
+
+        //Then
+        final List<String> actual = new ArrayList<>();
+        iterator.forEachRemaining(entity -> actual.add(entity.getValue()));
+        assertThat(actual).containsExactly("id - date1", "id - date2", "id - date3", "id - date4", "id - date5",
+                "id - date6", "id - date7", "id - date8", "id - date9");
+    }
+
+    @Test
+    public void should_dsl_select_pages_with_cursor_and_next_page_prefetch() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        values.put("date1", "'2015-10-01 00:00:00+0000'");
+        values.put("date2", "'2015-10-02 00:00:00+0000'");
+        values.put("date3", "'2015-10-03 00:00:00+0000'");
+        values.put("date4", "'2015-10-04 00:00:00+0000'");
+        values.put("date5", "'2015-10-05 00:00:00+0000'");
+        values.put("date6", "'2015-10-06 00:00:00+0000'");
+        values.put("date7", "'2015-10-07 00:00:00+0000'");
+        values.put("date8", "'2015-10-08 00:00:00+0000'");
+        values.put("date9", "'2015-10-09 00:00:00+0000'");
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+
+        //When
+        final List<String> actual = new ArrayList<>();
+        Optional<String> cursor = Optional.empty();
+        int pageCount = 0;
+        do {
+            final Page<SimpleEntity> page = manager
+                    .dsl()
+                    .select()
+                    .allColumns_FromBaseTable()
+                    .where()
+                    .id().Eq(id)
+                    .withFetchSize(4)
+                    .withOptionalPagingStateString(cursor)
+                    .withNextPagePrefetch(true)
+                    .getPage();
+            page.getEntities().forEach(entity -> actual.add(entity.getValue()));
+            cursor = page.getCursor();
+            pageCount++;
+        } while (cursor.isPresent());
+
+        //Then
+        assertThat(pageCount).isEqualTo(3);
+        assertThat(actual).containsExactly("id - date1", "id - date2", "id - date3", "id - date4", "id - date5",
+                "id - date6", "id - date7", "id - date8", "id - date9");
+    }
+
+    @Test
+    public void should_dsl_scan_all_token_ranges() throws Exception {
+        //Given
+        final Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+            ids.add(id);
+            scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id, "table", "simple"));
+        }
+
+        //When
+        final Iterator<SimpleEntity> iterator = manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .scanAllTokenRanges(4)
+                .withFetchSize(3)
+                .iterator();
+
+        //Then
+        final Set<Long> actual = new HashSet<>();
+        iterator.forEachRemaining(entity -> {
+            assertThat(entity.getValue()).isEqualTo("0 AM");
+            actual.add(entity.getId());
+        });
+        assertThat(actual).isEqualTo(ids);
+    }
+
+    @Test
+    public void should_dsl_scan_all_token_ranges_with_callback() throws Exception {
+        //Given
+        final Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+            ids.add(id);
+            scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id, "table", "simple"));
+        }
+        final Set<Long> actual = Collections.synchronizedSet(new HashSet<>());
+
+        //When
+        manager
+                .dsl()
+                .select()
+                .id()
+                .value()
+                .fromBaseTable()
+                .scanAllTokenRanges(3)
+                .forEach(entity -> actual.add(entity.getId()));
+
+        //Then
+        assertThat(actual).isEqualTo(ids);
+        assertThat(manager
+                .dsl()
+                .select()
+                .id()
+                .fromBaseTable()
+                .scanAllTokenRanges(2)
+                .stream()
+                .count()).isEqualTo(10L);
+    }
+
+    @Test
+    public void should_dsl_select_with_publisher() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss z");
+        dateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
+
+        final Date date1 = dateFormat.parse("2015-10-01 00:00:00 GMT");
+        final Date date9 = dateFormat.parse("2015-10-09 00:00:00 GMT");
+
+        values.put("date1", "'2015-10-01 00:00:00+0000'");
+        values.put("date2", "'2015-10-02 00:00:00+0000'");
+        values.put("date3", "'2015-10-03 00:00:00+0000'");
+        values.put("date4", "'2015-10-04 00:00:00+0000'");
+        values.put("date5", "'2015-10-05 00:00:00+0000'");
+        values.put("date6", "'2015-10-06 00:00:00+0000'");
+        values.put("date7", "'2015-10-07 00:00:00+0000'");
+        values.put("date8", "'2015-10-08 00:00:00+0000'");
+        values.put("date9", "'2015-10-09 00:00:00+0000'");
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+
+        final RecordingSubscriber<SimpleEntity> subscriber = new RecordingSubscriber<>(3);
+
+        //When
+        manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .date().Gt_And_Lte(date1, date9)
+                .orderByDateDescending()
+                .withFetchSize(2)
+                .publisher()
+                .subscribe(subscriber);
+
+        //Then
+        assertThat(subscriber.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscriber.getError()).isNull();
+        assertThat(subscriber.isCompleted()).isTrue();
+        final List<SimpleEntity> actual = subscriber.getItems();
+        assertThat(actual).hasSize(8);
+        assertThat(actual.get(0).getDate()).isEqualTo(date9);
+        assertThat(actual.get(7).getValue()).isEqualTo("id - date2");
+    }
+
+    @Test
+    public void should_dsl_select_with_publisher_and_stop_on_cancel() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        values.put("date1", "'2015-10-01 00:00:00+0000'");
+        values.put("date2", "'2015-10-02 00:00:00+0000'");
+        values.put("date3", "'2015-10-03 00:00:00+0000'");
+        values.put("date4", "'2015-10-04 00:00:00+0000'");
+        values.put("date5", "'2015-10-05 00:00:00+0000'");
+        values.put("date6", "'2015-10-06 00:00:00+0000'");
+        values.put("date7", "'2015-10-07 00:00:00+0000'");
+        values.put("date8", "'2015-10-08 00:00:00+0000'");
+        values.put("date9", "'2015-10-09 00:00:00+0000'");
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+
+        final RecordingSubscriber<SimpleEntity> subscriber = new RecordingSubscriber<>(1, 3);
+
+        //When
+        manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .withFetchSize(2)
+                .publisher()
+                .subscribe(subscriber);
+
+        //Then
+        assertThat(subscriber.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscriber.isCompleted()).isFalse();
+        assertThat(subscriber.getItems()).hasSize(3);
+    }
+
     @Test
     public void should_dsl_delete() throws Exception {
         //Given
@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.Session;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableMap;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+import info.archinnov.achilles.script.ScriptExecutor;
+import info.archinnov.achilles.type.EntityCachePolicy;
+
+public class TestEntityCache {
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .withEntityCachePolicyMap(ImmutableMap.of("simple", EntityCachePolicy.of(100, 10, TimeUnit.MINUTES)))
+                    .build());
+
+    private Session session = resource.getNativeSession();
+    private ScriptExecutor scriptExecutor = resource.getScriptExecutor();
+    private SimpleEntity_Manager manager = resource.getManagerFactory().forSimpleEntity();
+
+    @Test
+    public void should_serve_copies_of_cached_entity() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = buildDateKey();
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id, "table", "simple"));
+        manager.invalidateEntityCache();
+        final CacheStats before = manager.getEntityCacheStats().get();
+
+        //When
+        final SimpleEntity first = manager.crud().findById(id, date).get();
+        first.setValue("modified");
+        session.execute("UPDATE simple SET value = 'changed outside' WHERE id = " + id + " AND date = '2015-10-01 00:00:00+0000'");
+        final SimpleEntity second = manager.crud().findById(id, date).get();
+
+        //Then
+        final CacheStats stats = manager.getEntityCacheStats().get().minus(before);
+        assertThat(stats.missCount()).isEqualTo(1L);
+        assertThat(stats.hitCount()).isEqualTo(1L);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getValue()).isEqualTo("0 AM");
+    }
+
+    @Test
+    public void should_invalidate_cached_entity_on_update() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = buildDateKey();
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id, "table", "simple"));
+        final SimpleEntity entity = manager.crud().findById(id, date).get();
+
+        //When
+        entity.setValue("new value");
+        manager.crud().update(entity).execute();
+
+        //Then
+        assertThat(manager.crud().findById(id, date).get().getValue()).isEqualTo("new value");
+    }
+
+    @Test
+    public void should_invalidate_cached_entity_on_dsl_delete() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = buildDateKey();
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id, "table", "simple"));
+        assertThat(manager.crud().findById(id, date).get()).isNotNull();
+
+        //When
+        manager
+                .dsl()
+                .delete()
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .date().Eq(date)
+                .execute();
+
+        //Then
+        assertThat(manager.crud().findById(id, date).get()).isNull();
+    }
+
+    @Test
+    public void should_bypass_entity_cache_when_consistency_level_is_set() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = buildDateKey();
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id, "table", "simple"));
+        assertThat(manager.crud().findById(id, date).get()).isNotNull();
+        session.execute("UPDATE simple SET value = 'changed outside' WHERE id = " + id + " AND date = '2015-10-01 00:00:00+0000'");
+        final CacheStats before = manager.getEntityCacheStats().get();
+
+        //When
+        final SimpleEntity actual = manager.crud().findById(id, date)
+                .withConsistencyLevel(ConsistencyLevel.ONE)
+                .get();
+
+        //Then
+        final CacheStats stats = manager.getEntityCacheStats().get().minus(before);
+        assertThat(stats.requestCount()).isEqualTo(0L);
+        assertThat(actual.getValue()).isEqualTo("changed outside");
+    }
+
+    @Test
+    public void should_bypass_entity_cache_when_listeners_are_set() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = buildDateKey();
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id, "table", "simple"));
+        assertThat(manager.crud().findById(id, date).get()).isNotNull();
+        final AtomicInteger rowListenerCalls = new AtomicInteger(0);
+        final AtomicInteger resultSetListenerCalls = new AtomicInteger(0);
+
+        //When
+        manager.crud().findById(id, date)
+                .withRowAsyncListener(row -> {
+                    rowListenerCalls.incrementAndGet();
+                    return row;
+                })
+                .get();
+        manager.crud().findById(id, date)
+                .withResultSetAsyncListener(rs -> {
+                    resultSetListenerCalls.incrementAndGet();
+                    return rs;
+                })
+                .get();
+
+        //Then
+        assertThat(rowListenerCalls.get()).isEqualTo(1);
+        assertThat(resultSetListenerCalls.get()).isEqualTo(1);
+    }
+
+    private Date buildDateKey() throws ParseException {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss z");
+        dateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
+        return dateFormat.parse("2015-10-01 00:00:00 GMT");
+    }
+}
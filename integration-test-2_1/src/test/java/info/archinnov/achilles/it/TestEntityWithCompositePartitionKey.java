@@ -140,4 +140,44 @@ public class TestEntityWithCompositePartitionKey {
                 .collect(Collectors.toList()))
                 .containsExactly("val1-1", "val2-1", "val2-3");
     }
+
+    @Test
+    public void should_dsl_select_with_IN_clause_and_fan_out() throws Exception {
+        //Given
+        final long id1 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final long id2 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final UUID uuid1 = new UUID(1L, 1L);
+        final UUID uuid2 = new UUID(2L, 2L);
+        final UUID uuid3 = new UUID(3L, 3L);
+
+        scriptExecutor.executeScriptTemplate("EntityWithCompositePartitionKey/insert_single_row.cql",
+                ImmutableMap.of("id", id1, "uuid", uuid1, "value", "val1-1"));
+        scriptExecutor.executeScriptTemplate("EntityWithCompositePartitionKey/insert_single_row.cql",
+                ImmutableMap.of("id", id1, "uuid", uuid2, "value", "val1-2"));
+        scriptExecutor.executeScriptTemplate("EntityWithCompositePartitionKey/insert_single_row.cql",
+                ImmutableMap.of("id", id2, "uuid", uuid1, "value", "val2-1"));
+        scriptExecutor.executeScriptTemplate("EntityWithCompositePartitionKey/insert_single_row.cql",
+                ImmutableMap.of("id", id2, "uuid", uuid2, "value", "val2-2"));
+        scriptExecutor.executeScriptTemplate("EntityWithCompositePartitionKey/insert_single_row.cql",
+                ImmutableMap.of("id", id2, "uuid", uuid3, "value", "val2-3"));
+
+        //When
+        final List<EntityWithCompositePartitionKey> actuals = manager
+                .dsl()
+                .select()
+                .value()
+                .fromBaseTable()
+                .where()
+                .id().IN(id2, id1)
+                .uuid().IN(uuid3, uuid1)
+                .withPartitionKeyInFanOut(true)
+                .getList();
+
+        //Then
+        assertThat(actuals
+                .stream()
+                .map(EntityWithCompositePartitionKey::getValue)
+                .collect(Collectors.toList()))
+                .containsExactly("val2-3", "val2-1", "val1-1");
+    }
 }
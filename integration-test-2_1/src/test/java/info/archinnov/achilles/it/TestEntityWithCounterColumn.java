@@ -19,6 +19,8 @@ package info.archinnov.achilles.it;
 import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.concurrent.TimeUnit;
+
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.Rule;
 import org.junit.Test;
@@ -32,6 +34,7 @@ import com.google.common.collect.ImmutableMap;
 import info.archinnov.achilles.generated.ManagerFactory;
 import info.archinnov.achilles.generated.ManagerFactoryBuilder;
 import info.archinnov.achilles.generated.manager.EntityWithCounterColumn_Manager;
+import info.archinnov.achilles.internals.dsl.crud.CounterAccumulator;
 import info.archinnov.achilles.internals.entities.EntityWithCounterColumn;
 import info.archinnov.achilles.junit.AchillesTestResource;
 import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
@@ -99,6 +102,52 @@ public class TestEntityWithCounterColumn {
         assertThat(actual.getLong("count")).isEqualTo(incr);
     }
 
+    @Test
+    public void should_coalesce_increments_with_counter_accumulator() throws Exception {
+        //Given
+        final long id1 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final long id2 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final CounterAccumulator<EntityWithCounterColumn> accumulator = manager.counterAccumulator(1, TimeUnit.HOURS, 1000);
+
+        //When
+        for (int i = 0; i < 100; i++) {
+            accumulator.increment(new EntityWithCounterColumn(id1, 1L));
+        }
+        accumulator.increment(new EntityWithCounterColumn(id2, 10L));
+        accumulator.increment(new EntityWithCounterColumn(id2, -3L));
+        accumulator.increment(new EntityWithCounterColumn(id2, null));
+
+        //Then
+        assertThat(session.execute("SELECT count FROM entity_counter WHERE id = " + id1).one()).isNull();
+
+        accumulator.close();
+
+        assertThat(session.execute("SELECT count FROM entity_counter WHERE id = " + id1).one().getLong("count")).isEqualTo(100L);
+        assertThat(session.execute("SELECT count FROM entity_counter WHERE id = " + id2).one().getLong("count")).isEqualTo(7L);
+    }
+
+    @Test
+    public void should_flush_counter_accumulator_when_max_pending_keys_reached() throws Exception {
+        //Given
+        final long id1 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final long id2 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final CounterAccumulator<EntityWithCounterColumn> accumulator = manager.counterAccumulator(1, TimeUnit.HOURS, 2);
+
+        //When
+        accumulator.increment(new EntityWithCounterColumn(id1, 5L));
+        accumulator.increment(new EntityWithCounterColumn(id2, 6L));
+
+        //Then
+        Row actual = null;
+        for (int i = 0; i < 50 && actual == null; i++) {
+            Thread.sleep(100);
+            actual = session.execute("SELECT count FROM entity_counter WHERE id = " + id2).one();
+        }
+        assertThat(actual).isNotNull();
+        assertThat(actual.getLong("count")).isEqualTo(6L);
+        accumulator.close();
+    }
+
     @Test
     public void should_delete_by_id() throws Exception {
         //Given
@@ -20,6 +20,7 @@ import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.Rule;
@@ -35,6 +36,7 @@ import com.google.common.collect.ImmutableMap;
 import info.archinnov.achilles.generated.ManagerFactory;
 import info.archinnov.achilles.generated.ManagerFactoryBuilder;
 import info.archinnov.achilles.generated.manager.EntityWithStaticCounterColumn_Manager;
+import info.archinnov.achilles.internals.dsl.crud.CounterAccumulator;
 import info.archinnov.achilles.internals.entities.EntityWithStaticCounterColumn;
 import info.archinnov.achilles.junit.AchillesTestResource;
 import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
@@ -106,6 +108,26 @@ public class TestEntityWithStaticCounterColumn {
         assertThat(actual.getLong("static_count")).isEqualTo(staticCount);
     }
 
+    @Test
+    public void should_accumulate_static_counter_increments() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final UUID uuid1 = UUIDs.timeBased();
+        final UUID uuid2 = UUIDs.timeBased();
+        final CounterAccumulator<EntityWithStaticCounterColumn> accumulator = manager.counterAccumulator(1, TimeUnit.HOURS, 1000);
+
+        //When
+        accumulator.increment(new EntityWithStaticCounterColumn(id, uuid1, 3L, null));
+        accumulator.increment(new EntityWithStaticCounterColumn(id, uuid2, 4L, 1L));
+        accumulator.close();
+
+        //Then
+        final Row actual = session.execute("SELECT static_count FROM entity_static_counter WHERE id = " + id).one();
+        assertThat(actual.getLong("static_count")).isEqualTo(7L);
+        assertThat(session.execute("SELECT count FROM entity_static_counter WHERE id = " + id + " AND uuid = " + uuid2)
+                .one().getLong("count")).isEqualTo(1L);
+    }
+
     @Test
     public void should_delete_by_id() throws Exception {
         //Given
@@ -20,6 +20,7 @@ import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.lang3.RandomUtils;
@@ -37,6 +38,7 @@ import info.archinnov.achilles.generated.ManagerFactoryBuilder;
 import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
 import info.archinnov.achilles.internals.entities.SimpleEntity;
 import info.archinnov.achilles.it.utils.CassandraLogAsserter;
+import info.archinnov.achilles.it.utils.RecordingSubscriber;
 import info.archinnov.achilles.junit.AchillesTestResource;
 import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
 import info.archinnov.achilles.script.ScriptExecutor;
@@ -159,6 +161,41 @@ public class TestNativeQueries {
         assertThat(foundEntity.get()).isTrue();
     }
 
+    @Test
+    public void should_publish_regular_typed_query() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        values.put("date1", "'2015-10-01 00:00:00+0000'");
+        values.put("date2", "'2015-10-02 00:00:00+0000'");
+        values.put("date3", "'2015-10-03 00:00:00+0000'");
+        values.put("date4", "'2015-10-04 00:00:00+0000'");
+        values.put("date5", "'2015-10-05 00:00:00+0000'");
+        values.put("date6", "'2015-10-06 00:00:00+0000'");
+        values.put("date7", "'2015-10-07 00:00:00+0000'");
+        values.put("date8", "'2015-10-08 00:00:00+0000'");
+        values.put("date9", "'2015-10-09 00:00:00+0000'");
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+
+        final SimpleStatement statement = new SimpleStatement("SELECT * FROM simple WHERE id = :id LIMIT 100");
+        statement.setFetchSize(3);
+        final RecordingSubscriber<TypedMap> subscriber = new RecordingSubscriber<>(2);
+
+        //When
+        manager
+                .raw()
+                .nativeQuery(statement, id)
+                .typedMapPublisher()
+                .subscribe(subscriber);
+
+        //Then
+        assertThat(subscriber.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscriber.isCompleted()).isTrue();
+        assertThat(subscriber.getItems()).hasSize(9);
+        subscriber.getItems().forEach(instance -> assertThat(instance.<String>getTyped("value")).contains("id - date"));
+    }
+
     @Test
     public void should_perform_regular_insert_as_native_query() throws Exception {
         //Given
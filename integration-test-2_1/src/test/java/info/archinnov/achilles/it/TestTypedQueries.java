@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.lang3.RandomUtils;
@@ -42,6 +43,7 @@ import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
 import info.archinnov.achilles.internals.entities.EntityWithClusteringColumns;
 import info.archinnov.achilles.internals.entities.SimpleEntity;
 import info.archinnov.achilles.it.utils.CassandraLogAsserter;
+import info.archinnov.achilles.it.utils.RecordingSubscriber;
 import info.archinnov.achilles.junit.AchillesTestResource;
 import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
 import info.archinnov.achilles.script.ScriptExecutor;
@@ -193,6 +195,106 @@ public class TestTypedQueries {
         assertThat(foundEntity.get()).isTrue();
     }
 
+    @Test
+    public void should_stream_regular_typed_query() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        values.put("date1", "'2015-10-01 00:00:00+0000'");
+        values.put("date2", "'2015-10-02 00:00:00+0000'");
+        values.put("date3", "'2015-10-03 00:00:00+0000'");
+        values.put("date4", "'2015-10-04 00:00:00+0000'");
+        values.put("date5", "'2015-10-05 00:00:00+0000'");
+        values.put("date6", "'2015-10-06 00:00:00+0000'");
+        values.put("date7", "'2015-10-07 00:00:00+0000'");
+        values.put("date8", "'2015-10-08 00:00:00+0000'");
+        values.put("date9", "'2015-10-09 00:00:00+0000'");
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+
+        final SimpleStatement statement = new SimpleStatement("SELECT * FROM simple WHERE id = :id LIMIT 100");
+        statement.setFetchSize(4);
+
+        //When
+        final long count = manager
+                .raw()
+                .typedQueryForSelect(statement, id)
+                .stream()
+                .parallel()
+                .filter(instance -> instance.getValue().contains("id - date"))
+                .count();
+
+        //Then
+        assertThat(count).isEqualTo(9L);
+    }
+
+    @Test
+    public void should_get_all_pages_of_typed_query_async() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        values.put("date1", "'2015-10-01 00:00:00+0000'");
+        values.put("date2", "'2015-10-02 00:00:00+0000'");
+        values.put("date3", "'2015-10-03 00:00:00+0000'");
+        values.put("date4", "'2015-10-04 00:00:00+0000'");
+        values.put("date5", "'2015-10-05 00:00:00+0000'");
+        values.put("date6", "'2015-10-06 00:00:00+0000'");
+        values.put("date7", "'2015-10-07 00:00:00+0000'");
+        values.put("date8", "'2015-10-08 00:00:00+0000'");
+        values.put("date9", "'2015-10-09 00:00:00+0000'");
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+
+        final SimpleStatement statement = new SimpleStatement("SELECT * FROM simple WHERE id = :id LIMIT 100");
+        statement.setFetchSize(4);
+
+        //When
+        final List<SimpleEntity> actual = manager
+                .raw()
+                .typedQueryForSelect(statement, id)
+                .getAllAsync()
+                .get();
+
+        //Then
+        assertThat(actual).hasSize(9);
+        actual.forEach(instance -> assertThat(instance.getValue()).contains("id - date"));
+    }
+
+    @Test
+    public void should_publish_regular_typed_query() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        values.put("date1", "'2015-10-01 00:00:00+0000'");
+        values.put("date2", "'2015-10-02 00:00:00+0000'");
+        values.put("date3", "'2015-10-03 00:00:00+0000'");
+        values.put("date4", "'2015-10-04 00:00:00+0000'");
+        values.put("date5", "'2015-10-05 00:00:00+0000'");
+        values.put("date6", "'2015-10-06 00:00:00+0000'");
+        values.put("date7", "'2015-10-07 00:00:00+0000'");
+        values.put("date8", "'2015-10-08 00:00:00+0000'");
+        values.put("date9", "'2015-10-09 00:00:00+0000'");
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+
+        final SimpleStatement statement = new SimpleStatement("SELECT * FROM simple WHERE id = :id LIMIT 100");
+        statement.setFetchSize(4);
+        final RecordingSubscriber<SimpleEntity> subscriber = new RecordingSubscriber<>(3);
+
+        //When
+        manager
+                .raw()
+                .typedQueryForSelect(statement, id)
+                .publisher()
+                .subscribe(subscriber);
+
+        //Then
+        assertThat(subscriber.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscriber.isCompleted()).isTrue();
+        assertThat(subscriber.getItems()).hasSize(9);
+        subscriber.getItems().forEach(instance -> assertThat(instance.getValue()).contains("id - date"));
+    }
+
     @Test
     public void should_limit_displayed_returned_results() throws Exception {
         //Given
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it.bench;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.datastax.driver.core.Cluster;
+
+import info.archinnov.achilles.embedded.CassandraEmbeddedServerBuilder;
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+
+/**
+ * Compare completing async results on the executor service (default) with completing them
+ * directly on the driver I/O thread (DIRECT_ASYNC_COMPLETION).
+ * <br/>
+ * Run it from the integration-test-2_1 module after <em>mvn test-compile</em> with the main method,
+ * or through <em>org.openjdk.jmh.Main AsyncCompletionBenchmark</em> on the test classpath
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class AsyncCompletionBenchmark {
+
+    private static final int CONCURRENT_READS = 100;
+
+    @Param({"false", "true"})
+    public boolean directAsyncCompletion;
+
+    private ManagerFactory managerFactory;
+    private SimpleEntity_Manager manager;
+    private final long id = 10L;
+    private final Date date = new Date(0L);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Cluster cluster = CassandraEmbeddedServerBuilder
+                .builder()
+                .buildNativeCluster();
+
+        managerFactory = ManagerFactoryBuilder
+                .builder(cluster)
+                .withManagedEntityClasses(SimpleEntity.class)
+                .doForceSchemaCreation(true)
+                .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                .withDirectAsyncCompletion(directAsyncCompletion)
+                .build();
+        manager = managerFactory.forSimpleEntity();
+        manager.crud().insert(new SimpleEntity(id, date, "value")).execute();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        managerFactory.shutDown();
+    }
+
+    @Benchmark
+    public SimpleEntity find_by_id_async() {
+        return manager.crud().findById(id, date).getAsync().join();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENT_READS)
+    public void find_by_id_async_concurrent() {
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[CONCURRENT_READS];
+        for (int i = 0; i < CONCURRENT_READS; i++) {
+            futures[i] = manager.crud().findById(id, date).getAsync();
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AsyncCompletionBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2012-2016 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Test subscriber requesting items by batches and optionally cancelling
+ * its subscription once a given number of items has been received
+ */
+public class RecordingSubscriber<T> implements Subscriber<T> {
+
+    private final long batchSize;
+    private final long cancelAfter;
+    private final List<T> items = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private volatile Subscription subscription;
+    private volatile boolean completed;
+    private volatile Throwable error;
+    private long pendingInBatch;
+
+    public RecordingSubscriber(long batchSize) {
+        this(batchSize, Long.MAX_VALUE);
+    }
+
+    public RecordingSubscriber(long batchSize, long cancelAfter) {
+        this.batchSize = batchSize;
+        this.cancelAfter = cancelAfter;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        this.subscription = subscription;
+        pendingInBatch = batchSize;
+        subscription.request(batchSize);
+    }
+
+    @Override
+    public void onNext(T item) {
+        items.add(item);
+        if (items.size() >= cancelAfter) {
+            subscription.cancel();
+            terminated.countDown();
+        } else if (--pendingInBatch == 0) {
+            pendingInBatch = batchSize;
+            subscription.request(batchSize);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        error = throwable;
+        terminated.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+        completed = true;
+        terminated.countDown();
+    }
+
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    public List<T> getItems() {
+        return new ArrayList<>(items);
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public Throwable getError() {
+        return error;
+    }
+}